@@ -56,6 +56,11 @@ public final class APTOptions {
      */
     public static final String QUERYDSL_ENTITY_ACCESSORS = "querydsl.entityAccessors";
 
+    /**
+     * enable lazily initialized accessors for simple, collection and map properties (default: false)
+     */
+    public static final String QUERYDSL_LAZY_ACCESSORS = "querydsl.lazyAccessors";
+
     /**
      * Set whether fields are used as metadata source (default: true)
      */
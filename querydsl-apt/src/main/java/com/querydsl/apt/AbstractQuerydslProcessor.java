@@ -65,6 +65,9 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
 
     private boolean shouldLogInfo;
 
+    // query types generated in earlier rounds, which are not generated again
+    private final Set<String> generatedTypes = new HashSet<String>();
+
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         setLogInfo();
@@ -95,6 +98,7 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
 
         // serialize created types
         serializeMetaTypes();
+        generatedTypes.addAll(context.generatedTypes);
 
         return ALLOW_OTHER_PROCESSORS_TO_CLAIM_ANNOTATIONS;
     }
@@ -243,11 +247,12 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
         if (conf.getEmbeddedAnnotation() != null) {
             Class<? extends Annotation> embedded = conf.getEmbeddedAnnotation();
             Set<TypeElement> embeddedElements = new HashSet<TypeElement>();
+            Set<TypeElement> visited = new HashSet<TypeElement>();
             for (TypeElement element : elements) {
                 TypeMirror superTypeMirror = element.getSuperclass();
                 while (superTypeMirror != null) {
                     TypeElement superTypeElement = (TypeElement) processingEnv.getTypeUtils().asElement(superTypeMirror);
-                    if (superTypeElement != null) {
+                    if (superTypeElement != null && visited.add(superTypeElement)) {
                         List<? extends Element> enclosed = superTypeElement.getEnclosedElements();
                         for (Element child : enclosed) {
                             if (child.getAnnotation(embedded) != null) {
@@ -285,9 +290,13 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
                 if (superTypeElement != null
                         && !superTypeElement.toString().startsWith("java.lang.")
                         && !TypeUtils.hasAnnotationOfType(superTypeElement, conf.getEntityAnnotations())) {
-                    rv.add(superTypeElement);
-                    superTypeMirror = superTypeElement.getSuperclass();
-                    if (superTypeMirror instanceof NoType) {
+                    if (rv.add(superTypeElement)) {
+                        superTypeMirror = superTypeElement.getSuperclass();
+                        if (superTypeMirror instanceof NoType) {
+                            superTypeMirror = null;
+                        }
+                    } else {
+                        // the rest of the hierarchy has been visited already
                         superTypeMirror = null;
                     }
                 } else {
@@ -552,6 +561,7 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
                 QUERYDSL_MAP_ACCESSORS,
                 QUERYDSL_LIST_ACCESSORS,
                 QUERYDSL_ENTITY_ACCESSORS,
+                QUERYDSL_LAZY_ACCESSORS,
                 QUERYDSL_USE_FIELDS,
                 QUERYDSL_USE_GETTERS,
                 QUERYDSL_EXCLUDED_PACKAGES,
@@ -588,6 +598,12 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
                     continue;
                 }
 
+                // skip if type has been generated in an earlier round
+                if (generatedTypes.contains(className)) {
+                    logInfo("Skipping " + className + ", which has been generated in an earlier round");
+                    continue;
+                }
+
                 Set<TypeElement> elements = context.typeElements.get(model.getFullName());
 
                 if (elements == null) {
@@ -602,11 +618,14 @@ public abstract class AbstractQuerydslProcessor extends AbstractProcessor {
                     }
                 }
 
-                logInfo("Generating " + className + " for " + elements);
+                if (shouldLogInfo) {
+                    logInfo("Generating " + className + " for " + elements);
+                }
                 try (Writer writer = conf.getFiler().createFile(processingEnv, className, elements)) {
                     SerializerConfig serializerConfig = conf.getSerializerConfig(model);
                     serializer.serialize(model, serializerConfig, new JavaWriter(writer));
                 }
+                context.generatedTypes.add(className);
 
             } catch (IOException e) {
                 System.err.println(e.getMessage());
@@ -14,6 +14,7 @@
 package com.querydsl.apt;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -43,6 +44,8 @@ class Context {
 
     final Map<String, Set<TypeElement>> typeElements = new HashMap<String,Set<TypeElement>>();
 
+    final Set<String> generatedTypes = new HashSet<String>();
+
     public void clean() {
         for (String key : supertypes.keySet()) {
             entityTypes.remove(key);
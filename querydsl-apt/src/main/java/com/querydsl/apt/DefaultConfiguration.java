@@ -45,6 +45,7 @@ import java.util.function.Function;
 
 import static com.querydsl.apt.APTOptions.QUERYDSL_CREATE_DEFAULT_VARIABLE;
 import static com.querydsl.apt.APTOptions.QUERYDSL_ENTITY_ACCESSORS;
+import static com.querydsl.apt.APTOptions.QUERYDSL_LAZY_ACCESSORS;
 import static com.querydsl.apt.APTOptions.QUERYDSL_EXCLUDED_CLASSES;
 import static com.querydsl.apt.APTOptions.QUERYDSL_EXCLUDED_PACKAGES;
 import static com.querydsl.apt.APTOptions.QUERYDSL_GENERATED_ANNOTATION_CLASS;
@@ -195,6 +196,7 @@ public class DefaultConfiguration implements Configuration {
         boolean entityAccessors = false;
         boolean listAccessors = false;
         boolean mapAccessors = false;
+        boolean lazyAccessors = false;
         boolean createDefaultVariable = true;
 
         if (options.containsKey(QUERYDSL_ENTITY_ACCESSORS)) {
@@ -206,6 +208,9 @@ public class DefaultConfiguration implements Configuration {
         if (options.containsKey(QUERYDSL_MAP_ACCESSORS)) {
             mapAccessors = Boolean.parseBoolean(options.get(QUERYDSL_MAP_ACCESSORS));
         }
+        if (options.containsKey(QUERYDSL_LAZY_ACCESSORS)) {
+            lazyAccessors = Boolean.parseBoolean(options.get(QUERYDSL_LAZY_ACCESSORS));
+        }
         if (options.containsKey(QUERYDSL_CREATE_DEFAULT_VARIABLE)) {
             createDefaultVariable = Boolean.parseBoolean(options.get(QUERYDSL_CREATE_DEFAULT_VARIABLE));
         }
@@ -286,7 +291,7 @@ public class DefaultConfiguration implements Configuration {
         module.bindInstance(CodegenModule.GENERATED_ANNOTATION_CLASS, generatedAnnotationClass);
 
         defaultSerializerConfig = new SimpleSerializerConfig(entityAccessors, listAccessors,
-                mapAccessors, createDefaultVariable, "");
+                mapAccessors, createDefaultVariable, "", lazyAccessors);
 
     }
 
@@ -48,6 +48,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -67,6 +68,12 @@ public class ExtendedTypeFactory {
 
     private final Map<List<String>, EntityType> entityTypeCache = new HashMap<List<String>, EntityType>();
 
+    // type mirrors are usually shared by the elements which refer to the same type,
+    // so their keys are memoized by identity to avoid walking them on each lookup
+    private final Map<TypeMirror, List<String>> keyCache = new IdentityHashMap<TypeMirror, List<String>>();
+
+    private final Set<EntityType> supertypesResolved = Collections.newSetFromMap(new IdentityHashMap<EntityType, Boolean>());
+
     private final Type defaultType;
 
     private final Set<Class<? extends Annotation>> entityAnnotations;
@@ -326,9 +333,18 @@ public class ExtendedTypeFactory {
         return entityTypeCache.values();
     }
 
+    private List<String> getKey(TypeMirror typeMirror) {
+        List<String> key = keyCache.get(typeMirror);
+        if (key == null) {
+            key = keyBuilder.visit(typeMirror, true);
+            keyCache.put(typeMirror, key);
+        }
+        return key;
+    }
+
     @Nullable
     public Type getType(TypeMirror typeMirror, boolean deep) {
-        List<String> key = keyBuilder.visit(typeMirror,true);
+        List<String> key = getKey(typeMirror);
         if (entityTypeCache.containsKey(key)) {
             return entityTypeCache.get(key);
         } else if (typeCache.containsKey(key)) {
@@ -486,11 +502,11 @@ public class ExtendedTypeFactory {
 
     @Nullable
     public EntityType getEntityType(TypeMirror typeMirror, boolean deep) {
-        List<String> key = keyBuilder.visit(typeMirror, true);
+        List<String> key = getKey(typeMirror);
         // get from cache
         if (entityTypeCache.containsKey(key)) {
             EntityType entityType = entityTypeCache.get(key);
-            if (deep && entityType.getSuperTypes().isEmpty()) {
+            if (deep && entityType.getSuperTypes().isEmpty() && supertypesResolved.add(entityType)) {
                 for (Type superType : getSupertypes(typeMirror, deep)) {
                     entityType.addSupertype(new Supertype(superType));
                 }
@@ -519,6 +535,7 @@ public class ExtendedTypeFactory {
             entityTypeCache.put(key, entityType);
 
             if (deep) {
+                supertypesResolved.add(entityType);
                 for (Type superType : getSupertypes(typeMirror, deep)) {
                     entityType.addSupertype(new Supertype(superType));
                 }
@@ -643,15 +660,19 @@ public class ExtendedTypeFactory {
     }
 
     public void extendTypes() {
+        // index the first entity type with properties per raw type name
+        Map<String, EntityType> withProperties = new HashMap<String, EntityType>();
+        for (Map.Entry<List<String>, EntityType> entry : entityTypeCache.entrySet()) {
+            if (!entry.getValue().getProperties().isEmpty()) {
+                withProperties.putIfAbsent(entry.getKey().get(0), entry.getValue());
+            }
+        }
         for (EntityType entityType : entityTypeCache.values()) {
             if (entityType.getProperties().isEmpty()) {
-                for (Map.Entry<List<String>, EntityType> entry : entityTypeCache.entrySet()) {
-                    if (entry.getKey().get(0).equals(entityType.getFullName()) &&
-                        !entry.getValue().getProperties().isEmpty()) {
-                        for (Property property : entry.getValue().getProperties()) {
-                            entityType.addProperty(property);
-                        }
-                        break;
+                EntityType source = withProperties.get(entityType.getFullName());
+                if (source != null) {
+                    for (Property property : source.getProperties()) {
+                        entityType.addProperty(property);
                     }
                 }
             }
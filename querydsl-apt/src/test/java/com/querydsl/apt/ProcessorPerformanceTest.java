@@ -0,0 +1,133 @@
+package com.querydsl.apt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.tools.JavaCompiler;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.querydsl.codegen.utils.SimpleCompiler;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.util.FileUtils;
+
+@Ignore
+@Category(Performance.class)
+public class ProcessorPerformanceTest {
+
+    private static final int ENTITIES = 5000;
+
+    private static final int SUPERTYPES = 50;
+
+    private static final int EMBEDDABLES = 100;
+
+    @State(Scope.Benchmark)
+    public static class Model {
+
+        private final JavaCompiler compiler = new SimpleCompiler();
+
+        private File root;
+
+        private List<String> sources;
+
+        @Setup
+        public void setUp() throws IOException {
+            root = Files.createTempDirectory("querydsl-apt-model").toFile();
+            sources = new ArrayList<String>();
+            write("Root", "@QuerySupertype\npublic abstract class Root {\n    private Long id;\n}\n");
+            for (int i = 0; i < SUPERTYPES; i++) {
+                write("Base" + i, "@QuerySupertype\npublic abstract class Base" + i + " extends Root {\n"
+                        + "    private java.util.Date created" + i + ";\n"
+                        + "    private String createdBy;\n}\n");
+            }
+            for (int i = 0; i < EMBEDDABLES; i++) {
+                write("Address" + i, "@QueryEmbeddable\npublic class Address" + i + " {\n"
+                        + "    private String street;\n"
+                        + "    private String city;\n"
+                        + "    private Integer zip;\n}\n");
+            }
+            for (int i = 0; i < ENTITIES; i++) {
+                write("Entity" + i, "@QueryEntity\npublic class Entity" + i + " extends Base" + (i % SUPERTYPES) + " {\n"
+                        + "    private String name;\n"
+                        + "    private int version;\n"
+                        + "    private java.math.BigDecimal amount;\n"
+                        + "    private Entity" + ((i + 1) % ENTITIES) + " parent;\n"
+                        + "    private java.util.List<Entity" + ((i + 7) % ENTITIES) + "> children;\n"
+                        + "    private java.util.Map<String, String> tags;\n"
+                        + "    @QueryEmbedded\n"
+                        + "    private Address" + (i % EMBEDDABLES) + " address;\n}\n");
+            }
+        }
+
+        private void write(String name, String body) throws IOException {
+            File file = new File(root, "model/" + name + ".java");
+            file.getParentFile().mkdirs();
+            String source = "package model;\n\nimport com.querydsl.core.annotations.*;\n\n" + body;
+            Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+            sources.add(file.getPath());
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            FileUtils.delete(root);
+        }
+
+    }
+
+    @Benchmark
+    public int process(Model model) throws IOException {
+        File target = new File(model.root, "target");
+        FileUtils.delete(target);
+        target.mkdirs();
+
+        List<String> options = new ArrayList<String>(model.sources.size() + 5);
+        options.add("-s");
+        options.add(target.getPath());
+        options.add("-proc:only");
+        options.add("-processor");
+        options.add(QuerydslAnnotationProcessor.class.getName());
+        options.addAll(model.sources);
+
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int result = model.compiler.run(null, new ByteArrayOutputStream(), err, options.toArray(new String[0]));
+        if (result != 0) {
+            throw new IllegalStateException(new String(err.toByteArray(), StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.SingleShotTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupIterations(2)
+                .measurementIterations(5)
+                .threads(1)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -17,6 +17,8 @@ import static com.querydsl.codegen.utils.Symbols.*;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.function.Function;
 
@@ -42,6 +44,23 @@ public class DefaultEntitySerializer implements EntitySerializer {
 
     private static final ClassType PATH_INITS_TYPE = new ClassType(PathInits.class);
 
+    private static final Set<String> PATH_METHOD_NAMES = new HashSet<>();
+
+    static {
+        for (Class<?> cl = EntityPathBase.class; cl != null; cl = cl.getSuperclass()) {
+            for (Method method : cl.getDeclaredMethods()) {
+                if (method.getParameterCount() == 0 && !Modifier.isPrivate(method.getModifiers())) {
+                    PATH_METHOD_NAMES.add(method.getName());
+                }
+            }
+        }
+        for (Method method : EntityPathBase.class.getMethods()) {
+            if (method.getParameterCount() == 0) {
+                PATH_METHOD_NAMES.add(method.getName());
+            }
+        }
+    }
+
     protected final TypeMappings typeMappings;
 
     protected final Collection<String> keywords;
@@ -253,7 +272,8 @@ public class DefaultEntitySerializer implements EntitySerializer {
             if (field.getType().getCategory() == TypeCategory.ENTITY) {
                 initEntityField(writer, config, model, field);
 
-            } else if (field.isInherited() && superType != null && superType.getEntityType().hasEntityFields()) {
+            } else if (field.isInherited() && superType != null && superType.getEntityType().hasEntityFields()
+                    && !isLazy(config, field)) {
                 writer.line("this.", field.getEscapedName(), " = _super.", field.getEscapedName(), SEMICOLON);
             }
         }
@@ -661,6 +681,62 @@ public class DefaultEntitySerializer implements EntitySerializer {
         }
     }
 
+    /**
+     * Serialize the given property as a lazily initialized field with an accessor method,
+     * if lazy accessors are enabled, otherwise as a field initialized on construction
+     */
+    protected void serialize(EntityType model, Property field, SerializerConfig config, Type type,
+            CodeWriter writer, String factoryMethod, String... args) throws IOException {
+        if (!isLazy(config, field)) {
+            serialize(model, field, type, writer, factoryMethod, args);
+            return;
+        }
+        StringBuilder value = new StringBuilder();
+        value.append(factoryMethod).append("(\"").append(field.getName()).append(QUOTE);
+        for (String arg : args) {
+            value.append(COMMA).append(arg);
+        }
+        value.append(")");
+
+        String escapedName = field.getEscapedName();
+        if (field.isInherited()) {
+            writer.line("//inherited");
+        }
+        writer.privateField(type, escapedName);
+        writer.beginPublicMethod(type, escapedName);
+        writer.line("if (", escapedName, " == null) {");
+        writer.line("    ", escapedName, ASSIGN, value.toString(), SEMICOLON);
+        writer.line("}");
+        writer.line(RETURN, escapedName, SEMICOLON);
+        writer.end();
+    }
+
+    /**
+     * Whether the given property is serialized as a lazily initialized field with an accessor
+     * method. Properties with names of path methods and properties with list or map accessors
+     * are always initialized on construction.
+     *
+     * @param config serializer config
+     * @param property property
+     * @return true, if lazily initialized
+     */
+    protected boolean isLazy(SerializerConfig config, Property property) {
+        if (!config.useLazyAccessors() || PATH_METHOD_NAMES.contains(property.getEscapedName())) {
+            return false;
+        }
+        switch (property.getType().getCategory()) {
+        case ENTITY:
+        case CUSTOM:
+            return false;
+        case LIST:
+            return !config.useListAccessors();
+        case MAP:
+            return !config.useMapAccessors();
+        default:
+            return !typeMappings.isRegistered(property.getType());
+        }
+    }
+
     protected void customField(EntityType model, Property field, SerializerConfig config,
             CodeWriter writer) throws IOException {
         Type queryType = typeMappings.getPathType(field.getType(), model, false);
@@ -723,39 +799,39 @@ public class DefaultEntitySerializer implements EntitySerializer {
 
             switch (property.getType().getCategory()) {
             case STRING:
-                serialize(model, property, queryType, writer, "createString");
+                serialize(model, property, config, queryType, writer, "createString");
                 break;
 
             case BOOLEAN:
-                serialize(model, property, queryType, writer, "createBoolean");
+                serialize(model, property, config, queryType, writer, "createBoolean");
                 break;
 
             case SIMPLE:
-                serialize(model, property, queryType, writer, "createSimple", writer.getClassConstant(localRawName));
+                serialize(model, property, config, queryType, writer, "createSimple", writer.getClassConstant(localRawName));
                 break;
 
             case COMPARABLE:
-                serialize(model, property, queryType, writer, "createComparable", writer.getClassConstant(localRawName));
+                serialize(model, property, config, queryType, writer, "createComparable", writer.getClassConstant(localRawName));
                 break;
 
             case ENUM:
-                serialize(model, property, queryType, writer, "createEnum", writer.getClassConstant(localRawName));
+                serialize(model, property, config, queryType, writer, "createEnum", writer.getClassConstant(localRawName));
                 break;
 
             case DATE:
-                serialize(model, property, queryType, writer, "createDate", writer.getClassConstant(localRawName));
+                serialize(model, property, config, queryType, writer, "createDate", writer.getClassConstant(localRawName));
                 break;
 
             case DATETIME:
-                serialize(model, property, queryType, writer, "createDateTime", writer.getClassConstant(localRawName));
+                serialize(model, property, config, queryType, writer, "createDateTime", writer.getClassConstant(localRawName));
                 break;
 
             case TIME:
-                serialize(model, property, queryType, writer, "createTime", writer.getClassConstant(localRawName));
+                serialize(model, property, config, queryType, writer, "createTime", writer.getClassConstant(localRawName));
                 break;
 
             case NUMERIC:
-                serialize(model, property, queryType, writer, "createNumber", writer.getClassConstant(localRawName));
+                serialize(model, property, config, queryType, writer, "createNumber", writer.getClassConstant(localRawName));
                 break;
 
             case CUSTOM:
@@ -763,7 +839,7 @@ public class DefaultEntitySerializer implements EntitySerializer {
                 break;
 
             case ARRAY:
-                serialize(model, property, new ClassType(ArrayPath.class,
+                serialize(model, property, config, new ClassType(ArrayPath.class,
                         property.getType(),
                         wrap(property.getType().getComponentType())),
                         writer, "createArray", writer.getClassConstant(localRawName));
@@ -775,7 +851,7 @@ public class DefaultEntitySerializer implements EntitySerializer {
                 localRawName = writer.getRawName(property.getParameter(0));
                 queryType = typeMappings.getPathType(property.getParameter(0), model, true);
 
-                serialize(model, property, new ClassType(CollectionPath.class, getRaw(property.getParameter(0)), genericQueryType),
+                serialize(model, property, config, new ClassType(CollectionPath.class, getRaw(property.getParameter(0)), genericQueryType),
                         writer, "this.<" + genericKey + COMMA + writer.getGenericName(true, genericQueryType) + ">createCollection",
                         writer.getClassConstant(localRawName), writer.getClassConstant(writer.getRawName(queryType)), inits);
                 break;
@@ -786,7 +862,7 @@ public class DefaultEntitySerializer implements EntitySerializer {
                 localRawName = writer.getRawName(property.getParameter(0));
                 queryType = typeMappings.getPathType(property.getParameter(0), model, true);
 
-                serialize(model, property, new ClassType(SetPath.class, getRaw(property.getParameter(0)), genericQueryType),
+                serialize(model, property, config, new ClassType(SetPath.class, getRaw(property.getParameter(0)), genericQueryType),
                         writer, "this.<" + genericKey + COMMA + writer.getGenericName(true, genericQueryType) + ">createSet",
                         writer.getClassConstant(localRawName), writer.getClassConstant(writer.getRawName(queryType)), inits);
                 break;
@@ -797,7 +873,7 @@ public class DefaultEntitySerializer implements EntitySerializer {
                 localRawName = writer.getRawName(property.getParameter(0));
                 queryType = typeMappings.getPathType(property.getParameter(0), model, true);
 
-                serialize(model, property, new ClassType(ListPath.class, getRaw(property.getParameter(0)), genericQueryType),
+                serialize(model, property, config, new ClassType(ListPath.class, getRaw(property.getParameter(0)), genericQueryType),
                         writer, "this.<" + genericKey + COMMA + writer.getGenericName(true, genericQueryType) + ">createList",
                         writer.getClassConstant(localRawName), writer.getClassConstant(writer.getRawName(queryType)), inits);
                 break;
@@ -810,7 +886,7 @@ public class DefaultEntitySerializer implements EntitySerializer {
                 String valueType = writer.getRawName(property.getParameter(1));
                 queryType = typeMappings.getPathType(property.getParameter(1), model, true);
 
-                serialize(model, property, new ClassType(MapPath.class, getRaw(property.getParameter(0)),
+                serialize(model, property, config, new ClassType(MapPath.class, getRaw(property.getParameter(0)),
                         getRaw(property.getParameter(1)), genericQueryType),
                         writer, "this.<" + genericKey + COMMA + genericValue + COMMA +
                             writer.getGenericName(true, genericQueryType) + ">createMap",
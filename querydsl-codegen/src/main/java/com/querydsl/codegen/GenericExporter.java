@@ -38,11 +38,8 @@ import com.querydsl.core.util.ReflectionUtils;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.io.StringWriter;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
@@ -50,6 +47,8 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -59,6 +58,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 /**
@@ -153,6 +156,10 @@ public class GenericExporter {
 
     private boolean strictMode;
 
+    private int parallelism = 1;
+
+    @Nullable
+    private File manifestFile;
 
     /**
      * Create a GenericExporter instance using the given classloader and charset for serializing
@@ -298,17 +305,25 @@ public class GenericExporter {
                 projectionSerializer = codegenModule.get(ProjectionSerializer.class);
             }
 
+            List<WriteTask> tasks = new ArrayList<>();
+
             // serialize super types
-            serialize(supertypeSerializer, superTypes);
+            serialize(supertypeSerializer, superTypes, tasks);
 
             // serialize entity types
-            serialize(entitySerializer, entityTypes);
+            serialize(entitySerializer, entityTypes, tasks);
 
             // serialize embeddable types
-            serialize(embeddableSerializer, embeddableTypes);
+            serialize(embeddableSerializer, embeddableTypes, tasks);
 
             // serialize projection types
-            serialize(projectionSerializer, projectionTypes);
+            serialize(projectionSerializer, projectionTypes, tasks);
+
+            execute(tasks);
+
+            if (manifestFile != null) {
+                deleteStaleFiles();
+            }
 
         } catch (IOException e) {
             throw new QueryException(e);
@@ -562,7 +577,7 @@ public class GenericExporter {
         }
     }
 
-    private void serialize(Serializer serializer, Map<Class<?>, EntityType> types) throws IOException {
+    private void serialize(Serializer serializer, Map<Class<?>, EntityType> types, List<WriteTask> tasks) {
         for (Map.Entry<Class<?>, EntityType> entityType : types.entrySet()) {
             Type type = typeMappings.getPathType(entityType.getValue(), entityType.getValue(), true);
             String packageName = type.getPackageName();
@@ -572,31 +587,104 @@ public class GenericExporter {
                 config = SimpleSerializerConfig.getConfig(entityType.getKey().getAnnotation(Config.class));
             }
             String fileSuffix = createScalaSources ? ".scala" : ".java";
-            write(serializer, className.replace('.', '/') + fileSuffix, config, entityType.getValue());
+            File targetFile = new File(targetFolder, className.replace('.', '/') + fileSuffix);
+            generatedFiles.add(targetFile);
+            tasks.add(new WriteTask(serializer, targetFile, config, entityType.getValue()));
         }
     }
 
-    private void write(Serializer serializer, String path, SerializerConfig serializerConfig,
-            EntityType type) throws IOException {
-        File targetFile = new File(targetFolder, path);
-        generatedFiles.add(targetFile);
-        try (Writer w = writerFor(targetFile)) {
-            CodeWriter writer = createScalaSources ? new ScalaWriter(w) : new JavaWriter(w);
-            serializer.serialize(type, serializerConfig, writer);
+    private void execute(List<WriteTask> tasks) throws IOException {
+        if (parallelism < 2 || tasks.size() < 2) {
+            for (WriteTask task : tasks) {
+                task.write();
+            }
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (WriteTask task : tasks) {
+                futures.add(pool.submit(() -> {
+                    task.write();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new QueryException(e.getCause());
+            }
+        } finally {
+            pool.shutdownNow();
         }
     }
 
-    private Writer writerFor(File file) {
-        if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
-            System.err.println("Folder " + file.getParent() + " could not be created");
+    private void deleteStaleFiles() throws IOException {
+        Set<String> paths = new TreeSet<>();
+        for (File file : generatedFiles) {
+            paths.add(targetFolder.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/'));
         }
-        try {
-            return new OutputStreamWriter(new FileOutputStream(file), charset);
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException(e.getMessage(), e);
+        if (manifestFile.exists()) {
+            for (String path : Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+                File file = new File(targetFolder, path);
+                if (!path.isEmpty() && !paths.contains(path) && file.exists() && !file.delete()) {
+                    System.err.println("File " + file.getPath() + " could not be deleted");
+                }
+            }
+        } else if (manifestFile.getParentFile() != null && !manifestFile.getParentFile().exists()
+                && !manifestFile.getParentFile().mkdirs()) {
+            System.err.println("Folder " + manifestFile.getParent() + " could not be created");
         }
+        Files.write(manifestFile.toPath(), paths, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Serialization of a single type, which only writes the target file if its content changes
+     */
+    private final class WriteTask {
+
+        private final Serializer serializer;
+
+        private final File targetFile;
+
+        private final SerializerConfig serializerConfig;
+
+        private final EntityType type;
+
+        WriteTask(Serializer serializer, File targetFile, SerializerConfig serializerConfig, EntityType type) {
+            this.serializer = serializer;
+            this.targetFile = targetFile;
+            this.serializerConfig = serializerConfig;
+            this.type = type;
+        }
+
+        void write() throws IOException {
+            StringWriter w = new StringWriter();
+            CodeWriter writer = createScalaSources ? new ScalaWriter(w) : new JavaWriter(w);
+            serializer.serialize(type, serializerConfig, writer);
+
+            // conditional creation, which keeps the timestamps of unchanged files
+            byte[] bytes = w.toString().getBytes(charset);
+            if (targetFile.exists() && targetFile.length() == bytes.length
+                    && Arrays.equals(Files.readAllBytes(targetFile.toPath()), bytes)) {
+                return;
+            }
+            if (!targetFile.getParentFile().mkdirs() && !targetFile.getParentFile().isDirectory()) {
+                System.err.println("Folder " + targetFile.getParent() + " could not be created");
+            }
+            Files.write(targetFile.toPath(), bytes);
+        }
+
+    }
 
     /**
      * Return the set of generated files
@@ -797,6 +885,26 @@ public class GenericExporter {
         strictMode = s;
     }
 
+    /**
+     * Set the number of threads used to serialize the types (default: 1). Custom serializers need
+     * to be thread-safe when more than one thread is used.
+     *
+     * @param parallelism number of threads
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the manifest file which lists the generated files (default: none). When set, files
+     * which were listed by the previous export and are no longer generated are deleted.
+     *
+     * @param manifestFile manifest file
+     */
+    public void setManifestFile(@Nullable File manifestFile) {
+        this.manifestFile = manifestFile;
+    }
+
     /**
      * Set the serializer configuration to use
      *
@@ -42,6 +42,15 @@ public interface SerializerConfig {
      */
     boolean useMapAccessors();
 
+    /**
+     * lazily initialized accessors are used for simple, collection and map fields
+     *
+     * @return if lazily initialized accessors are used
+     */
+    default boolean useLazyAccessors() {
+        return false;
+    }
+
     /**
      * the default variable is created
      *
@@ -31,10 +31,11 @@ public final class SimpleSerializerConfig implements SerializerConfig {
                 annotation.listAccessors(),
                 annotation.mapAccessors(),
                 annotation.createDefaultVariable(),
-                annotation.defaultVariableName());
+                annotation.defaultVariableName(),
+                annotation.lazyAccessors());
     }
 
-    private final boolean entityAccessors, listAccessors, mapAccessors, createDefaultVariable;
+    private final boolean entityAccessors, listAccessors, mapAccessors, createDefaultVariable, lazyAccessors;
 
     private final String defaultVariableName;
 
@@ -44,11 +45,22 @@ public final class SimpleSerializerConfig implements SerializerConfig {
             boolean mapAccessors,
             boolean createDefaultVariable,
             String defaultVariableName) {
+        this(entityAccessors, listAccessors, mapAccessors, createDefaultVariable, defaultVariableName, false);
+    }
+
+    public SimpleSerializerConfig(
+            boolean entityAccessors,
+            boolean listAccessors,
+            boolean mapAccessors,
+            boolean createDefaultVariable,
+            String defaultVariableName,
+            boolean lazyAccessors) {
         this.entityAccessors = entityAccessors;
         this.listAccessors = listAccessors;
         this.mapAccessors = mapAccessors;
         this.createDefaultVariable = createDefaultVariable;
         this.defaultVariableName = defaultVariableName;
+        this.lazyAccessors = lazyAccessors;
     }
 
     @Override
@@ -66,6 +78,11 @@ public final class SimpleSerializerConfig implements SerializerConfig {
         return mapAccessors;
     }
 
+    @Override
+    public boolean useLazyAccessors() {
+        return lazyAccessors;
+    }
+
     @Override
     public boolean createDefaultVariable() {
         return createDefaultVariable;
@@ -8,6 +8,7 @@ import java.util.List;
 
 import javax.tools.JavaCompiler;
 import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
 
 import org.junit.Assert;
 
@@ -20,6 +21,10 @@ public final class CompileUtils {
     private CompileUtils() { }
 
     public static void assertCompiles(String name, String source) {
+        compile(name, source);
+    }
+
+    public static ClassLoader compile(String name, String source) {
         ClassLoader parent = CompileUtils.class.getClassLoader();
         SimpleCompiler compiler = new SimpleCompiler();
         MemFileManager fileManager = new MemFileManager(parent, compiler.getStandardFileManager(null, null, null));
@@ -34,6 +39,7 @@ public final class CompileUtils {
         if (!task.call()) {
             Assert.fail("Compilation of " + source + " failed.\n" + out.toString());
         }
+        return fileManager.getClassLoader(StandardLocation.CLASS_OUTPUT);
 
     }
 
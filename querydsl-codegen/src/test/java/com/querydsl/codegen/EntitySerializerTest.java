@@ -190,6 +190,27 @@ public class EntitySerializerTest {
         CompileUtils.assertCompiles("QEntity", writer.toString());
     }
 
+    @Test
+    public void lazyAccessors() throws IOException {
+        EntityType entityType = new EntityType(new ClassType(Entity.class));
+        entityType.addProperty(new Property(entityType, "s", new ClassType(TypeCategory.STRING, String.class)));
+        entityType.addProperty(new Property(entityType, "i", new ClassType(TypeCategory.NUMERIC, Integer.class)));
+        entityType.addProperty(new Property(entityType, "l", new ClassType(TypeCategory.LIST, java.util.List.class, Types.STRING)));
+        entityType.addProperty(new Property(entityType, "count", new ClassType(TypeCategory.NUMERIC, Integer.class)));
+        typeMappings.register(entityType, queryTypeFactory.create(entityType));
+
+        SerializerConfig config = new SimpleSerializerConfig(false, false, false, true, "", true);
+        serializer.serialize(entityType, config, new JavaWriter(writer));
+        String source = writer.toString();
+        assertTrue(source.contains("private StringPath s;"));
+        assertTrue(source.contains("public StringPath s() {"));
+        assertTrue(source.contains("s = createString(\"s\");"));
+        assertTrue(source.contains("public NumberPath<Integer> i() {"));
+        // clashes with SimpleExpression.count()
+        assertTrue(source.contains("public final NumberPath<Integer> count = createNumber(\"count\", Integer.class);"));
+        CompileUtils.assertCompiles("QEntitySerializerTest_Entity", source);
+    }
+
     @Test
     public void defaultGeneratedAnnotation() throws IOException {
         EntityType entityType = new EntityType(new ClassType(Entity.class));
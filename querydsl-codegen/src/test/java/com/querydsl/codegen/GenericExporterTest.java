@@ -13,6 +13,7 @@
  */
 package com.querydsl.codegen;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -20,6 +21,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -164,4 +168,51 @@ public class GenericExporterTest {
         }
     }
 
+    @Test
+    public void export_unchanged_files_are_not_written() throws IOException {
+        exporter.setTargetFolder(folder.getRoot());
+        exporter.export(getClass().getPackage());
+        File file = new File(folder.getRoot(), "com/querydsl/codegen/QExampleEntity.java");
+        assertTrue(file.setLastModified(1000));
+
+        GenericExporter e = new GenericExporter();
+        e.setTargetFolder(folder.getRoot());
+        e.export(getClass().getPackage());
+        assertEquals(1000, file.lastModified());
+    }
+
+    @Test
+    public void export_parallel() throws IOException {
+        File sequential = folder.newFolder();
+        File parallel = folder.newFolder();
+        exporter.setTargetFolder(sequential);
+        exporter.export(getClass().getPackage());
+
+        GenericExporter e = new GenericExporter();
+        e.setTargetFolder(parallel);
+        e.setParallelism(4);
+        e.export(getClass().getPackage());
+        assertEquals(exporter.getGeneratedFiles().size(), e.getGeneratedFiles().size());
+        for (File file : exporter.getGeneratedFiles()) {
+            Path path = parallel.toPath().resolve(sequential.toPath().relativize(file.toPath()));
+            assertTrue(Arrays.equals(Files.readAllBytes(file.toPath()), Files.readAllBytes(path)));
+        }
+    }
+
+    @Test
+    public void export_with_manifest() throws IOException {
+        File manifest = new File(folder.getRoot(), "manifest.txt");
+        File target = folder.newFolder();
+        File stale = new File(target, "com/querydsl/codegen/QRemoved.java");
+        assertTrue(stale.getParentFile().mkdirs());
+        Files.write(stale.toPath(), Collections.singletonList("class QRemoved { }"));
+        Files.write(manifest.toPath(), Collections.singletonList("com/querydsl/codegen/QRemoved.java"));
+
+        exporter.setTargetFolder(target);
+        exporter.setManifestFile(manifest);
+        exporter.export(getClass().getPackage());
+        assertFalse(stale.exists());
+        assertTrue(Files.readAllLines(manifest.toPath()).contains("com/querydsl/codegen/QExampleEntity.java"));
+    }
+
 }
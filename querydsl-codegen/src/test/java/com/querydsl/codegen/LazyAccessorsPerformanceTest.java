@@ -0,0 +1,108 @@
+package com.querydsl.codegen;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Constructor;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.querydsl.codegen.utils.JavaWriter;
+import com.querydsl.codegen.utils.model.ClassType;
+import com.querydsl.codegen.utils.model.TypeCategory;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.types.dsl.StringPath;
+
+@Ignore
+@Category(Performance.class)
+public class LazyAccessorsPerformanceTest {
+
+    private static final int PROPERTIES = 300;
+
+    public static class Entity {
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class QueryTypes {
+
+        private Constructor<?> eager, lazy;
+
+        @Setup
+        public void setUp() throws Exception {
+            eager = compile(SimpleSerializerConfig.DEFAULT);
+            lazy = compile(new SimpleSerializerConfig(false, false, false, true, "", true));
+        }
+
+        private static Constructor<?> compile(SerializerConfig config) throws IOException, ReflectiveOperationException {
+            TypeMappings typeMappings = new JavaTypeMappings();
+            QueryTypeFactory queryTypeFactory = new QueryTypeFactoryImpl("Q", "", "");
+            EntityType entityType = new EntityType(new ClassType(Entity.class));
+            for (int i = 0; i < PROPERTIES; i++) {
+                if (i % 2 == 0) {
+                    entityType.addProperty(new Property(entityType, "s" + i,
+                            new ClassType(TypeCategory.STRING, String.class)));
+                } else {
+                    entityType.addProperty(new Property(entityType, "i" + i,
+                            new ClassType(TypeCategory.NUMERIC, Integer.class)));
+                }
+            }
+            typeMappings.register(entityType, queryTypeFactory.create(entityType));
+
+            StringWriter writer = new StringWriter();
+            new DefaultEntitySerializer(typeMappings, Collections.<String>emptySet())
+                    .serialize(entityType, config, new JavaWriter(writer));
+            String name = "com.querydsl.codegen.QLazyAccessorsPerformanceTest_Entity";
+            ClassLoader classLoader = CompileUtils.compile("QLazyAccessorsPerformanceTest_Entity", writer.toString());
+            return classLoader.loadClass(name).getConstructor(String.class);
+        }
+    }
+
+    @Benchmark
+    public Object eagerAlias(QueryTypes types) throws Exception {
+        return types.eager.newInstance("o2");
+    }
+
+    @Benchmark
+    public Object lazyAlias(QueryTypes types) throws Exception {
+        return types.lazy.newInstance("o2");
+    }
+
+    @Benchmark
+    public Object lazyAliasWithAccess(QueryTypes types) throws Exception {
+        Object alias = types.lazy.newInstance("o2");
+        return alias.getClass().getMethod("s0").invoke(alias) instanceof StringPath;
+    }
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(3)
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .threads(1)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -17,9 +17,12 @@ import org.jetbrains.annotations.Nullable;
 
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Operator;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Visitor;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -36,6 +39,12 @@ import java.util.Objects;
  * }
  * </pre>
  *
+ * <p>Consecutive {@code and} or {@code or} calls are combined into a balanced tree, so the depth
+ * of the resulting predicate grows logarithmically with the number of terms. The tree has the
+ * shape of {@link ExpressionUtils#allOf(Predicate...)} and {@link ExpressionUtils#anyOf(Predicate...)}
+ * of the terms: up to three terms are combined from left to right, as {@code a.and(b).and(c)} is,
+ * while longer chains are not equal to the corresponding left-deep chains.</p>
+ *
  * @author tiwe
  */
 public final class BooleanBuilder implements Predicate, Cloneable  {
@@ -45,6 +54,22 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
     @Nullable
     private Predicate predicate;
 
+    @Nullable
+    private Operator operator;
+
+    // balanced subtrees of the terms combined since the last change of the operator, starting
+    // with the previous value, the term counts are decreasing powers of two
+    @Nullable
+    private Predicate[] terms;
+
+    @Nullable
+    private int[] counts;
+
+    private int size;
+
+    @Nullable
+    private transient Predicate value;
+
     /**
      * Create an empty BooleanBuilder
      */
@@ -61,8 +86,9 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
 
     @Override
     public <R,C> R accept(Visitor<R,C> v, C context) {
-        if (predicate != null) {
-            return predicate.accept(v, context);
+        Predicate rv = getValue();
+        if (rv != null) {
+            return rv.accept(v, context);
         } else {
             return null;
         }
@@ -76,11 +102,7 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
      */
     public BooleanBuilder and(@Nullable Predicate right) {
         if (right != null) {
-            if (predicate == null) {
-                predicate = right;
-            } else {
-                predicate = ExpressionUtils.and(predicate, right);
-            }
+            append(Ops.AND, right);
         }
         return this;
     }
@@ -111,7 +133,12 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
 
     @Override
     public BooleanBuilder clone() throws CloneNotSupportedException {
-        return (BooleanBuilder) super.clone();
+        BooleanBuilder clone = (BooleanBuilder) super.clone();
+        if (terms != null) {
+            clone.terms = terms.clone();
+            clone.counts = counts.clone();
+        }
+        return clone;
     }
 
     @Override
@@ -119,7 +146,7 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
         if (o == this) {
             return true;
         } else if (o instanceof BooleanBuilder) {
-            return Objects.equals(((BooleanBuilder) o).getValue(), predicate);
+            return Objects.equals(((BooleanBuilder) o).getValue(), getValue());
         } else {
             return false;
         }
@@ -127,12 +154,22 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
 
     @Nullable
     public Predicate getValue() {
-        return predicate;
+        if (size == 0) {
+            return predicate;
+        } else if (value == null) {
+            Predicate rv = terms[size - 1];
+            for (int i = size - 2; i >= 0; i--) {
+                rv = combine(terms[i], rv);
+            }
+            value = rv;
+        }
+        return value;
     }
 
     @Override
     public int hashCode() {
-        return predicate != null ? predicate.hashCode() : 0;
+        Predicate rv = getValue();
+        return rv != null ? rv.hashCode() : 0;
     }
 
     /**
@@ -147,7 +184,8 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
     @Override
     public BooleanBuilder not() {
         if (predicate != null) {
-            predicate = predicate.not();
+            predicate = getValue().not();
+            reset(null);
         }
         return this;
     }
@@ -160,11 +198,7 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
      */
     public BooleanBuilder or(@Nullable Predicate right) {
         if (right != null) {
-            if (predicate == null) {
-                predicate = right;
-            } else {
-                predicate = ExpressionUtils.or(predicate, right);
-            }
+            append(Ops.OR, right);
         }
         return this;
     }
@@ -200,7 +234,61 @@ public final class BooleanBuilder implements Predicate, Cloneable  {
 
     @Override
     public String toString() {
-        return predicate != null ? predicate.toString() : super.toString();
+        Predicate rv = getValue();
+        return rv != null ? rv.toString() : super.toString();
+    }
+
+    private void append(Operator op, Predicate right) {
+        if (op != operator) {
+            predicate = getValue();
+            reset(op);
+        }
+        if (predicate == null) {
+            predicate = right;
+            return;
+        }
+        Predicate term = (Predicate) ExpressionUtils.extract(right);
+        if (term == null) {
+            return;
+        } else if (size == 0) {
+            predicate = (Predicate) ExpressionUtils.extract(predicate);
+            if (predicate == null) {
+                predicate = term;
+                return;
+            }
+            if (terms == null) {
+                terms = new Predicate[Integer.SIZE];
+                counts = new int[Integer.SIZE];
+            }
+            push(predicate);
+        }
+        push(term);
+        value = null;
+    }
+
+    private void push(Predicate term) {
+        terms[size] = term;
+        counts[size] = 1;
+        size++;
+        while (size > 1 && counts[size - 2] == counts[size - 1]) {
+            size--;
+            terms[size - 1] = combine(terms[size - 1], terms[size]);
+            counts[size - 1] *= 2;
+            terms[size] = null;
+        }
+    }
+
+    private Predicate combine(Predicate left, Predicate right) {
+        return operator == Ops.AND ? ExpressionUtils.and(left, right) : ExpressionUtils.or(left, right);
+    }
+
+    private void reset(@Nullable Operator op) {
+        operator = op;
+        if (size > 0) {
+            Arrays.fill(terms, 0, size, null);
+            size = 0;
+        }
+        value = null;
     }
 
 }
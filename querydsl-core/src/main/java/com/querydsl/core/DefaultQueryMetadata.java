@@ -36,12 +36,18 @@ import com.querydsl.core.util.CollectionUtils;
  * <p>{@code DefaultQueryMetadata} is mutable, but {@link DefaultQueryMetadata#clone()} can be used to
  * created deep copies to refine the state without modifying the initial instance.</p>
  *
+ * <p>Cloning doesn't copy the collections of the instance, they are shared between the original and
+ * the clone and copied on their first modification.</p>
+ *
  * @author tiwe
  */
 public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
 
     private static final long serialVersionUID = 317736313966701232L;
 
+    private static final int EXPR_IN_JOINS = 1, GROUP_BY = 1 << 1, JOINS = 1 << 2, JOIN_FLAGS = 1 << 3,
+            ORDER_BY = 1 << 4, PARAMS = 1 << 5, FLAGS = 1 << 6, ALL = (1 << 7) - 1;
+
     private boolean distinct;
 
     private Set<Expression<?>> exprInJoins = new LinkedHashSet<>();
@@ -85,6 +91,9 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
 
     private ValidatingVisitor validatingVisitor = ValidatingVisitor.DEFAULT;
 
+    // collections which are shared with clones
+    private transient int shared;
+
     private static Predicate and(Predicate lhs, Predicate rhs) {
         if (lhs == null) {
             return rhs;
@@ -111,11 +120,17 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
 
     @Override
     public void addFlag(QueryFlag flag) {
+        if (unshare(FLAGS)) {
+            flags = new LinkedHashSet<>(flags);
+        }
         flags = addSorted(flags, flag);
     }
 
     @Override
     public void addJoinFlag(JoinFlag flag) {
+        if (unshare(JOIN_FLAGS)) {
+            joinFlags = new LinkedHashSet<>(joinFlags);
+        }
         joinFlags.add(flag);
     }
 
@@ -123,6 +138,9 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
     public void addGroupBy(Expression<?> o) {
         // group by elements can't be validated, since they can refer to projection elements
         // that are declared later
+        if (unshare(GROUP_BY)) {
+            groupBy = new ArrayList<>(groupBy);
+        }
         groupBy.add(o);
     }
 
@@ -141,11 +159,18 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
 
     private void addLastJoin() {
         if (joinTarget != null) {
+            if (unshare(JOINS)) {
+                joins = new ArrayList<>(joins);
+            }
             joins.add(new JoinExpression(joinType, joinTarget, joinCondition, CollectionUtils.unmodifiableSet(joinFlags)));
             joinType = null;
             joinTarget = null;
             joinCondition = null;
-            joinFlags.clear();
+            if (unshare(JOIN_FLAGS)) {
+                joinFlags = new LinkedHashSet<>();
+            } else {
+                joinFlags.clear();
+            }
         }
     }
 
@@ -154,6 +179,9 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
         addLastJoin();
         if (!exprInJoins.contains(expr)) {
             if (expr instanceof Path && ((Path<?>) expr).getMetadata().isRoot()) {
+                if (unshare(EXPR_IN_JOINS)) {
+                    exprInJoins = new LinkedHashSet<>(exprInJoins);
+                }
                 exprInJoins.add(expr);
             } else {
                 validate(expr);
@@ -175,6 +203,9 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
     public void addOrderBy(OrderSpecifier<?> o) {
         // order specifiers can't be validated, since they can refer to projection elements
         // that are declared later
+        if (unshare(ORDER_BY)) {
+            orderBy = new ArrayList<>(orderBy);
+        }
         orderBy.add(o);
     }
 
@@ -198,7 +229,11 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
 
     @Override
     public void clearOrderBy() {
-        orderBy.clear();
+        if (unshare(ORDER_BY)) {
+            orderBy = new ArrayList<>();
+        } else {
+            orderBy.clear();
+        }
     }
 
     @Override
@@ -210,20 +245,8 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
     public QueryMetadata clone() {
         try {
             DefaultQueryMetadata clone = (DefaultQueryMetadata) super.clone();
-            clone.exprInJoins = copyOf(exprInJoins);
-            clone.groupBy = copyOf(groupBy);
-            clone.having = having;
-            clone.joins = copyOf(joins);
-            clone.joinTarget = joinTarget;
-            clone.joinCondition = joinCondition;
-            clone.joinFlags = copyOf(joinFlags);
-            clone.joinType = joinType;
-            clone.modifiers = modifiers;
-            clone.orderBy = copyOf(orderBy);
-            clone.projection = projection;
-            clone.params = copyOf(params);
-            clone.where = where;
-            clone.flags = copyOfSorted(flags);
+            shared = ALL;
+            clone.shared = ALL;
             return clone;
         } catch (CloneNotSupportedException e) {
             throw new QueryException(e);
@@ -289,6 +312,7 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
     @Override
     public void reset() {
         params = new LinkedHashMap<>();
+        shared &= ~PARAMS;
         modifiers = QueryModifiers.EMPTY;
     }
 
@@ -330,6 +354,9 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
 
     @Override
     public <T> void setParam(ParamExpression<T> param, T value) {
+        if (unshare(PARAMS)) {
+            params = new LinkedHashMap<>(params);
+        }
         params = put(params, param, value);
     }
 
@@ -345,6 +372,9 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
 
     @Override
     public void removeFlag(QueryFlag flag) {
+        if (unshare(FLAGS)) {
+            flags = new LinkedHashSet<>(flags);
+        }
         flags = removeSorted(flags, flag);
     }
 
@@ -353,10 +383,22 @@ public class DefaultQueryMetadata implements QueryMetadata, Cloneable {
             expr.accept(ParamsVisitor.DEFAULT, this);
         }
         if (validate) {
+            if (unshare(EXPR_IN_JOINS)) {
+                exprInJoins = new LinkedHashSet<>(exprInJoins);
+            }
             exprInJoins = expr.accept(validatingVisitor, exprInJoins);
         }
     }
 
+    private boolean unshare(int collection) {
+        if ((shared & collection) != 0) {
+            shared &= ~collection;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
     @Override
     public void setValidate(boolean v) {
         this.validate = v;
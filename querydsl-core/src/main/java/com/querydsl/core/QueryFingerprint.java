@@ -0,0 +1,101 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core;
+
+import java.io.Serializable;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FingerprintVisitor;
+
+/**
+ * {@code QueryFingerprint} is a 128-bit structural hash of a query or expression.
+ *
+ * <p>Two queries have the same fingerprint if they differ only in the values of their constants
+ * and parameters. Constants and parameters are represented by their type, so the fingerprint
+ * can be used as a cache key for serialized query strings or prepared statements.</p>
+ *
+ * <p>Limit and offset only contribute their presence, not their values.</p>
+ */
+public final class QueryFingerprint implements Serializable {
+
+    private static final long serialVersionUID = 4815732934176290367L;
+
+    /**
+     * Get the fingerprint of the given query metadata
+     *
+     * @param metadata query metadata
+     * @return fingerprint
+     */
+    public static QueryFingerprint of(QueryMetadata metadata) {
+        return FingerprintVisitor.DEFAULT.visit(metadata);
+    }
+
+    /**
+     * Get the fingerprint of the given expression
+     *
+     * @param expr expression
+     * @return fingerprint
+     */
+    public static QueryFingerprint of(Expression<?> expr) {
+        return expr.accept(FingerprintVisitor.DEFAULT, null);
+    }
+
+    private final long high, low;
+
+    public QueryFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Get the high 64 bits of the fingerprint
+     *
+     * @return high bits
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Get the low 64 bits of the fingerprint
+     *
+     * @return low bits
+     */
+    public long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof QueryFingerprint) {
+            QueryFingerprint other = (QueryFingerprint) o;
+            return other.high == high && other.low == low;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (low ^ (low >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+}
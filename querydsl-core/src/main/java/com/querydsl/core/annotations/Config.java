@@ -47,6 +47,11 @@ public @interface Config {
      */
     boolean mapAccessors() default false;
 
+    /**
+     * Create lazily initialized accessors instead of fields for simple, collection and map properties
+     */
+    boolean lazyAccessors() default false;
+
     /**
      * Create default variable in query type
      */
@@ -50,6 +50,9 @@ public abstract class SerializerBase<S extends SerializerBase<S>> implements Vis
     private static final Set<? extends Operator> SAME_PRECEDENCE = Collections.unmodifiableSet(EnumSet.of(Ops.CASE,
             Ops.CASE_WHEN, Ops.CASE_ELSE, Ops.CASE_EQ, Ops.CASE_EQ_WHEN, Ops.CASE_EQ_ELSE));
 
+    // nested operations of these operators don't need parentheses on the right hand side
+    private static final Set<? extends Operator> ASSOCIATIVE = Collections.unmodifiableSet(EnumSet.of(Ops.AND, Ops.OR));
+
     private final StringBuilder builder = new StringBuilder(128);
 
     private String constantPrefix = "a";
@@ -303,7 +306,8 @@ public abstract class SerializerBase<S extends SerializerBase<S>> implements Vis
                         int opPrecedence = templates.getPrecedence(op);
                         if (precedence < opPrecedence) {
                             append("(").handle(expr).append(")");
-                        } else if (!first && precedence == opPrecedence && !SAME_PRECEDENCE.contains(op)) {
+                        } else if (!first && precedence == opPrecedence && !SAME_PRECEDENCE.contains(op)
+                                && !(op == operator && ASSOCIATIVE.contains(op))) {
                             append("(").handle(expr).append(")");
                         } else {
                             handle(expr);
@@ -15,6 +15,7 @@ package com.querydsl.core.types;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -70,6 +71,10 @@ public class ConstructorExpression<T> extends FactoryExpressionBase<T> {
 
     private final transient Iterable<Function<Object[], Object[]>> transformers;
 
+    private transient MethodHandle factory;
+
+    private transient Class<?>[] factoryTypes;
+
     protected ConstructorExpression(Class<? extends T> type, Expression<?>... args) {
         this(type, getParameterTypes(args), Arrays.asList(args));
     }
@@ -85,6 +90,8 @@ public class ConstructorExpression<T> extends FactoryExpressionBase<T> {
             this.args = Collections.unmodifiableList(args);
             this.constructor = getConstructor(getType(), parameterTypes);
             this.transformers = getTransformers(constructor);
+            this.factory = ProjectionHandles.factory(constructor);
+            this.factoryTypes = constructor.getParameterTypes();
         } catch (NoSuchMethodException e) {
             throw new IllegalArgumentException(e);
         }
@@ -141,12 +148,25 @@ public class ConstructorExpression<T> extends FactoryExpressionBase<T> {
             for (Function<Object[], Object[]> transformer : transformers) {
                 args = transformer.apply(args);
             }
+            if (factory != null) {
+                return newInstance(factory, args);
+            }
             return (T) constructor.newInstance(args);
         } catch (SecurityException | InvocationTargetException | IllegalAccessException | InstantiationException e) {
             throw new ExpressionException(e.getMessage(), e);
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private T newInstance(MethodHandle factory, Object[] args) {
+        ProjectionHandles.checkArguments(factoryTypes, args);
+        try {
+            return (T) (Object) factory.invokeExact(args);
+        } catch (Throwable e) {
+            throw ProjectionHandles.wrap(e);
+        }
+    }
+
     private void readObject(ObjectInputStream ois)
             throws ClassNotFoundException, IOException {
         ois.readObject();
@@ -157,6 +177,8 @@ public class ConstructorExpression<T> extends FactoryExpressionBase<T> {
             Field transformers = ConstructorExpression.class.getDeclaredField("transformers");
             transformers.setAccessible(true);
             transformers.set(this, getTransformers(this.constructor));
+            this.factory = ProjectionHandles.factory(this.constructor);
+            this.factoryTypes = this.constructor.getParameterTypes();
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
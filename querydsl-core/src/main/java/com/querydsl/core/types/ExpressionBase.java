@@ -15,6 +15,8 @@ package com.querydsl.core.types;
 
 import org.jetbrains.annotations.Nullable;
 
+import com.querydsl.core.QueryFingerprint;
+
 /**
  * {@code ExpressionBase} is the base class for immutable {@link Expression} implementations
  *
@@ -34,6 +36,9 @@ public abstract class ExpressionBase<T> implements Expression<T> {
     @Nullable
     private transient volatile Integer hashCode;
 
+    @Nullable
+    private transient volatile QueryFingerprint fingerprint;
+
     public ExpressionBase(Class<? extends T> type) {
         this.type = type;
     }
@@ -59,4 +64,13 @@ public abstract class ExpressionBase<T> implements Expression<T> {
         return toString;
     }
 
+    @Nullable
+    final QueryFingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    final void setFingerprint(QueryFingerprint fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
 }
@@ -281,13 +281,7 @@ public final class ExpressionUtils {
      */
     @Nullable
     public static Predicate allOf(Collection<Predicate> exprs) {
-        Predicate rv = null;
-        for (Predicate b : exprs) {
-            if (b != null) {
-                rv = rv == null ? b : ExpressionUtils.and(rv,b);
-            }
-        }
-        return rv;
+        return balanced(Ops.AND, exprs);
     }
 
     /**
@@ -298,13 +292,7 @@ public final class ExpressionUtils {
      */
     @Nullable
     public static Predicate allOf(Predicate... exprs) {
-        Predicate rv = null;
-        for (Predicate b : exprs) {
-            if (b != null) {
-                rv = rv == null ? b : ExpressionUtils.and(rv,b);
-            }
-        }
-        return rv;
+        return balanced(Ops.AND, Arrays.asList(exprs));
     }
 
     /**
@@ -335,13 +323,7 @@ public final class ExpressionUtils {
      */
     @Nullable
     public static Predicate anyOf(Collection<Predicate> exprs) {
-        Predicate rv = null;
-        for (Predicate b : exprs) {
-            if (b != null) {
-                rv = rv == null ? b : ExpressionUtils.or(rv,b);
-            }
-        }
-        return rv;
+        return balanced(Ops.OR, exprs);
     }
 
     /**
@@ -352,13 +334,33 @@ public final class ExpressionUtils {
      */
     @Nullable
     public static Predicate anyOf(Predicate... exprs) {
-        Predicate rv = null;
+        return balanced(Ops.OR, Arrays.asList(exprs));
+    }
+
+    @Nullable
+    private static Predicate balanced(Operator operator, Collection<Predicate> exprs) {
+        List<Predicate> predicates = new ArrayList<>(exprs.size());
         for (Predicate b : exprs) {
             if (b != null) {
-                rv = rv == null ? b : ExpressionUtils.or(rv,b);
+                predicates.add(b);
             }
         }
-        return rv;
+        return predicates.isEmpty() ? null : balanced(operator, predicates, 0, predicates.size());
+    }
+
+    /**
+     * Combine the predicates into a balanced tree, the left subtree holds the largest power of two
+     * of the predicates, so up to three predicates are combined from left to right
+     */
+    private static Predicate balanced(Operator operator, List<Predicate> predicates, int from, int to) {
+        int size = to - from;
+        if (size == 1) {
+            return predicates.get(from);
+        }
+        int middle = from + Integer.highestOneBit(size - 1);
+        Predicate left = balanced(operator, predicates, from, middle);
+        Predicate right = balanced(operator, predicates, middle, to);
+        return operator == Ops.AND ? and(left, right) : or(left, right);
     }
 
     /**
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.JoinFlag;
+import com.querydsl.core.QueryFingerprint;
+import com.querydsl.core.QueryFlag;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+
+/**
+ * {@code FingerprintVisitor} computes the {@link QueryFingerprint} of expressions and queries.
+ *
+ * <p>Constants and parameters are hashed by their type only. The size of collection constants
+ * is included, since it affects the serialized form. Fingerprints of {@link ExpressionBase}
+ * instances are cached in the instance, unless they contain subqueries.</p>
+ */
+public final class FingerprintVisitor implements Visitor<QueryFingerprint, Void> {
+
+    public static final FingerprintVisitor DEFAULT = new FingerprintVisitor();
+
+    private static final QueryFingerprint NULL = new Hasher(0).build();
+
+    private static final int CONSTANT = 1, FACTORY = 2, OPERATION = 3, PARAM = 4, PATH = 5,
+            SUBQUERY = 6, TEMPLATE = 7, METADATA = 8;
+
+    private FingerprintVisitor() { }
+
+    @Override
+    public QueryFingerprint visit(Constant<?> expr, Void context) {
+        return new Walker().visit(expr, context);
+    }
+
+    @Override
+    public QueryFingerprint visit(FactoryExpression<?> expr, Void context) {
+        return new Walker().visit(expr, context);
+    }
+
+    @Override
+    public QueryFingerprint visit(Operation<?> expr, Void context) {
+        return new Walker().visit(expr, context);
+    }
+
+    @Override
+    public QueryFingerprint visit(ParamExpression<?> expr, Void context) {
+        return new Walker().visit(expr, context);
+    }
+
+    @Override
+    public QueryFingerprint visit(Path<?> expr, Void context) {
+        return new Walker().visit(expr, context);
+    }
+
+    @Override
+    public QueryFingerprint visit(SubQueryExpression<?> expr, Void context) {
+        return new Walker().visit(expr, context);
+    }
+
+    @Override
+    public QueryFingerprint visit(TemplateExpression<?> expr, Void context) {
+        return new Walker().visit(expr, context);
+    }
+
+    /**
+     * Get the fingerprint of the given query metadata
+     *
+     * @param metadata query metadata
+     * @return fingerprint
+     */
+    public QueryFingerprint visit(QueryMetadata metadata) {
+        return new Walker().visit(metadata);
+    }
+
+    /**
+     * Computes the fingerprint of one expression tree. The metadata of subqueries may be mutable,
+     * so the fingerprints of subqueries and of the expressions containing them are not cached.
+     */
+    private static final class Walker implements Visitor<QueryFingerprint, Void> {
+
+        private boolean subQuery;
+
+        @Override
+        public QueryFingerprint visit(Constant<?> expr, Void context) {
+            QueryFingerprint rv = cached(expr);
+            if (rv == null) {
+                rv = cache(expr, constant(expr.getConstant()));
+            }
+            return rv;
+        }
+
+        @Override
+        public QueryFingerprint visit(FactoryExpression<?> expr, Void context) {
+            QueryFingerprint rv = cached(expr);
+            if (rv == null) {
+                boolean outer = enter();
+                Hasher hasher = new Hasher(FACTORY).add(expr.getClass()).add(expr.getType());
+                add(hasher, expr.getArgs());
+                rv = exit(outer, expr, hasher.build());
+            }
+            return rv;
+        }
+
+        @Override
+        public QueryFingerprint visit(Operation<?> expr, Void context) {
+            QueryFingerprint rv = cached(expr);
+            if (rv == null) {
+                boolean outer = enter();
+                Operator operator = expr.getOperator();
+                Hasher hasher = new Hasher(OPERATION)
+                        .add(operator.getClass())
+                        .add(operator.name())
+                        .add(expr.getType());
+                add(hasher, expr.getArgs());
+                rv = exit(outer, expr, hasher.build());
+            }
+            return rv;
+        }
+
+        @Override
+        public QueryFingerprint visit(ParamExpression<?> expr, Void context) {
+            QueryFingerprint rv = cached(expr);
+            if (rv == null) {
+                Hasher hasher = new Hasher(PARAM).add(expr.getType());
+                if (!expr.isAnon()) {
+                    hasher.add(expr.getName());
+                }
+                rv = cache(expr, hasher.build());
+            }
+            return rv;
+        }
+
+        @Override
+        public QueryFingerprint visit(Path<?> expr, Void context) {
+            QueryFingerprint rv = cached(expr);
+            if (rv == null) {
+                boolean outer = enter();
+                PathMetadata metadata = expr.getMetadata();
+                Hasher hasher = new Hasher(PATH)
+                        .add(expr.getType())
+                        .add(metadata.getPathType().name())
+                        .add(fingerprint(metadata.getParent()));
+                Object element = metadata.getElement();
+                if (element instanceof Expression<?>) {
+                    hasher.add(fingerprint((Expression<?>) element));
+                } else {
+                    hasher.add(element.getClass()).add(element.toString());
+                }
+                rv = exit(outer, expr, hasher.build());
+            }
+            return rv;
+        }
+
+        @Override
+        public QueryFingerprint visit(SubQueryExpression<?> expr, Void context) {
+            QueryFingerprint rv = new Hasher(SUBQUERY).add(visit(expr.getMetadata())).build();
+            subQuery = true;
+            return rv;
+        }
+
+        @Override
+        public QueryFingerprint visit(TemplateExpression<?> expr, Void context) {
+            QueryFingerprint rv = cached(expr);
+            if (rv == null) {
+                boolean outer = enter();
+                Hasher hasher = new Hasher(TEMPLATE)
+                        .add(expr.getType())
+                        .add(expr.getTemplate().toString())
+                        .add(expr.getArgs().size());
+                for (Object arg : expr.getArgs()) {
+                    hasher.add(arg instanceof Expression<?>
+                            ? fingerprint((Expression<?>) arg) : constant(arg));
+                }
+                rv = exit(outer, expr, hasher.build());
+            }
+            return rv;
+        }
+
+        QueryFingerprint visit(QueryMetadata metadata) {
+            Hasher hasher = new Hasher(METADATA)
+                    .add(metadata.isDistinct())
+                    .add(metadata.isUnique());
+
+            List<JoinExpression> joins = metadata.getJoins();
+            hasher.add(joins.size());
+            for (JoinExpression join : joins) {
+                hasher.add(join.getType().name())
+                      .add(fingerprint(join.getTarget()))
+                      .add(fingerprint(join.getCondition()))
+                      .add(join.getFlags().size());
+                for (JoinFlag flag : join.getFlags()) {
+                    hasher.add(flag.getPosition().name()).add(fingerprint(flag.getFlag()));
+                }
+            }
+
+            hasher.add(fingerprint(metadata.getWhere()));
+            add(hasher, metadata.getGroupBy());
+            hasher.add(fingerprint(metadata.getHaving()));
+
+            List<OrderSpecifier<?>> orderBy = metadata.getOrderBy();
+            hasher.add(orderBy.size());
+            for (OrderSpecifier<?> order : orderBy) {
+                hasher.add(order.getOrder().name())
+                      .add(order.getNullHandling().name())
+                      .add(fingerprint(order.getTarget()));
+            }
+
+            hasher.add(fingerprint(metadata.getProjection()));
+
+            Set<QueryFlag> flags = metadata.getFlags();
+            hasher.add(flags.size());
+            for (QueryFlag flag : flags) {
+                hasher.add(flag.getPosition().name()).add(fingerprint(flag.getFlag()));
+            }
+
+            QueryModifiers modifiers = metadata.getModifiers();
+            hasher.add(modifiers.getLimit() != null).add(modifiers.getOffset() != null);
+            return hasher.build();
+        }
+
+        private QueryFingerprint fingerprint(@Nullable Expression<?> expr) {
+            return expr != null ? expr.accept(this, null) : NULL;
+        }
+
+        private void add(Hasher hasher, List<? extends Expression<?>> exprs) {
+            hasher.add(exprs.size());
+            for (Expression<?> expr : exprs) {
+                hasher.add(fingerprint(expr));
+            }
+        }
+
+        /**
+         * Start a node whose cacheability depends on its children
+         *
+         * @return the state of the enclosing node
+         */
+        private boolean enter() {
+            boolean outer = subQuery;
+            subQuery = false;
+            return outer;
+        }
+
+        private QueryFingerprint exit(boolean outer, Expression<?> expr, QueryFingerprint fingerprint) {
+            if (!subQuery) {
+                cache(expr, fingerprint);
+            }
+            subQuery |= outer;
+            return fingerprint;
+        }
+
+    }
+
+    private static QueryFingerprint constant(@Nullable Object constant) {
+        if (constant == null) {
+            return NULL;
+        }
+        Hasher hasher = new Hasher(CONSTANT).add(constant.getClass());
+        if (constant instanceof Collection<?>) {
+            hasher.add(((Collection<?>) constant).size());
+        }
+        return hasher.build();
+    }
+
+    @Nullable
+    private static QueryFingerprint cached(Expression<?> expr) {
+        return expr instanceof ExpressionBase<?> ? ((ExpressionBase<?>) expr).getFingerprint() : null;
+    }
+
+    private static QueryFingerprint cache(Expression<?> expr, QueryFingerprint fingerprint) {
+        if (expr instanceof ExpressionBase<?>) {
+            ((ExpressionBase<?>) expr).setFingerprint(fingerprint);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 128-bit accumulator based on the MurmurHash3 x64 mixing functions
+     */
+    private static final class Hasher {
+
+        private static final long C1 = 0x87c37b91114253d5L, C2 = 0x4cf5ad432745937fL;
+
+        private long h1, h2;
+
+        private int length;
+
+        Hasher(int tag) {
+            add(tag);
+        }
+
+        Hasher add(long k) {
+            long k1 = Long.rotateLeft(k * C1, 31) * C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            long k2 = Long.rotateLeft(k * C2, 33) * C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+
+            length++;
+            return this;
+        }
+
+        Hasher add(boolean b) {
+            return add(b ? 1L : 0L);
+        }
+
+        Hasher add(String str) {
+            int len = str.length();
+            add(len);
+            for (int i = 0; i < len; i += 4) {
+                long k = 0;
+                for (int j = i; j < Math.min(i + 4, len); j++) {
+                    k = (k << 16) | str.charAt(j);
+                }
+                add(k);
+            }
+            return this;
+        }
+
+        Hasher add(Class<?> type) {
+            return add(type.getName());
+        }
+
+        Hasher add(QueryFingerprint fingerprint) {
+            return add(fingerprint.getHigh()).add(fingerprint.getLow());
+        }
+
+        QueryFingerprint build() {
+            long r1 = h1 ^ length, r2 = h2 ^ length;
+            r1 += r2;
+            r2 += r1;
+            r1 = fmix(r1);
+            r2 = fmix(r2);
+            r1 += r2;
+            r2 += r1;
+            return new QueryFingerprint(r1, r2);
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+
+    }
+
+}
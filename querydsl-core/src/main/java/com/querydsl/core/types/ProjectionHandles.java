@@ -0,0 +1,248 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core.types;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code ProjectionHandles} provides cached {@link MethodHandle} instances for populating
+ * projections. The handles are shared per declaring class of the member.
+ *
+ * <p>The cache entries are stored on the declaring class and refer to this class, so handles are
+ * only shared for classes of the class loader of Querydsl and its descendants. Caching handles
+ * for classes of parent class loaders, e.g. JDK classes, would keep Querydsl loaded. Handles for
+ * those classes are created per projection instead.</p>
+ *
+ * <p>If no handle can be created for a member, {@code null} is returned and callers fall
+ * back to reflection. As the handles convert their arguments more leniently than reflection,
+ * callers check the arguments via {@link #isAssignable(Class, Object)} first.</p>
+ */
+final class ProjectionHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final Object[] NO_ARGS = {};
+
+    private static final Map<Class<?>, String> WIDENING = new HashMap<>();
+
+    static {
+        WIDENING.put(Byte.class, "short int long float double");
+        WIDENING.put(Short.class, "int long float double");
+        WIDENING.put(Character.class, "int long float double");
+        WIDENING.put(Integer.class, "long float double");
+        WIDENING.put(Long.class, "float double");
+        WIDENING.put(Float.class, "double");
+    }
+
+    private static final ClassValue<ConcurrentMap<Member, Optional<MethodHandle>>> HANDLES =
+            new ClassValue<ConcurrentMap<Member, Optional<MethodHandle>>>() {
+                @Override
+                protected ConcurrentMap<Member, Optional<MethodHandle>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Get a handle of type {@code (Object, Object)void} which sets the given field
+     *
+     * @param field field
+     * @return handle or null
+     */
+    @Nullable
+    static MethodHandle writer(Field field) {
+        return get(field);
+    }
+
+    /**
+     * Get a handle of type {@code (Object, Object)void} which invokes the given setter
+     *
+     * @param setter setter
+     * @return handle or null
+     */
+    @Nullable
+    static MethodHandle writer(Method setter) {
+        return get(setter);
+    }
+
+    /**
+     * Get a handle of type {@code (Object[])Object} which invokes the given constructor
+     * with the elements of the argument array
+     *
+     * @param constructor constructor
+     * @return handle or null
+     */
+    @Nullable
+    static MethodHandle factory(Constructor<?> constructor) {
+        return get(constructor);
+    }
+
+    /**
+     * Get a handle of type {@code (Object[])Object} which invokes the default constructor of the
+     * given type, the argument array is ignored
+     *
+     * @param type type
+     * @return handle or null
+     */
+    @Nullable
+    static MethodHandle defaultFactory(Class<?> type) {
+        try {
+            return get(type.getDeclaredConstructor());
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Invoke a handle created via {@link #defaultFactory(Class)}
+     *
+     * @param handle handle
+     * @return new instance
+     * @throws Throwable exception of the constructor
+     */
+    static Object newInstance(MethodHandle handle) throws Throwable {
+        return (Object) handle.invokeExact(NO_ARGS);
+    }
+
+    /**
+     * Get whether the given value can be passed for a parameter of the given type via reflection
+     *
+     * @param type parameter type
+     * @param value value
+     * @return true, if assignable
+     */
+    static boolean isAssignable(Class<?> type, @Nullable Object value) {
+        if (!type.isPrimitive()) {
+            return value == null || type.isInstance(value);
+        } else if (value == null) {
+            return false;
+        } else if (MethodType.methodType(type).wrap().returnType() == value.getClass()) {
+            return true;
+        } else {
+            String widening = WIDENING.get(value.getClass());
+            return widening != null && (" " + widening + " ").contains(" " + type.getName() + " ");
+        }
+    }
+
+    /**
+     * Check the given arguments against the given parameter types like reflection does
+     *
+     * @param types parameter types
+     * @param args arguments
+     * @throws IllegalArgumentException if the arguments don't match the parameter types
+     */
+    static void checkArguments(Class<?>[] types, Object[] args) {
+        if (types.length != args.length) {
+            throw new IllegalArgumentException("wrong number of arguments");
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (!isAssignable(types[i], args[i])) {
+                throw new IllegalArgumentException("argument type mismatch");
+            }
+        }
+    }
+
+    /**
+     * Wrap an exception thrown by an invoked member the same way as reflective invocation.
+     * Errors are rethrown.
+     *
+     * @param e exception of the member
+     * @return exception to throw
+     */
+    static ExpressionException wrap(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        InvocationTargetException ex = new InvocationTargetException(e);
+        return new ExpressionException(ex.getMessage(), ex);
+    }
+
+    @Nullable
+    private static MethodHandle get(Member member) {
+        Class<?> type = member.getDeclaringClass();
+        if (!isCacheable(type)) {
+            return create(member);
+        }
+        return HANDLES.get(type)
+                .computeIfAbsent(member, m -> Optional.ofNullable(create(m)))
+                .orElse(null);
+    }
+
+    private static boolean isCacheable(Class<?> type) {
+        ClassLoader own = ProjectionHandles.class.getClassLoader();
+        if (own == null) {
+            return true;
+        }
+        for (ClassLoader loader = type.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == own) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static MethodHandle create(Member member) {
+        try {
+            return unreflect(member);
+        } catch (IllegalAccessException e) {
+            try {
+                ((AccessibleObject) member).setAccessible(true);
+                return unreflect(member);
+            } catch (IllegalAccessException | RuntimeException e2) {
+                return null;
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(Member member) throws IllegalAccessException {
+        if (member instanceof Field) {
+            return LOOKUP.unreflectSetter((Field) member).asType(WRITER_TYPE);
+        } else if (member instanceof Method) {
+            return LOOKUP.unreflect((Method) member).asType(WRITER_TYPE);
+        } else {
+            Constructor<?> constructor = (Constructor<?>) member;
+            MethodHandle handle = LOOKUP.unreflectConstructor(constructor).asFixedArity();
+            int parameterCount = constructor.getParameterCount();
+            if (parameterCount == 0) {
+                return MethodHandles.dropArguments(handle.asType(MethodType.methodType(Object.class)),
+                        0, Object[].class);
+            }
+            return handle.asSpreader(Object[].class, parameterCount).asType(FACTORY_TYPE);
+        }
+    }
+
+    private ProjectionHandles() { }
+
+}
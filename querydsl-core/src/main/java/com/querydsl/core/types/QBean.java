@@ -20,6 +20,7 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -29,6 +30,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.codehaus.mojo.animal_sniffer.IgnoreJRERequirement;
+
 /**
  * {@code QBean} is a JavaBean populating projection type
  *
@@ -98,6 +101,12 @@ public class QBean<T> extends FactoryExpressionBase<T> {
 
     private final boolean fieldAccess;
 
+    private transient volatile MethodHandle[] writers;
+
+    private transient Class<?>[] writerTypes;
+
+    private transient MethodHandle factory;
+
     /**
      * Create a new QBean instance
      *
@@ -216,29 +225,39 @@ public class QBean<T> extends FactoryExpressionBase<T> {
         throw new IllegalArgumentException(msg);
     }
 
+    private MethodHandle[] getWriters() {
+        if (writers == null) {
+            int size = fieldAccess ? fields.size() : setters.size();
+            MethodHandle[] handles = new MethodHandle[size];
+            Class<?>[] types = new Class<?>[size];
+            for (int i = 0; i < size; i++) {
+                if (fieldAccess) {
+                    Field field = fields.get(i);
+                    handles[i] = field != null ? ProjectionHandles.writer(field) : null;
+                    types[i] = field != null ? field.getType() : null;
+                } else {
+                    Method setter = setters.get(i);
+                    handles[i] = setter != null ? ProjectionHandles.writer(setter) : null;
+                    types[i] = setter != null ? setter.getParameterTypes()[0] : null;
+                }
+            }
+            writerTypes = types;
+            writers = handles;
+        }
+        return writers;
+    }
+
     @Override
     public T newInstance(Object... a) {
         try {
             T rv = create(getType());
-            if (fieldAccess) {
-                for (int i = 0; i < a.length; i++) {
-                    Object value = a[i];
-                    if (value != null) {
-                        Field field = fields.get(i);
-                        if (field != null) {
-                            field.set(rv, value);
-                        }
-                    }
-                }
-            } else {
-                for (int i = 0; i < a.length; i++) {
-                    Object value = a[i];
-                    if (value != null) {
-                        Method setter = setters.get(i);
-                        if (setter != null) {
-                            setter.invoke(rv, value);
-                        }
-                    }
+            MethodHandle[] handles = getWriters();
+            for (int i = 0; i < a.length; i++) {
+                Object value = a[i];
+                if (value != null && handles[i] != null) {
+                    write(handles[i], writerTypes[i], rv, value);
+                } else if (value != null) {
+                    set(rv, i, value);
                 }
             }
             return rv;
@@ -247,8 +266,64 @@ public class QBean<T> extends FactoryExpressionBase<T> {
         }
     }
 
+    // invokeExact is signature polymorphic, the (Object, Object)void call site isn't in the JRE signature
+    @IgnoreJRERequirement
+    private static void write(MethodHandle handle, Class<?> type, Object rv, Object value) {
+        if (!ProjectionHandles.isAssignable(type, value)) {
+            throw new IllegalArgumentException("Can not set " + type.getName() + " to " + value.getClass().getName());
+        }
+        try {
+            handle.invokeExact(rv, value);
+        } catch (Throwable e) {
+            throw ProjectionHandles.wrap(e);
+        }
+    }
+
+    private void set(T rv, int i, Object value) throws InvocationTargetException, IllegalAccessException {
+        if (fieldAccess) {
+            Field field = fields.get(i);
+            if (field != null) {
+                field.set(rv, value);
+            }
+        } else {
+            Method setter = setters.get(i);
+            if (setter != null) {
+                setter.invoke(rv, value);
+            }
+        }
+    }
+
+    /**
+     * Create a new instance of the given type via its default constructor
+     *
+     * @param type type
+     * @return new instance
+     * @throws IllegalAccessException
+     * @throws InstantiationException
+     */
+    @SuppressWarnings("unchecked")
     protected <T> T create(Class<T> type) throws IllegalAccessException, InstantiationException {
-        return type.newInstance();
+        if (factory == null && type.equals(getType())) {
+            factory = ProjectionHandles.defaultFactory(type);
+        }
+        if (factory != null && type.equals(getType())) {
+            try {
+                return (T) ProjectionHandles.newInstance(factory);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ExpressionException(e.getMessage(), e);
+            }
+        }
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (NoSuchMethodException e) {
+            InstantiationException ex = new InstantiationException(type.getName());
+            ex.initCause(e);
+            throw ex;
+        } catch (InvocationTargetException e) {
+            throw new ExpressionException(e.getMessage(), e.getCause());
+        }
     }
 
     /**
@@ -23,7 +23,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -58,7 +59,28 @@ public class TemplateFactory {
             + "([slu%]?%?)"
             + "\\}");
 
-    private final Map<String, Template> cache = Collections.synchronizedMap(new WeakHashMap<>());;
+    /**
+     * Default maximum amount of cached templates per factory
+     */
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+
+    // templates used since the last rotation, replaces the old generation once it is full
+    private volatile Map<String, Template> young = new ConcurrentHashMap<>();
+
+    // templates which are dropped on the next rotation, unless they are used before
+    private volatile Map<String, Template> old = new ConcurrentHashMap<>();
+
+    private final Object rotationLock = new Object();
+
+    private final int cacheSize;
+
+    private final int generationSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
 
     private final char escape;
 
@@ -180,91 +202,197 @@ public class TemplateFactory {
             };
 
     public TemplateFactory(char escape) {
+        this(escape, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Create a new TemplateFactory instance
+     *
+     * @param escape escape character for like patterns
+     * @param cacheSize maximum amount of cached templates
+     */
+    public TemplateFactory(char escape, int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize must not be negative");
+        }
         this.escape = escape;
+        this.cacheSize = cacheSize;
+        this.generationSize = (cacheSize + 1) / 2;
     }
 
+    /**
+     * Get the template for the given template string
+     *
+     * <p>Lookups don't lock. The cache is split into two generations of up to half of the cache
+     * size each. Templates are added to the young generation, also when they are found in the
+     * old one. A full young generation replaces the old one, which drops the templates that
+     * haven't been used since, so that eviction is approximately least recently used.</p>
+     *
+     * @param template template string
+     * @return template
+     */
     public Template create(String template) {
-        if (cache.containsKey(template)) {
-            return cache.get(template);
+        if (cacheSize == 0) {
+            misses.increment();
+            return parse(template);
+        }
+        Template rv = young.get(template);
+        if (rv != null) {
+            hits.increment();
+            return rv;
+        }
+        rv = old.remove(template);
+        if (rv != null) {
+            hits.increment();
         } else {
-            Matcher m = elementPattern.matcher(template);
-            final List<Element> elements = new ArrayList<>();
-            int end = 0;
-            while (m.find()) {
-                if (m.start() > end) {
-                    elements.add(new Template.StaticText(template.substring(end, m.start())));
-                }
-                String premodifiers = m.group(1).toLowerCase(Locale.ENGLISH);
-                int index = Integer.parseInt(m.group(2));
-                String postmodifiers = m.group(6).toLowerCase(Locale.ENGLISH);
-                boolean asString = false;
-                Function<Object, Object> transformer = null;
-                switch (premodifiers.length()) {
-                    case 1:
-                        transformer = toEndsWithViaLike;
-                        break;
-                    case 2:
-                        transformer = toEndsWithViaLikeLower;
-                        break;
-                }
-                switch (postmodifiers.length()) {
-                    case 1:
-                        switch (postmodifiers.charAt(0)) {
-                            case '%':
-                                if (transformer == null) {
-                                    transformer = toStartsWithViaLike;
-                                } else {
-                                    transformer = toContainsViaLike;
-                                }
-                                break;
-                            case 'l':
-                                transformer = toLowerCase;
-                                break;
-                            case 'u':
-                                transformer = toUpperCase;
-                                break;
-                            case 's':
-                                asString = true;
-                                break;
-                        }
-                        break;
-                    case 2:
-                        if (transformer == null) {
-                            transformer = toStartsWithViaLikeLower;
-                        } else {
-                            transformer = toContainsViaLikeLower;
-                        }
-                        break;
-                }
-                if (m.group(4) != null) {
-                    Operator operator = OPERATORS.get(m.group(3));
-                    int index2 = Integer.parseInt(m.group(4));
-                    elements.add(new Template.Operation(index, index2, operator, asString));
-                } else if (m.group(5) != null) {
-                    Operator operator = OPERATORS.get(m.group(3));
-                    Number number;
-                    if (m.group(5).contains(".")) {
-                        number = new BigDecimal(m.group(5));
+            misses.increment();
+            rv = parse(template);
+        }
+        Map<String, Template> generation = young;
+        Template existing = generation.putIfAbsent(template, rv);
+        if (existing != null) {
+            return existing;
+        }
+        if (generation.size() >= generationSize) {
+            rotate();
+        }
+        return rv;
+    }
+
+    private void rotate() {
+        synchronized (rotationLock) {
+            if (young.size() >= generationSize) {
+                evictions.add(old.size());
+                old = young;
+                young = new ConcurrentHashMap<>();
+            }
+        }
+    }
+
+    private Template parse(String template) {
+        Matcher m = elementPattern.matcher(template);
+        final List<Element> elements = new ArrayList<>();
+        int end = 0;
+        while (m.find()) {
+            if (m.start() > end) {
+                elements.add(new Template.StaticText(template.substring(end, m.start())));
+            }
+            String premodifiers = m.group(1).toLowerCase(Locale.ENGLISH);
+            int index = Integer.parseInt(m.group(2));
+            String postmodifiers = m.group(6).toLowerCase(Locale.ENGLISH);
+            boolean asString = false;
+            Function<Object, Object> transformer = null;
+            switch (premodifiers.length()) {
+                case 1:
+                    transformer = toEndsWithViaLike;
+                    break;
+                case 2:
+                    transformer = toEndsWithViaLikeLower;
+                    break;
+            }
+            switch (postmodifiers.length()) {
+                case 1:
+                    switch (postmodifiers.charAt(0)) {
+                        case '%':
+                            if (transformer == null) {
+                                transformer = toStartsWithViaLike;
+                            } else {
+                                transformer = toContainsViaLike;
+                            }
+                            break;
+                        case 'l':
+                            transformer = toLowerCase;
+                            break;
+                        case 'u':
+                            transformer = toUpperCase;
+                            break;
+                        case 's':
+                            asString = true;
+                            break;
+                    }
+                    break;
+                case 2:
+                    if (transformer == null) {
+                        transformer = toStartsWithViaLikeLower;
                     } else {
-                        number = Integer.valueOf(m.group(5));
+                        transformer = toContainsViaLikeLower;
                     }
-                    elements.add(new Template.OperationConst(index, number, operator, asString));
-                } else if (asString) {
-                    elements.add(new Template.AsString(index));
-                } else if (transformer != null) {
-                    elements.add(new Template.Transformed(index, transformer));
+                    break;
+            }
+            if (m.group(4) != null) {
+                Operator operator = OPERATORS.get(m.group(3));
+                int index2 = Integer.parseInt(m.group(4));
+                elements.add(new Template.Operation(index, index2, operator, asString));
+            } else if (m.group(5) != null) {
+                Operator operator = OPERATORS.get(m.group(3));
+                Number number;
+                if (m.group(5).contains(".")) {
+                    number = new BigDecimal(m.group(5));
                 } else {
-                    elements.add(new Template.ByIndex(index));
+                    number = Integer.valueOf(m.group(5));
                 }
-                end = m.end();
-            }
-            if (end < template.length()) {
-                elements.add(new Template.StaticText(template.substring(end)));
+                elements.add(new Template.OperationConst(index, number, operator, asString));
+            } else if (asString) {
+                elements.add(new Template.AsString(index));
+            } else if (transformer != null) {
+                elements.add(new Template.Transformed(index, transformer));
+            } else {
+                elements.add(new Template.ByIndex(index));
             }
-            Template rv = new Template(template, CollectionUtils.unmodifiableList(elements));
-            cache.put(template, rv);
-            return rv;
+            end = m.end();
+        }
+        if (end < template.length()) {
+            elements.add(new Template.StaticText(template.substring(end)));
         }
+        return new Template(template, CollectionUtils.unmodifiableList(elements));
+    }
+
+    /**
+     * Get the maximum amount of cached templates
+     *
+     * @return cache size bound
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Get the amount of template lookups served from the cache
+     *
+     * @return hit count
+     */
+    public long getCacheHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the amount of template lookups which required parsing
+     *
+     * @return miss count
+     */
+    public long getCacheMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the amount of templates removed from the cache to stay within the size bound. Templates
+     * added concurrently with the removal of their generation may not be counted.
+     *
+     * @return eviction count
+     */
+    public long getCacheEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the ratio of template lookups served from the cache
+     *
+     * @return hit rate between 0 and 1, 1 if there were no lookups
+     */
+    public double getCacheHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 1.0 : (double) hitCount / total;
     }
 
     public String escapeForLike(String str) {
@@ -15,6 +15,7 @@
 package com.querydsl.core.types.dsl;
 
 import java.sql.Time;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -126,11 +127,7 @@ public final class Expressions {
      * @return intersection of predicates
      */
     public static BooleanExpression allOf(BooleanExpression... exprs) {
-        BooleanExpression rv = null;
-        for (BooleanExpression b : exprs) {
-            rv = rv == null ? b : rv.and(b);
-        }
-        return rv;
+        return balanced(Ops.AND, exprs);
     }
 
     /**
@@ -140,11 +137,29 @@ public final class Expressions {
      * @return union of predicates
      */
     public static BooleanExpression anyOf(BooleanExpression... exprs) {
-        BooleanExpression rv = null;
+        return balanced(Ops.OR, exprs);
+    }
+
+    private static BooleanExpression balanced(Operator operator, BooleanExpression[] exprs) {
+        List<BooleanExpression> predicates = new ArrayList<>(exprs.length);
         for (BooleanExpression b : exprs) {
-            rv = rv == null ? b : rv.or(b);
+            if (b != null) {
+                predicates.add(b);
+            }
         }
-        return rv;
+        return predicates.isEmpty() ? null : balanced(operator, predicates, 0, predicates.size());
+    }
+
+    private static BooleanExpression balanced(Operator operator, List<BooleanExpression> predicates,
+            int from, int to) {
+        int size = to - from;
+        if (size == 1) {
+            return predicates.get(from);
+        }
+        int middle = from + Integer.highestOneBit(size - 1);
+        BooleanExpression left = balanced(operator, predicates, from, middle);
+        BooleanExpression right = balanced(operator, predicates, middle, to);
+        return operator == Ops.AND ? left.and(right) : left.or(right);
     }
 
     /**
@@ -15,10 +15,16 @@ package com.querydsl.core;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+
 import org.junit.Ignore;
 import org.junit.Test;
 
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Templates;
 import com.querydsl.core.types.ToStringVisitor;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -92,6 +98,66 @@ public class BooleanBuilderTest {
         assertEquals("true || false || true || true && false && true", builder.toString());
     }
 
+    @Test
+    public void many_terms() {
+        BooleanBuilder builder = new BooleanBuilder();
+        for (int i = 0; i < 10000; i++) {
+            builder.or(Expressions.booleanPath("p" + i));
+        }
+        assertTrue(depth(builder.getValue()) < 30);
+        builder.and(Expressions.booleanPath("last"));
+        assertEquals(Ops.AND, ((Operation<?>) builder.getValue()).getOperator());
+        assertTrue(builder.toString().startsWith("(p0 || p1 || p2"));
+    }
+
+    @Test
+    public void many_terms_toString() {
+        BooleanBuilder builder = new BooleanBuilder();
+        for (int i = 0; i < 7; i++) {
+            builder.and(Expressions.booleanPath("p" + i));
+        }
+        assertEquals("p0 && p1 && p2 && p3 && p4 && p5 && p6", builder.toString());
+    }
+
+    @Test
+    public void left_deep_shape() {
+        BooleanExpression a = Expressions.booleanPath("a"), b = Expressions.booleanPath("b"),
+                c = Expressions.booleanPath("c");
+        assertEquals(a.and(b).and(c), new BooleanBuilder().and(a).and(b).and(c).getValue());
+        assertEquals(a.or(b).or(c), new BooleanBuilder(a).or(b).or(c).getValue());
+        assertEquals(a.or(b).and(c).and(a), new BooleanBuilder(a).or(b).and(c).and(a).getValue());
+    }
+
+    @Test
+    public void balanced_shape() {
+        Predicate[] terms = new Predicate[11];
+        BooleanBuilder builder = new BooleanBuilder();
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = Expressions.booleanPath("p" + i);
+            builder.and(terms[i]);
+            assertEquals(ExpressionUtils.allOf(Arrays.copyOf(terms, i + 1)), builder.getValue());
+        }
+    }
+
+    @Test
+    public void clone_with_terms() throws CloneNotSupportedException {
+        BooleanBuilder builder = new BooleanBuilder(first).and(second).and(first);
+        BooleanBuilder clone = builder.clone();
+        clone.and(second);
+        assertEquals("true && false && true", builder.toString());
+        assertEquals("true && false && true && false", clone.toString());
+    }
+
+    private static int depth(Expression<?> expr) {
+        int depth = 0;
+        if (expr instanceof Operation<?>) {
+            for (Expression<?> arg : ((Operation<?>) expr).getArgs()) {
+                depth = Math.max(depth, depth(arg));
+            }
+        }
+        return depth + 1;
+    }
+
     @Test
     public void if_then_else() {
         BooleanBuilder builder = new BooleanBuilder();
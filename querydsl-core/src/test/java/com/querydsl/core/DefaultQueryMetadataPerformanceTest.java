@@ -0,0 +1,99 @@
+package com.querydsl.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.querydsl.core.QueryFlag.Position;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.Param;
+import com.querydsl.core.types.dsl.StringPath;
+
+@Ignore
+@Category(Performance.class)
+public class DefaultQueryMetadataPerformanceTest {
+
+    private static final StringPath name = Expressions.stringPath("name");
+
+    private static final NumberPath<Integer> age = Expressions.numberPath(Integer.class, "age");
+
+    @State(Scope.Benchmark)
+    public static class BaseQuery {
+
+        private final QueryMetadata metadata = new DefaultQueryMetadata();
+
+        @Setup
+        public void setUp() {
+            for (int i = 0; i < 5; i++) {
+                metadata.addJoin(i == 0 ? JoinType.DEFAULT : JoinType.LEFTJOIN, Expressions.stringPath("e" + i));
+                metadata.addJoinFlag(new JoinFlag("flag" + i));
+            }
+            for (int i = 0; i < 10; i++) {
+                metadata.addWhere(age.gt(i));
+                metadata.addGroupBy(Expressions.stringPath("g" + i));
+                metadata.addOrderBy(Expressions.stringPath("o" + i).asc());
+                metadata.addFlag(new QueryFlag(Position.END, "flag" + i));
+                metadata.setParam(new Param<String>(String.class, "p" + i), "value" + i);
+            }
+            metadata.setProjection(name);
+        }
+
+    }
+
+    @Benchmark
+    public Object cloneOnly(BaseQuery base) {
+        return base.metadata.clone();
+    }
+
+    @Benchmark
+    public Object cloneThenModify(BaseQuery base) {
+        QueryMetadata clone = base.metadata.clone();
+        clone.addWhere(name.eq("Bob"));
+        clone.addOrderBy(name.desc());
+        clone.setLimit(10L);
+        return clone;
+    }
+
+    @Benchmark
+    public Object cloneChain(BaseQuery base) {
+        QueryMetadata metadata = base.metadata;
+        for (int i = 0; i < 5; i++) {
+            metadata = metadata.clone();
+            metadata.addWhere(age.lt(i));
+            metadata.addOrderBy(age.asc());
+        }
+        return metadata;
+    }
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(3)
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
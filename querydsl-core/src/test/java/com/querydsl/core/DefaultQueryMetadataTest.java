@@ -210,6 +210,41 @@ public class DefaultQueryMetadataTest {
         assertEquals(metadata.getWhere(), clone.getWhere());
     }
 
+    @Test
+    public void clone_modifications_are_independent() {
+        Param<String> param = new Param<String>(String.class, "param");
+        Param<String> param2 = new Param<String>(String.class, "param2");
+        metadata.addJoin(JoinType.DEFAULT, str);
+        metadata.addJoinFlag(new JoinFlag("X"));
+        metadata.addGroupBy(str);
+        metadata.addOrderBy(str.asc());
+        metadata.addFlag(new QueryFlag(Position.START, "A"));
+        metadata.setParam(param, "a");
+
+        QueryMetadata clone = metadata.clone();
+        clone.addJoin(JoinType.DEFAULT, str2);
+        clone.addGroupBy(str2);
+        clone.addOrderBy(str2.asc());
+        clone.addFlag(new QueryFlag(Position.END, "B"));
+        clone.setParam(param2, "b");
+        metadata.clearOrderBy();
+        metadata.addJoinFlag(new JoinFlag("Y"));
+
+        assertEquals(1, metadata.getJoins().size());
+        assertEquals(2, metadata.getJoins().get(0).getFlags().size());
+        assertEquals(Collections.singletonList(str), metadata.getGroupBy());
+        assertTrue(metadata.getOrderBy().isEmpty());
+        assertEquals(1, metadata.getFlags().size());
+        assertEquals(1, metadata.getParams().size());
+
+        assertEquals(2, clone.getJoins().size());
+        assertEquals(1, clone.getJoins().get(0).getFlags().size());
+        assertEquals(Arrays.asList(str, str2), clone.getGroupBy());
+        assertEquals(Arrays.asList(str.asc(), str2.asc()), clone.getOrderBy());
+        assertEquals(2, clone.getFlags().size());
+        assertEquals(2, clone.getParams().size());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void setParam() {
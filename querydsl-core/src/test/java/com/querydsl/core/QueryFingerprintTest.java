@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.SubQueryExpressionImpl;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.Param;
+import com.querydsl.core.types.dsl.StringPath;
+
+public class QueryFingerprintTest {
+
+    private final StringPath name = Expressions.stringPath("name");
+
+    private final NumberPath<Integer> age = Expressions.numberPath(Integer.class, "age");
+
+    private QueryMetadata query(Predicate where) {
+        QueryMetadata metadata = new DefaultQueryMetadata();
+        metadata.addJoin(JoinType.DEFAULT, Expressions.stringPath("entity"));
+        metadata.addWhere(where);
+        metadata.addOrderBy(name.asc());
+        metadata.setProjection(name);
+        return metadata;
+    }
+
+    @Test
+    public void constants_are_ignored() {
+        assertEquals(
+                QueryFingerprint.of(query(name.eq("Bob").and(age.gt(10)))),
+                QueryFingerprint.of(query(name.eq("Alice").and(age.gt(30)))));
+    }
+
+    @Test
+    public void constant_types_are_included() {
+        assertNotEquals(
+                QueryFingerprint.of(Expressions.constant(1)),
+                QueryFingerprint.of(Expressions.constant(1L)));
+    }
+
+    @Test
+    public void param_values_are_ignored() {
+        Param<String> param = new Param<String>(String.class, "name");
+        QueryMetadata first = query(name.eq(param));
+        first.setParam(param, "Bob");
+        QueryMetadata second = query(name.eq(param));
+        second.setParam(param, "Alice");
+        assertEquals(QueryFingerprint.of(first), QueryFingerprint.of(second));
+    }
+
+    @Test
+    public void collection_size_is_included() {
+        assertEquals(
+                QueryFingerprint.of(name.in(Arrays.asList("a", "b"))),
+                QueryFingerprint.of(name.in(Arrays.asList("c", "d"))));
+        assertNotEquals(
+                QueryFingerprint.of(name.in(Arrays.asList("a", "b"))),
+                QueryFingerprint.of(name.in(Arrays.asList("a", "b", "c"))));
+    }
+
+    @Test
+    public void structure_is_included() {
+        QueryFingerprint fingerprint = QueryFingerprint.of(query(name.eq("Bob")));
+        assertNotEquals(fingerprint, QueryFingerprint.of(query(name.ne("Bob"))));
+        assertNotEquals(fingerprint, QueryFingerprint.of(query(Expressions.stringPath("other").eq("Bob"))));
+        assertNotEquals(fingerprint, QueryFingerprint.of(query(name.eq("Bob").and(age.gt(10)))));
+
+        QueryMetadata distinct = query(name.eq("Bob"));
+        distinct.setDistinct(true);
+        assertNotEquals(fingerprint, QueryFingerprint.of(distinct));
+    }
+
+    @Test
+    public void limit_presence_is_included() {
+        QueryMetadata first = query(name.eq("Bob"));
+        first.setLimit(10L);
+        QueryMetadata second = query(name.eq("Bob"));
+        second.setLimit(20L);
+        assertEquals(QueryFingerprint.of(first), QueryFingerprint.of(second));
+        assertNotEquals(QueryFingerprint.of(first), QueryFingerprint.of(query(name.eq("Bob"))));
+    }
+
+    @Test
+    public void order_is_included() {
+        QueryMetadata asc = query(name.eq("Bob"));
+        QueryMetadata desc = new DefaultQueryMetadata();
+        desc.addJoin(JoinType.DEFAULT, Expressions.stringPath("entity"));
+        desc.addWhere(name.eq("Bob"));
+        desc.addOrderBy(name.desc());
+        desc.setProjection(name);
+        assertNotEquals(QueryFingerprint.of(asc), QueryFingerprint.of(desc));
+    }
+
+    @Test
+    public void subquery_changes_are_included() {
+        QueryMetadata subQueryMetadata = new DefaultQueryMetadata();
+        subQueryMetadata.addJoin(JoinType.DEFAULT, Expressions.stringPath("other"));
+        subQueryMetadata.setProjection(name);
+        Predicate predicate = Expressions.booleanOperation(Ops.IN, name,
+                new SubQueryExpressionImpl<String>(String.class, subQueryMetadata)).and(age.gt(10));
+        QueryFingerprint before = QueryFingerprint.of(predicate);
+
+        subQueryMetadata.addWhere(age.lt(5));
+        assertNotEquals(before, QueryFingerprint.of(predicate));
+    }
+
+    @Test
+    public void toString_() {
+        assertEquals(32, QueryFingerprint.of(name).toString().length());
+    }
+
+}
@@ -15,6 +15,7 @@ package com.querydsl.core.types;
 
 import static org.junit.Assert.*;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -88,6 +89,23 @@ public class ConstructorExpressionTest {
         assertNotNull(instance);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void argument_type_mismatch() {
+        Expression<Long> longVal = ConstantImpl.create(1L);
+        Projections.constructor(ProjectionExample.class, longVal).newInstance("1");
+    }
+
+    @Test
+    public void constructor_exception_is_wrapped() {
+        try {
+            Projections.constructor(ProjectionExample.class, str1).newInstance(new Object[]{null});
+            fail("Expected ExpressionException");
+        } catch (ExpressionException e) {
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertTrue(e.getCause().getCause() instanceof NullPointerException);
+        }
+    }
+
     @Test
     public void factoryExpression_has_right_args() {
         FactoryExpression<ProjectionExample> constructor = Projections.constructor(ProjectionExample.class, concat);
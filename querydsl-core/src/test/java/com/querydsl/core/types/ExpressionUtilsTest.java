@@ -16,6 +16,7 @@ package com.querydsl.core.types;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -177,6 +178,35 @@ public class ExpressionUtilsTest {
         assertEquals("str != X", ExpressionUtils.neConst(str, "X").toString());
     }
 
+    @Test
+    public void allOf_balanced() {
+        Predicate a = Expressions.booleanPath("a"), b = Expressions.booleanPath("b"),
+                c = Expressions.booleanPath("c"), d = Expressions.booleanPath("d");
+        assertEquals(ExpressionUtils.and(ExpressionUtils.and(a, b), c), ExpressionUtils.allOf(a, b, c));
+        assertEquals(ExpressionUtils.and(ExpressionUtils.and(a, b), ExpressionUtils.and(c, d)),
+                ExpressionUtils.allOf(a, null, b, c, d));
+        assertEquals("a && b && c && d", ExpressionUtils.allOf(a, b, c, d).toString());
+    }
+
+    @Test
+    public void anyOf_depth() {
+        List<Predicate> predicates = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            predicates.add(str.eq("s" + i));
+        }
+        assertEquals(16, depth(ExpressionUtils.anyOf(predicates)));
+    }
+
+    private static int depth(Expression<?> expr) {
+        int depth = 0;
+        if (expr instanceof Operation<?>) {
+            for (Expression<?> arg : ((Operation<?>) expr).getArgs()) {
+                depth = Math.max(depth, depth(arg));
+            }
+        }
+        return depth + 1;
+    }
+
     @Test
     public void ne() {
         assertEquals("str != str2", ExpressionUtils.ne(str, str2).toString());
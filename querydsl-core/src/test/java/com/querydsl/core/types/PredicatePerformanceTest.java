@@ -0,0 +1,83 @@
+package com.querydsl.core.types;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+
+@Ignore
+@Category(Performance.class)
+public class PredicatePerformanceTest {
+
+    private static final int TERMS = 10000;
+
+    @State(Scope.Benchmark)
+    public static class Terms {
+
+        private final List<Predicate> predicates = new ArrayList<>(TERMS);
+
+        @Setup
+        public void setUp() {
+            NumberPath<Integer> id = Expressions.numberPath(Integer.class, "id");
+            for (int i = 0; i < TERMS; i++) {
+                predicates.add(id.eq(i));
+            }
+        }
+
+    }
+
+    @Benchmark
+    public Object allOf(Terms terms) {
+        return ExpressionUtils.allOf(terms.predicates).toString();
+    }
+
+    @Benchmark
+    public Object booleanBuilder(Terms terms) {
+        BooleanBuilder builder = new BooleanBuilder();
+        for (Predicate predicate : terms.predicates) {
+            builder.or(predicate);
+        }
+        return builder.getValue().toString();
+    }
+
+    @Benchmark
+    public Object anyOfHashCode(Terms terms) {
+        return ExpressionUtils.anyOf(terms.predicates).hashCode();
+    }
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(3)
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
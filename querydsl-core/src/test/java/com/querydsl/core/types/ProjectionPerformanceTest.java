@@ -0,0 +1,172 @@
+package com.querydsl.core.types;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.types.dsl.Expressions;
+
+@Ignore
+@Category(Performance.class)
+public class ProjectionPerformanceTest {
+
+    public static class Bean {
+
+        private String f0, f1, f2, f3, f4;
+
+        private Integer f5, f6, f7, f8, f9;
+
+        public Bean() { }
+
+        public Bean(String f0, String f1, String f2, String f3, String f4,
+                Integer f5, Integer f6, Integer f7, Integer f8, Integer f9) {
+            this.f0 = f0;
+            this.f1 = f1;
+            this.f2 = f2;
+            this.f3 = f3;
+            this.f4 = f4;
+            this.f5 = f5;
+            this.f6 = f6;
+            this.f7 = f7;
+            this.f8 = f8;
+            this.f9 = f9;
+        }
+
+        public void setF0(String f0) {
+            this.f0 = f0;
+        }
+
+        public void setF1(String f1) {
+            this.f1 = f1;
+        }
+
+        public void setF2(String f2) {
+            this.f2 = f2;
+        }
+
+        public void setF3(String f3) {
+            this.f3 = f3;
+        }
+
+        public void setF4(String f4) {
+            this.f4 = f4;
+        }
+
+        public void setF5(Integer f5) {
+            this.f5 = f5;
+        }
+
+        public void setF6(Integer f6) {
+            this.f6 = f6;
+        }
+
+        public void setF7(Integer f7) {
+            this.f7 = f7;
+        }
+
+        public void setF8(Integer f8) {
+            this.f8 = f8;
+        }
+
+        public void setF9(Integer f9) {
+            this.f9 = f9;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Factories {
+
+        private final Object[] row = {"a", "b", "c", "d", "e", 1, 2, 3, 4, 5};
+
+        private final Expression<?>[] args = new Expression<?>[10];
+
+        private QBean<Bean> fields, setters;
+
+        private ConstructorExpression<Bean> constructor;
+
+        private Field[] reflectionFields;
+
+        private Constructor<Bean> reflectionConstructor;
+
+        @Setup
+        public void setUp() throws Exception {
+            for (int i = 0; i < 10; i++) {
+                args[i] = Expressions.path(i < 5 ? String.class : Integer.class, "f" + i);
+            }
+            fields = Projections.fields(Bean.class, args);
+            setters = Projections.bean(Bean.class, args);
+            constructor = Projections.constructor(Bean.class, args);
+            reflectionFields = new Field[10];
+            for (int i = 0; i < 10; i++) {
+                reflectionFields[i] = Bean.class.getDeclaredField("f" + i);
+                reflectionFields[i].setAccessible(true);
+            }
+            reflectionConstructor = Bean.class.getConstructor(String.class, String.class, String.class,
+                    String.class, String.class, Integer.class, Integer.class, Integer.class, Integer.class,
+                    Integer.class);
+        }
+    }
+
+    @Benchmark
+    public Bean qbeanFields(Factories factories) {
+        return factories.fields.newInstance(factories.row);
+    }
+
+    @Benchmark
+    public Bean qbeanSetters(Factories factories) {
+        return factories.setters.newInstance(factories.row);
+    }
+
+    @Benchmark
+    public Bean constructorExpression(Factories factories) {
+        return factories.constructor.newInstance(factories.row);
+    }
+
+    @Benchmark
+    public Bean reflectionFields(Factories factories) throws Exception {
+        Bean bean = Bean.class.getDeclaredConstructor().newInstance();
+        for (int i = 0; i < 10; i++) {
+            factories.reflectionFields[i].set(bean, factories.row[i]);
+        }
+        return bean;
+    }
+
+    @Benchmark
+    public Bean reflectionConstructor(Factories factories) throws Exception {
+        return factories.reflectionConstructor.newInstance(factories.row);
+    }
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(3)
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .threads(1)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
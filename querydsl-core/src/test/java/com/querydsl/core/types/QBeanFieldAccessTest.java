@@ -38,6 +38,18 @@ public class QBeanFieldAccessTest {
         boolean married;
     }
 
+    public static class ImmutableEntity {
+
+        private final String name;
+
+        private final int age;
+
+        public ImmutableEntity() {
+            name = null;
+            age = 0;
+        }
+    }
+
     private PathBuilder<Entity> entity;
 
     private StringPath name, name2;
@@ -64,6 +76,16 @@ public class QBeanFieldAccessTest {
         assertEquals(true, bean.married);
     }
 
+    @Test
+    public void final_fields() {
+        PathBuilder<ImmutableEntity> immutable = new PathBuilderFactory().create(ImmutableEntity.class);
+        QBean<ImmutableEntity> beanProjection = Projections.fields(ImmutableEntity.class,
+                immutable.getString("name"), immutable.getNumber("age", Integer.class));
+        ImmutableEntity bean = beanProjection.newInstance("Fritz", 30);
+        assertEquals("Fritz", bean.name);
+        assertEquals(30, bean.age);
+    }
+
     @Test
     public void with_path_and_exprs_using_fields() {
         QBean<Entity> beanProjection = Projections.fields(entity, name, age, married);
@@ -15,6 +15,7 @@ package com.querydsl.core.types;
 
 import static org.junit.Assert.*;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -74,6 +75,26 @@ public class QBeanTest {
 
     }
 
+    public static class FailingEntity {
+
+        public String getName() {
+            return null;
+        }
+
+        public void setName(String name) {
+            throw new IllegalStateException(name);
+        }
+
+        public int getAge() {
+            return 0;
+        }
+
+        public void setAge(int age) {
+            throw new AssertionError(age);
+        }
+
+    }
+
     private PathBuilder<Entity> entity;
 
     private StringPath name, name2;
@@ -186,4 +207,31 @@ public class QBeanTest {
         assertEquals(name.as("name2"), beanProjection.getArgs().get(0));
     }
 
+    @Test
+    public void setter_exception_is_wrapped() {
+        QBean<FailingEntity> beanProjection = new QBean<FailingEntity>(FailingEntity.class, name);
+        try {
+            beanProjection.newInstance("Fritz");
+            fail("Expected ExpressionException");
+        } catch (ExpressionException e) {
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test(expected = AssertionError.class)
+    public void setter_error_is_rethrown() {
+        new QBean<FailingEntity>(FailingEntity.class, age).newInstance(30);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setter_argument_type_mismatch() {
+        new QBean<Entity>(Entity.class, name).newInstance(30);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void field_argument_type_mismatch() {
+        new QBean<Entity>(Entity.class, true, age).newInstance("Fritz");
+    }
+
 }
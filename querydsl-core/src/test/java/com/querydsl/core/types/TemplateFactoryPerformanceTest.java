@@ -0,0 +1,68 @@
+package com.querydsl.core.types;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+
+@Ignore
+@Category(Performance.class)
+public class TemplateFactoryPerformanceTest {
+
+    private static final StringPath name = Expressions.stringPath("name");
+
+    private static final NumberPath<Integer> age = Expressions.numberPath(Integer.class, "age");
+
+    @Benchmark
+    public Object staticTemplates() {
+        return Expressions.booleanTemplate("{0} like {1} and {2} > {3}",
+                Expressions.stringTemplate("lower({0})", name), "abc%",
+                Expressions.numberTemplate(Integer.class, "coalesce({0}, {1})", age, 0), 18);
+    }
+
+    @Benchmark
+    public Object dynamicTemplates() {
+        // dynamically concatenated templates from a bounded set of variants
+        int variant = ThreadLocalRandom.current().nextInt(1000);
+        return Expressions.stringTemplate("substring({0}, " + variant + ")", name);
+    }
+
+    @Benchmark
+    public Object uniqueTemplates() {
+        long variant = ThreadLocalRandom.current().nextLong();
+        return Expressions.stringTemplate("substring({0}, " + variant + ")", name);
+    }
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(3)
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .threads(8)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -14,9 +14,13 @@
 package com.querydsl.core.types;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import com.querydsl.core.testutil.ThreadSafety;
+
 public class TemplateTest {
 
     @Test
@@ -58,6 +62,68 @@ public class TemplateTest {
         match("[0]",                     factory.create("{%%0%%}"));
     }
 
+    @Test
+    public void cache() {
+        TemplateFactory factory = new TemplateFactory('\\');
+        Template template = factory.create("{0} + {1}");
+        assertSame(template, factory.create("{0} + {1}"));
+        assertEquals(1, factory.getCacheHitCount());
+        assertEquals(1, factory.getCacheMissCount());
+        assertEquals(0.5, factory.getCacheHitRate(), 0.0);
+    }
+
+    @Test
+    public void cache_bounded() {
+        TemplateFactory factory = new TemplateFactory('\\', 10);
+        for (int i = 0; i < 100; i++) {
+            match("[0, ' + " + i + "']", factory.create("{0} + " + i));
+        }
+        assertEquals(100, factory.getCacheMissCount());
+        // the last five templates stay in the old generation
+        assertEquals(95, factory.getCacheEvictionCount());
+    }
+
+    @Test
+    public void cache_recently_used() {
+        TemplateFactory factory = new TemplateFactory('\\', 4);
+        Template first = factory.create("{0} + 1");
+        factory.create("{0} + 2");
+        assertSame(first, factory.create("{0} + 1"));
+        factory.create("{0} + 3");
+        assertSame(first, factory.create("{0} + 1"));
+        assertEquals(1, factory.getCacheEvictionCount());
+        factory.create("{0} + 2");
+        assertEquals(4, factory.getCacheMissCount());
+    }
+
+    @Test
+    public void cache_bounded_concurrent() {
+        final TemplateFactory factory = new TemplateFactory('\\', 10);
+        Runnable[] runnables = new Runnable[4];
+        for (int i = 0; i < runnables.length; i++) {
+            final int offset = i * 1000;
+            runnables[i] = () -> {
+                for (int j = 0; j < 1000; j++) {
+                    factory.create("{0} + " + (offset + j));
+                }
+            };
+        }
+        ThreadSafety.check(runnables);
+        assertEquals(4000, factory.getCacheMissCount());
+        // evictions racing with insertions may be missed by the count
+        assertTrue(factory.getCacheEvictionCount() > 3900);
+        assertTrue(factory.getCacheEvictionCount() <= 3995);
+    }
+
+    @Test
+    public void cache_disabled() {
+        TemplateFactory factory = new TemplateFactory('\\', 0);
+        factory.create("{0} + {1}");
+        factory.create("{0} + {1}");
+        assertEquals(0, factory.getCacheHitCount());
+        assertEquals(2, factory.getCacheMissCount());
+    }
+
     private void match(String string, Template template) {
         assertEquals(string, template.getElements().toString());
     }
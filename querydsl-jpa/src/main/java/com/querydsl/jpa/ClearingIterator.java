@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.jpa;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.mysema.commons.lang.CloseableIterator;
+
+/**
+ * {@code ClearingIterator} is a CloseableIterator adapter which invokes a callback after each batch of
+ * elements, before the first element of the next batch is fetched. It is used to clear the persistence
+ * context while iterating over large results.
+ *
+ * @param <T>
+ */
+public class ClearingIterator<T> implements CloseableIterator<T> {
+
+    private final Iterator<T> iterator;
+
+    @Nullable
+    private final Closeable closeable;
+
+    private final int batchSize;
+
+    private final Runnable clear;
+
+    private int count;
+
+    public ClearingIterator(Iterator<T> iterator, int batchSize, Runnable clear) {
+        this(iterator, iterator instanceof Closeable ? (Closeable) iterator : null, batchSize, clear);
+    }
+
+    public ClearingIterator(Iterator<T> iterator, @Nullable Closeable closeable, int batchSize, Runnable clear) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize needs to be positive, but was " + batchSize);
+        }
+        this.iterator = iterator;
+        this.closeable = closeable;
+        this.batchSize = batchSize;
+        this.clear = clear;
+    }
+
+    @Override
+    public boolean hasNext() {
+        clearIfNecessary();
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+        clearIfNecessary();
+        T rv = iterator.next();
+        count++;
+        return rv;
+    }
+
+    private void clearIfNecessary() {
+        if (count == batchSize) {
+            count = 0;
+            clear.run();
+        }
+    }
+
+    @Override
+    public void remove() {
+        iterator.remove();
+    }
+
+    @Override
+    public void close() {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+        }
+    }
+
+}
@@ -68,6 +68,13 @@ public final class DefaultQueryHandler implements QueryHandler {
         return resultStream;
     }
 
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        // hints which are not recognized by the provider are ignored
+        query.setHint("openjpa.FetchPlan.FetchBatchSize", fetchSize);
+        query.setHint("datanucleus.query.fetchSize", fetchSize);
+    }
+
     @Override
     public boolean transform(Query query, FactoryExpression<?> projection) {
         return false;
@@ -15,16 +15,25 @@ package com.querydsl.jpa;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.PersistenceException;
 import javax.persistence.Query;
 
 import org.eclipse.persistence.config.HintValues;
 import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.jpa.JpaQuery;
 import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.DatabaseQuery;
 
 import com.mysema.commons.lang.CloseableIterator;
 import com.mysema.commons.lang.IteratorAdapter;
@@ -103,11 +112,55 @@ class EclipseLinkHandler implements QueryHandler {
 
     @Override
     public <T> Stream<T> stream(Query query, @Nullable FactoryExpression<?> projection) {
-        final Stream resultStream = query.getResultStream();
-        if (projection != null) {
-            return resultStream.map(element -> projection.newInstance((Object[]) (element.getClass().isArray() ? element : new Object[] {element})));
+        // getResultStream of EclipseLink loads the full result list, the cursor based iterator doesn't
+        final CloseableIterator<T> iterator = iterate(query, projection);
+        final Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    @Nullable
+    public Long count(Query query) {
+        JpaQuery<?> jpaQuery;
+        try {
+            jpaQuery = query.unwrap(JpaQuery.class);
+        } catch (PersistenceException e) {
+            return null;
+        }
+        DatabaseQuery databaseQuery = (DatabaseQuery) jpaQuery.getDatabaseQuery().clone();
+        if (!databaseQuery.isReadQuery()) {
+            return null;
         }
-        return resultStream;
+        AbstractSession session = (AbstractSession) jpaQuery.getEntityManager().getActiveSession();
+        List<Object> arguments = new ArrayList<>();
+        for (String argument : databaseQuery.getArguments()) {
+            arguments.add(argument.chars().allMatch(Character::isDigit)
+                    ? query.getParameterValue(Integer.parseInt(argument))
+                    : query.getParameterValue(argument));
+        }
+        AbstractRecord row = databaseQuery.rowFromArguments(arguments, session);
+        databaseQuery.prepareCall(session, row);
+        if (!(databaseQuery.getCall() instanceof DatabaseCall) || databaseQuery.getSQLStrings().size() > 1) {
+            return null;
+        }
+        DatabaseCall call = (DatabaseCall) databaseQuery.getCall().clone();
+        call.translate(row, null, session);
+
+        Query countQuery = jpaQuery.getEntityManager().createNativeQuery(
+                "select count(*) from (" + call.getSQLString() + ") grouped");
+        List<?> parameters = call.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            countQuery.setParameter(i + 1, parameters.get(i));
+        }
+        countQuery.setFlushMode(query.getFlushMode());
+        return ((Number) countQuery.getSingleResult()).longValue();
+    }
+
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        query.setHint(QueryHints.JDBC_FETCH_SIZE, fetchSize);
+        query.setHint(QueryHints.CURSOR_PAGE_SIZE, fetchSize);
     }
 
     @Override
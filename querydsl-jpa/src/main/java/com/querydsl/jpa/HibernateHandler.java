@@ -14,6 +14,8 @@
 package com.querydsl.jpa;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import javax.persistence.PersistenceException;
@@ -21,12 +23,14 @@ import javax.persistence.Query;
 
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
+import org.hibernate.annotations.QueryHints;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.transform.ResultTransformer;
 
 import com.mysema.commons.lang.CloseableIterator;
 import com.mysema.commons.lang.IteratorAdapter;
 import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.jpa.hibernate.HibernateUtil;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -83,6 +87,36 @@ public class HibernateHandler implements QueryHandler {
         return resultStream;
     }
 
+    @Override
+    public void setFetchSize(Query query, int fetchSize) {
+        try {
+            query.unwrap(org.hibernate.query.Query.class).setFetchSize(fetchSize);
+        } catch (PersistenceException e) {
+            query.setHint(QueryHints.FETCH_SIZE, fetchSize);
+        }
+    }
+
+    @Override
+    @Nullable
+    public Long count(Query query) {
+        try {
+            return HibernateUtil.count(query.unwrap(org.hibernate.query.Query.class));
+        } catch (PersistenceException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public long executeBatch(Query query, List<List<Object>> items, Consumer<List<Object>> setConstants) {
+        org.hibernate.query.Query<?> hibernateQuery;
+        try {
+            hibernateQuery = query.unwrap(org.hibernate.query.Query.class);
+        } catch (PersistenceException e) {
+            return QueryHandler.super.executeBatch(query, items, setConstants);
+        }
+        return HibernateUtil.executeBatch(hibernateQuery, items, setConstants);
+    }
+
     @Override
     public boolean transform(Query query, FactoryExpression<?> projection) {
         try {
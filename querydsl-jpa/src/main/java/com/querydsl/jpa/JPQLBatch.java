@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.persistence.Query;
+
+/**
+ * {@code JPQLBatch} holds the items of a batched insert or update clause in insertion order
+ */
+public final class JPQLBatch {
+
+    /**
+     * Executes a query once per batch item
+     *
+     * @param <Q> query type
+     */
+    @FunctionalInterface
+    public interface Executor<Q> {
+
+        /**
+         * Execute the given query once per batch item in order
+         *
+         * @param query query
+         * @param items constants of the batch items
+         * @param setConstants binds the constants of a batch item to the query
+         * @return number of affected rows
+         */
+        long executeBatch(Q query, List<List<Object>> items, Consumer<List<Object>> setConstants);
+
+    }
+
+    private final List<String> queryStrings = new ArrayList<>();
+
+    private final List<List<Object>> constants = new ArrayList<>();
+
+    /**
+     * Add a batch item
+     *
+     * @param queryString serialized statement
+     * @param constants constants of the statement
+     */
+    public void add(String queryString, List<Object> constants) {
+        this.queryStrings.add(queryString);
+        this.constants.add(constants);
+    }
+
+    /**
+     * Execute the items in insertion order. Consecutive items with the same statement share one query,
+     * which the executor may send as a JDBC batch.
+     *
+     * @param createQuery creates the query for a statement
+     * @param setConstants binds the constants of an item to the query
+     * @param executor executes a query for a run of items, e.g. {@link QueryHandler#executeBatch}
+     * @param <Q> query type
+     * @return number of affected rows
+     */
+    public <Q extends Query> long execute(Function<String, Q> createQuery, BiConsumer<Q, List<Object>> setConstants,
+            Executor<? super Q> executor) {
+        long rv = 0;
+        int start = 0;
+        while (start < queryStrings.size()) {
+            String queryString = queryStrings.get(start);
+            int end = start + 1;
+            while (end < queryStrings.size() && queryStrings.get(end).equals(queryString)) {
+                end++;
+            }
+            Q query = createQuery.apply(queryString);
+            rv += executor.executeBatch(query, constants.subList(start, end), c -> setConstants.accept(query, c));
+            start = end;
+        }
+        return rv;
+    }
+
+    public int size() {
+        return queryStrings.size();
+    }
+
+    public boolean isEmpty() {
+        return queryStrings.isEmpty();
+    }
+
+    public void clear() {
+        queryStrings.clear();
+        constants.clear();
+    }
+
+}
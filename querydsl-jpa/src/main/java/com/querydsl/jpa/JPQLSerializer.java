@@ -27,6 +27,7 @@ import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.support.SerializerBase;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.util.CollectionUtils;
 import com.querydsl.core.util.MathUtils;
 
 /**
@@ -535,9 +536,46 @@ public class JPQLSerializer extends SerializerBase<JPQLSerializer> {
             }
         }
 
+        if (rhs.getConstant().size() > 1) {
+            Collection<?> values = rhs.getConstant();
+            int maxSize = templates.getListMaxSize();
+            if (maxSize > 0 && values.size() > maxSize) {
+                @SuppressWarnings("unchecked")
+                Expression<Object> path = (Expression<Object>) lhs;
+                List<List<Object>> partitioned = CollectionUtils.partition(new ArrayList<Object>(values), maxSize);
+                Predicate result = operator == Ops.IN
+                        ? ExpressionUtils.inAny(path, partitioned)
+                        : ExpressionUtils.notInAny(path, partitioned);
+                append("(");
+                result.accept(this, null);
+                append(")");
+                return;
+            } else if (templates.isListPadding()) {
+                args = Arrays.asList(lhs, ConstantImpl.create(pad(values, maxSize)));
+            }
+        }
+
         super.visitOperation(type, operator, args);
     }
 
+    private static Collection<?> pad(Collection<?> values, int maxSize) {
+        int size = values.size();
+        int padded = Integer.highestOneBit(size - 1) << 1;
+        if (maxSize > 0) {
+            padded = Math.min(padded, maxSize);
+        }
+        if (padded <= size) {
+            return values;
+        }
+        List<Object> rv = new ArrayList<Object>(padded);
+        rv.addAll(values);
+        Object last = rv.get(size - 1);
+        while (rv.size() < padded) {
+            rv.add(last);
+        }
+        return rv;
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private SingularAttribute<?,?> getIdProperty(EntityType entity) {
         final Set<SingularAttribute> singularAttributes = entity.getSingularAttributes();
@@ -47,6 +47,10 @@ public class JPQLTemplates extends Templates {
 
     private final QueryHandler queryHandler;
 
+    private int listMaxSize = 0;
+
+    private boolean listPadding = false;
+
     protected JPQLTemplates() {
         this(DEFAULT_ESCAPE, DefaultQueryHandler.DEFAULT);
     }
@@ -200,6 +204,27 @@ public class JPQLTemplates extends Templates {
         return false;
     }
 
+    /**
+     * Get the maximum number of elements of a collection parameter in an {@code in} expression.
+     * Larger collections are split into several {@code in} expressions.
+     *
+     * @return max size or 0 for no limit
+     */
+    public final int getListMaxSize() {
+        return listMaxSize;
+    }
+
+    /**
+     * Get whether collection parameters of {@code in} expressions are padded to the next power of two
+     * by repeating the last element. This limits the number of distinct statements the provider
+     * and the database have to prepare.
+     *
+     * @return true, if padding is enabled
+     */
+    public final boolean isListPadding() {
+        return listPadding;
+    }
+
     public String asLiteral(Object constant) {
         if (constant instanceof Boolean) {
             return constant.toString();
@@ -214,6 +239,14 @@ public class JPQLTemplates extends Templates {
         }
     }
 
+    protected void setListMaxSize(int listMaxSize) {
+        this.listMaxSize = listMaxSize;
+    }
+
+    protected void setListPadding(boolean listPadding) {
+        this.listPadding = listPadding;
+    }
+
     private String escapeLiteral(String str) {
         StringBuilder builder = new StringBuilder();
         for (char ch : str.toCharArray()) {
@@ -19,6 +19,8 @@ import javax.persistence.Query;
 import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.types.FactoryExpression;
 
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -52,6 +54,46 @@ public interface QueryHandler {
      */
     <T> Stream<T> stream(Query query, @Nullable FactoryExpression<?> projection);
 
+    /**
+     * Set the number of rows to be fetched from the database per round trip, if supported
+     * by the provider
+     *
+     * @param query query
+     * @param fetchSize fetch size
+     */
+    default void setFetchSize(Query query, int fetchSize) {
+        // do nothing
+    }
+
+    /**
+     * Count the rows of the given select query in the database, if supported by the provider
+     *
+     * @param query query
+     * @return number of rows or null, if not supported
+     */
+    @Nullable
+    default Long count(Query query) {
+        return null;
+    }
+
+    /**
+     * Execute the given insert or update query once per batch item in order, using a JDBC batch
+     * if supported by the provider
+     *
+     * @param query query
+     * @param items constants of the batch items
+     * @param setConstants binds the constants of a batch item to the query
+     * @return number of affected rows
+     */
+    default long executeBatch(Query query, List<List<Object>> items, Consumer<List<Object>> setConstants) {
+        long rv = 0;
+        for (List<Object> constants : items) {
+            setConstants.accept(constants);
+            rv += query.executeUpdate();
+        }
+        return rv;
+    }
+
     /**
      * Add the given scalar to the given native query
      *
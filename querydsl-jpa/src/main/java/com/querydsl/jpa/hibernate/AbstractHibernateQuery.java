@@ -16,9 +16,12 @@ package com.querydsl.jpa.hibernate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -178,6 +181,31 @@ public abstract class AbstractHibernateQuery<T, Q extends AbstractHibernateQuery
         }
     }
 
+    /**
+     * Get the projection as a typed closeable Stream which doesn't retain the loaded entities.
+     *
+     * <p>The results are scrolled with the fetch size {@code batchSize} and the session is cleared
+     * after each {@code batchSize} rows, before the next row is fetched. Entities of earlier batches
+     * are detached, so pending changes need to be flushed before. Queries of a {@link StatelessSession}
+     * don't retain entities and aren't cleared.</p>
+     *
+     * @param batchSize number of rows between clearing the session
+     * @return closeable stream
+     */
+    public Stream<T> stream(int batchSize) {
+        try {
+            Query query = createQuery();
+            query.setFetchSize(batchSize);
+            ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY);
+            ClearingIterator<T> iterator = new ClearingIterator<T>(new ScrollableResultsIterator<T>(results),
+                    batchSize, session::clear);
+            Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+            return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+        } finally {
+            reset();
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<T> fetch() {
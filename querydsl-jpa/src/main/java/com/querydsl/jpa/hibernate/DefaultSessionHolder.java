@@ -41,4 +41,9 @@ public class DefaultSessionHolder implements SessionHolder {
         return session.createSQLQuery(queryString);
     }
 
+    @Override
+    public void clear() {
+        session.clear();
+    }
+
 }
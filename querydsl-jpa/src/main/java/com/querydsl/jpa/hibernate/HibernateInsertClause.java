@@ -35,6 +35,7 @@ import com.querydsl.core.types.SubQueryExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.HQLTemplates;
 import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLBatch;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
 
@@ -55,6 +56,8 @@ public class HibernateInsertClause implements
 
     private final List<Object> values = new ArrayList<Object>();
 
+    private final JPQLBatch batch = new JPQLBatch();
+
     private SubQueryExpression<?> subQuery;
 
     private final SessionHolder session;
@@ -84,6 +87,9 @@ public class HibernateInsertClause implements
 
     @Override
     public long execute() {
+        if (!batch.isEmpty()) {
+            return executeBatch();
+        }
         JPQLSerializer serializer = new JPQLSerializer(templates, null);
         serializer.serializeForInsert(queryMixin.getMetadata(), inserts.isEmpty() ? columns : inserts.keySet(), values, subQuery, inserts);
 
@@ -117,6 +123,51 @@ public class HibernateInsertClause implements
         return this;
     }
 
+    private long executeBatch() {
+        return batch.execute(queryString -> {
+            Query query = session.createQuery(queryString);
+            for (Map.Entry<Path<?>, LockMode> entry : lockModes.entrySet()) {
+                query.setLockMode(entry.getKey().toString(), entry.getValue());
+            }
+            return query;
+        }, (query, constants) -> HibernateUtil.setConstants(query, constants, queryMixin.getMetadata().getParams()),
+                HibernateUtil::executeBatch);
+    }
+
+    /**
+     * Add the current state of bindings as a batch item
+     *
+     * <p>Batch items are executed in the order they were added. Consecutive items with the same
+     * serialized form share one query, which is sent as a JDBC batch when running on Hibernate.</p>
+     *
+     * @return the current object
+     */
+    public HibernateInsertClause addBatch() {
+        JPQLSerializer serializer = new JPQLSerializer(templates, null);
+        serializer.serializeForInsert(queryMixin.getMetadata(), inserts.isEmpty() ? columns : inserts.keySet(), values, subQuery, inserts);
+        batch.add(serializer.toString(), serializer.getConstants());
+        inserts.clear();
+        columns.clear();
+        values.clear();
+        subQuery = null;
+        return this;
+    }
+
+    /**
+     * Clear the internal state of the clause
+     */
+    public void clear() {
+        batch.clear();
+        inserts.clear();
+        columns.clear();
+        values.clear();
+        subQuery = null;
+    }
+
+    public int getBatchCount() {
+        return batch.size();
+    }
+
     @Override
     public String toString() {
         JPQLSerializer serializer = new JPQLSerializer(templates, null);
@@ -126,7 +177,7 @@ public class HibernateInsertClause implements
 
     @Override
     public boolean isEmpty() {
-        return columns.isEmpty();
+        return columns.isEmpty() && batch.isEmpty();
     }
 
     @Override
@@ -23,6 +23,7 @@ import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.HQLTemplates;
 import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLBatch;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
 import org.hibernate.LockMode;
@@ -48,6 +49,8 @@ public class HibernateUpdateClause implements
 
     private final Map<Path<?>, Expression<?>> updates = new LinkedHashMap<>();
 
+    private final JPQLBatch batch = new JPQLBatch();
+
     private final SessionHolder session;
 
     private final JPQLTemplates templates;
@@ -75,6 +78,9 @@ public class HibernateUpdateClause implements
 
     @Override
     public long execute() {
+        if (!batch.isEmpty()) {
+            return executeBatch();
+        }
         JPQLSerializer serializer = new JPQLSerializer(templates, null);
         serializer.serializeForUpdate(queryMixin.getMetadata(), updates);
 
@@ -144,6 +150,47 @@ public class HibernateUpdateClause implements
         return this;
     }
 
+    private long executeBatch() {
+        return batch.execute(queryString -> {
+            Query query = session.createQuery(queryString);
+            for (Map.Entry<Path<?>, LockMode> entry : lockModes.entrySet()) {
+                query.setLockMode(entry.getKey().toString(), entry.getValue());
+            }
+            return query;
+        }, (query, constants) -> HibernateUtil.setConstants(query, constants, queryMixin.getMetadata().getParams()),
+                HibernateUtil::executeBatch);
+    }
+
+    /**
+     * Add the current state of bindings as a batch item
+     *
+     * <p>Batch items are executed in the order they were added. Consecutive items with the same
+     * serialized form share one query, which is sent as a JDBC batch when running on Hibernate.</p>
+     *
+     * @return the current object
+     */
+    public HibernateUpdateClause addBatch() {
+        JPQLSerializer serializer = new JPQLSerializer(templates, null);
+        serializer.serializeForUpdate(queryMixin.getMetadata(), updates);
+        batch.add(serializer.toString(), serializer.getConstants());
+        updates.clear();
+        queryMixin.getMetadata().clearWhere();
+        return this;
+    }
+
+    /**
+     * Clear the internal state of the clause
+     */
+    public void clear() {
+        batch.clear();
+        updates.clear();
+        queryMixin.getMetadata().clearWhere();
+    }
+
+    public int getBatchCount() {
+        return batch.size();
+    }
+
     @Override
     public String toString() {
         JPQLSerializer serializer = new JPQLSerializer(templates, null);
@@ -153,7 +200,7 @@ public class HibernateUpdateClause implements
 
     @Override
     public boolean isEmpty() {
-        return updates.isEmpty();
+        return updates.isEmpty() && batch.isEmpty();
     }
 
 
@@ -15,13 +15,26 @@ package com.querydsl.jpa.hibernate;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Consumer;
 
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.hibernate.param.ParameterSpecification;
+import org.hibernate.query.internal.AbstractProducedQuery;
 import org.hibernate.type.*;
 
 import com.querydsl.core.types.ParamExpression;
 import com.querydsl.core.types.ParamNotSetException;
 import com.querydsl.core.types.dsl.Param;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * {@code HibernateUtil} provides static utility methods for Hibernate
@@ -95,4 +108,143 @@ public final class HibernateUtil {
         return TYPES.get(clazz);
     }
 
+    /**
+     * Execute the given insert or update query once per batch item in order. The first item is executed
+     * through Hibernate to flush the session and clean up the affected cache regions, the remaining items
+     * are sent as JDBC batches of {@code hibernate.jdbc.batch_size} statements. Items with list valued
+     * parameters and queries Hibernate can't translate into a single SQL statement are executed one by one.
+     *
+     * @param query query
+     * @param items constants of the batch items
+     * @param setConstants binds the constants of a batch item to the query
+     * @return number of affected rows
+     */
+    public static long executeBatch(org.hibernate.query.Query<?> query, List<List<Object>> items,
+            Consumer<List<Object>> setConstants) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        setConstants.accept(items.get(0));
+        long rv = query.executeUpdate();
+        List<List<Object>> rest = items.subList(1, items.size());
+        if (rest.isEmpty()) {
+            return rv;
+        }
+        QueryTranslator translator = isBatchable(rest) ? translate(query) : null;
+        if (translator == null) {
+            for (List<Object> constants : rest) {
+                setConstants.accept(constants);
+                rv += query.executeUpdate();
+            }
+            return rv;
+        }
+
+        AbstractProducedQuery<?> producedQuery = (AbstractProducedQuery<?>) query;
+        SharedSessionContractImplementor session = producedQuery.getProducer();
+        String sql = translator.collectSqlStrings().get(0);
+        List<ParameterSpecification> specs = ((QueryTranslatorImpl) translator).getSqlAST().getWalker().getParameterSpecs();
+        Integer sessionBatchSize = session.getJdbcBatchSize();
+        int batchSize = sessionBatchSize != null ? sessionBatchSize
+                : session.getFactory().getSessionFactoryOptions().getJdbcBatchSize();
+        return rv + ((Session) session).doReturningWork(connection -> {
+            long count = 0;
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                int size = 0;
+                for (List<Object> constants : rest) {
+                    setConstants.accept(constants);
+                    bind(stmt, specs, producedQuery.getQueryParameters(), session);
+                    stmt.addBatch();
+                    if (++size == batchSize) {
+                        count += sum(stmt.executeBatch());
+                        size = 0;
+                    }
+                }
+                if (size > 0) {
+                    count += sum(stmt.executeBatch());
+                }
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Count the rows of the given select query with a SQL count query over the translated query.
+     * The session is flushed before, unless the flush mode is {@code COMMIT} or {@code MANUAL}.
+     *
+     * @param query select query
+     * @return number of rows or null, if the query can't be translated into a single SQL query
+     */
+    @Nullable
+    public static Long count(org.hibernate.query.Query<?> query) {
+        QueryTranslator translator = translate(query);
+        if (translator == null || translator.isManipulationStatement()) {
+            return null;
+        }
+        AbstractProducedQuery<?> producedQuery = (AbstractProducedQuery<?>) query;
+        SharedSessionContractImplementor session = producedQuery.getProducer();
+        String sql = "select count(*) from (" + translator.getSQLString() + ") grouped";
+        List<ParameterSpecification> specs = ((QueryTranslatorImpl) translator).getCollectedParameterSpecifications();
+        QueryParameters queryParameters = producedQuery.getQueryParameters();
+        FlushMode flushMode = query.getHibernateFlushMode() != null ? query.getHibernateFlushMode()
+                : session.getHibernateFlushMode();
+        if ((flushMode == FlushMode.AUTO || flushMode == FlushMode.ALWAYS) && session.isTransactionInProgress()) {
+            session.flush();
+        }
+        return ((Session) session).doReturningWork(connection -> {
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                bind(stmt, specs, queryParameters, session);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            }
+        });
+    }
+
+    private static boolean isBatchable(List<List<Object>> items) {
+        for (List<Object> constants : items) {
+            for (Object val : constants) {
+                if (val instanceof Collection<?> || (val instanceof Object[] && !BUILT_IN.contains(val.getClass()))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static QueryTranslator translate(org.hibernate.query.Query<?> query) {
+        if (!(query instanceof AbstractProducedQuery)) {
+            return null;
+        }
+        SharedSessionContractImplementor session = ((AbstractProducedQuery<?>) query).getProducer();
+        if (!(session instanceof Session) || session.getLoadQueryInfluencers().hasEnabledFilters()) {
+            return null;
+        }
+        QueryTranslator[] translators = session.getFactory().getQueryPlanCache()
+                .getHQLQueryPlan(query.getQueryString(), false, Collections.emptyMap()).getTranslators();
+        if (translators.length != 1 || !(translators[0] instanceof QueryTranslatorImpl)
+                || translators[0].collectSqlStrings().size() != 1) {
+            return null;
+        }
+        return translators[0];
+    }
+
+    private static void bind(PreparedStatement stmt, List<ParameterSpecification> specs,
+            QueryParameters queryParameters, SharedSessionContractImplementor session) throws SQLException {
+        int pos = 1;
+        for (ParameterSpecification spec : specs) {
+            pos += spec.bind(stmt, queryParameters, session, pos);
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long rv = 0;
+        for (int count : counts) {
+            // drivers may report SUCCESS_NO_INFO for batched statements
+            rv += Math.max(count, 0);
+        }
+        return rv;
+    }
+
 }
@@ -40,4 +40,11 @@ public interface SessionHolder {
      */
     NativeQuery<?> createSQLQuery(String queryString);
 
+    /**
+     * Clear the persistence context of the session, if the session has one
+     */
+    default void clear() {
+        // do nothing
+    }
+
 }
@@ -14,12 +14,17 @@
 package com.querydsl.jpa.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jetbrains.annotations.Nullable;
 import javax.persistence.EntityManager;
@@ -30,7 +35,13 @@ import javax.persistence.Query;
 import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.*;
 import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.util.CollectionUtils;
+import com.querydsl.jpa.ClearingIterator;
 import com.querydsl.jpa.JPAQueryBase;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
@@ -48,6 +59,8 @@ public abstract class AbstractJPAQuery<T, Q extends AbstractJPAQuery<T, Q>> exte
 
     private static final Logger logger = Logger.getLogger(JPAQuery.class.getName());
 
+    private static final int GROUP_COUNT_PAGE_SIZE = 1000;
+
     protected final Map<String, Object> hints = new LinkedHashMap<>();
 
     protected final EntityManager entityManager;
@@ -89,8 +102,9 @@ public abstract class AbstractJPAQuery<T, Q extends AbstractJPAQuery<T, Q>> exte
      * to the where clause instead.
      *
      * In order to support {@code fetchCount} for queries with multiple group by elements or a having clause, we
-     * generate the count in memory instead. This means that the method simply falls back to returning the size of
-     * {@link #fetch()}. For large result sets this may come at a severe performance penalty.
+     * count the groups with a SQL count query over the query translated by the provider on Hibernate and EclipseLink.
+     * For other providers the group by keys are fetched in pages instead. The pages are not retained, but they are
+     * still transferred from the database, so for large result sets this may come at a severe performance penalty.
      *
      * For very specific domain models where {@link #fetchCount()} has to be used in conjunction with complex queries
      * containing multiple group by elements and/or a having clause, we recommend using the
@@ -103,10 +117,8 @@ public abstract class AbstractJPAQuery<T, Q extends AbstractJPAQuery<T, Q>> exte
     @Deprecated
     public long fetchCount() {
         try {
-            if (getMetadata().getGroupBy().size() > 1 || getMetadata().getHaving() != null) {
-                logger.warning("Fetchable#fetchCount() was computed in memory! See the Javadoc for AbstractJPAQuery#fetchCount for more details.");
-                Query query = createQuery(null, false);
-                return query.getResultList().size();
+            if (isGroupCount()) {
+                return countGroups();
             }
 
             Query query = createQuery(null, true);
@@ -116,6 +128,47 @@ public abstract class AbstractJPAQuery<T, Q extends AbstractJPAQuery<T, Q>> exte
         }
     }
 
+    private boolean isGroupCount() {
+        return getMetadata().getGroupBy().size() > 1 || getMetadata().getHaving() != null;
+    }
+
+    /**
+     * Count the groups of a query which can't be expressed as a JPQL count query. Query handlers which
+     * support it count the groups with a SQL count query over the translated query, otherwise the group
+     * by keys are fetched in pages of {@value #GROUP_COUNT_PAGE_SIZE} rows, ordered by the group by keys
+     *
+     * @return number of groups
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private long countGroups() {
+        Q query = clone();
+        QueryMetadata metadata = query.getMetadata();
+        metadata.clearOrderBy();
+        if (!metadata.getGroupBy().isEmpty()) {
+            metadata.setProjection(Projections.tuple(metadata.getGroupBy()));
+        }
+        Long count = queryHandler.count(query.createQuery(null, false));
+        if (count != null) {
+            return count;
+        }
+        if (metadata.getGroupBy().isEmpty()) {
+            // a having clause without group by yields at most one group
+            return query.createQuery(null, false).getResultList().size();
+        }
+        for (Expression<?> key : metadata.getGroupBy()) {
+            metadata.addOrderBy(new OrderSpecifier(Order.ASC, key));
+        }
+        count = 0L;
+        for (long offset = 0; ; offset += GROUP_COUNT_PAGE_SIZE) {
+            int size = query.createQuery(new QueryModifiers((long) GROUP_COUNT_PAGE_SIZE, offset), false)
+                    .getResultList().size();
+            count += size;
+            if (size < GROUP_COUNT_PAGE_SIZE) {
+                return count;
+            }
+        }
+    }
+
     /**
      * Expose the original JPA query for the given projection
      *
@@ -235,6 +288,30 @@ public abstract class AbstractJPAQuery<T, Q extends AbstractJPAQuery<T, Q>> exte
         }
     }
 
+    /**
+     * Get the projection as a typed closeable Stream which doesn't retain the loaded entities.
+     *
+     * <p>The persistence context of the entity manager is cleared after each {@code batchSize} rows,
+     * before the next row is fetched, and the fetch size of the query is set to {@code batchSize}.
+     * Entities of earlier batches are detached, so pending changes need to be flushed before.</p>
+     *
+     * @param batchSize number of rows between clearing the persistence context
+     * @return closeable stream
+     */
+    public Stream<T> stream(int batchSize) {
+        try {
+            Query query = createQuery();
+            queryHandler.setFetchSize(query, batchSize);
+            Stream<T> stream = queryHandler.stream(query, projection);
+            ClearingIterator<T> iterator = new ClearingIterator<T>(stream.iterator(), stream::close,
+                    batchSize, entityManager::clear);
+            Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+            return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+        } finally {
+            reset();
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<T> fetch() {
@@ -246,6 +323,37 @@ public abstract class AbstractJPAQuery<T, Q extends AbstractJPAQuery<T, Q>> exte
         }
     }
 
+    /**
+     * Get the projection as a typed List by executing the query once per chunk of {@code values},
+     * with the additional restriction that {@code expr} is in the chunk.
+     *
+     * <p>This keeps the number of bind parameters per statement below the database limit for very
+     * large collections. Queries with ordering, grouping or paging can't be split this way and are rejected.
+     * The results of distinct queries are deduplicated in memory.</p>
+     *
+     * @param <V> value type
+     * @param expr restricted expression
+     * @param values values of expr
+     * @param chunkSize maximum number of values per execution
+     * @return results
+     */
+    public <V> List<T> fetchInChunks(Expression<V> expr, Collection<? extends V> values, int chunkSize) {
+        try {
+            QueryMetadata metadata = getMetadata();
+            if (!metadata.getOrderBy().isEmpty() || !metadata.getGroupBy().isEmpty()
+                    || metadata.getHaving() != null || metadata.getModifiers().isRestricting()) {
+                throw new IllegalStateException("Queries with ordering, grouping or paging can't be executed in chunks");
+            }
+            Collection<T> results = metadata.isDistinct() ? new LinkedHashSet<T>() : new ArrayList<T>();
+            for (List<V> chunk : CollectionUtils.partition(new ArrayList<V>(values), chunkSize)) {
+                results.addAll(clone().where(ExpressionUtils.in(expr, chunk)).fetch());
+            }
+            return results instanceof List ? (List<T>) results : new ArrayList<T>(results);
+        } finally {
+            reset();
+        }
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -262,8 +370,9 @@ public abstract class AbstractJPAQuery<T, Q extends AbstractJPAQuery<T, Q>> exte
      * to the where clause instead.
      *
      * In order to support {@code fetchResults} for queries with multiple group by elements or a having clause, we
-     * generate the count in memory instead. This means that the method simply falls back to returning the size of
-     * {@link #fetch()}. For large result sets this may come at a severe performance penalty.
+     * count the groups the same way as {@link #fetchCount()}: with a SQL count query on Hibernate and EclipseLink and
+     * by fetching the group by keys in pages for other providers. The pages are not retained, but they are still
+     * transferred from the database, so for large result sets this may come at a severe performance penalty.
      *
      * For very specific domain models where {@link #fetchResults()} has to be used in conjunction with complex queries
      * containing multiple group by elements and/or a having clause, we recommend using the
@@ -280,18 +389,13 @@ public abstract class AbstractJPAQuery<T, Q extends AbstractJPAQuery<T, Q>> exte
     public QueryResults<T> fetchResults() {
         try {
             QueryModifiers modifiers = getMetadata().getModifiers();
-            if (getMetadata().getGroupBy().size() > 1 || getMetadata().getHaving() != null) {
-                logger.warning("Fetchable#fetchResults() was computed in memory! See the Javadoc for AbstractJPAQuery#fetchResults for more details.");
-                Query query = createQuery(null, false);
-                @SuppressWarnings("unchecked")
-                List<T> resultList = query.getResultList();
-                int offset = modifiers.getOffsetAsInteger() == null ? 0 : modifiers.getOffsetAsInteger();
-                int limit = modifiers.getLimitAsInteger() == null ? resultList.size() : modifiers.getLimitAsInteger();
-                return new QueryResults<T>(resultList.subList(offset, Math.min(resultList.size(), offset + limit)), modifiers, resultList.size());
+            long total;
+            if (isGroupCount()) {
+                total = countGroups();
+            } else {
+                Query countQuery = createQuery(null, true);
+                total = (Long) countQuery.getSingleResult();
             }
-
-            Query countQuery = createQuery(null, true);
-            long total = (Long) countQuery.getSingleResult();
             if (total > 0) {
                 Query query = createQuery(modifiers, false);
                 @SuppressWarnings("unchecked")
@@ -33,6 +33,7 @@ import com.querydsl.core.types.Path;
 import com.querydsl.core.types.SubQueryExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLBatch;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
 
@@ -52,6 +53,8 @@ public class JPAInsertClause implements InsertClause<JPAInsertClause> {
 
     private final List<Object> values = new ArrayList<Object>();
 
+    private final JPQLBatch batch = new JPQLBatch();
+
     private final EntityManager entityManager;
 
     private final JPQLTemplates templates;
@@ -73,6 +76,9 @@ public class JPAInsertClause implements InsertClause<JPAInsertClause> {
 
     @Override
     public long execute() {
+        if (!batch.isEmpty()) {
+            return executeBatch();
+        }
         JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
         serializer.serializeForInsert(queryMixin.getMetadata(), inserts.isEmpty() ? columns : inserts.keySet(), values, subQuery, inserts);
 
@@ -89,6 +95,51 @@ public class JPAInsertClause implements InsertClause<JPAInsertClause> {
         return this;
     }
 
+    private long executeBatch() {
+        return batch.execute(queryString -> {
+            Query query = entityManager.createQuery(queryString);
+            if (lockMode != null) {
+                query.setLockMode(lockMode);
+            }
+            return query;
+        }, (query, constants) -> JPAUtil.setConstants(query, constants, queryMixin.getMetadata().getParams()),
+                templates.getQueryHandler()::executeBatch);
+    }
+
+    /**
+     * Add the current state of bindings as a batch item
+     *
+     * <p>Batch items are executed in the order they were added. Consecutive items with the same
+     * serialized form share one query, which is sent as a JDBC batch when running on Hibernate.</p>
+     *
+     * @return the current object
+     */
+    public JPAInsertClause addBatch() {
+        JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
+        serializer.serializeForInsert(queryMixin.getMetadata(), inserts.isEmpty() ? columns : inserts.keySet(), values, subQuery, inserts);
+        batch.add(serializer.toString(), serializer.getConstants());
+        inserts.clear();
+        columns.clear();
+        values.clear();
+        subQuery = null;
+        return this;
+    }
+
+    /**
+     * Clear the internal state of the clause
+     */
+    public void clear() {
+        batch.clear();
+        inserts.clear();
+        columns.clear();
+        values.clear();
+        subQuery = null;
+    }
+
+    public int getBatchCount() {
+        return batch.size();
+    }
+
     @Override
     public String toString() {
         JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
@@ -116,7 +167,7 @@ public class JPAInsertClause implements InsertClause<JPAInsertClause> {
 
     @Override
     public boolean isEmpty() {
-        return columns.isEmpty();
+        return columns.isEmpty() && batch.isEmpty();
     }
 
     @Override
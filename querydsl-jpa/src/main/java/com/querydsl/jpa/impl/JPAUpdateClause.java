@@ -31,6 +31,7 @@ import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAQueryMixin;
+import com.querydsl.jpa.JPQLBatch;
 import com.querydsl.jpa.JPQLSerializer;
 import com.querydsl.jpa.JPQLTemplates;
 
@@ -46,6 +47,8 @@ public class JPAUpdateClause implements UpdateClause<JPAUpdateClause> {
 
     private final Map<Path<?>, Expression<?>> updates = new LinkedHashMap<>();
 
+    private final JPQLBatch batch = new JPQLBatch();
+
     private final EntityManager entityManager;
 
     private final JPQLTemplates templates;
@@ -65,6 +68,9 @@ public class JPAUpdateClause implements UpdateClause<JPAUpdateClause> {
 
     @Override
     public long execute() {
+        if (!batch.isEmpty()) {
+            return executeBatch();
+        }
         JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
         serializer.serializeForUpdate(queryMixin.getMetadata(), updates);
 
@@ -128,6 +134,47 @@ public class JPAUpdateClause implements UpdateClause<JPAUpdateClause> {
         return this;
     }
 
+    private long executeBatch() {
+        return batch.execute(queryString -> {
+            Query query = entityManager.createQuery(queryString);
+            if (lockMode != null) {
+                query.setLockMode(lockMode);
+            }
+            return query;
+        }, (query, constants) -> JPAUtil.setConstants(query, constants, queryMixin.getMetadata().getParams()),
+                templates.getQueryHandler()::executeBatch);
+    }
+
+    /**
+     * Add the current state of bindings as a batch item
+     *
+     * <p>Batch items are executed in the order they were added. Consecutive items with the same
+     * serialized form share one query, which is sent as a JDBC batch when running on Hibernate.</p>
+     *
+     * @return the current object
+     */
+    public JPAUpdateClause addBatch() {
+        JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
+        serializer.serializeForUpdate(queryMixin.getMetadata(), updates);
+        batch.add(serializer.toString(), serializer.getConstants());
+        updates.clear();
+        queryMixin.getMetadata().clearWhere();
+        return this;
+    }
+
+    /**
+     * Clear the internal state of the clause
+     */
+    public void clear() {
+        batch.clear();
+        updates.clear();
+        queryMixin.getMetadata().clearWhere();
+    }
+
+    public int getBatchCount() {
+        return batch.size();
+    }
+
     @Override
     public String toString() {
         JPQLSerializer serializer = new JPQLSerializer(templates, entityManager);
@@ -137,7 +184,7 @@ public class JPAUpdateClause implements UpdateClause<JPAUpdateClause> {
 
     @Override
     public boolean isEmpty() {
-        return updates.isEmpty();
+        return updates.isEmpty() && batch.isEmpty();
     }
 
 }
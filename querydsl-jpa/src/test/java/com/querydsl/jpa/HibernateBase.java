@@ -16,7 +16,10 @@ package com.querydsl.jpa;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.hibernate.LockMode;
 import org.hibernate.Session;
@@ -36,7 +39,9 @@ import com.querydsl.jpa.domain.QCat;
 import com.querydsl.jpa.domain.QGroup;
 import com.querydsl.jpa.hibernate.DefaultSessionHolder;
 import com.querydsl.jpa.hibernate.HibernateDeleteClause;
+import com.querydsl.jpa.hibernate.HibernateInsertClause;
 import com.querydsl.jpa.hibernate.HibernateQuery;
+import com.querydsl.jpa.hibernate.HibernateUpdateClause;
 import com.querydsl.jpa.testutil.HibernateTestRunner;
 
 /**
@@ -67,6 +72,14 @@ public class HibernateBase extends AbstractJPATest implements HibernateTest {
         return new HibernateDeleteClause(session, path);
     }
 
+    protected HibernateInsertClause insert(EntityPath<?> path) {
+        return new HibernateInsertClause(session, path);
+    }
+
+    protected HibernateUpdateClause update(EntityPath<?> path) {
+        return new HibernateUpdateClause(session, path);
+    }
+
     @Override
     protected HibernateQuery<?> testQuery() {
         return new HibernateQuery<Void>(new DefaultSessionHolder(session),
@@ -100,6 +113,126 @@ public class HibernateBase extends AbstractJPATest implements HibernateTest {
         assertEquals(0, delete(QGroup.group).execute());
     }
 
+    @Test
+    public void insert_batch() {
+        QCat bob = new QCat("bob");
+        try {
+            HibernateInsertClause insert = insert(cat);
+            insert.columns(cat.id, cat.name, cat.alive, cat.weight, cat.toes, cat.bodyWeight, cat.floatProperty)
+                .select(copy(bob, 100, "Bob123"))
+                .addBatch();
+            insert.columns(cat.id, cat.name, cat.alive, cat.weight, cat.toes, cat.bodyWeight, cat.floatProperty)
+                .select(copy(bob, 100, "Ruth123"))
+                .addBatch();
+            insert.columns(cat.id, cat.name, cat.alive, cat.weight, cat.toes, cat.bodyWeight, cat.floatProperty)
+                .select(copy(bob, 200, "Felix123"))
+                .addBatch();
+            assertEquals(3, insert.getBatchCount());
+            assertEquals(3, insert.execute());
+
+            assertEquals(2L, query().from(cat).where(cat.name.eq("Bob123")).fetchCount());
+            assertEquals(2L, query().from(cat).where(cat.name.eq("Ruth123")).fetchCount());
+            assertEquals(2L, query().from(cat).where(cat.name.eq("Felix123")).fetchCount());
+        } finally {
+            delete(cat).where(cat.id.goe(100)).execute();
+        }
+    }
+
+    @Test
+    public void insert_batch_clear() {
+        HibernateInsertClause insert = insert(cat);
+        insert.set(cat.id, 100).set(cat.name, "Bobby").addBatch();
+        insert.columns(cat.id, cat.name).values(101, "Ruthie").addBatch();
+        assertEquals(2, insert.getBatchCount());
+        assertFalse(insert.isEmpty());
+
+        insert.clear();
+        assertEquals(0, insert.getBatchCount());
+        assertTrue(insert.isEmpty());
+    }
+
+    @Test
+    public void update_batch() {
+        List<Cat> cats = saveCats("Bob", "Ruth", "Felix", "Allen");
+        try {
+            HibernateUpdateClause update = update(cat);
+            update.where(cat.name.eq("Bob")).set(cat.name, "Bobby").addBatch();
+            update.where(cat.name.eq("Ruth")).set(cat.name, "Ruthie").addBatch();
+            update.where(cat.name.eq("Felix")).set(cat.name, "Felix2").addBatch();
+            update.where(cat.name.eq("Allen")).set(cat.alive, false).addBatch();
+            assertEquals(4, update.getBatchCount());
+            assertEquals(4, update.execute());
+
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Bobby")).fetchCount());
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Ruthie")).fetchCount());
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Felix2")).fetchCount());
+            assertEquals(0L, query().from(cat).where(cat.name.eq("Bob")).fetchCount());
+        } finally {
+            deleteCats(cats);
+        }
+    }
+
+    @Test
+    public void update_batch_order() {
+        List<Cat> cats = saveCats("Bob");
+        try {
+            HibernateUpdateClause update = update(cat);
+            update.where(cat.name.eq("Bob")).set(cat.name, "Bobby").addBatch();
+            update.where(cat.name.eq("Bobby")).set(cat.alive, false).addBatch();
+            update.where(cat.name.eq("Bobby")).set(cat.name, "Robert").addBatch();
+            assertEquals(3, update.execute());
+
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Robert"), cat.alive.isFalse()).fetchCount());
+        } finally {
+            deleteCats(cats);
+        }
+    }
+
+    @Test
+    public void update_batch_clear() {
+        List<Cat> cats = saveCats("Bob", "Ruth", "Felix");
+        try {
+            HibernateUpdateClause update = update(cat);
+            update.where(cat.name.eq("Bob")).set(cat.name, "Bobby").addBatch();
+            update.where(cat.name.eq("Ruth")).set(cat.alive, false).addBatch();
+            assertEquals(2, update.getBatchCount());
+            update.clear();
+            assertEquals(0, update.getBatchCount());
+            assertTrue(update.isEmpty());
+
+            update.where(cat.name.eq("Felix")).set(cat.name, "Felix2").addBatch();
+            assertEquals(1, update.getBatchCount());
+            assertEquals(1, update.execute());
+
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Bob")).fetchCount());
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Felix2")).fetchCount());
+        } finally {
+            deleteCats(cats);
+        }
+    }
+
+    private static JPQLQuery<?> copy(QCat bob, int offset, String name) {
+        return JPAExpressions.select(bob.id.add(offset), bob.name, bob.alive, bob.weight, bob.toes,
+                bob.bodyWeight, bob.floatProperty).from(bob).where(bob.name.eq(name));
+    }
+
+    private List<Cat> saveCats(String... names) {
+        List<Cat> cats = new ArrayList<Cat>();
+        for (int i = 0; i < names.length; i++) {
+            Cat saved = new Cat(names[i], 100 + i);
+            save(saved);
+            cats.add(saved);
+        }
+        return cats;
+    }
+
+    private void deleteCats(List<Cat> cats) {
+        for (Cat saved : cats) {
+            session.evict(saved);
+        }
+        delete(cat).where(cat.id.goe(100)).execute();
+    }
+
     @Test
     public void with_comment() {
         query().from(cat).setComment("my comment").select(cat).fetch();
@@ -126,6 +259,17 @@ public class HibernateBase extends AbstractJPATest implements HibernateTest {
         cats.close();
     }
 
+    @Test
+    public void stream_batched() {
+        long count = query().from(cat).fetchCount();
+        List<Cat> cats;
+        try (Stream<Cat> stream = query().from(cat).select(cat).stream(2)) {
+            cats = stream.collect(Collectors.toList());
+        }
+        assertEquals(count, cats.size());
+        assertFalse(session.contains(cats.get(0)));
+    }
+
     @Test
     public void scrollTuple() throws IOException {
         CloseableIterator<Tuple> rows = new ScrollableResultsIterator<Tuple>(query()
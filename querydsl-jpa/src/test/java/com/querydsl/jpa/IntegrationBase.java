@@ -176,6 +176,35 @@ public class IntegrationBase extends ParsingTest implements HibernateTest {
         assertEquals(0L, query().from(cat).where(cat.name.eq("Bob")).fetchCount());
     }
 
+    @Test
+    public void update_batch() {
+        Cat bob = new Cat("Bob110", 110);
+        Cat steve = new Cat("Steve111", 111);
+        Cat tom = new Cat("Tom112", 112);
+        session.save(bob);
+        session.save(steve);
+        session.save(tom);
+
+        QCat cat = QCat.cat;
+        try {
+            HibernateUpdateClause update = update(cat);
+            update.where(cat.name.eq("Bob110")).set(cat.name, "Bobby").addBatch();
+            update.where(cat.name.eq("Steve111")).set(cat.name, "Stevie").addBatch();
+            update.where(cat.name.eq("Tom112")).set(cat.alive, false).addBatch();
+            assertEquals(3, update.getBatchCount());
+            assertEquals(3, update.execute());
+
+            assertEquals(1L, new HibernateQuery<Void>(session).from(cat).where(cat.name.eq("Bobby")).fetchCount());
+            assertEquals(1L, new HibernateQuery<Void>(session).from(cat).where(cat.name.eq("Stevie")).fetchCount());
+            assertEquals(1L, new HibernateQuery<Void>(session).from(cat).where(cat.name.eq("Tom112"), cat.alive.isFalse()).fetchCount());
+        } finally {
+            session.evict(bob);
+            session.evict(steve);
+            session.evict(tom);
+            delete(cat).where(cat.id.goe(110)).execute();
+        }
+    }
+
     @Test
     public void update_with_null() {
         session.save(new Cat("Bob",10));
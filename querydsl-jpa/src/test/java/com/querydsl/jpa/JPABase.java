@@ -22,9 +22,12 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.FlushModeType;
@@ -49,7 +52,9 @@ import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.domain.*;
 import com.querydsl.jpa.impl.JPADeleteClause;
+import com.querydsl.jpa.impl.JPAInsertClause;
 import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import com.querydsl.jpa.testutil.JPATestRunner;
 
 /**
@@ -80,6 +85,14 @@ public class JPABase extends AbstractJPATest implements JPATest {
         return new JPADeleteClause(entityManager, path);
     }
 
+    protected JPAInsertClause insert(EntityPath<?> path) {
+        return new JPAInsertClause(entityManager, path);
+    }
+
+    protected JPAUpdateClause update(EntityPath<?> path) {
+        return new JPAUpdateClause(entityManager, path);
+    }
+
     @Override
     protected JPAQuery<?> testQuery() {
         return new JPAQuery<Void>(entityManager, new DefaultQueryMetadata());
@@ -156,6 +169,169 @@ public class JPABase extends AbstractJPATest implements JPATest {
             .execute();
     }
 
+    @Test
+    @NoEclipseLink @NoOpenJPA @NoBatooJPA
+    public void insert_batch() {
+        QCat bob = new QCat("bob");
+        try {
+            JPAInsertClause insert = insert(cat);
+            insert.columns(cat.id, cat.name, cat.alive, cat.weight, cat.toes, cat.bodyWeight, cat.floatProperty)
+                .select(copy(bob, 100, "Bob123"))
+                .addBatch();
+            insert.columns(cat.id, cat.name, cat.alive, cat.weight, cat.toes, cat.bodyWeight, cat.floatProperty)
+                .select(copy(bob, 100, "Ruth123"))
+                .addBatch();
+            insert.columns(cat.id, cat.name, cat.alive, cat.weight, cat.toes, cat.bodyWeight, cat.floatProperty)
+                .select(copy(bob, 200, "Felix123"))
+                .addBatch();
+            assertEquals(3, insert.getBatchCount());
+            assertEquals(3, insert.execute());
+
+            assertEquals(2L, query().from(cat).where(cat.name.eq("Bob123")).fetchCount());
+            assertEquals(2L, query().from(cat).where(cat.name.eq("Ruth123")).fetchCount());
+            assertEquals(2L, query().from(cat).where(cat.name.eq("Felix123")).fetchCount());
+        } finally {
+            delete(cat).where(cat.id.goe(100)).execute();
+        }
+    }
+
+    @Test
+    public void insert_batch_clear() {
+        JPAInsertClause insert = insert(cat);
+        insert.set(cat.id, 100).set(cat.name, "Bobby").addBatch();
+        insert.columns(cat.id, cat.name).values(101, "Ruthie").addBatch();
+        assertEquals(2, insert.getBatchCount());
+        assertFalse(insert.isEmpty());
+
+        insert.clear();
+        assertEquals(0, insert.getBatchCount());
+        assertTrue(insert.isEmpty());
+    }
+
+    @Test
+    @NoBatooJPA
+    public void update_batch() {
+        List<Cat> cats = saveCats("Bob", "Ruth", "Felix", "Allen");
+        try {
+            JPAUpdateClause update = update(cat);
+            update.where(cat.name.eq("Bob")).set(cat.name, "Bobby").addBatch();
+            update.where(cat.name.eq("Ruth")).set(cat.name, "Ruthie").addBatch();
+            update.where(cat.name.eq("Felix")).set(cat.name, "Felix2").addBatch();
+            update.where(cat.name.eq("Allen")).set(cat.alive, false).addBatch();
+            assertEquals(4, update.getBatchCount());
+            assertEquals(4, update.execute());
+
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Bobby")).fetchCount());
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Ruthie")).fetchCount());
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Felix2")).fetchCount());
+            assertEquals(0L, query().from(cat).where(cat.name.eq("Bob")).fetchCount());
+        } finally {
+            deleteCats(cats);
+        }
+    }
+
+    @Test
+    @NoBatooJPA
+    public void update_batch_order() {
+        List<Cat> cats = saveCats("Bob");
+        try {
+            JPAUpdateClause update = update(cat);
+            update.where(cat.name.eq("Bob")).set(cat.name, "Bobby").addBatch();
+            update.where(cat.name.eq("Bobby")).set(cat.alive, false).addBatch();
+            update.where(cat.name.eq("Bobby")).set(cat.name, "Robert").addBatch();
+            assertEquals(3, update.execute());
+
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Robert"), cat.alive.isFalse()).fetchCount());
+        } finally {
+            deleteCats(cats);
+        }
+    }
+
+    @Test
+    @NoBatooJPA
+    public void update_batch_clear() {
+        List<Cat> cats = saveCats("Bob", "Ruth", "Felix");
+        try {
+            JPAUpdateClause update = update(cat);
+            update.where(cat.name.eq("Bob")).set(cat.name, "Bobby").addBatch();
+            update.where(cat.name.eq("Ruth")).set(cat.alive, false).addBatch();
+            assertEquals(2, update.getBatchCount());
+            update.clear();
+            assertEquals(0, update.getBatchCount());
+            assertTrue(update.isEmpty());
+
+            update.where(cat.name.eq("Felix")).set(cat.name, "Felix2").addBatch();
+            assertEquals(1, update.getBatchCount());
+            assertEquals(1, update.execute());
+
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Bob")).fetchCount());
+            assertEquals(1L, query().from(cat).where(cat.name.eq("Felix2")).fetchCount());
+        } finally {
+            deleteCats(cats);
+        }
+    }
+
+    private static JPQLQuery<?> copy(QCat bob, int offset, String name) {
+        return JPAExpressions.select(bob.id.add(offset), bob.name, bob.alive, bob.weight, bob.toes,
+                bob.bodyWeight, bob.floatProperty).from(bob).where(bob.name.eq(name));
+    }
+
+    private List<Cat> saveCats(String... names) {
+        List<Cat> cats = new ArrayList<Cat>();
+        for (int i = 0; i < names.length; i++) {
+            Cat saved = new Cat(names[i], 100 + i);
+            save(saved);
+            cats.add(saved);
+        }
+        entityManager.flush();
+        return cats;
+    }
+
+    private void deleteCats(List<Cat> cats) {
+        for (Cat saved : cats) {
+            entityManager.detach(saved);
+        }
+        delete(cat).where(cat.id.goe(100)).execute();
+    }
+
+    @Test
+    public void fetchCount_groupBy_multiple() {
+        List<Tuple> groups = query().from(cat).where(cat.name.ne("X"))
+                .groupBy(cat.name, cat.alive).select(cat.name, cat.alive).fetch();
+        assertTrue(groups.size() > 1);
+        assertEquals(groups.size(), query().from(cat).where(cat.name.ne("X"))
+                .groupBy(cat.name, cat.alive).fetchCount());
+    }
+
+    @Test
+    public void fetchCount_having() {
+        List<String> groups = query().from(cat).groupBy(cat.name)
+                .having(cat.bodyWeight.sum().gt(2.0)).select(cat.name).fetch();
+        assertTrue(groups.size() > 1);
+        assertEquals(groups.size(), query().from(cat).groupBy(cat.name)
+                .having(cat.bodyWeight.sum().gt(2.0)).fetchCount());
+    }
+
+    @Test
+    public void fetchCount_groupBy_paged() {
+        // the default query handler doesn't count in the database
+        List<Tuple> groups = query().from(cat)
+                .groupBy(cat.name, cat.alive).select(cat.name, cat.alive).fetch();
+        assertEquals(groups.size(), new JPAQuery<Void>(entityManager, JPQLTemplates.DEFAULT).from(cat)
+                .groupBy(cat.name, cat.alive).fetchCount());
+    }
+
+    @Test
+    public void fetchResults_groupBy_multiple() {
+        List<Tuple> groups = query().from(cat)
+                .groupBy(cat.name, cat.alive).select(cat.name, cat.alive).fetch();
+        QueryResults<Tuple> results = query().from(cat)
+                .groupBy(cat.name, cat.alive).orderBy(cat.name.asc())
+                .limit(2).select(cat.name, cat.alive).fetchResults();
+        assertEquals(groups.size(), results.getTotal());
+        assertEquals(2, results.getResults().size());
+    }
+
     @Test
     public void finder() {
         Map<String,Object> conditions = new HashMap<String,Object>();
@@ -213,6 +389,25 @@ public class JPABase extends AbstractJPATest implements JPATest {
         cats.close();
     }
 
+    @Test
+    @ExcludeIn(Target.DERBY)
+    public void stream_batched() {
+        long count = query().from(cat).fetchCount();
+        List<Cat> cats;
+        try (Stream<Cat> stream = query().from(cat).select(cat).stream(2)) {
+            cats = stream.collect(Collectors.toList());
+        }
+        assertEquals(count, cats.size());
+        assertFalse(entityManager.contains(cats.get(0)));
+    }
+
+    @Test
+    public void fetchInChunks() {
+        List<Integer> ids = query().from(cat).select(cat.id).fetch();
+        List<Cat> cats = query().from(cat).select(cat).fetchInChunks(cat.id, ids, 2);
+        assertEquals(ids.size(), cats.size());
+    }
+
     @Test
     public void limit1_uniqueResult() {
         assertNotNull(query().from(cat).limit(1).select(cat).fetchOne());
@@ -306,6 +501,17 @@ public class JPABase extends AbstractJPATest implements JPATest {
         assertEquals(1, results.getTotal());
     }
 
+    @Test
+    public void fetchCountGroupByWithMultipleFields() {
+        long count = query().from(cat)
+                .groupBy(cat.alive, cat.breed)
+                .orderBy(cat.breed.asc())
+                .select(cat.alive, cat.breed)
+                .fetchCount();
+
+        assertEquals(query().from(cat).groupBy(cat.alive, cat.breed).select(cat.alive, cat.breed).fetch().size(), count);
+    }
+
     @Test
     public void fetchCountResultsGroupByWithHaving() {
         QueryResults<Tuple> results = query().from(cat)
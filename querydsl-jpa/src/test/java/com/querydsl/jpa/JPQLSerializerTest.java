@@ -189,6 +189,34 @@ public class JPQLSerializerTest {
         assertEquals("id not in (?1)", serializer.toString());
     }
 
+    @Test
+    public void in_partitioned() {
+        JPQLSerializer serializer = new JPQLSerializer(new HQLTemplates() { {
+            setListMaxSize(2);
+        } });
+        serializer.handle(Expressions.numberPath(Integer.class, "id").in(Arrays.asList(1, 2, 3, 4, 5)));
+        assertEquals("(id in (?1) or id in (?2) or id = ?3)", serializer.toString());
+    }
+
+    @Test
+    public void not_in_partitioned() {
+        JPQLSerializer serializer = new JPQLSerializer(new HQLTemplates() { {
+            setListMaxSize(2);
+        } });
+        serializer.handle(Expressions.numberPath(Integer.class, "id").notIn(Arrays.asList(1, 2, 3, 4, 5)));
+        assertEquals("(id not in (?1) and id not in (?2) and id <> ?3)", serializer.toString());
+    }
+
+    @Test
+    public void in_padded() {
+        JPQLSerializer serializer = new JPQLSerializer(new HQLTemplates() { {
+            setListPadding(true);
+        } });
+        serializer.handle(Expressions.numberPath(Integer.class, "id").in(Arrays.asList(1, 2, 3, 4, 5)));
+        assertEquals("id in (?1)", serializer.toString());
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 5, 5, 5), serializer.getConstants().get(0));
+    }
+
     @Test
     public void like() {
         JPQLSerializer serializer = new JPQLSerializer(HQLTemplates.DEFAULT);
@@ -0,0 +1,86 @@
+package com.querydsl.jpa;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.persistence.EntityManager;
+
+import org.junit.*;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import com.querydsl.core.Target;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.jpa.domain.Cat;
+import com.querydsl.jpa.domain.QCat;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import com.querydsl.jpa.testutil.JPATestRunner;
+
+@RunWith(JPATestRunner.class)
+@Ignore
+@Category(Performance.class)
+public class UpdateClausePerformanceTest implements JPATest {
+
+    private static final int iterations = 1000;
+
+    private EntityManager entityManager;
+
+    @BeforeClass
+    public static void setUpClass() {
+        Mode.mode.set("h2perf");
+        Mode.target.set(Target.H2);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        Mode.mode.remove();
+        Mode.target.remove();
+    }
+
+    private JPAQuery<?> query() {
+        return new JPAQuery<Void>(entityManager);
+    }
+
+    @Before
+    public void setUp() {
+        if (query().from(QCat.cat).fetchCount() == 0) {
+            for (int i = 0; i < iterations; i++) {
+                entityManager.persist(new Cat(String.valueOf(i), i + 100));
+            }
+            entityManager.flush();
+        }
+    }
+
+    @Test
+    public void update_single() {
+        QCat cat = QCat.cat;
+        long start = System.currentTimeMillis();
+        long count = 0;
+        for (int i = 0; i < iterations; i++) {
+            count += new JPAUpdateClause(entityManager, cat)
+                .where(cat.id.eq(i + 100))
+                .set(cat.name, "single" + i)
+                .execute();
+        }
+        assertEquals(iterations, count);
+        System.err.println("update - single" + (System.currentTimeMillis() - start));
+    }
+
+    @Test
+    public void update_batch() {
+        QCat cat = QCat.cat;
+        long start = System.currentTimeMillis();
+        JPAUpdateClause update = new JPAUpdateClause(entityManager, cat);
+        for (int i = 0; i < iterations; i++) {
+            update.where(cat.id.eq(i + 100)).set(cat.name, "batch" + i).addBatch();
+        }
+        assertEquals(iterations, update.execute());
+        System.err.println("update - batch" + (System.currentTimeMillis() - start));
+    }
+
+    @Override
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+}
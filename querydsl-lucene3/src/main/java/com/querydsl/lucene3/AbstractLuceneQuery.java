@@ -41,6 +41,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryWrapperFilter;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHitCountCollector;
 import org.jetbrains.annotations.Nullable;
 
@@ -62,6 +63,8 @@ public abstract class AbstractLuceneQuery<T,Q extends AbstractLuceneQuery<T,Q>>
 
     private static final String JAVA_ISO_CONTROL = "[\\p{Cntrl}&&[^\r\n\t]]";
 
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+
     private final QueryMixin<Q> queryMixin;
 
     private final IndexSearcher searcher;
@@ -81,6 +84,8 @@ public abstract class AbstractLuceneQuery<T,Q extends AbstractLuceneQuery<T,Q>>
     @Nullable
     private Sort querySort;
 
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
     @SuppressWarnings("unchecked")
     public AbstractLuceneQuery(LuceneSerializer serializer, IndexSearcher searcher,
             Function<Document, T> transformer) {
@@ -180,12 +185,10 @@ public abstract class AbstractLuceneQuery<T,Q extends AbstractLuceneQuery<T,Q>>
     @Override
     public CloseableIterator<T> iterate() {
         final QueryMetadata metadata = queryMixin.getMetadata();
-        final List<OrderSpecifier<?>> orderBys = metadata.getOrderBy();
         final Integer queryLimit = metadata.getModifiers().getLimitAsInteger();
         final Integer queryOffset = metadata.getModifiers().getOffsetAsInteger();
-        Sort sort = querySort;
-        int limit;
         final int offset = queryOffset != null ? queryOffset : 0;
+        final int limit;
         try {
             limit = maxDoc();
             if (limit == 0) {
@@ -194,24 +197,13 @@ public abstract class AbstractLuceneQuery<T,Q extends AbstractLuceneQuery<T,Q>>
         } catch (IOException | IllegalArgumentException e) {
             throw new QueryException(e);
         }
-        if (queryLimit != null && queryLimit < limit) {
-            limit = queryLimit;
-        }
-        if (sort == null && !orderBys.isEmpty()) {
-            sort = serializer.toSort(orderBys);
+        Sort sort = getSort();
+        if (sort == null && (queryLimit == null || (long) queryLimit + offset > pageSize)) {
+            return createPagedIterator(offset, queryLimit);
         }
 
         try {
-            ScoreDoc[] scoreDocs;
-            int sumOfLimitAndOffset = limit + offset;
-            if (sumOfLimitAndOffset < 1) {
-                throw new QueryException("The given limit (" + limit + ") and offset (" + offset + ") cause an integer overflow.");
-            }
-            if (sort != null) {
-                scoreDocs = searcher.search(createQuery(), getFilter(), sumOfLimitAndOffset, sort).scoreDocs;
-            } else {
-                scoreDocs = searcher.search(createQuery(), getFilter(), sumOfLimitAndOffset).scoreDocs;
-            }
+            ScoreDoc[] scoreDocs = search(sort, offset, queryLimit, limit).scoreDocs;
             if (offset < scoreDocs.length) {
                 return new ResultIterator<T>(scoreDocs, offset, searcher, fieldSelector, transformer);
             }
@@ -221,6 +213,38 @@ public abstract class AbstractLuceneQuery<T,Q extends AbstractLuceneQuery<T,Q>>
         }
     }
 
+    private PagedResultIterator<T> createPagedIterator(int offset, @Nullable Integer limit) {
+        return new PagedResultIterator<T>(searcher, createQuery(), getFilter(), offset,
+                limit != null ? limit : Long.MAX_VALUE, pageSize, fieldSelector, transformer);
+    }
+
+    private TopDocs search(@Nullable Sort sort, int offset, @Nullable Integer limit, int maxDoc)
+            throws IOException {
+        // the collector doesn't need to hold more hits than there are documents
+        int n = (int) Math.min(limit != null ? (long) limit + offset : Long.MAX_VALUE, maxDoc);
+        if (sort != null) {
+            // sorted searches can't be paged, so the hits beyond the first page are collected
+            // in a second search, which is bounded by the total hits of the first one
+            TopDocs topDocs = searcher.search(createQuery(), getFilter(), Math.min(n, pageSize), sort);
+            if (n > pageSize && topDocs.totalHits > topDocs.scoreDocs.length) {
+                topDocs = searcher.search(createQuery(), getFilter(), Math.min(n, topDocs.totalHits), sort);
+            }
+            return topDocs;
+        } else {
+            return searcher.search(createQuery(), getFilter(), n);
+        }
+    }
+
+    @Nullable
+    private Sort getSort() {
+        Sort sort = querySort;
+        final List<OrderSpecifier<?>> orderBys = queryMixin.getMetadata().getOrderBy();
+        if (sort == null && !orderBys.isEmpty()) {
+            sort = serializer.toSort(orderBys);
+        }
+        return sort;
+    }
+
     private List<T> innerList() {
         return new IteratorAdapter<T>(iterate()).asList();
     }
@@ -260,12 +284,35 @@ public abstract class AbstractLuceneQuery<T,Q extends AbstractLuceneQuery<T,Q>>
 
     @Override
     public QueryResults<T> fetchResults() {
-        List<T> documents = innerList();
-        /*
-         * TODO Get rid of fetchCount(). It could be implemented by iterating the
-         * fetch results in fetch* from n to m.
-         */
-        return new QueryResults<T>(documents, queryMixin.getMetadata().getModifiers(), innerCount());
+        final QueryModifiers modifiers = queryMixin.getMetadata().getModifiers();
+        final Integer queryLimit = modifiers.getLimitAsInteger();
+        final Integer queryOffset = modifiers.getOffsetAsInteger();
+        final int offset = queryOffset != null ? queryOffset : 0;
+        try {
+            final int limit = maxDoc();
+            if (limit == 0) {
+                return new QueryResults<T>(Collections.<T>emptyList(), modifiers, 0);
+            }
+            // the total count is taken from the same search which collects the page
+            Sort sort = getSort();
+            if (sort == null && (queryLimit == null || (long) queryLimit + offset > pageSize)) {
+                PagedResultIterator<T> iterator = createPagedIterator(offset, queryLimit);
+                List<T> documents = new IteratorAdapter<T>(iterator).asList();
+                return new QueryResults<T>(documents, modifiers, iterator.getTotalHits());
+            } else {
+                TopDocs topDocs = search(sort, offset, queryLimit, limit);
+                List<T> documents;
+                if (offset < topDocs.scoreDocs.length) {
+                    documents = new IteratorAdapter<T>(new ResultIterator<T>(topDocs.scoreDocs, offset,
+                            searcher, fieldSelector, transformer)).asList();
+                } else {
+                    documents = Collections.emptyList();
+                }
+                return new QueryResults<T>(documents, modifiers, topDocs.totalHits);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new QueryException(e);
+        }
     }
 
     @Override
@@ -298,6 +345,22 @@ public abstract class AbstractLuceneQuery<T,Q extends AbstractLuceneQuery<T,Q>>
         return (Q) this;
     }
 
+    /**
+     * Set the amount of hits to be collected per search when iterating over unsorted
+     * results without a limit or with a large limit and offset
+     *
+     * @param pageSize page size
+     * @return the current object
+     */
+    @SuppressWarnings("unchecked")
+    public Q pageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize needs to be positive");
+        }
+        this.pageSize = pageSize;
+        return (Q) this;
+    }
+
     @Nullable
     private T oneResult(boolean unique) {
         try {
@@ -305,17 +368,20 @@ public abstract class AbstractLuceneQuery<T,Q extends AbstractLuceneQuery<T,Q>>
             if (maxDoc == 0) {
                 return null;
             }
-            final ScoreDoc[] scoreDocs = searcher.search(createQuery(), getFilter(), maxDoc).scoreDocs;
             int index = 0;
             QueryModifiers modifiers = queryMixin.getMetadata().getModifiers();
             Long offset = modifiers.getOffset();
             if (offset != null) {
                 index = offset.intValue();
             }
+            // two hits past the offset suffice to detect non-unique results
+            final TopDocs topDocs = searcher.search(createQuery(), getFilter(),
+                    (int) Math.min(maxDoc, index + 2L));
+            final ScoreDoc[] scoreDocs = topDocs.scoreDocs;
             Long limit = modifiers.getLimit();
             if (unique && (limit == null ? scoreDocs.length - index > 1 :
                                            limit > 1 && scoreDocs.length > 1)) {
-                throw new NonUniqueResultException("Unique result requested, but " + scoreDocs.length + " found.");
+                throw new NonUniqueResultException("Unique result requested, but " + topDocs.totalHits + " found.");
             } else if (scoreDocs.length > index) {
                 Document document;
                 if (fieldSelector != null) {
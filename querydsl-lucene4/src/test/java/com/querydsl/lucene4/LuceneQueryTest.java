@@ -644,6 +644,36 @@ public class LuceneQueryTest {
         assertEquals(4, results.getTotal());
     }
 
+    @Test
+    public void listResults_paged() {
+        query.where(year.between(1800, 2000));
+        query.restrict(new QueryModifiers(2L, 1L));
+        query.orderBy(year.asc());
+        query.pageSize(1);
+        final QueryResults<Document> results = query.fetchResults();
+        assertEquals(2, results.getResults().size());
+        assertEquals("1954", results.getResults().get(0).get("year"));
+        assertEquals("1990", results.getResults().get(1).get("year"));
+        assertEquals(4, results.getTotal());
+    }
+
+    @Test
+    public void list_paged() {
+        query.where(year.between(1800, 2000));
+        query.pageSize(1);
+        assertEquals(4, query.fetch().size());
+        assertEquals(4, query.fetchResults().getTotal());
+    }
+
+    @Test
+    public void list_paged_offset() {
+        query.where(year.between(1800, 2000));
+        query.pageSize(1);
+        query.offset(3);
+        assertEquals(1, query.fetch().size());
+        assertEquals(4, query.fetchResults().getTotal());
+    }
+
     @Test
     public void list_all() {
         final List<Document> results = query.where(title.like("*")).orderBy(
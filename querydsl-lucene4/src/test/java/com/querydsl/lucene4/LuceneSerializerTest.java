@@ -14,12 +14,16 @@
 package com.querydsl.lucene4;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
@@ -29,6 +33,7 @@ import org.apache.lucene.document.Field.Store;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TopDocs;
@@ -429,6 +434,54 @@ public class LuceneSerializerTest {
         testQuery(title.eq("jurassic").or(title.eq("park")), "title:jurassic title:park", 1);
     }
 
+    @Test
+    public void in_terms() throws Exception {
+        List<String> titles = new ArrayList<String>();
+        for (int i = 0; i < LuceneSerializer.TERMS_QUERY_THRESHOLD; i++) {
+            titles.add("title" + i);
+        }
+        titles.add("jurassic");
+        Query query = serializer.toQuery(title.in(titles), metadata);
+        assertTrue(query instanceof ConstantScoreQuery);
+        testQuery(title.in(titles), 1);
+        testQuery(title.notIn(titles), 0);
+    }
+
+    @Test
+    public void in_terms_numeric() throws Exception {
+        List<Integer> years = new ArrayList<Integer>();
+        for (int i = 0; i < LuceneSerializer.TERMS_QUERY_THRESHOLD; i++) {
+            years.add(2000 + i);
+        }
+        testQuery(year.in(years), 0);
+        years.add(1990);
+        testQuery(year.in(years), 1);
+    }
+
+    @Test
+    public void in_terms_phrase() throws Exception {
+        List<String> titles = new ArrayList<String>();
+        for (int i = 0; i < LuceneSerializer.TERMS_QUERY_THRESHOLD; i++) {
+            titles.add("title" + i);
+        }
+        titles.add("Jurassic Park");
+        testQuery(title.in(titles), 1);
+    }
+
+    @Test
+    public void eq_or_chain_terms() throws Exception {
+        BooleanExpression predicate = title.eq("jurassic");
+        for (int i = 0; i < LuceneSerializer.TERMS_QUERY_THRESHOLD; i++) {
+            predicate = predicate.or(title.eq("title" + i));
+        }
+        Query query = serializer.toQuery(predicate, metadata);
+        assertTrue(query instanceof ConstantScoreQuery);
+        testQuery(predicate, 1);
+        // mixed paths are not rewritten
+        query = serializer.toQuery(predicate.or(author.eq("michael")), metadata);
+        assertFalse(query instanceof ConstantScoreQuery);
+    }
+
     @Test
     public void lt() throws Exception {
         testQuery(rating.lt("Superb"), "rating:{* TO superb}", 1);
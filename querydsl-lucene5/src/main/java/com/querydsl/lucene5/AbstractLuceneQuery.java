@@ -24,11 +24,15 @@ import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.QueryModifiers;
 import com.querydsl.core.QueryResults;
 import com.querydsl.core.SimpleQuery;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.support.QueryMixin;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.ParamExpression;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.sandbox.queries.DuplicateFilter;
 import org.apache.lucene.search.BooleanClause.Occur;
@@ -40,16 +44,19 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryWrapperFilter;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHitCountCollector;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 /**
  * AbstractLuceneQuery is an abstract super class for Lucene query
@@ -67,6 +74,8 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
 
     private static final String JAVA_ISO_CONTROL = "[\\p{Cntrl}&&[^\r\n\t]]";
 
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+
     private final QueryMixin<Q> queryMixin;
 
     private final IndexSearcher searcher;
@@ -78,6 +87,9 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
     @Nullable
     private Set<String> fieldsToLoad;
 
+    @Nullable
+    private List<Path<?>> pathsToLoad;
+
     private List<Filter> filters = Collections.emptyList();
 
     @Nullable
@@ -86,6 +98,8 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
     @Nullable
     private Sort querySort;
 
+    private int pageSize = DEFAULT_PAGE_SIZE;
+
     @SuppressWarnings("unchecked")
     public AbstractLuceneQuery(LuceneSerializer serializer,
             IndexSearcher searcher, Function<Document, T> transformer) {
@@ -206,55 +220,152 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
 
     @Override
     public CloseableIterator<T> iterate() {
+        return iterate(createLoader());
+    }
+
+    /**
+     * Iterate over the values of the given paths. The values are read from the
+     * DocValues of the fields, if available, and from the stored fields
+     * otherwise.
+     *
+     * @param paths
+     *            paths to project
+     * @return tuples of the path values
+     */
+    public CloseableIterator<Tuple> iterate(Path<?>... paths) {
+        return iterate(Projections.tuple(paths));
+    }
+
+    /**
+     * Iterate over the given projection of path values. The values are read
+     * from the DocValues of the fields, if available, and from the stored
+     * fields otherwise.
+     *
+     * @param projection
+     *            projection with path arguments, e.g. a tuple or bean
+     *            projection
+     * @return projected values
+     */
+    public <U> CloseableIterator<U> iterate(final FactoryExpression<U> projection) {
+        final DocValuesLoader docValuesLoader = createDocValuesLoader(projection.getArgs());
+        return iterate(new IntFunction<U>() {
+            @Override
+            public U apply(int doc) {
+                try {
+                    return projection.newInstance(docValuesLoader.load(doc));
+                } catch (IOException e) {
+                    throw new QueryException(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Get the values of the given paths as a list
+     *
+     * @param paths
+     *            paths to project
+     * @return tuples of the path values
+     * @see #iterate(Path...)
+     */
+    public List<Tuple> fetch(Path<?>... paths) {
+        return new IteratorAdapter<Tuple>(iterate(paths)).asList();
+    }
+
+    /**
+     * Get the given projection of path values as a list
+     *
+     * @param projection
+     *            projection with path arguments
+     * @return projected values
+     * @see #iterate(FactoryExpression)
+     */
+    public <U> List<U> fetch(FactoryExpression<U> projection) {
+        return new IteratorAdapter<U>(iterate(projection)).asList();
+    }
+
+    private <U> CloseableIterator<U> iterate(IntFunction<U> loader) {
         final QueryMetadata metadata = queryMixin.getMetadata();
-        final List<OrderSpecifier<?>> orderBys = metadata.getOrderBy();
         final Integer queryLimit = metadata.getModifiers().getLimitAsInteger();
         final Integer queryOffset = metadata.getModifiers()
                 .getOffsetAsInteger();
-        Sort sort = querySort;
-        int limit;
         final int offset = queryOffset != null ? queryOffset : 0;
+        int limit;
         try {
             limit = maxDoc();
             if (limit == 0) {
-                return new EmptyCloseableIterator<T>();
+                return new EmptyCloseableIterator<U>();
             }
         } catch (IOException | IllegalArgumentException e) {
             throw new QueryException(e);
         }
-        if (queryLimit != null && queryLimit < limit) {
-            limit = queryLimit;
+        if (queryLimit == null || (long) queryLimit + offset > pageSize) {
+            return createPagedIterator(offset, queryLimit, loader);
         }
-        if (sort == null && !orderBys.isEmpty()) {
-            sort = serializer.toSort(orderBys);
+        if (queryLimit + offset < limit) {
+            limit = queryLimit + offset;
         }
 
         try {
-            ScoreDoc[] scoreDocs;
-            int sumOfLimitAndOffset = limit + offset;
-            if (sumOfLimitAndOffset < 1) {
-                throw new QueryException("The given limit (" + limit
-                        + ") and offset (" + offset
-                        + ") cause an integer overflow.");
-            }
-            if (sort != null) {
-                scoreDocs = searcher.search(createQuery(),
-                // sumOfLimitAndOffset).scoreDocs;
-                        sumOfLimitAndOffset, sort, false, false).scoreDocs;
-            } else {
-                scoreDocs = searcher.search(createQuery(),
-                        sumOfLimitAndOffset, Sort.INDEXORDER, false, false).scoreDocs;
-            }
+            ScoreDoc[] scoreDocs = searcher.search(createQuery(),
+                    limit, getSort(), false, false).scoreDocs;
             if (offset < scoreDocs.length) {
-                return new ResultIterator<T>(scoreDocs, offset, searcher,
-                        fieldsToLoad, transformer);
+                return new ResultIterator<U>(scoreDocs, offset, loader);
             }
-            return new EmptyCloseableIterator<T>();
+            return new EmptyCloseableIterator<U>();
         } catch (final IOException e) {
             throw new QueryException(e);
         }
     }
 
+    private <U> PagedResultIterator<U> createPagedIterator(int offset,
+            @Nullable Integer limit, IntFunction<U> loader) {
+        return new PagedResultIterator<U>(searcher, createQuery(), getSort(),
+                offset, limit != null ? limit : Long.MAX_VALUE, pageSize,
+                loader);
+    }
+
+    private IntFunction<T> createLoader() {
+        if (pathsToLoad == null) {
+            return ResultIterator.storedFieldsLoader(searcher, fieldsToLoad,
+                    transformer);
+        }
+        final DocValuesLoader docValuesLoader = createDocValuesLoader(pathsToLoad);
+        return new IntFunction<T>() {
+            @Override
+            public T apply(int doc) {
+                try {
+                    return transformer.apply(docValuesLoader.loadDocument(doc));
+                } catch (IOException e) {
+                    throw new QueryException(e);
+                }
+            }
+        };
+    }
+
+    private DocValuesLoader createDocValuesLoader(List<? extends Expression<?>> exprs) {
+        String[] fields = new String[exprs.size()];
+        Class<?>[] types = new Class<?>[exprs.size()];
+        for (int i = 0; i < fields.length; i++) {
+            Expression<?> expr = exprs.get(i);
+            if (!(expr instanceof Path<?>)) {
+                throw new IllegalArgumentException("Only paths can be projected, got " + expr);
+            }
+            fields[i] = serializer.toField((Path<?>) expr);
+            types[i] = expr.getType();
+        }
+        return new DocValuesLoader(searcher, fields, types);
+    }
+
+    private Sort getSort() {
+        Sort sort = querySort;
+        final List<OrderSpecifier<?>> orderBys = queryMixin.getMetadata().getOrderBy();
+        if (sort == null && !orderBys.isEmpty()) {
+            sort = serializer.toSort(orderBys);
+        }
+        return sort != null ? sort : Sort.INDEXORDER;
+    }
+
     private List<T> innerList() {
         return new IteratorAdapter<T>(iterate()).asList();
     }
@@ -265,7 +376,7 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
     }
 
     /**
-     * Set the given fields to load
+     * Set the given stored fields to load
      *
      * @param fieldsToLoad
      *            fields to load
@@ -274,11 +385,13 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
     @SuppressWarnings("unchecked")
     public Q load(Set<String> fieldsToLoad) {
         this.fieldsToLoad = fieldsToLoad;
+        this.pathsToLoad = null;
         return (Q) this;
     }
 
     /**
-     * Load only the fields of the given paths
+     * Load only the fields of the given paths. Fields with DocValues are read
+     * from the DocValues instead of the stored fields.
      *
      * @param paths
      *            fields to load
@@ -291,18 +404,45 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
             fields.add(serializer.toField(path));
         }
         this.fieldsToLoad = fields;
+        this.pathsToLoad = Arrays.<Path<?>>asList(paths);
         return (Q) this;
     }
 
     @Override
     public QueryResults<T> fetchResults() {
-        List<T> documents = innerList();
-        /*
-         * TODO Get rid of fetchCount(). It could be implemented by iterating
-         * the fetch results in fetch* from n to m.
-         */
-        return new QueryResults<T>(documents, queryMixin.getMetadata()
-                .getModifiers(), innerCount());
+        final QueryModifiers modifiers = queryMixin.getMetadata().getModifiers();
+        final Integer queryLimit = modifiers.getLimitAsInteger();
+        final Integer queryOffset = modifiers.getOffsetAsInteger();
+        final int offset = queryOffset != null ? queryOffset : 0;
+        try {
+            int limit = maxDoc();
+            if (limit == 0) {
+                return new QueryResults<T>(Collections.<T>emptyList(), modifiers, 0);
+            }
+            // the total count is taken from the same search which collects the page
+            if (queryLimit == null || (long) queryLimit + offset > pageSize) {
+                PagedResultIterator<T> iterator = createPagedIterator(offset,
+                        queryLimit, createLoader());
+                List<T> documents = new IteratorAdapter<T>(iterator).asList();
+                return new QueryResults<T>(documents, modifiers, iterator.getTotalHits());
+            } else {
+                if (queryLimit + offset < limit) {
+                    limit = queryLimit + offset;
+                }
+                TopDocs topDocs = searcher.search(createQuery(),
+                        limit, getSort(), false, false);
+                List<T> documents;
+                if (offset < topDocs.scoreDocs.length) {
+                    documents = new IteratorAdapter<T>(new ResultIterator<T>(topDocs.scoreDocs,
+                            offset, createLoader())).asList();
+                } else {
+                    documents = Collections.emptyList();
+                }
+                return new QueryResults<T>(documents, modifiers, topDocs.totalHits);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new QueryException(e);
+        }
     }
 
     @Override
@@ -335,6 +475,23 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
         return (Q) this;
     }
 
+    /**
+     * Set the amount of hits to be collected per search when iterating over
+     * results without a limit or with a large limit and offset
+     *
+     * @param pageSize
+     *            page size
+     * @return the current object
+     */
+    @SuppressWarnings("unchecked")
+    public Q pageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize needs to be positive");
+        }
+        this.pageSize = pageSize;
+        return (Q) this;
+    }
+
     @Nullable
     private T oneResult(boolean unique) {
         try {
@@ -342,29 +499,25 @@ public abstract class AbstractLuceneQuery<T, Q extends AbstractLuceneQuery<T, Q>
             if (maxDoc == 0) {
                 return null;
             }
-            final ScoreDoc[] scoreDocs = searcher.search(createQuery(),
-                    maxDoc, Sort.INDEXORDER, false, false).scoreDocs;
             int index = 0;
             QueryModifiers modifiers = queryMixin.getMetadata().getModifiers();
             Long offset = modifiers.getOffset();
             if (offset != null) {
                 index = offset.intValue();
             }
+            // two hits past the offset suffice to detect non-unique results
+            final TopDocs topDocs = searcher.search(createQuery(),
+                    (int) Math.min(maxDoc, index + 2L), Sort.INDEXORDER, false, false);
+            final ScoreDoc[] scoreDocs = topDocs.scoreDocs;
             Long limit = modifiers.getLimit();
             if (unique
                     && (limit == null ? scoreDocs.length - index > 1
                             : limit > 1 && scoreDocs.length > 1)) {
                 throw new NonUniqueResultException(
-                        "Unique result requested, but " + scoreDocs.length
+                        "Unique result requested, but " + topDocs.totalHits
                                 + " found.");
             } else if (scoreDocs.length > index) {
-                Document document;
-                if (fieldsToLoad != null) {
-                    document = searcher.doc(scoreDocs[index].doc, fieldsToLoad);
-                } else {
-                    document = searcher.doc(scoreDocs[index].doc);
-                }
-                return transformer.apply(document);
+                return createLoader().apply(scoreDocs[index].doc);
             } else {
                 return null;
             }
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.lucene5;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code DocValuesLoader} reads field values of search hits from the DocValues
+ * of the index segments. Fields without DocValues in a segment are read from
+ * the stored fields instead.
+ *
+ * <p>
+ * The DocValues of the current segment are reused for consecutive hits of the
+ * same segment, so hits should be loaded in index order where possible.
+ * </p>
+ */
+public final class DocValuesLoader {
+
+    private final IndexSearcher searcher;
+
+    private final List<LeafReaderContext> leaves;
+
+    private final String[] fields;
+
+    private final Class<?>[] types;
+
+    private final Object[] docValues;
+
+    private final Bits[] docsWithField;
+
+    private final Set<String> storedFields = new HashSet<String>();
+
+    @Nullable
+    private LeafReaderContext leaf;
+
+    /**
+     * Create a new DocValuesLoader instance
+     *
+     * @param searcher
+     *            index searcher
+     * @param fields
+     *            fields to load
+     * @param types
+     *            value types of the fields
+     */
+    public DocValuesLoader(IndexSearcher searcher, String[] fields,
+            Class<?>[] types) {
+        if (fields.length != types.length) {
+            throw new IllegalArgumentException("Expected " + fields.length
+                    + " types, but got " + types.length);
+        }
+        this.searcher = searcher;
+        this.leaves = searcher.getIndexReader().leaves();
+        this.fields = fields.clone();
+        this.types = types.clone();
+        this.docValues = new Object[fields.length];
+        this.docsWithField = new Bits[fields.length];
+    }
+
+    /**
+     * Load the field values of the given document
+     *
+     * @param doc
+     *            document id
+     * @return field values in the order of the fields
+     * @throws IOException
+     */
+    public Object[] load(int doc) throws IOException {
+        int leafDoc = advance(doc);
+        Object[] rv = new Object[fields.length];
+        Document stored = null;
+        for (int i = 0; i < fields.length; i++) {
+            if (docValues[i] != null) {
+                rv[i] = getDocValue(i, leafDoc);
+            } else {
+                if (stored == null) {
+                    stored = searcher.doc(doc, storedFields);
+                }
+                rv[i] = convert(stored.getField(fields[i]), types[i]);
+            }
+        }
+        return rv;
+    }
+
+    /**
+     * Load the fields of the given document as a Lucene document
+     *
+     * @param doc
+     *            document id
+     * @return document
+     * @throws IOException
+     */
+    public Document loadDocument(int doc) throws IOException {
+        int leafDoc = advance(doc);
+        Document rv = storedFields.isEmpty() ? new Document()
+                : searcher.doc(doc, storedFields);
+        for (int i = 0; i < fields.length; i++) {
+            if (docValues[i] != null) {
+                Object value = getDocValue(i, leafDoc);
+                if (value != null) {
+                    rv.add(createField(fields[i], value));
+                }
+            }
+        }
+        return rv;
+    }
+
+    private int advance(int doc) throws IOException {
+        if (leaf == null || doc < leaf.docBase
+                || doc >= leaf.docBase + leaf.reader().maxDoc()) {
+            leaf = leaves.get(ReaderUtil.subIndex(doc, leaves));
+            LeafReader reader = leaf.reader();
+            storedFields.clear();
+            for (int i = 0; i < fields.length; i++) {
+                FieldInfo info = reader.getFieldInfos().fieldInfo(fields[i]);
+                DocValuesType type = info != null ? info.getDocValuesType()
+                        : DocValuesType.NONE;
+                docsWithField[i] = null;
+                switch (type) {
+                case NUMERIC:
+                    docValues[i] = reader.getNumericDocValues(fields[i]);
+                    docsWithField[i] = reader.getDocsWithField(fields[i]);
+                    break;
+                case SORTED_NUMERIC:
+                    docValues[i] = reader.getSortedNumericDocValues(fields[i]);
+                    break;
+                case SORTED:
+                    docValues[i] = reader.getSortedDocValues(fields[i]);
+                    break;
+                case SORTED_SET:
+                    docValues[i] = reader.getSortedSetDocValues(fields[i]);
+                    break;
+                case BINARY:
+                    docValues[i] = reader.getBinaryDocValues(fields[i]);
+                    docsWithField[i] = reader.getDocsWithField(fields[i]);
+                    break;
+                default:
+                    docValues[i] = null;
+                    storedFields.add(fields[i]);
+                }
+            }
+        }
+        return doc - leaf.docBase;
+    }
+
+    @Nullable
+    private Object getDocValue(int i, int doc) {
+        Object values = docValues[i];
+        if (docsWithField[i] != null && !docsWithField[i].get(doc)) {
+            return null;
+        } else if (values instanceof NumericDocValues) {
+            return fromLong(((NumericDocValues) values).get(doc), types[i], false);
+        } else if (values instanceof SortedNumericDocValues) {
+            SortedNumericDocValues sortedNumeric = (SortedNumericDocValues) values;
+            sortedNumeric.setDocument(doc);
+            if (sortedNumeric.count() == 0) {
+                return null;
+            }
+            return fromLong(sortedNumeric.valueAt(0), types[i], true);
+        } else if (values instanceof SortedDocValues) {
+            SortedDocValues sorted = (SortedDocValues) values;
+            int ord = sorted.getOrd(doc);
+            return ord < 0 ? null : fromBytes(sorted.lookupOrd(ord), types[i]);
+        } else if (values instanceof SortedSetDocValues) {
+            SortedSetDocValues sortedSet = (SortedSetDocValues) values;
+            sortedSet.setDocument(doc);
+            long ord = sortedSet.nextOrd();
+            return ord == SortedSetDocValues.NO_MORE_ORDS ? null
+                    : fromBytes(sortedSet.lookupOrd(ord), types[i]);
+        } else {
+            return fromBytes(((BinaryDocValues) values).get(doc), types[i]);
+        }
+    }
+
+    private static Object fromLong(long value, Class<?> type, boolean sortable) {
+        if (type.equals(Double.class)) {
+            return sortable ? NumericUtils.sortableLongToDouble(value)
+                    : Double.longBitsToDouble(value);
+        } else if (type.equals(Float.class)) {
+            return sortable ? NumericUtils.sortableIntToFloat((int) value)
+                    : Float.intBitsToFloat((int) value);
+        } else {
+            return fromNumber(value, type);
+        }
+    }
+
+    private static Object fromBytes(BytesRef bytes, Class<?> type) {
+        if (type.equals(byte[].class)) {
+            return Arrays.copyOfRange(bytes.bytes, bytes.offset, bytes.offset
+                    + bytes.length);
+        } else {
+            return fromString(bytes.utf8ToString(), type);
+        }
+    }
+
+    @Nullable
+    private static Object convert(@Nullable IndexableField field, Class<?> type) {
+        if (field == null) {
+            return null;
+        } else if (field.numericValue() != null) {
+            return fromNumber(field.numericValue(), type);
+        } else if (type.equals(byte[].class) && field.binaryValue() != null) {
+            return fromBytes(field.binaryValue(), type);
+        } else {
+            return field.stringValue() != null ? fromString(field.stringValue(), type) : null;
+        }
+    }
+
+    private static Object fromNumber(Number number, Class<?> type) {
+        if (type.equals(Integer.class)) {
+            return number.intValue();
+        } else if (type.equals(Long.class)) {
+            return number.longValue();
+        } else if (type.equals(Double.class)) {
+            return number.doubleValue();
+        } else if (type.equals(Float.class)) {
+            return number.floatValue();
+        } else if (type.equals(Short.class)) {
+            return number.shortValue();
+        } else if (type.equals(Byte.class)) {
+            return number.byteValue();
+        } else if (type.equals(BigInteger.class)) {
+            return BigInteger.valueOf(number.longValue());
+        } else if (type.equals(BigDecimal.class)) {
+            return new BigDecimal(number.toString());
+        } else if (type.equals(String.class)) {
+            return number.toString();
+        } else {
+            return number;
+        }
+    }
+
+    private static Object fromString(String str, Class<?> type) {
+        if (type.equals(Integer.class)) {
+            return Integer.valueOf(str);
+        } else if (type.equals(Long.class)) {
+            return Long.valueOf(str);
+        } else if (type.equals(Double.class)) {
+            return Double.valueOf(str);
+        } else if (type.equals(Float.class)) {
+            return Float.valueOf(str);
+        } else if (type.equals(Short.class)) {
+            return Short.valueOf(str);
+        } else if (type.equals(Byte.class)) {
+            return Byte.valueOf(str);
+        } else if (type.equals(BigInteger.class)) {
+            return new BigInteger(str);
+        } else if (type.equals(BigDecimal.class)) {
+            return new BigDecimal(str);
+        } else if (type.equals(Boolean.class)) {
+            return Boolean.valueOf(str);
+        } else {
+            return str;
+        }
+    }
+
+    private static IndexableField createField(String name, Object value) {
+        if (value instanceof Integer) {
+            return new StoredField(name, (Integer) value);
+        } else if (value instanceof Long) {
+            return new StoredField(name, (Long) value);
+        } else if (value instanceof Double) {
+            return new StoredField(name, (Double) value);
+        } else if (value instanceof Float) {
+            return new StoredField(name, (Float) value);
+        } else if (value instanceof byte[]) {
+            return new StoredField(name, (byte[]) value);
+        } else {
+            return new StoredField(name, value.toString());
+        }
+    }
+
+}
@@ -15,8 +15,10 @@ package com.querydsl.lucene5;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -25,6 +27,7 @@ import java.util.Map;
 import org.jetbrains.annotations.Nullable;
 
 import org.apache.lucene.index.Term;
+import org.apache.lucene.queries.TermsQuery;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanClause.Occur;
@@ -76,6 +79,11 @@ public class LuceneSerializer {
         sortFields.put(BigInteger.class, SortField.Type.LONG);
     }
 
+    /**
+     * Collections with more values are matched via constant score terms set queries
+     */
+    public static final int TERMS_QUERY_THRESHOLD = 16;
+
     public static final LuceneSerializer DEFAULT = new LuceneSerializer(false,
             true);
 
@@ -99,6 +107,10 @@ public class LuceneSerializer {
     private Query toQuery(Operation<?> operation, QueryMetadata metadata) {
         Operator op = operation.getOperator();
         if (op == Ops.OR) {
+            Query in = eqChainToIn(operation);
+            if (in != null) {
+                return in;
+            }
             return toTwoHandSidedQuery(operation, Occur.SHOULD, metadata);
         } else if (op == Ops.AND) {
             return toTwoHandSidedQuery(operation, Occur.MUST, metadata);
@@ -258,12 +270,29 @@ public class LuceneSerializer {
     protected Query in(Operation<?> operation, QueryMetadata metadata,
             boolean ignoreCase) {
         Path<?> path = getPath(operation.getArg(0));
-        String field = toField(path);
         @SuppressWarnings("unchecked")
         // this is the expected type
         Constant<Collection<?>> expectedConstant = (Constant<Collection<?>>) operation
                 .getArg(1);
         Collection<?> values = expectedConstant.getConstant();
+        return in(path, values, ignoreCase);
+    }
+
+    /**
+     * Create a query matching any of the given values. Collections larger than
+     * {@link #TERMS_QUERY_THRESHOLD} are matched via a constant score terms set
+     * query instead of a boolean query with a clause per value.
+     *
+     * @param path path
+     * @param values values
+     * @param ignoreCase ignore case
+     * @return query
+     */
+    protected Query in(Path<?> path, Collection<?> values, boolean ignoreCase) {
+        String field = toField(path);
+        if (values.size() > TERMS_QUERY_THRESHOLD) {
+            return termsIn(path, field, values, ignoreCase);
+        }
         BooleanQuery bq = new BooleanQuery();
         if (Number.class.isAssignableFrom(path.getType())) {
             for (Object value : values) {
@@ -279,6 +308,71 @@ public class LuceneSerializer {
         return bq;
     }
 
+    private Query termsIn(Path<?> path, String field, Collection<?> values, boolean ignoreCase) {
+        List<BytesRef> terms = new ArrayList<BytesRef>(values.size());
+        BooleanQuery phrases = null;
+        if (Number.class.isAssignableFrom(path.getType())) {
+            for (Object value : values) {
+                terms.add(convertNumber((Number) value));
+            }
+        } else {
+            for (Object value : values) {
+                String[] str = convert(path, value);
+                if (str.length == 1) {
+                    terms.add(new BytesRef(str[0]));
+                } else {
+                    // phrases can't be matched via terms
+                    if (phrases == null) {
+                        phrases = new BooleanQuery();
+                    }
+                    phrases.add(eq(field, str, ignoreCase), Occur.SHOULD);
+                }
+            }
+        }
+        if (phrases != null) {
+            phrases.add(termsQuery(field, terms), Occur.SHOULD);
+            return phrases;
+        }
+        return termsQuery(field, terms);
+    }
+
+    private Query termsQuery(String field, List<BytesRef> terms) {
+        return new TermsQuery(field, terms);
+    }
+
+    /**
+     * Rewrite disjunctions of equality comparisons of the same path into a
+     * single terms set query, if there are more than
+     * {@link #TERMS_QUERY_THRESHOLD} of them
+     */
+    @Nullable
+    private Query eqChainToIn(Operation<?> operation) {
+        Path<?> path = null;
+        List<Object> values = new ArrayList<Object>();
+        Deque<Expression<?>> stack = new ArrayDeque<Expression<?>>();
+        stack.push(operation);
+        while (!stack.isEmpty()) {
+            Expression<?> expr = stack.pop();
+            if (!(expr instanceof Operation<?>)) {
+                return null;
+            }
+            Operation<?> op = (Operation<?>) expr;
+            if (op.getOperator() == Ops.OR) {
+                // the right hand side is checked first to fail fast on left deep chains
+                stack.push(op.getArg(0));
+                stack.push(op.getArg(1));
+            } else if (op.getOperator() == Ops.EQ && op.getArg(0) instanceof Path<?>
+                    && op.getArg(1) instanceof Constant<?>
+                    && (path == null || path.equals(op.getArg(0)))) {
+                path = (Path<?>) op.getArg(0);
+                values.add(((Constant<?>) op.getArg(1)).getConstant());
+            } else {
+                return null;
+            }
+        }
+        return values.size() > TERMS_QUERY_THRESHOLD ? in(path, values, false) : null;
+    }
+
     protected Query notIn(Operation<?> operation, QueryMetadata metadata,
             boolean ignoreCase) {
         BooleanQuery bq = new BooleanQuery();
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.lucene5;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.QueryException;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+
+/**
+ * {@code PagedResultIterator} is a {@link CloseableIterator} implementation for
+ * Lucene query results which fetches the hits page by page via
+ * {@link IndexSearcher#searchAfter(ScoreDoc, Query, int, Sort)}, so that the
+ * memory usage is bounded by the page size instead of the index size
+ *
+ * @param <T>
+ */
+public final class PagedResultIterator<T> implements CloseableIterator<T> {
+
+    private static final ScoreDoc[] EMPTY = new ScoreDoc[0];
+
+    private final IndexSearcher searcher;
+
+    private final Query query;
+
+    private final Sort sort;
+
+    private final int pageSize;
+
+    private final IntFunction<T> loader;
+
+    private ScoreDoc[] scoreDocs = EMPTY;
+
+    private int cursor;
+
+    @Nullable
+    private ScoreDoc after;
+
+    private boolean exhausted;
+
+    private int totalHits = -1;
+
+    private int toSkip;
+
+    private long remaining;
+
+    public PagedResultIterator(IndexSearcher searcher, Query query, Sort sort,
+            int offset, long limit, int pageSize, IntFunction<T> loader) {
+        this.searcher = searcher;
+        this.query = query;
+        this.sort = sort;
+        this.toSkip = offset;
+        this.remaining = limit;
+        this.pageSize = pageSize;
+        this.loader = loader;
+    }
+
+    /**
+     * Get the total amount of hits of the query, independent of offset and limit
+     *
+     * @return total hits
+     */
+    public int getTotalHits() {
+        if (totalHits < 0) {
+            try {
+                fetchPage();
+            } catch (IOException e) {
+                throw new QueryException(e);
+            }
+        }
+        return totalHits;
+    }
+
+    private void fetchPage() throws IOException {
+        TopDocs topDocs;
+        if (after == null) {
+            topDocs = searcher.search(query, pageSize, sort, false, false);
+        } else {
+            topDocs = searcher.searchAfter(after, query, pageSize, sort, false, false);
+        }
+        if (totalHits < 0) {
+            totalHits = topDocs.totalHits;
+        }
+        scoreDocs = topDocs.scoreDocs;
+        cursor = 0;
+        if (scoreDocs.length < pageSize) {
+            exhausted = true;
+        }
+        if (scoreDocs.length > 0) {
+            after = scoreDocs[scoreDocs.length - 1];
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (remaining > 0) {
+                if (cursor < scoreDocs.length) {
+                    if (toSkip == 0) {
+                        return true;
+                    }
+                    int skipped = Math.min(toSkip, scoreDocs.length - cursor);
+                    cursor += skipped;
+                    toSkip -= skipped;
+                } else if (exhausted) {
+                    return false;
+                } else {
+                    fetchPage();
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new QueryException(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        remaining--;
+        return loader.apply(scoreDocs[cursor++].doc);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+}
@@ -23,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 /**
  * {@code ResultIterator} is a {@link CloseableIterator} implementation for
@@ -38,21 +39,41 @@ public final class ResultIterator<T> implements CloseableIterator<T> {
 
     private int cursor;
 
-    private final IndexSearcher searcher;
-
-    @Nullable
-    private final Set<String> fieldsToLoad;
-
-    private final Function<Document, T> transformer;
+    private final IntFunction<T> loader;
 
     public ResultIterator(ScoreDoc[] scoreDocs, int offset,
             IndexSearcher searcher, @Nullable Set<String> fieldsToLoad,
             Function<Document, T> transformer) {
+        this(scoreDocs, offset, storedFieldsLoader(searcher, fieldsToLoad,
+                transformer));
+    }
+
+    public ResultIterator(ScoreDoc[] scoreDocs, int offset,
+            IntFunction<T> loader) {
         this.scoreDocs = scoreDocs.clone();
         this.cursor = offset;
-        this.searcher = searcher;
-        this.fieldsToLoad = fieldsToLoad;
-        this.transformer = transformer;
+        this.loader = loader;
+    }
+
+    static <T> IntFunction<T> storedFieldsLoader(final IndexSearcher searcher,
+            @Nullable final Set<String> fieldsToLoad,
+            final Function<Document, T> transformer) {
+        return new IntFunction<T>() {
+            @Override
+            public T apply(int doc) {
+                try {
+                    Document document;
+                    if (fieldsToLoad != null) {
+                        document = searcher.doc(doc, fieldsToLoad);
+                    } else {
+                        document = searcher.doc(doc);
+                    }
+                    return transformer.apply(document);
+                } catch (IOException e) {
+                    throw new QueryException(e);
+                }
+            }
+        };
     }
 
     @Override
@@ -62,17 +83,7 @@ public final class ResultIterator<T> implements CloseableIterator<T> {
 
     @Override
     public T next() {
-        try {
-            Document document;
-            if (fieldsToLoad != null) {
-                document = searcher.doc(scoreDocs[cursor++].doc, fieldsToLoad);
-            } else {
-                document = searcher.doc(scoreDocs[cursor++].doc);
-            }
-            return transformer.apply(document);
-        } catch (IOException e) {
-            throw new QueryException(e);
-        }
+        return loader.apply(scoreDocs[cursor++].doc);
     }
 
     @Override
@@ -0,0 +1,152 @@
+package com.querydsl.lucene5;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.IntField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.testutil.Performance;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringPath;
+
+@Ignore
+@Category(Performance.class)
+public class InPerformanceTest {
+
+    private static final int DOCUMENTS = 200000;
+
+    @State(Scope.Benchmark)
+    public static class Index {
+
+        @Param({"10", "1000", "100000"})
+        public int size;
+
+        private final PathBuilder<Object> entity = new PathBuilder<Object>(Object.class, "obj");
+
+        private final StringPath code = entity.getString("code");
+
+        private final NumberPath<Integer> number = entity.getNumber("number", Integer.class);
+
+        private final QueryMetadata metadata = new DefaultQueryMetadata();
+
+        private final LuceneSerializer serializer = new LuceneSerializer(false, false);
+
+        private RAMDirectory directory;
+
+        private IndexSearcher searcher;
+
+        private Predicate codeIn, numberIn, codeEqChain;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = new RAMDirectory();
+            IndexWriter writer = new IndexWriter(directory,
+                    new IndexWriterConfig(new StandardAnalyzer()));
+            for (int i = 0; i < DOCUMENTS; i++) {
+                Document document = new Document();
+                document.add(new StringField("code", "c" + i, Store.NO));
+                document.add(new IntField("number", i, Store.NO));
+                writer.addDocument(document);
+            }
+            writer.close();
+            searcher = new IndexSearcher(DirectoryReader.open(directory));
+
+            List<String> codes = new ArrayList<String>(size);
+            List<Integer> numbers = new ArrayList<Integer>(size);
+            BooleanExpression chain = null;
+            for (int i = 0; i < size; i++) {
+                int value = i * (DOCUMENTS / size);
+                codes.add("c" + value);
+                numbers.add(value);
+                BooleanExpression eq = code.eq("c" + value);
+                chain = chain != null ? chain.or(eq) : eq;
+            }
+            codeIn = code.in(codes);
+            numberIn = number.in(numbers);
+            codeEqChain = chain;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            searcher.getIndexReader().close();
+            directory.close();
+        }
+
+        private int count(Predicate predicate) throws IOException {
+            Query query = serializer.toQuery(predicate, metadata);
+            return searcher.search(query, 10).totalHits;
+        }
+    }
+
+    @Benchmark
+    public Query serializeIn(Index index) {
+        return index.serializer.toQuery(index.codeIn, index.metadata);
+    }
+
+    @Benchmark
+    public int stringIn(Index index) throws IOException {
+        return index.count(index.codeIn);
+    }
+
+    @Benchmark
+    public int numericIn(Index index) throws IOException {
+        return index.count(index.numberIn);
+    }
+
+    @Benchmark
+    public int eqChain(Index index) throws IOException {
+        return index.count(index.codeEqChain);
+    }
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MICROSECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(3)
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(3)
+                .threads(1)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -58,7 +58,9 @@ import com.querydsl.core.NonUniqueResultException;
 import com.querydsl.core.QueryException;
 import com.querydsl.core.QueryModifiers;
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.ParamNotSetException;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.Param;
@@ -518,6 +520,45 @@ public class LuceneQueryTest {
         assertNull(document.get("year"));
     }
 
+    @Test
+    public void load_list_docValues() {
+        Document document = query.where(title.eq("Jurassic Park"))
+                .load(title, year, gross).fetch().get(0);
+        assertEquals("Jurassic Park", document.get("title"));
+        assertEquals("1990", document.get("year"));
+        assertEquals(90.0, document.getField("gross").numericValue().doubleValue(), 0.001);
+        assertNull(document.get("author"));
+    }
+
+    @Test
+    public void fetch_paths() {
+        List<Tuple> tuples = query.where(title.eq("Jurassic Park")).fetch(title, year, gross);
+        assertEquals(1, tuples.size());
+        assertEquals("Jurassic Park", tuples.get(0).get(title));
+        assertEquals(Integer.valueOf(1990), tuples.get(0).get(year));
+        assertEquals(Double.valueOf(90.0), tuples.get(0).get(gross));
+    }
+
+    @Test
+    public void fetch_paths_stored_fallback() {
+        List<Tuple> tuples = query.where(title.eq("Jurassic Park")).fetch(title, sort);
+        assertEquals("Jurassic Park", tuples.get(0).get(title));
+        assertNull(tuples.get(0).get(sort));
+    }
+
+    @Test
+    public void fetch_bean() {
+        List<Movie> movies = query.where(year.between(1800, 2000)).orderBy(year.asc())
+                .fetch(Projections.fields(Movie.class, title, year));
+        assertEquals(4, movies.size());
+        assertEquals("1864", String.valueOf(movies.get(0).year));
+    }
+
+    public static class Movie {
+        public String title;
+        public Integer year;
+    }
+
     @Test
     public void load_list_fieldSelector() {
         Document document = query.where(title.ne(""))
@@ -726,6 +767,36 @@ public class LuceneQueryTest {
         assertEquals(4, results.getTotal());
     }
 
+    @Test
+    public void listResults_paged() {
+        query.where(year.between(1800, 2000));
+        query.restrict(new QueryModifiers(2L, 1L));
+        query.orderBy(year.asc());
+        query.pageSize(1);
+        final QueryResults<Document> results = query.fetchResults();
+        assertEquals(2, results.getResults().size());
+        assertEquals("1954", results.getResults().get(0).get("year"));
+        assertEquals("1990", results.getResults().get(1).get("year"));
+        assertEquals(4, results.getTotal());
+    }
+
+    @Test
+    public void list_paged() {
+        query.where(year.between(1800, 2000));
+        query.pageSize(1);
+        assertEquals(4, query.fetch().size());
+        assertEquals(4, query.fetchResults().getTotal());
+    }
+
+    @Test
+    public void list_paged_offset() {
+        query.where(year.between(1800, 2000));
+        query.pageSize(1);
+        query.offset(3);
+        assertEquals(1, query.fetch().size());
+        assertEquals(4, query.fetchResults().getTotal());
+    }
+
     @Test
     public void list_all() {
         final List<Document> results = query.where(title.like("*"))
@@ -30,6 +30,7 @@ import org.sonatype.plexus.build.incremental.BuildContext;
 
 import com.querydsl.codegen.GenericExporter;
 import com.querydsl.codegen.Serializer;
+import com.querydsl.codegen.SimpleSerializerConfig;
 import com.querydsl.codegen.TypeMappings;
 
 /**
@@ -83,6 +84,48 @@ public abstract class AbstractExporterMojo extends AbstractMojo {
      */
     private boolean useFieldTypes = false;
 
+    /**
+     * switch for accessors of entity properties
+     *
+     * @parameter default-value=false
+     */
+    private boolean entityAccessors = false;
+
+    /**
+     * switch for indexed list accessors
+     *
+     * @parameter default-value=false
+     */
+    private boolean listAccessors = false;
+
+    /**
+     * switch for keyed map accessors
+     *
+     * @parameter default-value=false
+     */
+    private boolean mapAccessors = false;
+
+    /**
+     * switch for lazily initialized accessors of simple, collection and map properties
+     *
+     * @parameter default-value=false
+     */
+    private boolean lazyAccessors = false;
+
+    /**
+     * switch for the creation of the default variable
+     *
+     * @parameter default-value=true
+     */
+    private boolean createDefaultVariable = true;
+
+    /**
+     * name of the default variable, defaults to the uncapitalized simple name of the type
+     *
+     * @parameter default-value=""
+     */
+    private String defaultVariableName = "";
+
     /**
      * maven project
      *
@@ -177,6 +220,8 @@ public abstract class AbstractExporterMojo extends AbstractMojo {
         exporter.setHandleMethods(handleMethods);
         exporter.setUseFieldTypes(useFieldTypes);
         exporter.setGeneratedAnnotationClass(generatedAnnotationClass);
+        exporter.setSerializerConfig(new SimpleSerializerConfig(entityAccessors, listAccessors, mapAccessors,
+                createDefaultVariable, defaultVariableName != null ? defaultVariableName : "", lazyAccessors));
     }
 
     @SuppressWarnings("unchecked")
@@ -261,4 +306,28 @@ public abstract class AbstractExporterMojo extends AbstractMojo {
     public void setGeneratedAnnotationClass(String generatedAnnotationClass) {
         this.generatedAnnotationClass = generatedAnnotationClass;
     }
+
+    public void setEntityAccessors(boolean entityAccessors) {
+        this.entityAccessors = entityAccessors;
+    }
+
+    public void setListAccessors(boolean listAccessors) {
+        this.listAccessors = listAccessors;
+    }
+
+    public void setMapAccessors(boolean mapAccessors) {
+        this.mapAccessors = mapAccessors;
+    }
+
+    public void setLazyAccessors(boolean lazyAccessors) {
+        this.lazyAccessors = lazyAccessors;
+    }
+
+    public void setCreateDefaultVariable(boolean createDefaultVariable) {
+        this.createDefaultVariable = createDefaultVariable;
+    }
+
+    public void setDefaultVariableName(String defaultVariableName) {
+        this.defaultVariableName = defaultVariableName;
+    }
 }
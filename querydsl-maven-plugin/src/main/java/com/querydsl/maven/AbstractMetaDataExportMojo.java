@@ -394,6 +394,21 @@ public class AbstractMetaDataExportMojo extends AbstractMojo {
      */
     private String generatedAnnotationClass;
 
+    /**
+     * Number of JDBC connections used to read the primary and foreign keys of the tables (default: 1)
+     *
+     * @parameter default-value=1
+     */
+    private int metadataParallelism = 1;
+
+    /**
+     * File of a schema snapshot, which is used instead of the JDBC metadata if it exists and
+     * written otherwise. Delete the file to export schema changes. (default: none)
+     *
+     * @parameter
+     */
+    private String schemaSnapshot;
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
@@ -553,6 +568,19 @@ public class AbstractMetaDataExportMojo extends AbstractMojo {
                     throw new MojoExecutionException("Missing password from server " + server);
                 }
             }
+            if (schemaSnapshot != null) {
+                exporter.setSchemaSnapshot(new File(schemaSnapshot));
+            }
+            if (metadataParallelism > 1) {
+                exporter.setParallelism(metadataParallelism);
+                exporter.setConnectionProvider(() -> {
+                    try {
+                        return DriverManager.getConnection(jdbcUrl, user, password);
+                    } catch (SQLException e) {
+                        throw new RuntimeException(e.getMessage(), e);
+                    }
+                });
+            }
             try (Connection conn = DriverManager.getConnection(jdbcUrl, user, password)) {
                 exporter.export(conn.getMetaData());
             }
@@ -702,6 +730,14 @@ public class AbstractMetaDataExportMojo extends AbstractMojo {
         this.generatedAnnotationClass = generatedAnnotationClass;
     }
 
+    public void setMetadataParallelism(int metadataParallelism) {
+        this.metadataParallelism = metadataParallelism;
+    }
+
+    public void setSchemaSnapshot(String schemaSnapshot) {
+        this.schemaSnapshot = schemaSnapshot;
+    }
+
     private static String emptyIfSetToBlank(String value) {
         boolean setToBlank = value == null || value.equalsIgnoreCase("BLANK");
         return setToBlank ? "" : value;
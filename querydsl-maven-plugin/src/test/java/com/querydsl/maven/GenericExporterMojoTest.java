@@ -38,6 +38,17 @@ public class GenericExporterMojoTest {
         assertTrue(Q_ENTITY_SOURCE_FILE.exists());
     }
 
+    @Test
+    public void lazyAccessors() throws Exception {
+        GenericExporterMojo mojo = prepareMojo();
+        mojo.setLazyAccessors(true);
+        mojo.execute();
+
+        String source = FileUtils.fileRead(Q_ENTITY_SOURCE_FILE);
+        assertThat(source, containsString("public StringPath property() {"));
+        assertThat(source, containsString("public static final QEntity entity = new QEntity(\"entity\");"));
+    }
+
     @Test
     public void defaultGeneratedAnnotation() throws Exception {
         GenericExporterMojo mojo = prepareMojo();
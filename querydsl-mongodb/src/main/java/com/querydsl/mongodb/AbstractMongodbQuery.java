@@ -16,12 +16,11 @@ package com.querydsl.mongodb;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
 import java.util.function.Function;
 import com.mongodb.*;
 import com.mysema.commons.lang.CloseableIterator;
@@ -44,6 +43,11 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
     @SuppressWarnings("serial")
     private static class NoResults extends RuntimeException { }
 
+    /**
+     * Default maximum amount of ids per {@code $in} constraint in join resolution
+     */
+    public static final int DEFAULT_JOIN_BATCH_SIZE = 10000;
+
     private final MongodbSerializer serializer;
 
     private final QueryMixin<Q> queryMixin;
@@ -54,6 +58,11 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
 
     private ReadPreference readPreference;
 
+    private int joinBatchSize = DEFAULT_JOIN_BATCH_SIZE;
+
+    @Nullable
+    private Predicate resolvedFilter;
+
     /**
      * Create a new MongodbQuery instance
      *
@@ -117,42 +126,40 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
         return filter;
     }
 
-    @SuppressWarnings("unchecked")
     @Nullable
     protected Predicate createJoinFilter(QueryMetadata metadata) {
-        Map<Expression<?>, Predicate> predicates = new HashMap<>();
-        List<JoinExpression> joins = metadata.getJoins();
-        for (int i = joins.size() - 1; i >= 0; i--) {
-            JoinExpression join = joins.get(i);
-            Path<?> source = (Path) ((Operation<?>) join.getTarget()).getArg(0);
-            Path<?> target = (Path) ((Operation<?>) join.getTarget()).getArg(1);
-
-            final Predicate extraFilters = predicates.get(target.getRoot());
-            Predicate filter = ExpressionUtils.allOf(join.getCondition(), extraFilters);
-            List<? extends Object> ids = getIds(target.getType(), filter);
-            if (ids.isEmpty()) {
-                throw new NoResults();
-            }
-            Path<?> path = ExpressionUtils.path(String.class, source, "$id");
-            predicates.merge(source.getRoot(),  ExpressionUtils.in((Path<Object>) path, ids), ExpressionUtils::and);
+        Predicate filter = new JoinResolver(this::getIds, joinBatchSize).createJoinFilter(metadata);
+        if (filter == null) {
+            throw new NoResults();
+        }
+        return filter;
+    }
+
+    private List<Predicate> createFilters(QueryMetadata metadata) {
+        List<Predicate> filters = new JoinResolver(this::getIds, joinBatchSize).createFilters(metadata);
+        if (filters.isEmpty()) {
+            throw new NoResults();
+        }
+        return filters;
+    }
+
+    protected List<Object> getIds(Class<?> targetType, @Nullable Predicate condition) {
+        return getIds(getCollection(targetType), condition);
+    }
+
+    private List<Object> getIds(DBCollection collection, @Nullable Predicate condition) {
+        DBCursor cursor = collection.find(createQuery(condition), new BasicDBObject("_id", 1));
+        if (readPreference != null) {
+            cursor.setReadPreference(readPreference);
         }
-        Path<?> source = (Path) ((Operation) joins.get(0).getTarget()).getArg(0);
-        return predicates.get(source.getRoot());
-    }
-
-    protected List<Object> getIds(Class<?> targetType, Predicate condition) {
-        DBCollection collection = getCollection(targetType);
-        // TODO : fetch only ids
-        DBCursor cursor = createCursor(collection, condition, null,
-                QueryModifiers.EMPTY, Collections.<OrderSpecifier<?>>emptyList());
-        if (cursor.hasNext()) {
-            List<Object> ids = new ArrayList<Object>(cursor.count());
-            for (DBObject obj : cursor) {
-                ids.add(obj.get("_id"));
+        try {
+            List<Object> ids = new ArrayList<Object>();
+            while (cursor.hasNext()) {
+                ids.add(cursor.next().get("_id"));
             }
             return ids;
-        } else {
-            return Collections.emptyList();
+        } finally {
+            cursor.close();
         }
     }
 
@@ -212,7 +219,11 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
 
     @Override
     public CloseableIterator<K> iterate() {
-        final DBCursor cursor = createCursor();
+        QueryMetadata metadata = queryMixin.getMetadata();
+        List<Predicate> filters = createFilters(metadata);
+        final Iterator<DBObject> cursor = filters.size() > 1
+                ? createIterator(filters, metadata.getModifiers())
+                : createCursor(filters.get(0));
         return new CloseableIterator<K>() {
             @Override
             public boolean hasNext() {
@@ -248,10 +259,14 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
     @Override
     public List<K> fetch() {
         try {
-            DBCursor cursor = createCursor();
+            QueryMetadata metadata = queryMixin.getMetadata();
+            List<Predicate> filters = createFilters(metadata);
+            Iterator<DBObject> cursor = filters.size() > 1
+                    ? createIterator(filters, metadata.getModifiers())
+                    : createCursor(filters.get(0));
             List<K> results = new ArrayList<K>();
-            for (DBObject dbObject : cursor) {
-                results.add(transformer.apply(dbObject));
+            while (cursor.hasNext()) {
+                results.add(transformer.apply(cursor.next()));
             }
             return results;
         } catch (NoResults ex) {
@@ -261,10 +276,33 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
 
     protected DBCursor createCursor() {
         QueryMetadata metadata = queryMixin.getMetadata();
-        Predicate filter = createFilter(metadata);
+        Predicate filter = resolvedFilter != null ? resolvedFilter : createFilter(metadata);
         return createCursor(collection, filter, metadata.getProjection(), metadata.getModifiers(), metadata.getOrderBy());
     }
 
+    /**
+     * Create the cursor through {@link #createCursor()} with an already resolved filter
+     */
+    private DBCursor createCursor(@Nullable Predicate filter) {
+        resolvedFilter = filter;
+        try {
+            return createCursor();
+        } finally {
+            resolvedFilter = null;
+        }
+    }
+
+    /**
+     * Iterate over the results of a root query which is split into several filters. The
+     * cursors are opened one at a time without offset and limit, these are applied to the
+     * combined results.
+     */
+    private CloseableIterator<DBObject> createIterator(List<Predicate> filters, QueryModifiers modifiers) {
+        return JoinResolver.iterate(filters,
+                (filter, needed) -> createCursor(filter).skip(0).limit(0).batchSize(needed),
+                document -> document.get("_id"), modifiers);
+    }
+
     protected DBCursor createCursor(DBCollection collection, @Nullable Predicate where, Expression<?> projection,
             QueryModifiers modifiers, List<OrderSpecifier<?>> orderBy) {
         DBCursor cursor = collection.find(createQuery(where), createProjection(projection));
@@ -312,7 +350,11 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
     @Override
     public K fetchFirst() {
         try {
-            DBCursor c = createCursor().limit(1);
+            QueryMetadata metadata = queryMixin.getMetadata();
+            List<Predicate> filters = createFilters(metadata);
+            Iterator<DBObject> c = filters.size() > 1
+                    ? createIterator(filters, new QueryModifiers(1L, metadata.getModifiers().getOffset()))
+                    : createCursor(filters.get(0)).limit(1);
             if (c.hasNext()) {
                 return transformer.apply(c.next());
             } else {
@@ -341,7 +383,11 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
             if (limit == null) {
                 limit = 2L;
             }
-            DBCursor c = createCursor().limit(limit.intValue());
+            QueryMetadata metadata = queryMixin.getMetadata();
+            List<Predicate> filters = createFilters(metadata);
+            Iterator<DBObject> c = filters.size() > 1
+                    ? createIterator(filters, new QueryModifiers(limit, metadata.getModifiers().getOffset()))
+                    : createCursor(filters.get(0)).limit(limit.intValue());
             if (c.hasNext()) {
                 K rv = transformer.apply(c.next());
                 if (c.hasNext()) {
@@ -384,8 +430,11 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
     @Override
     public long fetchCount() {
         try {
-            Predicate filter = createFilter(queryMixin.getMetadata());
-            return collection.count(createQuery(filter));
+            List<Predicate> filters = createFilters(queryMixin.getMetadata());
+            if (filters.size() > 1) {
+                return JoinResolver.count(filters, filter -> getIds(collection, filter));
+            }
+            return collection.count(createQuery(filters.get(0)));
         } catch (NoResults ex) {
             return 0L;
         }
@@ -399,6 +448,19 @@ public abstract class AbstractMongodbQuery<K, Q extends AbstractMongodbQuery<K,
         }
     }
 
+    /**
+     * Sets the maximum amount of ids used in a single {@code $in} constraint when resolving
+     * nested joins. Larger id lists are resolved in several queries.
+     *
+     * @param joinBatchSize maximum amount of ids per query
+     */
+    public void setJoinBatchSize(int joinBatchSize) {
+        if (joinBatchSize < 1) {
+            throw new IllegalArgumentException("joinBatchSize must be positive");
+        }
+        this.joinBatchSize = joinBatchSize;
+    }
+
     /**
      * Sets the read preference for this query
      *
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.mongodb;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.querydsl.core.JoinExpression;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.Predicate;
+
+/**
+ * {@code JoinResolver} resolves the joins of a Mongodb query into {@code $in} constraints on the
+ * ids of the root documents. Id lists larger than the batch size are split into several queries.
+ */
+public final class JoinResolver {
+
+    /**
+     * Fetches the ids of the documents of a type matching a condition
+     */
+    @FunctionalInterface
+    public interface IdFetcher {
+
+        /**
+         * Get the ids of the documents matching the condition
+         *
+         * @param type document type
+         * @param condition condition
+         * @return ids
+         */
+        List<Object> getIds(Class<?> type, @Nullable Predicate condition);
+
+    }
+
+    private static final class IdConstraint {
+
+        private final Path<Object> path;
+
+        private final List<Object> ids;
+
+        IdConstraint(Path<Object> path, List<Object> ids) {
+            this.path = path;
+            this.ids = ids;
+        }
+    }
+
+    private final IdFetcher idFetcher;
+
+    private final int batchSize;
+
+    /**
+     * Create a new JoinResolver instance
+     *
+     * @param idFetcher fetches the ids of the join targets
+     * @param batchSize maximum amount of ids per {@code $in} constraint
+     */
+    public JoinResolver(IdFetcher idFetcher, int batchSize) {
+        this.idFetcher = idFetcher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Create the join filter of the root query
+     *
+     * @param metadata query metadata
+     * @return join filter or null, if a join has no matches
+     */
+    @Nullable
+    public Predicate createJoinFilter(QueryMetadata metadata) {
+        List<IdConstraint> constraints = resolveJoins(metadata);
+        return constraints != null ? toPredicate(constraints, null) : null;
+    }
+
+    /**
+     * Create the filters of the root query. Unordered queries get a filter per batch of the
+     * largest root id constraint, ordered queries a single filter so that the server orders
+     * all results.
+     *
+     * @param metadata query metadata
+     * @return filters or an empty list, if a join has no matches
+     */
+    public List<Predicate> createFilters(QueryMetadata metadata) {
+        if (metadata.getJoins().isEmpty()) {
+            return Collections.singletonList(metadata.getWhere());
+        }
+        List<IdConstraint> constraints = resolveJoins(metadata);
+        if (constraints == null) {
+            return Collections.emptyList();
+        }
+        IdConstraint largest = largest(constraints);
+        if (largest.ids.size() <= batchSize || !metadata.getOrderBy().isEmpty()) {
+            return Collections.singletonList(ExpressionUtils.allOf(metadata.getWhere(),
+                    toPredicate(constraints, null)));
+        }
+        Predicate others = ExpressionUtils.allOf(metadata.getWhere(), toPredicate(constraints, largest));
+        List<Predicate> filters = new ArrayList<>();
+        for (List<Object> batch : batches(largest.ids)) {
+            filters.add(ExpressionUtils.allOf(others, ExpressionUtils.in(largest.path, batch)));
+        }
+        return filters;
+    }
+
+    /**
+     * Count the distinct documents matching the filters
+     *
+     * @param filters filters
+     * @param getIds fetches the ids of the root documents matching a filter
+     * @return amount of documents
+     */
+    public static long count(List<Predicate> filters, Function<Predicate, List<Object>> getIds) {
+        Set<Object> ids = new HashSet<>();
+        for (Predicate filter : filters) {
+            ids.addAll(getIds.apply(filter));
+        }
+        return ids.size();
+    }
+
+    /**
+     * Iterate lazily over the documents matching the filters, one cursor at a time. Documents
+     * matching several filters are returned once and the offset and limit of the modifiers
+     * are applied to the combined results.
+     *
+     * @param filters filters
+     * @param cursors opens a cursor for a filter, the second argument is the amount of
+     *                documents still needed or 0, if unlimited
+     * @param id returns the id of a document
+     * @param modifiers offset and limit
+     * @param <D> document type
+     * @return documents
+     */
+    public static <D> CloseableIterator<D> iterate(final List<Predicate> filters,
+            final BiFunction<Predicate, Integer, Iterator<D>> cursors, final Function<D, Object> id,
+            QueryModifiers modifiers) {
+        final long offset = modifiers.getOffset() != null ? modifiers.getOffset() : 0L;
+        final Long limit = modifiers.getLimit();
+        return new CloseableIterator<D>() {
+
+            private final Set<Object> ids = new HashSet<>();
+
+            private int index;
+
+            private long skipped, returned;
+
+            @Nullable
+            private Iterator<D> cursor;
+
+            @Nullable
+            private D next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    if (limit != null && returned >= limit) {
+                        close();
+                        return false;
+                    }
+                    if (cursor == null) {
+                        if (index == filters.size()) {
+                            return false;
+                        }
+                        long needed = limit != null ? offset - skipped + limit - returned : 0L;
+                        cursor = cursors.apply(filters.get(index++), (int) Math.min(needed, Integer.MAX_VALUE));
+                    }
+                    if (cursor.hasNext()) {
+                        D document = cursor.next();
+                        if (ids.add(id.apply(document))) {
+                            if (skipped < offset) {
+                                skipped++;
+                            } else {
+                                next = document;
+                            }
+                        }
+                    } else {
+                        close();
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public D next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                D rv = next;
+                next = null;
+                returned++;
+                return rv;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void close() {
+                if (cursor instanceof Closeable) {
+                    try {
+                        ((Closeable) cursor).close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                cursor = null;
+            }
+        };
+    }
+
+    /**
+     * Resolve the joins from the last to the first one and get the id constraints of the root
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private List<IdConstraint> resolveJoins(QueryMetadata metadata) {
+        Map<Expression<?>, List<IdConstraint>> constraints = new HashMap<>();
+        List<JoinExpression> joins = metadata.getJoins();
+        for (int i = joins.size() - 1; i >= 0; i--) {
+            JoinExpression join = joins.get(i);
+            Path<?> source = (Path) ((Operation<?>) join.getTarget()).getArg(0);
+            Path<?> target = (Path) ((Operation<?>) join.getTarget()).getArg(1);
+
+            List<IdConstraint> extraFilters = constraints.get(target.getRoot());
+            List<Object> ids = getIds(target.getType(), join.getCondition(), extraFilters);
+            if (ids.isEmpty()) {
+                return null;
+            }
+            Path<Object> path = (Path<Object>) (Path) ExpressionUtils.path(String.class, source, "$id");
+            constraints.computeIfAbsent(source.getRoot(), root -> new ArrayList<>())
+                    .add(new IdConstraint(path, ids));
+        }
+        Path<?> source = (Path) ((Operation) joins.get(0).getTarget()).getArg(0);
+        return constraints.get(source.getRoot());
+    }
+
+    /**
+     * Get the ids of the target documents matching the condition and the id constraints of
+     * previously resolved joins
+     */
+    private List<Object> getIds(Class<?> targetType, @Nullable Predicate condition,
+            @Nullable List<IdConstraint> constraints) {
+        if (constraints == null) {
+            return idFetcher.getIds(targetType, condition);
+        }
+        IdConstraint largest = largest(constraints);
+        if (largest.ids.size() <= batchSize) {
+            return idFetcher.getIds(targetType, ExpressionUtils.allOf(condition, toPredicate(constraints, null)));
+        }
+        Predicate others = toPredicate(constraints, largest);
+        Set<Object> ids = new LinkedHashSet<>();
+        for (List<Object> batch : batches(largest.ids)) {
+            ids.addAll(idFetcher.getIds(targetType, ExpressionUtils.allOf(condition, others,
+                    ExpressionUtils.in(largest.path, batch))));
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private static IdConstraint largest(List<IdConstraint> constraints) {
+        IdConstraint largest = constraints.get(0);
+        for (IdConstraint constraint : constraints) {
+            if (constraint.ids.size() > largest.ids.size()) {
+                largest = constraint;
+            }
+        }
+        return largest;
+    }
+
+    private List<List<Object>> batches(List<Object> ids) {
+        List<List<Object>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            batches.add(new ArrayList<>(ids.subList(from, Math.min(from + batchSize, ids.size()))));
+        }
+        return batches;
+    }
+
+    @Nullable
+    private static Predicate toPredicate(List<IdConstraint> constraints, @Nullable IdConstraint excluded) {
+        Predicate rv = null;
+        for (IdConstraint constraint : constraints) {
+            if (constraint != excluded) {
+                rv = ExpressionUtils.allOf(rv, ExpressionUtils.in(constraint.path, constraint.ids));
+            }
+        }
+        return rv;
+    }
+
+}
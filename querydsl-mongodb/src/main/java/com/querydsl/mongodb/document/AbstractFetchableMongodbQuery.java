@@ -25,6 +25,7 @@ import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.mongodb.JoinResolver;
 import org.bson.Document;
 import org.jetbrains.annotations.Nullable;
 
@@ -47,6 +48,9 @@ public abstract class AbstractFetchableMongodbQuery<K, Q extends AbstractFetchab
 
     private final MongoCollection<Document> collection;
 
+    @Nullable
+    private Predicate resolvedFilter;
+
     /**
      * Create a new MongodbQuery instance
      * @param collection
@@ -72,8 +76,11 @@ public abstract class AbstractFetchableMongodbQuery<K, Q extends AbstractFetchab
 
     @Override
     public CloseableIterator<K> iterate() {
-        FindIterable<Document> cursor = createCursor();
-        final MongoCursor<Document> iterator = cursor.iterator();
+        QueryMetadata metadata = getQueryMixin().getMetadata();
+        List<Predicate> filters = createFilters(metadata);
+        final CloseableIterator<Document> iterator = filters.size() > 1
+                ? createIterator(filters, metadata.getModifiers())
+                : closeable(createCursor(filters.get(0)).iterator());
 
         return new CloseableIterator<K>() {
             @Override
@@ -112,8 +119,21 @@ public abstract class AbstractFetchableMongodbQuery<K, Q extends AbstractFetchab
     @Override
     public List<K> fetch() {
         try {
-            FindIterable<Document> cursor = createCursor();
+            QueryMetadata metadata = getQueryMixin().getMetadata();
+            List<Predicate> filters = createFilters(metadata);
             List<K> results = new ArrayList<K>();
+            if (filters.size() > 1) {
+                CloseableIterator<Document> iterator = createIterator(filters, metadata.getModifiers());
+                try {
+                    while (iterator.hasNext()) {
+                        results.add(transformer.apply(iterator.next()));
+                    }
+                } finally {
+                    iterator.close();
+                }
+                return results;
+            }
+            FindIterable<Document> cursor = createCursor(filters.get(0));
             for (Document document : cursor) {
                 results.add(transformer.apply(document));
             }
@@ -137,8 +157,11 @@ public abstract class AbstractFetchableMongodbQuery<K, Q extends AbstractFetchab
     @Override
     public K fetchFirst() {
         try {
-            FindIterable<Document> c = createCursor().limit(1);
-            MongoCursor<Document> iterator = c.iterator();
+            QueryMetadata metadata = getQueryMixin().getMetadata();
+            List<Predicate> filters = createFilters(metadata);
+            CloseableIterator<Document> iterator = filters.size() > 1
+                    ? createIterator(filters, new QueryModifiers(1L, metadata.getModifiers().getOffset()))
+                    : closeable(createCursor(filters.get(0)).limit(1).iterator());
             try {
 
                 if (iterator.hasNext()) {
@@ -173,8 +196,11 @@ public abstract class AbstractFetchableMongodbQuery<K, Q extends AbstractFetchab
                 limit = 2L;
             }
 
-            FindIterable<Document> c = createCursor().limit(limit.intValue());
-            MongoCursor<Document> iterator = c.iterator();
+            QueryMetadata metadata = getQueryMixin().getMetadata();
+            List<Predicate> filters = createFilters(metadata);
+            CloseableIterator<Document> iterator = filters.size() > 1
+                    ? createIterator(filters, new QueryModifiers(limit, metadata.getModifiers().getOffset()))
+                    : closeable(createCursor(filters.get(0)).limit(limit.intValue()).iterator());
             try {
 
                 if (iterator.hasNext()) {
@@ -224,8 +250,11 @@ public abstract class AbstractFetchableMongodbQuery<K, Q extends AbstractFetchab
     @Override
     public long fetchCount() {
         try {
-            Predicate filter = createFilter(getQueryMixin().getMetadata());
-            return collection.count(createQuery(filter));
+            List<Predicate> filters = createFilters(getQueryMixin().getMetadata());
+            if (filters.size() > 1) {
+                return JoinResolver.count(filters, filter -> getIds(collection, filter));
+            }
+            return collection.count(createQuery(filters.get(0)));
         } catch (NoResults ex) {
             return 0L;
         }
@@ -233,10 +262,56 @@ public abstract class AbstractFetchableMongodbQuery<K, Q extends AbstractFetchab
 
     protected FindIterable<Document> createCursor() {
         QueryMetadata metadata = getQueryMixin().getMetadata();
-        Predicate filter = createFilter(metadata);
+        Predicate filter = resolvedFilter != null ? resolvedFilter : createFilter(metadata);
         return createCursor(collection, filter, metadata.getProjection(), metadata.getModifiers(), metadata.getOrderBy());
     }
 
+    /**
+     * Create the cursor through {@link #createCursor()} with an already resolved filter
+     */
+    private FindIterable<Document> createCursor(@Nullable Predicate filter) {
+        resolvedFilter = filter;
+        try {
+            return createCursor();
+        } finally {
+            resolvedFilter = null;
+        }
+    }
+
+    /**
+     * Iterate over the results of a root query which is split into several filters. The
+     * cursors are opened one at a time without offset and limit, these are applied to the
+     * combined results.
+     */
+    private CloseableIterator<Document> createIterator(List<Predicate> filters, QueryModifiers modifiers) {
+        return JoinResolver.iterate(filters,
+                (filter, needed) -> createCursor(filter).skip(0).limit(0).batchSize(needed).iterator(),
+                document -> document.get("_id"), modifiers);
+    }
+
+    private static <T> CloseableIterator<T> closeable(final MongoCursor<T> cursor) {
+        return new CloseableIterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return cursor.next();
+            }
+
+            @Override
+            public void remove() {
+            }
+
+            @Override
+            public void close() {
+                cursor.close();
+            }
+        };
+    }
+
     protected FindIterable<Document> createCursor(MongoCollection<Document> collection, @Nullable Predicate where,
                                                   Expression<?> projection, QueryModifiers modifiers, List<OrderSpecifier<?>> orderBy) {
 
@@ -263,26 +338,25 @@ public abstract class AbstractFetchableMongodbQuery<K, Q extends AbstractFetchab
     protected abstract MongoCollection<Document> getCollection(Class<?> type);
 
     @Override
-    protected List<Object> getIds(Class<?> targetType, Predicate condition) {
-        MongoCollection<Document> collection = getCollection(targetType);
-        // TODO : fetch only ids
-        FindIterable<Document> cursor = createCursor(collection, condition, null,
-                QueryModifiers.EMPTY, Collections.<OrderSpecifier<?>>emptyList());
+    protected List<Object> getIds(Class<?> targetType, @Nullable Predicate condition) {
+        return getIds(getCollection(targetType), condition);
+    }
 
-        MongoCursor<Document> iterator = cursor.iterator();
+    private List<Object> getIds(MongoCollection<Document> collection, @Nullable Predicate condition) {
+        ReadPreference readPreference = getReadPreference();
+        if (readPreference != null) {
+            collection = collection.withReadPreference(readPreference);
+        }
+        MongoCursor<Document> iterator = collection.find(createQuery(condition))
+                .projection(new Document("_id", 1)).iterator();
         try {
-
-            if (iterator.hasNext()) {
-                List<Object> ids = new ArrayList<Object>();
-                for (Document obj : cursor) {
-                    ids.add(obj.get("_id"));
-                }
-                return ids;
-            } else {
-                return Collections.emptyList();
+            List<Object> ids = new ArrayList<Object>();
+            while (iterator.hasNext()) {
+                ids.add(iterator.next().get("_id"));
             }
+            return ids;
         } finally {
-           iterator.close();
+            iterator.close();
         }
     }
 }
@@ -16,15 +16,12 @@
 package com.querydsl.mongodb.document;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.bson.Document;
 
 import com.mongodb.ReadPreference;
 import com.querydsl.core.DefaultQueryMetadata;
-import com.querydsl.core.JoinExpression;
 import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.QueryModifiers;
 import com.querydsl.core.SimpleQuery;
@@ -32,12 +29,12 @@ import com.querydsl.core.support.QueryMixin;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.FactoryExpression;
-import com.querydsl.core.types.Operation;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.ParamExpression;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.CollectionPathBase;
+import com.querydsl.mongodb.JoinResolver;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -52,12 +49,19 @@ public abstract class AbstractMongodbQuery<Q extends AbstractMongodbQuery<Q>> im
     @SuppressWarnings("serial")
     static class NoResults extends RuntimeException { }
 
+    /**
+     * Default maximum amount of ids per {@code $in} constraint in join resolution
+     */
+    public static final int DEFAULT_JOIN_BATCH_SIZE = 10000;
+
     private final MongodbDocumentSerializer serializer;
 
     private final QueryMixin<Q> queryMixin;
 
     private ReadPreference readPreference;
 
+    private int joinBatchSize = DEFAULT_JOIN_BATCH_SIZE;
+
     /**
      * Create a new MongodbQuery instance
      *
@@ -115,27 +119,28 @@ public abstract class AbstractMongodbQuery<Q extends AbstractMongodbQuery<Q>> im
         return filter;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Create the filters of the root query. Unordered queries with more root ids than the
+     * join batch size get a filter per batch of ids.
+     *
+     * @param metadata query metadata
+     * @return filters
+     */
+    protected List<Predicate> createFilters(QueryMetadata metadata) {
+        List<Predicate> filters = new JoinResolver(this::getIds, joinBatchSize).createFilters(metadata);
+        if (filters.isEmpty()) {
+            throw new NoResults();
+        }
+        return filters;
+    }
+
     @Nullable
     protected Predicate createJoinFilter(QueryMetadata metadata) {
-        Map<Expression<?>, Predicate> predicates = new HashMap<>();
-        List<JoinExpression> joins = metadata.getJoins();
-        for (int i = joins.size() - 1; i >= 0; i--) {
-            JoinExpression join = joins.get(i);
-            Path<?> source = (Path) ((Operation<?>) join.getTarget()).getArg(0);
-            Path<?> target = (Path) ((Operation<?>) join.getTarget()).getArg(1);
-
-            final Predicate extraFilters = predicates.get(target.getRoot());
-            Predicate filter = ExpressionUtils.allOf(join.getCondition(), extraFilters);
-            List<? extends Object> ids = getIds(target.getType(), filter);
-            if (ids.isEmpty()) {
-                throw new NoResults();
-            }
-            Path<?> path = ExpressionUtils.path(String.class, source, "$id");
-            predicates.merge(source.getRoot(),  ExpressionUtils.in((Path<Object>) path, ids), ExpressionUtils::and);
+        Predicate filter = new JoinResolver(this::getIds, joinBatchSize).createJoinFilter(metadata);
+        if (filter == null) {
+            throw new NoResults();
         }
-        Path<?> source = (Path) ((Operation) joins.get(0).getTarget()).getArg(0);
-        return predicates.get(source.getRoot());
+        return filter;
     }
 
     private Predicate allOf(Collection<Predicate> predicates) {
@@ -210,6 +215,19 @@ public abstract class AbstractMongodbQuery<Q extends AbstractMongodbQuery<Q>> im
     }
 
 
+    /**
+     * Sets the maximum amount of ids used in a single {@code $in} constraint when resolving
+     * nested joins. Larger id lists are resolved in several queries.
+     *
+     * @param joinBatchSize maximum amount of ids per query
+     */
+    public void setJoinBatchSize(int joinBatchSize) {
+        if (joinBatchSize < 1) {
+            throw new IllegalArgumentException("joinBatchSize must be positive");
+        }
+        this.joinBatchSize = joinBatchSize;
+    }
+
     /**
      * Sets the read preference for this query
      *
@@ -3,6 +3,10 @@ package com.querydsl.mongodb;
 import static org.junit.Assert.*;
 
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -145,6 +149,66 @@ public class JoinTest {
                 .fetchFirst().getFirstName());
     }
 
+    @Test
+    public void deep_batched() {
+        // Mary -> Jane -> Max, Mike -> Mary -> Jane
+        MorphiaQuery<User> query = where()
+                .join(user.friend(), friend).on(friend.firstName.isNotNull())
+                .join(friend.friend(), friend2).on(friend2.firstName.isNotNull());
+        query.setJoinBatchSize(1);
+        assertEquals(2, query.fetchCount());
+        assertEquals(2, query.fetch().size());
+    }
+
+    @Test
+    public void root_batched() {
+        // Jane -> Max, Mary -> Jane, Ann -> Bob, Mike -> Mary
+        MorphiaQuery<User> query = where()
+                .join(user.friend(), friend).on(friend.firstName.isNotNull())
+                .orderBy(user.firstName.asc());
+        query.setJoinBatchSize(1);
+        assertEquals(4, query.fetchCount());
+        assertEquals(Arrays.asList("Ann", "Jane", "Mary", "Mike"), firstNames(query.fetch()));
+        assertEquals("Ann", query.fetchFirst().getFirstName());
+        query.offset(1).limit(2);
+        assertEquals(Arrays.asList("Jane", "Mary"), firstNames(query.fetch()));
+    }
+
+    @Test
+    public void root_batched_unordered() {
+        MorphiaQuery<User> query = where()
+                .join(user.friend(), friend).on(friend.firstName.isNotNull());
+        query.setJoinBatchSize(1);
+        List<String> names = firstNames(query.fetch());
+        Collections.sort(names);
+        assertEquals(Arrays.asList("Ann", "Jane", "Mary", "Mike"), names);
+        assertNotNull(query.fetchFirst());
+        query.offset(1).limit(2);
+        List<String> page = firstNames(query.fetch());
+        assertEquals(2, page.size());
+        assertTrue(names.containsAll(page));
+        assertFalse(page.contains(firstNames(query.offset(0).limit(1).fetch()).get(0)));
+    }
+
+    @Test
+    public void root_batched_collection() {
+        // Bart -> Mary, Ann
+        MorphiaQuery<User> query = where()
+                .join(user.friends, friend).on(friend.firstName.isNotNull());
+        query.setJoinBatchSize(1);
+        assertEquals(1, query.fetchCount());
+        assertEquals(Collections.singletonList("Bart"), firstNames(query.fetch()));
+        assertEquals("Bart", query.fetchOne().getFirstName());
+    }
+
+    private static List<String> firstNames(List<User> users) {
+        List<String> names = new ArrayList<String>();
+        for (User u : users) {
+            names.add(u.getFirstName());
+        }
+        return names;
+    }
+
     private MorphiaQuery<User> query() {
         return new MorphiaQuery<User>(morphia, ds, user);
     }
@@ -118,7 +118,8 @@ public enum SpatialOps implements Operator {
     COLLECT(Object.class),
     COLLECT2(Object.class),
     TRANSLATE(Object.class),
-    TRANSLATE2(Object.class);
+    TRANSLATE2(Object.class),
+    BBOX_INTERSECTS(Boolean.class);
 
     private final Class<?> type;
 
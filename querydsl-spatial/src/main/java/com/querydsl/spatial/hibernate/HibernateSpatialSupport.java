@@ -44,6 +44,7 @@ public final class HibernateSpatialSupport {
         ops.put(SpatialOps.EQUALS, "equals({0}, {1}) = true");
         ops.put(SpatialOps.DISJOINT, "disjoint({0}, {1}) = true");
         ops.put(SpatialOps.INTERSECTS, "intersects({0}, {1}) = true");
+        ops.put(SpatialOps.BBOX_INTERSECTS, "intersects(envelope({0}), envelope({1})) = true");
         ops.put(SpatialOps.TOUCHES, "touches({0}, {1}) = true");
         ops.put(SpatialOps.CROSSES, "crosses({0}, {1}) = true");
         ops.put(SpatialOps.WITHIN, "within({0}, {1}) = true");
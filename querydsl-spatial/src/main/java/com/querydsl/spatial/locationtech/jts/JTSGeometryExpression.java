@@ -234,6 +234,30 @@ public abstract class JTSGeometryExpression<T extends Geometry> extends SimpleEx
         return Expressions.booleanOperation(SpatialOps.INTERSECTS, mixin, geometry);
     }
 
+    /**
+     * Returns 1 (TRUE) if the bounding box of this geometric object intersects the bounding box of anotherGeometry.
+     *
+     * <p>This is a cheap prefilter for {@link #intersects(Geometry)}, which can use spatial indexes.</p>
+     *
+     * @param geometry other geometry
+     * @return true, if the bounding boxes intersect
+     */
+    public BooleanExpression boundingBoxIntersects(Geometry geometry) {
+        return boundingBoxIntersects(ConstantImpl.create(geometry));
+    }
+
+    /**
+     * Returns 1 (TRUE) if the bounding box of this geometric object intersects the bounding box of anotherGeometry.
+     *
+     * <p>This is a cheap prefilter for {@link #intersects(Expression)}, which can use spatial indexes.</p>
+     *
+     * @param geometry other geometry
+     * @return true, if the bounding boxes intersect
+     */
+    public BooleanExpression boundingBoxIntersects(Expression<? extends Geometry> geometry) {
+        return Expressions.booleanOperation(SpatialOps.BBOX_INTERSECTS, mixin, geometry);
+    }
+
     /**
      * Returns 1 (TRUE) if this geometric object “spatially touches” anotherGeometry.
      *
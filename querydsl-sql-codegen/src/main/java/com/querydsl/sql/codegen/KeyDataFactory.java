@@ -72,75 +72,90 @@ public class KeyDataFactory {
     public Map<String, InverseForeignKeyData> getExportedKeys(DatabaseMetaData md,
             String catalog, String schema, String tableName) throws SQLException {
         try (ResultSet foreignKeys = md.getExportedKeys(catalog, schema, tableName)) {
-            Map<String, InverseForeignKeyData> inverseForeignKeyData = new TreeMap<String, InverseForeignKeyData>();
-            while (foreignKeys.next()) {
-                String name = foreignKeys.getString(FK_NAME);
-                String parentColumnName = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_PARENT_COLUMN_NAME));
-                String foreignSchemaName = namingStrategy.normalizeSchemaName(foreignKeys.getString(FK_FOREIGN_SCHEMA_NAME));
-                String foreignTableName = namingStrategy.normalizeTableName(foreignKeys.getString(FK_FOREIGN_TABLE_NAME));
-                String foreignColumn = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_FOREIGN_COLUMN_NAME));
-                if (name == null || name.isEmpty()) {
-                    name = tableName + "_" + foreignTableName + "_IFK";
-                }
-
-                InverseForeignKeyData data = inverseForeignKeyData.get(name);
-                if (data == null) {
-                    data = new InverseForeignKeyData(name, foreignSchemaName,
-                            foreignTableName, createType(foreignSchemaName, foreignTableName));
-                    inverseForeignKeyData.put(name, data);
-                }
-                data.add(parentColumnName, foreignColumn);
+            return getExportedKeys(foreignKeys, tableName);
+        }
+    }
+
+    public Map<String, InverseForeignKeyData> getExportedKeys(ResultSet foreignKeys, String tableName)
+            throws SQLException {
+        Map<String, InverseForeignKeyData> inverseForeignKeyData = new TreeMap<String, InverseForeignKeyData>();
+        while (foreignKeys.next()) {
+            String name = foreignKeys.getString(FK_NAME);
+            String parentColumnName = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_PARENT_COLUMN_NAME));
+            String foreignSchemaName = namingStrategy.normalizeSchemaName(foreignKeys.getString(FK_FOREIGN_SCHEMA_NAME));
+            String foreignTableName = namingStrategy.normalizeTableName(foreignKeys.getString(FK_FOREIGN_TABLE_NAME));
+            String foreignColumn = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_FOREIGN_COLUMN_NAME));
+            if (name == null || name.isEmpty()) {
+                name = tableName + "_" + foreignTableName + "_IFK";
+            }
+
+            InverseForeignKeyData data = inverseForeignKeyData.get(name);
+            if (data == null) {
+                data = new InverseForeignKeyData(name, foreignSchemaName,
+                        foreignTableName, createType(foreignSchemaName, foreignTableName));
+                inverseForeignKeyData.put(name, data);
             }
-            return inverseForeignKeyData;
+            data.add(parentColumnName, foreignColumn);
         }
+        return inverseForeignKeyData;
     }
 
     public Map<String, ForeignKeyData> getImportedKeys(DatabaseMetaData md,
             String catalog, String schema, String tableName) throws SQLException {
         try (ResultSet foreignKeys = md.getImportedKeys(catalog, schema, tableName)) {
-            Map<String, ForeignKeyData> foreignKeyData = new TreeMap<String, ForeignKeyData>();
-            while (foreignKeys.next()) {
-                String name = foreignKeys.getString(FK_NAME);
-                String parentSchemaName = namingStrategy.normalizeSchemaName(foreignKeys.getString(FK_PARENT_SCHEMA_NAME));
-                String parentTableName = namingStrategy.normalizeTableName(foreignKeys.getString(FK_PARENT_TABLE_NAME));
-                String parentColumnName = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_PARENT_COLUMN_NAME));
-                String foreignColumn = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_FOREIGN_COLUMN_NAME));
-                if (name == null || name.isEmpty()) {
-                    name = tableName + "_" + parentTableName + "_FK";
-                }
-
-                ForeignKeyData data = foreignKeyData.get(name);
-                if (data == null) {
-                    data = new ForeignKeyData(name, parentSchemaName, parentTableName,
-                            createType(parentSchemaName, parentTableName));
-                    foreignKeyData.put(name, data);
-                }
-                data.add(foreignColumn, parentColumnName);
+            return getImportedKeys(foreignKeys, tableName);
+        }
+    }
+
+    public Map<String, ForeignKeyData> getImportedKeys(ResultSet foreignKeys, String tableName)
+            throws SQLException {
+        Map<String, ForeignKeyData> foreignKeyData = new TreeMap<String, ForeignKeyData>();
+        while (foreignKeys.next()) {
+            String name = foreignKeys.getString(FK_NAME);
+            String parentSchemaName = namingStrategy.normalizeSchemaName(foreignKeys.getString(FK_PARENT_SCHEMA_NAME));
+            String parentTableName = namingStrategy.normalizeTableName(foreignKeys.getString(FK_PARENT_TABLE_NAME));
+            String parentColumnName = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_PARENT_COLUMN_NAME));
+            String foreignColumn = namingStrategy.normalizeColumnName(foreignKeys.getString(FK_FOREIGN_COLUMN_NAME));
+            if (name == null || name.isEmpty()) {
+                name = tableName + "_" + parentTableName + "_FK";
             }
-            return foreignKeyData;
+
+            ForeignKeyData data = foreignKeyData.get(name);
+            if (data == null) {
+                data = new ForeignKeyData(name, parentSchemaName, parentTableName,
+                        createType(parentSchemaName, parentTableName));
+                foreignKeyData.put(name, data);
+            }
+            data.add(foreignColumn, parentColumnName);
         }
+        return foreignKeyData;
     }
 
     public Map<String, PrimaryKeyData> getPrimaryKeys(DatabaseMetaData md,
             String catalog, String schema, String tableName) throws SQLException {
         try (ResultSet primaryKeys = md.getPrimaryKeys(catalog, schema, tableName)) {
-            Map<String, PrimaryKeyData> primaryKeyData = new TreeMap<String, PrimaryKeyData>();
-            while (primaryKeys.next()) {
-                String name = primaryKeys.getString(PK_NAME);
-                String columnName = primaryKeys.getString(PK_COLUMN_NAME);
-                if (name == null || name.isEmpty()) {
-                    name = tableName + "_PK";
-                }
-
-                PrimaryKeyData data = primaryKeyData.get(name);
-                if (data == null) {
-                    data = new PrimaryKeyData(name);
-                    primaryKeyData.put(name, data);
-                }
-                data.add(columnName);
+            return getPrimaryKeys(primaryKeys, tableName);
+        }
+    }
+
+    public Map<String, PrimaryKeyData> getPrimaryKeys(ResultSet primaryKeys, String tableName)
+            throws SQLException {
+        Map<String, PrimaryKeyData> primaryKeyData = new TreeMap<String, PrimaryKeyData>();
+        while (primaryKeys.next()) {
+            String name = primaryKeys.getString(PK_NAME);
+            String columnName = primaryKeys.getString(PK_COLUMN_NAME);
+            if (name == null || name.isEmpty()) {
+                name = tableName + "_PK";
+            }
+
+            PrimaryKeyData data = primaryKeyData.get(name);
+            if (data == null) {
+                data = new PrimaryKeyData(name);
+                primaryKeyData.put(name, data);
             }
-            return primaryKeyData;
+            data.add(columnName);
         }
+        return primaryKeyData;
     }
 
     private Type createType(@Nullable String schemaName, String table) {
@@ -46,6 +46,7 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -60,7 +61,12 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 /**
@@ -145,6 +151,14 @@ public class MetaDataExporter {
     @Nullable
     private String tableTypesToExport;
 
+    private int parallelism = 1;
+
+    @Nullable
+    private Supplier<Connection> connectionProvider;
+
+    @Nullable
+    private File schemaSnapshot;
+
     public MetaDataExporter() { }
 
     protected EntityType createEntityType(SchemaAndTable schemaAndTable,
@@ -258,16 +272,49 @@ public class MetaDataExporter {
         List<String> schemas = patternAsList(schemaPattern);
         List<String> tables = patternAsList(tableNamePattern);
 
+        SchemaSnapshot previous = null;
+        if (schemaSnapshot != null && schemaSnapshot.exists()) {
+            try {
+                previous = SchemaSnapshot.read(schemaSnapshot);
+            } catch (IOException e) {
+                logger.warning("Ignoring schema snapshot " + schemaSnapshot.getPath() + ": " + e.getMessage());
+            }
+        }
+        SchemaSnapshot snapshot = new SchemaSnapshot();
+        boolean harvested = false;
+
         for (String catalog : catalogs) {
             catalog = trimIfNonNull(catalog);
             for (String schema : schemas) {
                 schema = trimIfNonNull(schema);
                 for (String table : tables) {
                     table = trimIfNonNull(table);
-                    handleTables(md, catalog, schema, table, typesArray);
+                    String scope = Arrays.asList(catalog, schema, table,
+                            typesArray != null ? Arrays.asList(typesArray) : null,
+                            exportPrimaryKeys, exportForeignKeys && exportDirectForeignKeys,
+                            exportForeignKeys && exportInverseForeignKeys).toString();
+                    List<SchemaSnapshot.Table> tableData = previous != null ? previous.get(scope) : null;
+                    if (tableData == null) {
+                        tableData = harvestTables(md, catalog, schema, table, typesArray);
+                        harvested = true;
+                    } else {
+                        logger.info("Using schema snapshot for " + scope);
+                    }
+                    snapshot.put(scope, tableData);
+                    for (SchemaSnapshot.Table t : tableData) {
+                        handleTable(t);
+                    }
                 }
             }
         }
+
+        if (schemaSnapshot != null && harvested) {
+            try {
+                snapshot.write(schemaSnapshot);
+            } catch (IOException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+        }
     }
 
     private String trimIfNonNull(String input) {
@@ -286,12 +333,109 @@ public class MetaDataExporter {
         }
     }
 
-    private void handleTables(DatabaseMetaData md, String catalogPattern, String schemaPattern, String tablePattern, String[] types) throws SQLException {
-        try (ResultSet tables = md.getTables(catalogPattern, schemaPattern, tablePattern, types)) {
-            while (tables.next()) {
-                handleTable(md, tables);
+    private List<SchemaSnapshot.Table> harvestTables(DatabaseMetaData md, String catalogPattern,
+            String schemaPattern, String tablePattern, String[] types) throws SQLException {
+        List<SchemaSnapshot.Table> tables = new ArrayList<>();
+        try (ResultSet rs = md.getTables(catalogPattern, schemaPattern, tablePattern, types)) {
+            while (rs.next()) {
+                SchemaSnapshot.Table table = new SchemaSnapshot.Table(rs.getString("TABLE_CAT"),
+                        rs.getString("TABLE_SCHEM"), rs.getString("TABLE_NAME"));
+                if (namingStrategy.shouldGenerateClass(getSchemaAndTable(table))) {
+                    tables.add(table);
+                }
             }
         }
+        if (tables.isEmpty()) {
+            return tables;
+        }
+
+        // collect the columns of all matching tables with a single call
+        Map<List<Object>, MetaDataRows> columns;
+        try (ResultSet rs = md.getColumns(catalogPattern, schemaPattern,
+                tablePattern != null ? tablePattern : "%", null)) {
+            columns = MetaDataRows.of(rs).groupBy("TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME");
+        }
+        for (SchemaSnapshot.Table table : tables) {
+            table.columns = columns.get(Arrays.<Object>asList(table.catalog, table.schema, table.name));
+            if (table.columns == null) {
+                // fall back to a lookup of the table, in case the driver reports the names differently
+                try (ResultSet rs = md.getColumns(table.catalog, table.schema, table.name.replace("/", "//"), null)) {
+                    table.columns = MetaDataRows.of(rs);
+                }
+            }
+        }
+
+        if (exportPrimaryKeys || (exportForeignKeys && (exportDirectForeignKeys || exportInverseForeignKeys))) {
+            harvestKeys(md, tables);
+        }
+        return tables;
+    }
+
+    private void harvestKeys(DatabaseMetaData md, List<SchemaSnapshot.Table> tables) throws SQLException {
+        int slices = connectionProvider != null ? Math.min(parallelism, tables.size()) : 1;
+        if (slices < 2) {
+            harvestKeys(md, tables, 0, 1);
+            return;
+        }
+        // key metadata is only available per table, so the tables are split between connections
+        ExecutorService executor = Executors.newFixedThreadPool(slices - 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(slices - 1);
+            for (int i = 1; i < slices; i++) {
+                int offset = i;
+                futures.add(executor.submit(() -> {
+                    try (Connection conn = connectionProvider.get()) {
+                        harvestKeys(conn.getMetaData(), tables, offset, slices);
+                    }
+                    return null;
+                }));
+            }
+            harvestKeys(md, tables, 0, slices);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void harvestKeys(DatabaseMetaData md, List<SchemaSnapshot.Table> tables, int offset, int step)
+            throws SQLException {
+        for (int i = offset; i < tables.size(); i += step) {
+            SchemaSnapshot.Table table = tables.get(i);
+            if (exportPrimaryKeys) {
+                try (ResultSet rs = md.getPrimaryKeys(table.catalog, table.schema, table.name)) {
+                    table.primaryKeys = MetaDataRows.of(rs);
+                }
+            }
+            if (exportForeignKeys && exportDirectForeignKeys) {
+                try (ResultSet rs = md.getImportedKeys(table.catalog, table.schema, table.name)) {
+                    table.importedKeys = MetaDataRows.of(rs);
+                }
+            }
+            if (exportForeignKeys && exportInverseForeignKeys) {
+                try (ResultSet rs = md.getExportedKeys(table.catalog, table.schema, table.name)) {
+                    table.exportedKeys = MetaDataRows.of(rs);
+                }
+            }
+        }
+    }
+
+    private SchemaAndTable getSchemaAndTable(SchemaSnapshot.Table table) {
+        String normalizedSchemaName = namingStrategy.normalizeSchemaName(normalize(table.schema));
+        String normalizedTableName = namingStrategy.normalizeTableName(normalize(table.name));
+        return new SchemaAndTable(normalizedSchemaName, normalizedTableName);
     }
 
     Set<String> getClasses() {
@@ -353,21 +497,9 @@ public class MetaDataExporter {
         classModel.addProperty(property);
     }
 
-    private void handleTable(DatabaseMetaData md, ResultSet tables) throws SQLException {
-        String catalog = tables.getString("TABLE_CAT");
-        String schema = tables.getString("TABLE_SCHEM");
-        String schemaName = normalize(tables.getString("TABLE_SCHEM"));
-        String tableName = normalize(tables.getString("TABLE_NAME"));
-
-        String normalizedSchemaName = namingStrategy.normalizeSchemaName(schemaName);
-        String normalizedTableName = namingStrategy.normalizeTableName(tableName);
-
-        SchemaAndTable schemaAndTable = new SchemaAndTable(
-            normalizedSchemaName, normalizedTableName);
-
-        if (!namingStrategy.shouldGenerateClass(schemaAndTable)) {
-            return;
-        }
+    private void handleTable(SchemaSnapshot.Table table) throws SQLException {
+        String tableName = normalize(table.name);
+        SchemaAndTable schemaAndTable = getSchemaAndTable(table);
 
         String className = namingStrategy.getClassName(schemaAndTable);
         EntityType classModel = createEntityType(schemaAndTable, className);
@@ -375,7 +507,7 @@ public class MetaDataExporter {
         if (exportPrimaryKeys) {
             // collect primary keys
             Map<String,PrimaryKeyData> primaryKeyData = keyDataFactory
-                    .getPrimaryKeys(md, catalog, schema, tableName);
+                    .getPrimaryKeys(table.primaryKeys.toResultSet(), tableName);
             if (!primaryKeyData.isEmpty()) {
                 classModel.getData().put(PrimaryKeyData.class, primaryKeyData.values());
             }
@@ -385,7 +517,7 @@ public class MetaDataExporter {
             if (exportDirectForeignKeys) {
                 // collect foreign keys
                 Map<String,ForeignKeyData> foreignKeyData = keyDataFactory
-                        .getImportedKeys(md, catalog, schema, tableName);
+                        .getImportedKeys(table.importedKeys.toResultSet(), tableName);
                 if (!foreignKeyData.isEmpty()) {
                     Collection<ForeignKeyData> foreignKeysToGenerate = new LinkedHashSet<ForeignKeyData>();
                     for (ForeignKeyData fkd : foreignKeyData.values()) {
@@ -403,7 +535,7 @@ public class MetaDataExporter {
             if (exportInverseForeignKeys) {
                 // collect inverse foreign keys
                 Map<String,InverseForeignKeyData> inverseForeignKeyData = keyDataFactory
-                        .getExportedKeys(md, catalog, schema, tableName);
+                        .getExportedKeys(table.exportedKeys.toResultSet(), tableName);
                 if (!inverseForeignKeyData.isEmpty()) {
                     classModel.getData().put(InverseForeignKeyData.class, inverseForeignKeyData.values());
                 }
@@ -411,7 +543,7 @@ public class MetaDataExporter {
         }
 
         // collect columns
-        try (ResultSet columns = md.getColumns(catalog, schema, tableName.replace("/", "//"), null)) {
+        try (ResultSet columns = table.columns.toResultSet()) {
             while (columns.next()) {
                 handleColumn(classModel, tableName, columns);
             }
@@ -812,6 +944,39 @@ public class MetaDataExporter {
         this.tableTypesToExport = tableTypesToExport;
     }
 
+    /**
+     * Set the number of connections used to read the key metadata, which is only available per
+     * table. Additional connections are obtained from the connection provider and closed
+     * after use (default: 1)
+     *
+     * @param parallelism number of connections
+     * @see #setConnectionProvider(Supplier)
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the provider of additional connections for a parallelism greater than one
+     *
+     * @param connectionProvider connection provider
+     */
+    public void setConnectionProvider(@Nullable Supplier<Connection> connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Set the file of the schema snapshot. If the file exists, the metadata stored in it is used
+     * instead of the JDBC metadata for the same catalog, schema and table patterns and exported
+     * table and key types, otherwise the file is written after the export. The file needs to be
+     * deleted when the schema changes.
+     *
+     * @param schemaSnapshot snapshot file
+     */
+    public void setSchemaSnapshot(@Nullable File schemaSnapshot) {
+        this.schemaSnapshot = schemaSnapshot;
+    }
+
     /**
      * Set the fully qualified class name of the "generated" annotation added ot the generated sources
      *
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.codegen;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code MetaDataRows} is an in-memory copy of a JDBC metadata result set
+ *
+ * <p>Numbers are kept as {@link Long} values and other non-String values as their String
+ * representation, so that copies read from a schema snapshot behave like the original ones.</p>
+ */
+final class MetaDataRows {
+
+    private static final byte NULL = 0, STRING = 1, NUMBER = 2;
+
+    private final List<String> labels;
+
+    private final List<Object[]> rows;
+
+    MetaDataRows(List<String> labels, List<Object[]> rows) {
+        this.labels = labels;
+        this.rows = rows;
+    }
+
+    static MetaDataRows of(ResultSet rs) throws SQLException {
+        ResultSetMetaData md = rs.getMetaData();
+        List<String> labels = new ArrayList<>(md.getColumnCount());
+        for (int i = 1; i <= md.getColumnCount(); i++) {
+            labels.add(md.getColumnLabel(i));
+        }
+        List<Object[]> rows = new ArrayList<>();
+        while (rs.next()) {
+            Object[] row = new Object[labels.size()];
+            for (int i = 0; i < row.length; i++) {
+                Object value = rs.getObject(i + 1);
+                if (value instanceof Number) {
+                    row[i] = ((Number) value).longValue();
+                } else if (value != null) {
+                    row[i] = value.toString();
+                }
+            }
+            rows.add(row);
+        }
+        return new MetaDataRows(labels, rows);
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * Group the rows by the values of the given columns
+     *
+     * @param columns column labels
+     * @return rows per key
+     */
+    Map<List<Object>, MetaDataRows> groupBy(String... columns) {
+        int[] indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            indexes[i] = indexOf(columns[i]);
+        }
+        Map<List<Object>, List<Object[]>> groups = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Object[] key = new Object[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                key[i] = indexes[i] > 0 ? row[indexes[i] - 1] : null;
+            }
+            groups.computeIfAbsent(Arrays.asList(key), k -> new ArrayList<>()).add(row);
+        }
+        Map<List<Object>, MetaDataRows> rval = new LinkedHashMap<>();
+        for (Map.Entry<List<Object>, List<Object[]>> entry : groups.entrySet()) {
+            rval.put(entry.getKey(), new MetaDataRows(labels, entry.getValue()));
+        }
+        return rval;
+    }
+
+    /**
+     * Get empty rows with the same columns
+     *
+     * @return empty rows
+     */
+    MetaDataRows empty() {
+        return new MetaDataRows(labels, Collections.emptyList());
+    }
+
+    private int indexOf(String label) {
+        for (int i = 0; i < labels.size(); i++) {
+            if (labels.get(i).equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Create a forward only result set over the rows, which supports the getters used
+     * for metadata access
+     *
+     * @return result set
+     */
+    ResultSet toResultSet() {
+        int[] position = {0};
+        boolean[] wasNull = {false};
+        return (ResultSet) Proxy.newProxyInstance(MetaDataRows.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++position[0] <= rows.size();
+                        case "close":
+                            return null;
+                        case "wasNull":
+                            return wasNull[0];
+                        case "getString":
+                        case "getInt":
+                        case "getObject":
+                            break;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "MetaDataRows" + labels;
+                        default:
+                            throw new SQLFeatureNotSupportedException(method.getName());
+                    }
+                    if (position[0] < 1 || position[0] > rows.size()) {
+                        throw new SQLException("No current row");
+                    }
+                    int index = args[0] instanceof String ? indexOf((String) args[0]) : (Integer) args[0];
+                    if (index < 1 || index > labels.size()) {
+                        throw new SQLException("Invalid column " + args[0]);
+                    }
+                    Object value = rows.get(position[0] - 1)[index - 1];
+                    wasNull[0] = value == null;
+                    if (method.getName().equals("getString")) {
+                        return value != null ? value.toString() : null;
+                    } else if (method.getName().equals("getInt")) {
+                        if (value == null) {
+                            return 0;
+                        }
+                        return value instanceof Long ? ((Long) value).intValue() : Integer.parseInt((String) value);
+                    } else {
+                        return value;
+                    }
+                });
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeInt(labels.size());
+        for (String label : labels) {
+            writeString(out, label);
+        }
+        out.writeInt(rows.size());
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                if (value == null) {
+                    out.writeByte(NULL);
+                } else if (value instanceof Long) {
+                    out.writeByte(NUMBER);
+                    out.writeLong((Long) value);
+                } else {
+                    out.writeByte(STRING);
+                    writeString(out, (String) value);
+                }
+            }
+        }
+    }
+
+    static MetaDataRows read(DataInput in) throws IOException {
+        int columns = in.readInt();
+        List<String> labels = new ArrayList<>(columns);
+        for (int i = 0; i < columns; i++) {
+            labels.add(readString(in));
+        }
+        int size = in.readInt();
+        List<Object[]> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Object[] row = new Object[columns];
+            for (int j = 0; j < columns; j++) {
+                byte type = in.readByte();
+                if (type == NUMBER) {
+                    row[j] = in.readLong();
+                } else if (type == STRING) {
+                    row[j] = readString(in);
+                } else if (type != NULL) {
+                    throw new IOException("Invalid value type " + type);
+                }
+            }
+            rows.add(row);
+        }
+        return new MetaDataRows(labels, rows);
+    }
+
+    static void writeString(DataOutput out, @Nullable String str) throws IOException {
+        if (str == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    @Nullable
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
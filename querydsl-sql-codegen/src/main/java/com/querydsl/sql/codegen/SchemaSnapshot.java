@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.codegen;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@code SchemaSnapshot} holds the harvested JDBC metadata of {@link MetaDataExporter} runs
+ * per export scope, which is a combination of catalog, schema and table pattern and the
+ * exported table and key types.
+ */
+final class SchemaSnapshot {
+
+    private static final int MAGIC = 0x51534e50;
+
+    private static final int VERSION = 1;
+
+    /**
+     * Harvested metadata of a single table
+     */
+    static final class Table {
+
+        @Nullable
+        final String catalog, schema;
+
+        final String name;
+
+        MetaDataRows columns;
+
+        @Nullable
+        MetaDataRows primaryKeys, importedKeys, exportedKeys;
+
+        Table(@Nullable String catalog, @Nullable String schema, String name) {
+            this.catalog = catalog;
+            this.schema = schema;
+            this.name = name;
+        }
+
+    }
+
+    private final Map<String, List<Table>> scopes = new LinkedHashMap<>();
+
+    @Nullable
+    List<Table> get(String scope) {
+        return scopes.get(scope);
+    }
+
+    void put(String scope, List<Table> tables) {
+        scopes.put(scope, tables);
+    }
+
+    static SchemaSnapshot read(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(file.getPath() + " is not a schema snapshot of this version");
+            }
+            SchemaSnapshot snapshot = new SchemaSnapshot();
+            int scopes = in.readInt();
+            for (int i = 0; i < scopes; i++) {
+                String scope = MetaDataRows.readString(in);
+                int size = in.readInt();
+                List<Table> tables = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    Table table = new Table(MetaDataRows.readString(in), MetaDataRows.readString(in),
+                            MetaDataRows.readString(in));
+                    table.columns = MetaDataRows.read(in);
+                    table.primaryKeys = in.readBoolean() ? MetaDataRows.read(in) : null;
+                    table.importedKeys = in.readBoolean() ? MetaDataRows.read(in) : null;
+                    table.exportedKeys = in.readBoolean() ? MetaDataRows.read(in) : null;
+                    tables.add(table);
+                }
+                snapshot.put(scope, tables);
+            }
+            return snapshot;
+        }
+    }
+
+    void write(File file) throws IOException {
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file.toPath())))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(scopes.size());
+            for (Map.Entry<String, List<Table>> entry : scopes.entrySet()) {
+                MetaDataRows.writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (Table table : entry.getValue()) {
+                    MetaDataRows.writeString(out, table.catalog);
+                    MetaDataRows.writeString(out, table.schema);
+                    MetaDataRows.writeString(out, table.name);
+                    table.columns.write(out);
+                    for (MetaDataRows rows : new MetaDataRows[]{table.primaryKeys, table.importedKeys, table.exportedKeys}) {
+                        out.writeBoolean(rows != null);
+                        if (rows != null) {
+                            rows.write(out);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+}
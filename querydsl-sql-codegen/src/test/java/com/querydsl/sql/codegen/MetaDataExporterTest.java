@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.sql.*;
 import java.util.Set;
 
@@ -38,6 +39,8 @@ import com.querydsl.core.util.FileUtils;
 
 public class MetaDataExporterTest {
 
+    private static String url;
+
     private static Connection connection;
 
     private boolean clean = true;
@@ -56,7 +59,7 @@ public class MetaDataExporterTest {
     @BeforeClass
     public static void setUpClass() throws ClassNotFoundException, SQLException {
         Class.forName("org.h2.Driver");
-        String url = "jdbc:h2:mem:testdb" + System.currentTimeMillis();
+        url = "jdbc:h2:mem:testdb" + System.currentTimeMillis();
         connection = DriverManager.getConnection(url, "sa", "");
         createTables(connection);
     }
@@ -329,6 +332,79 @@ public class MetaDataExporterTest {
         assertTrue(new File(folder.getRoot(), "test/DateTestType.java").exists());
     }
 
+    @Test
+    public void parallel_key_metadata() throws SQLException, IOException {
+        MetaDataExporter exporter = new MetaDataExporter();
+        exporter.setSchemaPattern("PUBLIC");
+        exporter.setPackageName("test");
+        exporter.setTargetFolder(new File(folder.getRoot(), "serial"));
+        exporter.export(metadata);
+
+        exporter = new MetaDataExporter();
+        exporter.setSchemaPattern("PUBLIC");
+        exporter.setPackageName("test");
+        exporter.setTargetFolder(new File(folder.getRoot(), "parallel"));
+        exporter.setParallelism(3);
+        exporter.setConnectionProvider(() -> {
+            try {
+                return DriverManager.getConnection(url, "sa", "");
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        exporter.export(metadata);
+
+        for (String type : new String[]{"QEmployee", "QMultikey", "QProduct", "QSurvey"}) {
+            assertEquals(
+                    new String(Files.readAllBytes(new File(folder.getRoot(), "serial/test/" + type + ".java").toPath())),
+                    new String(Files.readAllBytes(new File(folder.getRoot(), "parallel/test/" + type + ".java").toPath())));
+        }
+    }
+
+    @Test
+    public void schema_snapshot() throws SQLException, IOException {
+        File snapshot = new File(folder.getRoot(), "schema.snapshot");
+        MetaDataExporter exporter = new MetaDataExporter();
+        exporter.setSchemaPattern("PUBLIC");
+        exporter.setPackageName("test");
+        exporter.setTargetFolder(new File(folder.getRoot(), "jdbc"));
+        exporter.setSchemaSnapshot(snapshot);
+        exporter.export(metadata);
+        assertTrue(snapshot.exists());
+
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("create table snapshot_test (id int)");
+        }
+        try {
+            exporter = new MetaDataExporter();
+            exporter.setSchemaPattern("PUBLIC");
+            exporter.setPackageName("test");
+            exporter.setTargetFolder(new File(folder.getRoot(), "snapshot"));
+            exporter.setSchemaSnapshot(snapshot);
+            exporter.export(metadata);
+
+            assertEquals(
+                    new String(Files.readAllBytes(new File(folder.getRoot(), "jdbc/test/QEmployee.java").toPath())),
+                    new String(Files.readAllBytes(new File(folder.getRoot(), "snapshot/test/QEmployee.java").toPath())));
+            assertFalse(new File(folder.getRoot(), "snapshot/test/QSnapshotTest.java").exists());
+
+            // the snapshot is refreshed after it has been deleted
+            assertTrue(snapshot.delete());
+            exporter = new MetaDataExporter();
+            exporter.setSchemaPattern("PUBLIC");
+            exporter.setPackageName("test");
+            exporter.setTargetFolder(new File(folder.getRoot(), "snapshot"));
+            exporter.setSchemaSnapshot(snapshot);
+            exporter.export(metadata);
+            assertTrue(new File(folder.getRoot(), "snapshot/test/QSnapshotTest.java").exists());
+            assertTrue(snapshot.exists());
+        } finally {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("drop table snapshot_test");
+            }
+        }
+    }
+
     @Test
     public void minimal_configuration_with_bean_prefix() throws SQLException {
         MetaDataExporter exporter = new MetaDataExporter();
@@ -20,13 +20,8 @@ import java.sql.Types;
 
 import org.jetbrains.annotations.Nullable;
 
-import org.geolatte.geom.ByteBuffer;
 import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkb;
-import org.geolatte.geom.codec.WkbDecoder;
-import org.geolatte.geom.codec.WkbEncoder;
-import org.geolatte.geom.codec.Wkt;
 
 import com.querydsl.sql.types.AbstractType;
 
@@ -57,8 +52,7 @@ class GeoDBWkbType extends AbstractType<Geometry> {
             } else {
                 wkb = bytes;
             }
-            WkbDecoder decoder = Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1);
-            return decoder.decode(ByteBuffer.from(wkb));
+            return GeometryCodecs.decodeWkb(wkb);
         } else {
             return null;
         }
@@ -66,14 +60,12 @@ class GeoDBWkbType extends AbstractType<Geometry> {
 
     @Override
     public void setValue(PreparedStatement st, int startIndex, Geometry value) throws SQLException {
-        WkbEncoder encoder = Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1);
-        ByteBuffer buffer = encoder.encode(value, byteOrder);
-        st.setBytes(startIndex, buffer.toByteArray());
+        st.setBytes(startIndex, GeometryCodecs.encodeWkb(value, byteOrder));
     }
 
     @Override
     public String getLiteral(Geometry geometry) {
-        String str = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry);
+        String str = GeometryCodecs.encodeWkt(geometry);
         if (geometry.getSRID() > -1) {
             return "ST_GeomFromText('" + str + "', " + geometry.getSRID() + ")";
         } else {
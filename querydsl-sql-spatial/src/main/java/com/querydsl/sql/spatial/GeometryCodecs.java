@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.spatial;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkb;
+import org.geolatte.geom.codec.WkbDecoder;
+import org.geolatte.geom.codec.WkbEncoder;
+import org.geolatte.geom.codec.Wkt;
+import org.geolatte.geom.codec.WktDecoder;
+import org.geolatte.geom.codec.WktEncoder;
+
+/**
+ * {@code GeometryCodecs} provides reusable PostGIS WKB and WKT codecs
+ *
+ * <p>The geolatte codecs keep parsing state, so the instances are held per thread
+ * instead of being created for every value.</p>
+ */
+final class GeometryCodecs {
+
+    private static final ThreadLocal<WkbDecoder> WKB_DECODER =
+            ThreadLocal.withInitial(() -> Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1));
+
+    private static final ThreadLocal<WkbEncoder> WKB_ENCODER =
+            ThreadLocal.withInitial(() -> Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1));
+
+    private static final ThreadLocal<WktDecoder> WKT_DECODER =
+            ThreadLocal.withInitial(() -> Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1));
+
+    private static final ThreadLocal<WktEncoder> WKT_ENCODER =
+            ThreadLocal.withInitial(() -> Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1));
+
+    private GeometryCodecs() { }
+
+    static Geometry decodeWkb(byte[] bytes) {
+        return WKB_DECODER.get().decode(ByteBuffer.from(bytes));
+    }
+
+    static Geometry decodeWkb(String hex) {
+        return WKB_DECODER.get().decode(ByteBuffer.from(hex));
+    }
+
+    static byte[] encodeWkb(Geometry geometry, ByteOrder byteOrder) {
+        return WKB_ENCODER.get().encode(geometry, byteOrder).toByteArray();
+    }
+
+    static String encodeWkbHex(Geometry geometry, ByteOrder byteOrder) {
+        return WKB_ENCODER.get().encode(geometry, byteOrder).toString();
+    }
+
+    static Geometry decodeWkt(String wkt) {
+        return WKT_DECODER.get().decode(wkt);
+    }
+
+    static String encodeWkt(Geometry geometry) {
+        return WKT_ENCODER.get().encode(geometry);
+    }
+
+}
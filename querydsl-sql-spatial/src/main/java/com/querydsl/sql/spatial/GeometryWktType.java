@@ -21,7 +21,6 @@ import java.sql.Types;
 import org.jetbrains.annotations.Nullable;
 
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkt;
 
 import com.querydsl.sql.types.AbstractType;
 
@@ -43,7 +42,7 @@ class GeometryWktType extends AbstractType<Geometry> {
     public Geometry getValue(ResultSet rs, int startIndex) throws SQLException {
         String str = rs.getString(startIndex);
         if (str != null) {
-            return Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1).decode(str);
+            return GeometryCodecs.decodeWkt(str);
         } else {
             return null;
         }
@@ -51,12 +50,12 @@ class GeometryWktType extends AbstractType<Geometry> {
 
     @Override
     public void setValue(PreparedStatement st, int startIndex, Geometry value) throws SQLException {
-        String str = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(value);
+        String str = GeometryCodecs.encodeWkt(value);
         st.setString(startIndex, str);
     }
 
     @Override
     public String getLiteral(Geometry geometry) {
-        return "'" + Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry) + "'";
+        return "'" + GeometryCodecs.encodeWkt(geometry) + "'";
     }
 }
@@ -14,13 +14,8 @@
 package com.querydsl.sql.spatial;
 
 import com.querydsl.sql.types.AbstractType;
-import org.geolatte.geom.ByteBuffer;
 import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkb;
-import org.geolatte.geom.codec.WkbDecoder;
-import org.geolatte.geom.codec.WkbEncoder;
-import org.geolatte.geom.codec.Wkt;
 import org.jetbrains.annotations.Nullable;
 
 import java.sql.PreparedStatement;
@@ -55,8 +50,7 @@ class H2GISWkbType extends AbstractType<Geometry> {
             } else {
                 wkb = bytes;
             }
-            WkbDecoder decoder = Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1);
-            return decoder.decode(ByteBuffer.from(wkb));
+            return GeometryCodecs.decodeWkb(wkb);
         } else {
             return null;
         }
@@ -64,14 +58,12 @@ class H2GISWkbType extends AbstractType<Geometry> {
 
     @Override
     public void setValue(PreparedStatement st, int startIndex, Geometry value) throws SQLException {
-        WkbEncoder encoder = Wkb.newEncoder(Wkb.Dialect.POSTGIS_EWKB_1);
-        ByteBuffer buffer = encoder.encode(value, byteOrder);
-        st.setBytes(startIndex, buffer.toByteArray());
+        st.setBytes(startIndex, GeometryCodecs.encodeWkb(value, byteOrder));
     }
 
     @Override
     public String getLiteral(Geometry geometry) {
-        String str = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry);
+        String str = GeometryCodecs.encodeWkt(geometry);
         if (geometry.getSRID() > -1) {
             return "ST_GeomFromText('" + str + "', " + geometry.getSRID() + ")";
         } else {
@@ -50,6 +50,7 @@ public class MySQLSpatialTemplates extends MySQLTemplates {
         addCustomType(MySQLWkbType.DEFAULT);
         add(SpatialTemplatesSupport.getSpatialOps("", true));
         add(SpatialOps.NUM_INTERIOR_RING, "NumInteriorRings({0})");
+        add(SpatialOps.BBOX_INTERSECTS, "MBRIntersects({0}, {1})");
     }
 
 }
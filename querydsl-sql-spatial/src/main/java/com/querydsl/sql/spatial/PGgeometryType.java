@@ -20,12 +20,16 @@ import java.sql.Types;
 
 import org.jetbrains.annotations.Nullable;
 
+import org.geolatte.geom.ByteOrder;
 import org.geolatte.geom.Geometry;
-import org.geolatte.geom.codec.Wkt;
-import org.postgis.PGgeometry;
+import org.postgresql.util.PGobject;
 
 import com.querydsl.sql.types.AbstractType;
 
+/**
+ * {@code PGgeometryType} binds geometries in the (hex encoded) EWKB format of PostGIS,
+ * which avoids converting values to and from EWKT on both sides of the connection
+ */
 class PGgeometryType extends AbstractType<Geometry> {
 
     public static final PGgeometryType DEFAULT = new PGgeometryType();
@@ -42,23 +46,28 @@ class PGgeometryType extends AbstractType<Geometry> {
     @Override
     @Nullable
     public Geometry getValue(ResultSet rs, int startIndex) throws SQLException {
-        PGgeometry obj = (PGgeometry) rs.getObject(startIndex);
-        if (obj == null) {
+        String str = rs.getString(startIndex);
+        if (str == null) {
             return null;
+        } else if (str.startsWith("00") || str.startsWith("01")) {
+            return GeometryCodecs.decodeWkb(str);
+        } else {
+            // EWKT of older PostGIS versions
+            return GeometryCodecs.decodeWkt(str);
         }
-        return Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1).decode(obj.getValue());
     }
 
     @Override
     public void setValue(PreparedStatement st, int startIndex, Geometry value) throws SQLException {
-        final String encode = Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(value);
-        PGgeometry geometry = new PGgeometry(encode);
+        PGobject geometry = new PGobject();
+        geometry.setType("geometry");
+        geometry.setValue(GeometryCodecs.encodeWkbHex(value, ByteOrder.NDR));
         st.setObject(startIndex, geometry);
     }
 
     @Override
     public String getLiteral(Geometry geometry) {
-        return "'" + Wkt.newEncoder(Wkt.Dialect.POSTGIS_EWKT_1).encode(geometry) + "'";
+        return "'" + GeometryCodecs.encodeWkt(geometry) + "'";
     }
 
 }
@@ -51,6 +51,7 @@ public class PostGISTemplates extends PostgreSQLTemplates {
         add(SpatialTemplatesSupport.getSpatialOps(true));
         add(SpatialOps.DISTANCE_SPHERE, "ST_Distance_Sphere({0}, {1})");
         add(SpatialOps.DISTANCE_SPHEROID, "ST_Distance_Spheroid({0}, {1})");
+        add(SpatialOps.BBOX_INTERSECTS, "{0} && {1}", Precedence.COMPARISON);
     }
 
 }
@@ -47,6 +47,14 @@ public final class SpatialTemplatesSupport {
         return result.toString();
     }
 
+    private static String createBoundingBoxIntersects(String prefix, boolean asFunction) {
+        if (asFunction) {
+            return prefix + "Intersects(" + prefix + "Envelope({0}), " + prefix + "Envelope({1}))";
+        } else {
+            return "{0}." + prefix + "Envelope()." + prefix + "Intersects({1}." + prefix + "Envelope())";
+        }
+    }
+
     public static Map<Operator, String> getSpatialOps(boolean asFunction) {
         return getSpatialOps("ST_", asFunction);
     }
@@ -130,6 +138,7 @@ public final class SpatialTemplatesSupport {
         ops.put(SpatialOps.COLLECT2, createSpatial(prefix + "Collect", 2, asFunction));
         ops.put(SpatialOps.TRANSLATE, createSpatial(prefix + "Translate", 3, asFunction));
         ops.put(SpatialOps.TRANSLATE2, createSpatial(prefix + "Translate", 4, asFunction));
+        ops.put(SpatialOps.BBOX_INTERSECTS, createBoundingBoxIntersects(prefix, asFunction));
 
         return ops;
     }
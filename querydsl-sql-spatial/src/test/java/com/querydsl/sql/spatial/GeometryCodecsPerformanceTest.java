@@ -0,0 +1,100 @@
+package com.querydsl.sql.spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.geolatte.geom.ByteBuffer;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.geolatte.geom.codec.Wkb;
+import org.geolatte.geom.codec.Wkt;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.querydsl.core.testutil.Performance;
+
+@Ignore
+@Category(Performance.class)
+public class GeometryCodecsPerformanceTest {
+
+    private static final int GEOMETRIES = 1000;
+
+    private static final int VERTICES = 64;
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        private final List<String> ewkt = new ArrayList<String>(GEOMETRIES);
+
+        private final List<String> ewkb = new ArrayList<String>(GEOMETRIES);
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            for (int i = 0; i < GEOMETRIES; i++) {
+                double x = random.nextDouble() * 360 - 180, y = random.nextDouble() * 180 - 90;
+                StringBuilder str = new StringBuilder("SRID=4326;POLYGON((");
+                for (int j = 0; j < VERTICES; j++) {
+                    double angle = 2 * Math.PI * j / VERTICES;
+                    str.append(x + Math.cos(angle)).append(' ').append(y + Math.sin(angle)).append(", ");
+                }
+                str.append(x + 1).append(' ').append(y).append("))");
+                Geometry<?> geometry = GeometryCodecs.decodeWkt(str.toString());
+                ewkt.add(GeometryCodecs.encodeWkt(geometry));
+                ewkb.add(GeometryCodecs.encodeWkbHex(geometry, ByteOrder.NDR));
+            }
+        }
+
+    }
+
+    @Benchmark
+    public void ewktNewDecoder(Data data, Blackhole blackhole) {
+        for (String str : data.ewkt) {
+            blackhole.consume(Wkt.newDecoder(Wkt.Dialect.POSTGIS_EWKT_1).decode(str));
+        }
+    }
+
+    @Benchmark
+    public void ewkbNewDecoder(Data data, Blackhole blackhole) {
+        for (String str : data.ewkb) {
+            blackhole.consume(Wkb.newDecoder(Wkb.Dialect.POSTGIS_EWKB_1).decode(ByteBuffer.from(str)));
+        }
+    }
+
+    @Benchmark
+    public void ewkbSharedDecoder(Data data, Blackhole blackhole) {
+        for (String str : data.ewkb) {
+            blackhole.consume(GeometryCodecs.decodeWkb(str));
+        }
+    }
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                .include(this.getClass().getName() + ".*")
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupIterations(3)
+                .measurementIterations(5)
+                .threads(1)
+                .forks(1)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+}
@@ -1,7 +1,11 @@
 package com.querydsl.sql.spatial;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Test;
 
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.SQLSerializer;
 import com.querydsl.sql.SQLTemplates;
 
 public class MySQLSpatialTemplatesTest {
@@ -13,4 +17,13 @@ public class MySQLSpatialTemplatesTest {
         //assertEquals("GeomFromText('POINT(2 2)')", templates.asLiteral(Wkt.fromWkt("Point(2 2)")));
     }
 
+    @Test
+    public void boundingBoxIntersects() {
+        QShapes s1 = new QShapes("s1");
+        QShapes s2 = new QShapes("s2");
+        SQLSerializer serializer = new SQLSerializer(new Configuration(new MySQLSpatialTemplates()));
+        serializer.handle(s1.geometry.boundingBoxIntersects(s2.geometry));
+        assertEquals("MBRIntersects(s1.GEOMETRY, s2.GEOMETRY)", serializer.toString());
+    }
+
 }
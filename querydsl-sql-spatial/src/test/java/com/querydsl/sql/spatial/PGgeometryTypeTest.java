@@ -0,0 +1,77 @@
+package com.querydsl.sql.spatial;
+
+import static org.easymock.EasyMock.*;
+import static org.junit.Assert.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.easymock.Capture;
+import org.geolatte.geom.ByteOrder;
+import org.geolatte.geom.Geometry;
+import org.junit.Test;
+import org.postgresql.util.PGobject;
+
+public class PGgeometryTypeTest {
+
+    private static final String EWKT = "SRID=4326;POINT(1 2)";
+
+    private final PGgeometryType type = PGgeometryType.DEFAULT;
+
+    private final Geometry<?> geometry = GeometryCodecs.decodeWkt(EWKT);
+
+    @Test
+    public void setValue_ewkb() throws SQLException {
+        PGobject value = setValue(geometry);
+        assertEquals("geometry", value.getType());
+        // little endian point with the SRID flag and SRID 4326
+        assertTrue(value.getValue().toUpperCase().startsWith("0101000020E6100000"));
+        assertEquals(GeometryCodecs.encodeWkbHex(geometry, ByteOrder.NDR), value.getValue());
+    }
+
+    @Test
+    public void getValue_ewkb() throws SQLException {
+        Geometry<?> result = getValue(setValue(geometry).getValue());
+        assertEquals(4326, result.getSRID());
+        assertEquals(GeometryCodecs.encodeWkt(geometry), GeometryCodecs.encodeWkt(result));
+    }
+
+    @Test
+    public void getValue_ewkt() throws SQLException {
+        Geometry<?> result = getValue(EWKT);
+        assertEquals(4326, result.getSRID());
+        assertEquals(GeometryCodecs.encodeWkt(geometry), GeometryCodecs.encodeWkt(result));
+    }
+
+    @Test
+    public void getValue_null() throws SQLException {
+        assertNull(getValue(null));
+    }
+
+    @Test
+    public void getLiteral() {
+        assertEquals("'" + GeometryCodecs.encodeWkt(geometry) + "'", type.getLiteral(geometry));
+        assertTrue(type.getLiteral(geometry).startsWith("'SRID=4326;"));
+    }
+
+    private PGobject setValue(Geometry<?> value) throws SQLException {
+        PreparedStatement st = createMock(PreparedStatement.class);
+        Capture<Object> captured = newCapture();
+        st.setObject(eq(1), capture(captured));
+        replay(st);
+        type.setValue(st, 1, value);
+        verify(st);
+        return (PGobject) captured.getValue();
+    }
+
+    private Geometry<?> getValue(String value) throws SQLException {
+        ResultSet rs = createMock(ResultSet.class);
+        expect(rs.getString(1)).andReturn(value);
+        replay(rs);
+        Geometry<?> result = type.getValue(rs, 1);
+        verify(rs);
+        return result;
+    }
+
+}
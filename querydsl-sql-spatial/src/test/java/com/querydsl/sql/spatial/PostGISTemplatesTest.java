@@ -1,7 +1,11 @@
 package com.querydsl.sql.spatial;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Test;
 
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.SQLSerializer;
 import com.querydsl.sql.SQLTemplates;
 
 public class PostGISTemplatesTest {
@@ -13,4 +17,13 @@ public class PostGISTemplatesTest {
         //assertEquals("'POINT(2 2)'", templates.asLiteral(Wkt.fromWkt("Point(2 2)")));
     }
 
+    @Test
+    public void boundingBoxIntersects() {
+        QShapes s1 = new QShapes("s1");
+        QShapes s2 = new QShapes("s2");
+        SQLSerializer serializer = new SQLSerializer(new Configuration(new PostGISTemplates()));
+        serializer.handle(s1.geometry.boundingBoxIntersects(s2.geometry));
+        assertEquals("s1.GEOMETRY && s2.GEOMETRY", serializer.toString());
+    }
+
 }
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.function.Supplier;
@@ -30,6 +31,7 @@ import java.util.function.Supplier;
 import org.jetbrains.annotations.Nullable;
 
 import com.mysema.commons.lang.CloseableIterator;
+import com.mysema.commons.lang.IteratorAdapter;
 import com.querydsl.core.*;
 import com.querydsl.core.support.QueryMixin;
 import com.querydsl.core.types.*;
@@ -72,6 +74,12 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
 
     private StatementOptions statementOptions = StatementOptions.DEFAULT;
 
+    private boolean streaming;
+
+    private int fetchBufferSize;
+
+    private long cacheTtl;
+
     public AbstractSQLQuery(@Nullable Connection conn, Configuration configuration) {
         this(conn, configuration, new DefaultQueryMetadata());
     }
@@ -192,6 +200,66 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         throw new QueryException("Using forShare() is not supported");
     }
 
+    /**
+     * Execute {@link #iterate()} and {@link #stream()} in streaming mode.
+     *
+     * <p>Statements are created as forward only and read only cursors and the fetch size of
+     * the dialect is applied, unless a fetch size is given via {@link StatementOptions}. If
+     * the dialect honors the fetch size only outside of auto-commit mode, auto-commit is
+     * disabled until the iterator is closed, so such iterators need to be closed before the
+     * connection is used or released again.</p>
+     *
+     * @return the current object
+     */
+    public Q streaming() {
+        this.streaming = true;
+        return queryMixin.getSelf();
+    }
+
+    /**
+     * Execute {@link #iterate()} and {@link #stream()} in streaming mode and adapt the fetch
+     * size to the observed row width, so that a single fetch holds roughly the given amount of
+     * bytes.
+     *
+     * <p>Adaptation is skipped for dialects which stream via driver specific fetch size
+     * markers such as MySQL.</p>
+     *
+     * @param fetchBufferSize target size of a fetch in bytes
+     * @return the current object
+     * @see #streaming()
+     */
+    public Q streaming(int fetchBufferSize) {
+        if (fetchBufferSize <= 0) {
+            throw new IllegalArgumentException("fetchBufferSize needs to be positive");
+        }
+        this.fetchBufferSize = fetchBufferSize;
+        return streaming();
+    }
+
+    /**
+     * Cache the results of {@link #fetch()} and {@link #iterate()} in the query cache of the
+     * configuration for the given time. Cache hits don't access the database and return
+     * immutable lists.
+     *
+     * @param ttl time to live of the cached results
+     * @param unit unit of ttl
+     * @return the current object
+     * @see Configuration#setQueryCache(SQLQueryCache)
+     */
+    public Q cache(long ttl, TimeUnit unit) {
+        if (configuration.getQueryCache() == null) {
+            throw new IllegalStateException("No query cache has been configured");
+        }
+        this.cacheTtl = unit.toMillis(ttl);
+        return queryMixin.getSelf();
+    }
+
+    @Nullable
+    private SQLQueryCache getQueryCache() {
+        // the row count of fetchResults is not part of the cached results
+        return cacheTtl > 0 && !getLastCell ? configuration.getQueryCache() : null;
+    }
+
     @Override
     protected SQLSerializer createSerializer() {
         SQLSerializer serializer = new SQLSerializer(configuration);
@@ -313,9 +381,21 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
     }
 
     private PreparedStatement getPreparedStatement(String queryString) throws SQLException {
-        PreparedStatement statement = connection().prepareStatement(queryString);
+        return getPreparedStatement(queryString, false);
+    }
+
+    private PreparedStatement getPreparedStatement(String queryString, boolean stream) throws SQLException {
+        PreparedStatement statement;
+        if (stream) {
+            statement = connection().prepareStatement(queryString,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        } else {
+            statement = connection().prepareStatement(queryString);
+        }
         if (statementOptions.getFetchSize() != null) {
             statement.setFetchSize(statementOptions.getFetchSize());
+        } else if (stream) {
+            statement.setFetchSize(configuration.getTemplates().getStreamingFetchSize());
         }
         if (statementOptions.getMaxFieldSize() != null) {
             statement.setMaxFieldSize(statementOptions.getMaxFieldSize());
@@ -336,6 +416,9 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
     @SuppressWarnings("unchecked")
     @Override
     public CloseableIterator<T> iterate() {
+        if (getQueryCache() != null) {
+            return new IteratorAdapter<T>(fetch().iterator());
+        }
         Expression<T> expr = (Expression<T>) queryMixin.getMetadata().getProjection();
         return iterateSingle(queryMixin.getMetadata(), expr);
     }
@@ -345,8 +428,16 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         SQLListenerContextImpl context = startContext(connection(), queryMixin.getMetadata());
         String queryString = null;
         List<Object> constants = Collections.emptyList();
+        boolean autoCommitDisabled = false;
+        boolean handedOver = false;
+        RuntimeException failure = null;
 
         try {
+            if (streaming && configuration.getTemplates().isStreamingRequiresTransaction()
+                    && connection().getAutoCommit()) {
+                connection().setAutoCommit(false);
+                autoCommitDisabled = true;
+            }
             listeners.preRender(context);
             SQLSerializer serializer = serialize(false);
             queryString = serializer.toString();
@@ -359,7 +450,7 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             constants = serializer.getConstants();
 
             listeners.prePrepare(context);
-            final PreparedStatement stmt = getPreparedStatement(queryString);
+            final PreparedStatement stmt = getPreparedStatement(queryString, streaming);
             setParameters(stmt, constants, serializer.getConstantPaths(), metadata.getParams());
             context.addPreparedStatement(stmt);
             listeners.prepared(context);
@@ -368,22 +459,23 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
             final ResultSet rs = stmt.executeQuery();
             listeners.executed(context);
 
+            final SQLResultIterator<T> iterator;
             if (expr == null) {
-                return new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
+                iterator = new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
                     @Override
                     public T produceNext(ResultSet rs) throws Exception {
                         return (T) rs.getObject(1);
                     }
                 };
             } else if (expr instanceof FactoryExpression) {
-                return new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
+                iterator = new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
                     @Override
                     public T produceNext(ResultSet rs) throws Exception {
                         return newInstance((FactoryExpression<T>) expr, rs, 0);
                     }
                 };
             } else if (expr.equals(Wildcard.all)) {
-                return new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
+                iterator = new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
                     @Override
                     public T produceNext(ResultSet rs) throws Exception {
                         Object[] rv = new Object[rs.getMetaData().getColumnCount()];
@@ -394,31 +486,100 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
                     }
                 };
             } else {
-                return new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
+                iterator = new SQLResultIterator<T>(configuration, stmt, rs, listeners, context) {
                     @Override
                     public T produceNext(ResultSet rs) throws Exception {
                         return get(rs, expr, 1, expr.getType());
                     }
                 };
             }
+            if (streaming && fetchBufferSize > 0 && stmt.getFetchSize() > 0) {
+                iterator.setFetchBufferSize(fetchBufferSize);
+            }
+            handedOver = true;
+            if (autoCommitDisabled) {
+                return new CloseableIterator<T>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+                    @Override
+                    public T next() {
+                        return iterator.next();
+                    }
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                    @Override
+                    public void close() {
+                        try {
+                            iterator.close();
+                        } catch (RuntimeException e) {
+                            restoreAutoCommit(e);
+                            throw e;
+                        }
+                        restoreAutoCommit(null);
+                    }
+                };
+            }
+            return iterator;
 
         } catch (SQLException e) {
             onException(context, e);
             endContext(context);
-            throw configuration.translate(queryString, constants, e);
+            failure = configuration.translate(queryString, constants, e);
+            throw failure;
         } catch (RuntimeException e) {
             logger.log(Level.SEVERE, "Caught " + e.getClass().getName() + " for " + queryString);
             onException(context, e);
             endContext(context);
+            failure = e;
             throw e;
         } finally {
+            if (autoCommitDisabled && !handedOver) {
+                restoreAutoCommit(failure);
+            }
             reset();
         }
     }
 
+    /**
+     * Re-enable auto commit after a streaming iteration
+     *
+     * @param failure exception which ended the iteration, failures to restore auto commit are
+     *                added to it as suppressed exceptions
+     */
+    private void restoreAutoCommit(@Nullable RuntimeException failure) {
+        try {
+            connection().setAutoCommit(true);
+        } catch (SQLException e) {
+            if (failure != null) {
+                failure.addSuppressed(e);
+            } else {
+                throw configuration.translate(e);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public List<T> fetch() {
+        SQLQueryCache cache = getQueryCache();
+        if (cache == null) {
+            return fetchFromDatabase();
+        }
+        SQLBindings sql = getSQL();
+        List<T> rv = (List<T>) cache.get(sql, queryMixin.getMetadata().getProjection());
+        if (rv == null) {
+            long generation = cache.getGeneration();
+            rv = cache.put(sql, queryMixin.getMetadata(), fetchFromDatabase(), cacheTtl, generation);
+        }
+        return rv;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> fetchFromDatabase() {
         Expression<T> expr = (Expression<T>) queryMixin.getMetadata().getProjection();
         SQLListenerContextImpl context = startContext(connection(), queryMixin.getMetadata());
         String queryString = null;
@@ -661,6 +822,9 @@ public abstract class AbstractSQLQuery<T, Q extends AbstractSQLQuery<T, Q>> exte
         super.clone(query);
         this.useLiterals = query.useLiterals;
         this.listeners = new SQLListeners(query.listeners);
+        this.streaming = ((AbstractSQLQuery<?, ?>) query).streaming;
+        this.fetchBufferSize = ((AbstractSQLQuery<?, ?>) query).fetchBufferSize;
+        this.cacheTtl = ((AbstractSQLQuery<?, ?>) query).cacheTtl;
     }
 
     @Override
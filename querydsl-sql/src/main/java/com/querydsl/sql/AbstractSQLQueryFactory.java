@@ -16,10 +16,12 @@ package com.querydsl.sql;
 import java.sql.Connection;
 import java.util.function.Supplier;
 
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.sql.dml.SQLBulkLoader;
 import com.querydsl.sql.dml.SQLDeleteClause;
 import com.querydsl.sql.dml.SQLInsertClause;
 import com.querydsl.sql.dml.SQLMergeClause;
@@ -44,6 +46,32 @@ public abstract class AbstractSQLQueryFactory<Q extends SQLCommonQuery<?>> imple
         this.connection = connProvider;
     }
 
+    /**
+     * Get the connection provider for a query with the given metadata. Queries are routed via
+     * {@link RoutingConnectionProvider#forQuery(QueryMetadata, SQLTemplates)}, if a routing
+     * connection provider is used.
+     *
+     * @param metadata query metadata
+     * @return connection provider
+     */
+    protected Supplier<Connection> getConnectionProvider(QueryMetadata metadata) {
+        if (connection instanceof RoutingConnectionProvider) {
+            return ((RoutingConnectionProvider) connection).forQuery(metadata, configuration.getTemplates());
+        } else {
+            return connection;
+        }
+    }
+
+    /**
+     * Create a new bulk loader for the given table
+     *
+     * @param path table
+     * @return bulk loader
+     */
+    public final SQLBulkLoader bulkLoad(RelationalPath<?> path) {
+        return new SQLBulkLoader(connection, configuration, path);
+    }
+
     @Override
     public final SQLDeleteClause delete(RelationalPath<?> path) {
         return new SQLDeleteClause(connection, configuration, path);
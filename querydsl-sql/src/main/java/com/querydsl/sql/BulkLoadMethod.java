@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+/**
+ * {@code BulkLoadMethod} defines how {@link com.querydsl.sql.dml.SQLBulkLoader} transfers rows
+ */
+public enum BulkLoadMethod {
+
+    /**
+     * Batches of multi row inserts
+     */
+    INSERT,
+
+    /**
+     * PostgreSQL {@code copy ... from stdin} in CSV format via the pgjdbc {@code CopyManager}
+     */
+    COPY,
+
+    /**
+     * MySQL {@code load data local infile} from an in-memory stream, which requires
+     * {@code allowLoadLocalInfile=true} on the connection
+     */
+    LOAD_DATA,
+
+    /**
+     * H2 {@code insert ... select} from {@code csvread} of a temporary file
+     */
+    CSVREAD
+
+}
@@ -70,6 +70,9 @@ public final class Configuration {
 
     private boolean useLiterals = false;
 
+    @Nullable
+    private SQLQueryCache queryCache;
+
     /**
      * Create a new Configuration instance
      *
@@ -237,6 +240,18 @@ public final class Configuration {
         }
     }
 
+    /**
+     * Get the textual representation of the given value via the registered type of the given path
+     *
+     * @param path path
+     * @param value value
+     * @return literal
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public String getLiteral(@Nullable Path<?> path, Object value) {
+        return getType(path, (Class) value.getClass()).getLiteral(value);
+    }
+
     /**
      * Set the value at the given index in the statement
      *
@@ -564,4 +579,26 @@ public final class Configuration {
         this.templates = templates;
     }
 
+    /**
+     * Get the query result cache
+     *
+     * @return query cache or null, if none is set
+     */
+    @Nullable
+    public SQLQueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Set the cache for the results of queries which opt in via
+     * {@link AbstractSQLQuery#cache(long, java.util.concurrent.TimeUnit)}.
+     * The cache is registered as listener to invalidate its entries on DML operations.
+     *
+     * @param queryCache query cache
+     */
+    public void setQueryCache(SQLQueryCache queryCache) {
+        this.queryCache = queryCache;
+        addListener(queryCache);
+    }
+
 }
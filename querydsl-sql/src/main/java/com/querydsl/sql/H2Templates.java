@@ -14,8 +14,10 @@
 package com.querydsl.sql;
 
 import java.sql.Types;
+import java.util.List;
 
 import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
 
 /**
  * {@code H2Templates} is an SQL dialect for H2
@@ -48,6 +50,7 @@ public class H2Templates extends SQLTemplates {
     public H2Templates(char escape, boolean quote) {
         super(Keywords.H2, "\"", escape, quote, false);
         setNativeMerge(true);
+        setBulkLoadMethod(BulkLoadMethod.CSVREAD);
         setMaxLimit(2 ^ 31);
         setLimitRequired(true);
         setCountDistinctMultipleColumns(true);
@@ -83,4 +86,13 @@ public class H2Templates extends SQLTemplates {
         add(Ops.DateTimeOps.TRUNC_SECOND, "parsedatetime(formatdatetime({0},'yyyy-MM-dd HH:mm:ss'),'yyyy-MM-dd HH:mm:ss')");
     }
 
+    @Override
+    public void serializeBulkLoad(RelationalPath<?> entity, List<Path<?>> columns, String source,
+            SQLSerializer context) {
+        context.append(getInsertInto());
+        context.serializeForBulkLoad(entity, "", columns);
+        context.append("\nselect * from csvread(").append(serialize(source, Types.VARCHAR));
+        context.append(", null, 'charset=UTF-8')");
+    }
+
 }
@@ -15,12 +15,19 @@ package com.querydsl.sql;
 
 import java.sql.Types;
 import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
 
 import com.querydsl.core.QueryFlag;
 import com.querydsl.core.QueryFlag.Position;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.sql.dml.SQLMergeBatch;
 
 /**
  * {@code MySQLTemplates} is an SQL dialect for MySQL
@@ -57,12 +64,16 @@ public class MySQLTemplates extends SQLTemplates {
 
     public MySQLTemplates(char escape, boolean quote) {
         super(Keywords.MYSQL, "`", escape, quote, false);
+        setNativeMergeSupported(true);
         setArraysSupported(false);
         setParameterMetadataAvailable(false);
         setLimitRequired(true);
         setSupportsUnquotedReservedWordsAsIdentifier(true);
         setNullsFirst(null);
         setNullsLast(null);
+        // Connector/J streams rows one by one only for this marker value
+        setStreamingFetchSize(Integer.MIN_VALUE);
+        setBulkLoadMethod(BulkLoadMethod.LOAD_DATA);
 
         setForShareSupported(true);
         setForShareFlag(new QueryFlag(Position.END, LOCK_IN_SHARE_MODE));
@@ -154,6 +165,16 @@ public class MySQLTemplates extends SQLTemplates {
         addTypeNameToCode("datetime", Types.TIMESTAMP, true);
     }
 
+    @Override
+    public void serializeBulkLoad(RelationalPath<?> entity, List<Path<?>> columns, String source,
+            SQLSerializer context) {
+        context.append("load data local infile ").append(serialize(source, Types.VARCHAR));
+        context.append(" into table ");
+        context.serializeForBulkLoad(entity, " character set utf8mb4"
+                + "\nfields terminated by ',' optionally enclosed by '\"' escaped by ''"
+                + "\nlines terminated by '\\n'", columns);
+    }
+
     @Override
     public String escapeLiteral(String str) {
         StringBuilder builder = new StringBuilder();
@@ -182,4 +203,25 @@ public class MySQLTemplates extends SQLTemplates {
         }
     }
 
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity, List<Path<?>> keys,
+            List<Path<?>> columns, List<Expression<?>> values, @Nullable SubQueryExpression<?> subQuery,
+            SQLSerializer context) {
+        serializeMerge(metadata, entity,
+                Collections.singletonList(new SQLMergeBatch(keys, columns, values, subQuery)), context);
+    }
+
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity,
+            List<SQLMergeBatch> batches, SQLSerializer context) {
+        context.serializeForUpsert(metadata, entity, batches);
+        SQLMergeBatch first = batches.get(0);
+        List<Path<?>> updates = context.getMergeUpdates(first.getKeys(), first.getColumns());
+        context.append("\non duplicate key update ");
+        context.serializeMergeUpdates(updates.isEmpty() ? first.getColumns() : updates, "values(", ")");
+        if (!metadata.getFlags().isEmpty()) {
+            context.serialize(Position.END, metadata.getFlags());
+        }
+    }
+
 }
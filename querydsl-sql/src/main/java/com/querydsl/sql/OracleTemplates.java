@@ -14,9 +14,12 @@
 package com.querydsl.sql;
 
 import java.sql.Types;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.querydsl.core.QueryFlag;
 import com.querydsl.core.QueryFlag.Position;
 import com.querydsl.core.QueryMetadata;
@@ -24,7 +27,9 @@ import com.querydsl.core.QueryModifiers;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
 import com.querydsl.sql.dml.SQLInsertBatch;
+import com.querydsl.sql.dml.SQLMergeBatch;
 
 /**
  * {@code OracleTemplates} is an SQL dialect for Oracle
@@ -73,6 +78,7 @@ public class OracleTemplates extends SQLTemplates {
 
     public OracleTemplates(char escape, boolean quote) {
         super(Keywords.ORACLE, "\"", escape, quote, false);
+        setNativeMergeSupported(true);
         setParameterMetadataAvailable(false);
         setBatchCountViaGetUpdateCount(true);
         setWithRecursive("with ");
@@ -268,4 +274,21 @@ public class OracleTemplates extends SQLTemplates {
         // do nothing
     }
 
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity, List<Path<?>> keys,
+            List<Path<?>> columns, List<Expression<?>> values, @Nullable SubQueryExpression<?> subQuery,
+            SQLSerializer context) {
+        serializeMerge(metadata, entity,
+                Collections.singletonList(new SQLMergeBatch(keys, columns, values, subQuery)), context);
+    }
+
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity,
+            List<SQLMergeBatch> batches, SQLSerializer context) {
+        context.serializeForMergeUsing(metadata, entity, batches, false);
+        if (!metadata.getFlags().isEmpty()) {
+            context.serialize(Position.END, metadata.getFlags());
+        }
+    }
+
 }
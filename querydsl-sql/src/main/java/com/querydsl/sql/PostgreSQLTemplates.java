@@ -14,8 +14,18 @@
 package com.querydsl.sql;
 
 import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
 
+import org.jetbrains.annotations.Nullable;
+
+import com.querydsl.core.QueryFlag.Position;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.sql.dml.SQLMergeBatch;
 
 /**
  * {@code PostgreSQLTemplates} is an SQL dialect for PostgreSQL
@@ -49,11 +59,15 @@ public class PostgreSQLTemplates extends SQLTemplates {
 
     public PostgreSQLTemplates(char escape, boolean quote) {
         super(Keywords.POSTGRESQL, "\"", escape, quote, false);
+        setNativeMergeSupported(true);
         setDummyTable(null);
         setCountDistinctMultipleColumns(true);
         setCountViaAnalytics(true);
         setDefaultValues("\ndefault values");
         setSupportsUnquotedReservedWordsAsIdentifier(true);
+        // pgjdbc ignores the fetch size in auto-commit mode
+        setStreamingRequiresTransaction(true);
+        setBulkLoadMethod(BulkLoadMethod.COPY);
 
         setForShareSupported(true);
 
@@ -173,4 +187,30 @@ public class PostgreSQLTemplates extends SQLTemplates {
         }
     }
 
+    @Override
+    public void serializeBulkLoad(RelationalPath<?> entity, List<Path<?>> columns, String source,
+            SQLSerializer context) {
+        context.append("copy ");
+        context.serializeForBulkLoad(entity, "", columns);
+        context.append(" from stdin with (format csv)");
+    }
+
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity, List<Path<?>> keys,
+            List<Path<?>> columns, List<Expression<?>> values, @Nullable SubQueryExpression<?> subQuery,
+            SQLSerializer context) {
+        serializeMerge(metadata, entity,
+                Collections.singletonList(new SQLMergeBatch(keys, columns, values, subQuery)), context);
+    }
+
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity,
+            List<SQLMergeBatch> batches, SQLSerializer context) {
+        context.serializeForUpsert(metadata, entity, batches);
+        context.serializeForOnConflict(batches.get(0));
+        if (!metadata.getFlags().isEmpty()) {
+            context.serialize(Position.END, metadata.getFlags());
+        }
+    }
+
 }
@@ -19,6 +19,8 @@ import java.util.Collections;
 import java.util.Set;
 
 import com.querydsl.core.JoinExpression;
+import com.querydsl.core.JoinFlag;
+import com.querydsl.core.QueryFlag;
 import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.types.*;
 
@@ -30,7 +32,11 @@ import com.querydsl.core.types.*;
  */
 public final class RelationalPathExtractor implements Visitor<Set<RelationalPath<?>>, Set<RelationalPath<?>>> {
 
-    public static final RelationalPathExtractor DEFAULT = new RelationalPathExtractor();
+    public static final RelationalPathExtractor DEFAULT = new RelationalPathExtractor(false);
+
+    private static final RelationalPathExtractor ALL = new RelationalPathExtractor(true);
+
+    private final boolean subQueries;
 
     public static Set<RelationalPath<?>> extract(QueryMetadata md) {
         Set<RelationalPath<?>> known = Collections.emptySet();
@@ -53,6 +59,16 @@ public final class RelationalPathExtractor implements Visitor<Set<RelationalPath
         return known;
     }
 
+    /**
+     * Extract all tables of the given query, including the ones referenced in subqueries and flags
+     *
+     * @param md query metadata
+     * @return referenced tables
+     */
+    public static Set<RelationalPath<?>> extractAll(QueryMetadata md) {
+        return ALL.visitAll(md, Collections.emptySet());
+    }
+
     public static Set<RelationalPath<?>> extract(Expression<?> expr) {
         return expr.accept(DEFAULT, Collections.emptySet());
     }
@@ -97,6 +113,9 @@ public final class RelationalPathExtractor implements Visitor<Set<RelationalPath
 
     @Override
     public Set<RelationalPath<?>> visit(SubQueryExpression<?> expr, Set<RelationalPath<?>> known) {
+        if (subQueries) {
+            return visitAll(expr.getMetadata(), known);
+        }
         Set<RelationalPath<?>> old = known;
         final QueryMetadata md = expr.getMetadata();
         known = visitJoins(md.getJoins(), known);
@@ -129,6 +148,34 @@ public final class RelationalPathExtractor implements Visitor<Set<RelationalPath
         return known;
     }
 
+    private Set<RelationalPath<?>> visitAll(QueryMetadata md, Set<RelationalPath<?>> known) {
+        known = visitJoins(md.getJoins(), known);
+        for (JoinExpression j : md.getJoins()) {
+            for (JoinFlag flag : j.getFlags()) {
+                known = flag.getFlag().accept(this, known);
+            }
+        }
+        if (md.getProjection() != null) {
+            known = md.getProjection().accept(this, known);
+        }
+        for (OrderSpecifier<?> o : md.getOrderBy()) {
+            known = o.getTarget().accept(this, known);
+        }
+        for (Expression<?> g : md.getGroupBy()) {
+            known = g.accept(this, known);
+        }
+        if (md.getHaving() != null) {
+            known = md.getHaving().accept(this, known);
+        }
+        if (md.getWhere() != null) {
+            known = md.getWhere().accept(this, known);
+        }
+        for (QueryFlag flag : md.getFlags()) {
+            known = flag.getFlag().accept(this, known);
+        }
+        return known;
+    }
+
     private Set<RelationalPath<?>> visitJoins(Iterable<JoinExpression> joins, Set<RelationalPath<?>> known) {
         for (JoinExpression j : joins) {
             known = j.getTarget().accept(this, known);
@@ -139,6 +186,8 @@ public final class RelationalPathExtractor implements Visitor<Set<RelationalPath
         return known;
     }
 
-    private RelationalPathExtractor() { }
+    private RelationalPathExtractor(boolean subQueries) {
+        this.subQueries = subQueries;
+    }
 
 }
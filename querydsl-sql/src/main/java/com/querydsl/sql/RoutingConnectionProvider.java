@@ -0,0 +1,243 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.querydsl.core.QueryFlag;
+import com.querydsl.core.QueryMetadata;
+
+/**
+ * {@code RoutingConnectionProvider} routes read only queries to replicas and everything else to
+ * the primary database.
+ *
+ * <p>When used as connection provider of a {@link SQLQueryFactory} or a dialect specific query
+ * factory, the DML clauses and queries with {@code forUpdate} or {@code forShare} flags use the
+ * primary, and other queries use one of the replicas. The routing of queries is decided when
+ * they are executed.</p>
+ *
+ * <p>Replication is usually asynchronous, so reads from replicas may not see preceding writes.
+ * Within a scope opened via {@link #openScope()}, all queries of the current thread after the
+ * first write use the primary as well:</p>
+ *
+ * <pre>{@code
+ * try (RoutingConnectionProvider.Scope scope = routing.openScope()) {
+ *     queryFactory.insert(survey).set(survey.name, "Hello").execute();
+ *     // reads the inserted row from the primary
+ *     queryFactory.selectFrom(survey).fetch();
+ * }
+ * }</pre>
+ *
+ * <p>The {@link Strategy#LEAST_LOADED} strategy counts the replica connections until they are
+ * closed. They are closed after each execution, if {@link SQLCloseListener} is registered,
+ * which the query factories do only for data sources. With other connection providers it
+ * needs to be registered explicitly, or the connections need to be closed by the caller:</p>
+ *
+ * <pre>{@code
+ * Configuration configuration = new Configuration(templates);
+ * configuration.addListener(SQLCloseListener.DEFAULT);
+ * SQLQueryFactory queryFactory = new SQLQueryFactory(configuration, routing);
+ * }</pre>
+ */
+public class RoutingConnectionProvider implements Supplier<Connection> {
+
+    /**
+     * {@code Strategy} defines how replicas are chosen
+     */
+    public enum Strategy {
+
+        /**
+         * Use the replicas in turn
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Use the replica with the fewest open connections handed out by this provider. A
+         * connection stays counted until it is closed, e.g. via {@link SQLCloseListener}.
+         */
+        LEAST_LOADED
+    }
+
+    /**
+     * {@code Scope} defines a read-your-writes scope of the current thread
+     */
+    public final class Scope implements AutoCloseable {
+
+        private int depth = 1;
+
+        private boolean written;
+
+        /**
+         * Get whether the queries of this scope are routed to the primary
+         *
+         * @return true, if a write has happened in this scope
+         */
+        public boolean isWritten() {
+            return written;
+        }
+
+        @Override
+        public void close() {
+            if (--depth == 0) {
+                scope.remove();
+            }
+        }
+
+    }
+
+    private final Supplier<Connection> primary;
+
+    private final List<Supplier<Connection>> replicas;
+
+    private final Strategy strategy;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final List<AtomicInteger> loads;
+
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    /**
+     * Create a new RoutingConnectionProvider instance
+     *
+     * @param primary connection provider of the primary
+     * @param replicas connection providers of the replicas
+     * @param strategy strategy to choose replicas
+     */
+    public RoutingConnectionProvider(Supplier<Connection> primary, List<? extends Supplier<Connection>> replicas,
+            Strategy strategy) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas);
+        this.strategy = strategy;
+        this.loads = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            loads.add(new AtomicInteger());
+        }
+    }
+
+    /**
+     * Get a connection to the primary
+     *
+     * @return connection
+     */
+    @Override
+    public Connection get() {
+        Scope current = scope.get();
+        if (current != null) {
+            current.written = true;
+        }
+        return primary.get();
+    }
+
+    /**
+     * Get a connection for the given query
+     *
+     * @param metadata query metadata
+     * @param templates templates of the query
+     * @return connection
+     */
+    public Connection get(QueryMetadata metadata, SQLTemplates templates) {
+        Scope current = scope.get();
+        if (replicas.isEmpty() || isLocking(metadata, templates) || (current != null && current.written)) {
+            return get();
+        }
+        return getReplica();
+    }
+
+    /**
+     * Get a connection provider which routes the query with the given metadata on execution
+     *
+     * @param metadata query metadata
+     * @param templates templates of the query
+     * @return connection provider
+     */
+    public Supplier<Connection> forQuery(QueryMetadata metadata, SQLTemplates templates) {
+        return () -> get(metadata, templates);
+    }
+
+    /**
+     * Open a read-your-writes scope for the current thread. Scopes may be nested, in which case
+     * the outermost scope applies.
+     *
+     * @return scope
+     */
+    public Scope openScope() {
+        Scope current = scope.get();
+        if (current != null) {
+            current.depth++;
+        } else {
+            current = new Scope();
+            scope.set(current);
+        }
+        return current;
+    }
+
+    private static boolean isLocking(QueryMetadata metadata, SQLTemplates templates) {
+        Set<QueryFlag> flags = metadata.getFlags();
+        return flags.contains(templates.getForUpdateFlag())
+            || flags.contains(templates.getForShareFlag())
+            || flags.contains(SQLOps.FOR_UPDATE_FLAG)
+            || flags.contains(SQLOps.FOR_SHARE_FLAG);
+    }
+
+    private Connection getReplica() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        if (strategy == Strategy.ROUND_ROBIN) {
+            return replicas.get(start).get();
+        }
+
+        int index = start;
+        for (int i = 1; i < replicas.size(); i++) {
+            int candidate = (start + i) % replicas.size();
+            if (loads.get(candidate).get() < loads.get(index).get()) {
+                index = candidate;
+            }
+        }
+        return track(replicas.get(index).get(), loads.get(index));
+    }
+
+    private static Connection track(Connection connection, AtomicInteger load) {
+        load.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (closed.compareAndSet(false, true)) {
+                                load.decrementAndGet();
+                            }
+                            break;
+                        default:
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+}
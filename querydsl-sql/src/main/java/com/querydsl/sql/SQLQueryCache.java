@@ -0,0 +1,309 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.util.*;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.sql.dml.SQLInsertBatch;
+import com.querydsl.sql.dml.SQLMergeBatch;
+import com.querydsl.sql.dml.SQLUpdateBatch;
+
+/**
+ * {@code SQLQueryCache} caches the results of queries which opt in via
+ * {@link AbstractSQLQuery#cache(long, java.util.concurrent.TimeUnit)}.
+ *
+ * <p>Entries are keyed by the rendered SQL, the bindings and the projection. The size of the
+ * cache is bounded by the total number of cached rows, and least recently used entries are
+ * evicted first.</p>
+ *
+ * <p>The cache is registered as listener via {@link Configuration#setQueryCache(SQLQueryCache)},
+ * and drops all entries which read a table, when an insert, update, delete or merge clause of the
+ * same configuration is executed on that table. Changes made outside of these clauses, for
+ * example by other applications, and tables referenced only in templates are not tracked, and are
+ * only reflected after the entries have expired. Entries are also invalidated before the changes
+ * are committed, so queries of the same transaction should not be cached.</p>
+ */
+public class SQLQueryCache extends SQLBaseListener {
+
+    private static final class Key {
+
+        private final String sql;
+
+        private final List<Object> bindings;
+
+        private final Expression<?> projection;
+
+        private final int hashCode;
+
+        Key(String sql, List<Object> bindings, Expression<?> projection) {
+            this.sql = sql;
+            this.bindings = bindings;
+            this.projection = projection;
+            this.hashCode = Objects.hash(sql, bindings, projection);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            } else if (o instanceof Key) {
+                Key other = (Key) o;
+                return sql.equals(other.sql)
+                        && bindings.equals(other.bindings)
+                        && projection.equals(other.projection);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final List<?> results;
+
+        private final Set<SchemaAndTable> tables;
+
+        private final long expires;
+
+        Entry(List<?> results, Set<SchemaAndTable> tables, long expires) {
+            this.results = results;
+            this.tables = tables;
+            this.expires = expires;
+        }
+
+        int getWeight() {
+            return Math.max(results.size(), 1);
+        }
+
+    }
+
+    private final long maxWeight;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<SchemaAndTable, Set<Key>> keysByTable = new HashMap<>();
+
+    private long weight;
+
+    private long generation;
+
+    /**
+     * Create a new SQLQueryCache instance
+     *
+     * @param maxWeight maximum number of cached rows
+     */
+    public SQLQueryCache(long maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("maxWeight needs to be positive, but was " + maxWeight);
+        }
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Get the cached results of the given query
+     *
+     * @param sql rendered query
+     * @param projection projection of the query
+     * @return cached results or null, if not cached
+     */
+    @Nullable
+    public synchronized List<?> get(SQLBindings sql, Expression<?> projection) {
+        Key key = new Key(sql.getSQL(), sql.getNullFriendlyBindings(), projection);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        } else if (entry.expires < System.currentTimeMillis()) {
+            remove(key);
+            return null;
+        } else {
+            return entry.results;
+        }
+    }
+
+    /**
+     * Get the current generation of the cache, which is incremented on each invalidation.
+     * Results fetched while the generation changed may be stale and are not cached.
+     *
+     * @return generation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Cache the results of the given query
+     *
+     * @param sql rendered query
+     * @param metadata metadata of the query
+     * @param results results to cache
+     * @param ttl time to live in milliseconds
+     * @param generation generation of the cache before the query was executed
+     * @return immutable copy of the results
+     */
+    public synchronized <T> List<T> put(SQLBindings sql, QueryMetadata metadata, List<T> results,
+            long ttl, long generation) {
+        List<T> copy = Collections.unmodifiableList(new ArrayList<>(results));
+        if (generation != this.generation || results.size() > maxWeight) {
+            return copy;
+        }
+
+        Key key = new Key(sql.getSQL(), sql.getNullFriendlyBindings(), metadata.getProjection());
+        remove(key);
+        Set<SchemaAndTable> tables = new HashSet<>();
+        for (RelationalPath<?> path : RelationalPathExtractor.extractAll(metadata)) {
+            tables.add(path.getSchemaAndTable());
+        }
+        Entry entry = new Entry(copy, tables, System.currentTimeMillis() + ttl);
+        entries.put(key, entry);
+        weight += entry.getWeight();
+        for (SchemaAndTable table : tables) {
+            keysByTable.computeIfAbsent(table, t -> new HashSet<>()).add(key);
+        }
+
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            iterator.remove();
+            unregister(eldest.getKey(), eldest.getValue());
+        }
+        return copy;
+    }
+
+    /**
+     * Drop all entries which read the given table
+     *
+     * @param entity table
+     */
+    public synchronized void invalidate(RelationalPath<?> entity) {
+        generation++;
+        Set<Key> keys = keysByTable.remove(entity.getSchemaAndTable());
+        if (keys != null) {
+            for (Key key : keys) {
+                remove(key);
+            }
+        }
+    }
+
+    /**
+     * Drop all entries
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        keysByTable.clear();
+        weight = 0;
+    }
+
+    /**
+     * Get the number of cached entries
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the total number of cached rows
+     *
+     * @return number of rows
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    private void remove(Key key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            unregister(key, entry);
+        }
+    }
+
+    private void unregister(Key key, Entry entry) {
+        weight -= entry.getWeight();
+        for (SchemaAndTable table : entry.tables) {
+            Set<Key> keys = keysByTable.get(table);
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    keysByTable.remove(table);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void notifyDelete(RelationalPath<?> entity, QueryMetadata md) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyDeletes(RelationalPath<?> entity, List<QueryMetadata> batches) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyMerge(RelationalPath<?> entity, QueryMetadata md, List<Path<?>> keys,
+            List<Path<?>> columns, List<Expression<?>> values, @Nullable SubQueryExpression<?> subQuery) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyMerges(RelationalPath<?> entity, QueryMetadata md, List<SQLMergeBatch> batches) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyInsert(RelationalPath<?> entity, QueryMetadata md, List<Path<?>> columns,
+            List<Expression<?>> values, @Nullable SubQueryExpression<?> subQuery) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyInserts(RelationalPath<?> entity, QueryMetadata md, List<SQLInsertBatch> batches) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyUpdate(RelationalPath<?> entity, QueryMetadata md, Map<Path<?>, Expression<?>> updates) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void notifyUpdates(RelationalPath<?> entity, List<SQLUpdateBatch> batches) {
+        invalidate(entity);
+    }
+
+    @Override
+    public void end(SQLListenerContext context) {
+        // invalidate again after the execution, since queries executed concurrently with the
+        // clause may have cached the previous state
+        if (context.getEntity() != null) {
+            invalidate(context.getEntity());
+        }
+    }
+
+}
@@ -19,6 +19,8 @@ import java.util.function.Supplier;
 
 import javax.sql.DataSource;
 
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -71,7 +73,8 @@ public class SQLQueryFactory extends AbstractSQLQueryFactory<SQLQuery<?>> {
 
     @Override
     public SQLQuery<?> query() {
-        return new SQLQuery<Void>(connection, configuration);
+        QueryMetadata metadata = new DefaultQueryMetadata();
+        return new SQLQuery<Void>(getConnectionProvider(metadata), configuration, metadata);
     }
 
     @Override
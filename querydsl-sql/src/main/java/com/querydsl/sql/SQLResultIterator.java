@@ -22,6 +22,7 @@ import org.jetbrains.annotations.Nullable;
 
 import com.mysema.commons.lang.CloseableIterator;
 import com.querydsl.core.QueryException;
+import com.querydsl.core.Tuple;
 
 /**
  * {@code SQLResultIterator} is an Iterator adapter for JDBC result sets with customizable projections
@@ -32,6 +33,12 @@ import com.querydsl.core.QueryException;
  */
 public abstract class SQLResultIterator<T> implements CloseableIterator<T> {
 
+    private static final int SAMPLE_ROWS = 100;
+
+    private static final int MIN_FETCH_SIZE = 10;
+
+    private static final int MAX_FETCH_SIZE = 100000;
+
     @Nullable
     private Boolean next = null;
 
@@ -45,6 +52,12 @@ public abstract class SQLResultIterator<T> implements CloseableIterator<T> {
 
     private final SQLListenerContext context;
 
+    private int fetchBufferSize;
+
+    private int sampledRows;
+
+    private long sampledBytes;
+
     public SQLResultIterator(Configuration conf, Statement stmt, ResultSet rs) {
         this(conf, stmt, rs, null, null);
     }
@@ -58,6 +71,16 @@ public abstract class SQLResultIterator<T> implements CloseableIterator<T> {
         this.context = context;
     }
 
+    /**
+     * Adapt the fetch size of the result set to the observed row width so that a single
+     * fetch holds roughly the given amount of bytes
+     *
+     * @param fetchBufferSize target size of a fetch in bytes, 0 to disable
+     */
+    public void setFetchBufferSize(int fetchBufferSize) {
+        this.fetchBufferSize = fetchBufferSize;
+    }
+
     @Override
     public void close() {
         try {
@@ -97,7 +120,11 @@ public abstract class SQLResultIterator<T> implements CloseableIterator<T> {
         if (hasNext()) {
             next = null;
             try {
-                return produceNext(rs);
+                T rv = produceNext(rs);
+                if (fetchBufferSize > 0 && sampledRows < SAMPLE_ROWS) {
+                    sample(rv);
+                }
+                return rv;
             } catch (SQLException e) {
                 close();
                 throw configuration.translate(e);
@@ -112,6 +139,38 @@ public abstract class SQLResultIterator<T> implements CloseableIterator<T> {
 
     protected abstract T produceNext(ResultSet rs) throws Exception;
 
+    private void sample(T row) throws SQLException {
+        sampledBytes += estimateSize(row);
+        if (++sampledRows == SAMPLE_ROWS) {
+            long rowSize = Math.max(1, sampledBytes / sampledRows);
+            long fetchSize = fetchBufferSize / rowSize;
+            rs.setFetchSize((int) Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, fetchSize)));
+        }
+    }
+
+    private static long estimateSize(@Nullable Object value) {
+        if (value == null) {
+            return 8;
+        } else if (value instanceof CharSequence) {
+            return 40 + 2L * ((CharSequence) value).length();
+        } else if (value instanceof byte[]) {
+            return 16 + ((byte[]) value).length;
+        } else if (value instanceof Object[]) {
+            long size = 16;
+            for (Object element : (Object[]) value) {
+                size += estimateSize(element);
+            }
+            return size;
+        } else if (value instanceof Tuple) {
+            return estimateSize(((Tuple) value).toArray());
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof java.util.Date) {
+            return 24;
+        } else {
+            // beans and other opaque values
+            return 128;
+        }
+    }
+
     @Override
     public void remove() {
         try {
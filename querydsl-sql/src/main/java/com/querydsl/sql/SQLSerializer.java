@@ -30,6 +30,7 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.util.CollectionUtils;
 import com.querydsl.core.util.StringUtils;
 import com.querydsl.sql.dml.SQLInsertBatch;
+import com.querydsl.sql.dml.SQLMergeBatch;
 import com.querydsl.sql.types.Null;
 
 /**
@@ -443,6 +444,31 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
         }
     }
 
+    public void serializeBulkLoad(RelationalPath<?> entity, List<Path<?>> columns, String source) {
+        this.entity = entity;
+        templates.serializeBulkLoad(entity, columns, source, this);
+    }
+
+    /**
+     * Serialize the target table of a bulk load followed by the given options and the column list
+     *
+     * @param entity target table
+     * @param options options between table and columns
+     * @param columns target columns
+     */
+    protected void serializeForBulkLoad(RelationalPath<?> entity, String options, List<Path<?>> columns) {
+        boolean originalDmlWithSchema = dmlWithSchema;
+        dmlWithSchema = true;
+        handle(entity);
+        dmlWithSchema = originalDmlWithSchema;
+        append(options);
+        append(" (");
+        skipParent = true;
+        handle(COMMA, columns);
+        skipParent = false;
+        append(")");
+    }
+
     public void serializeDelete(QueryMetadata metadata, RelationalPath<?> entity) {
         this.entity = entity;
         templates.serializeDelete(metadata, entity, this);
@@ -534,6 +560,259 @@ public class SQLSerializer extends SerializerBase<SQLSerializer> {
         }
     }
 
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity, List<SQLMergeBatch> batches) {
+        this.entity = entity;
+        templates.serializeMerge(metadata, entity, batches, this);
+    }
+
+    protected void serializeForMerge(QueryMetadata metadata, RelationalPath<?> entity, List<SQLMergeBatch> batches) {
+        SQLMergeBatch first = batches.get(0);
+        serializeForMerge(metadata, entity, first.getKeys(), first.getColumns(), first.getValues(), first.getSubQuery());
+        for (int i = 1; i < batches.size(); i++) {
+            append(COMMA);
+            serializeValues(batches.get(i).getColumns(), batches.get(i).getValues());
+        }
+    }
+
+    /**
+     * Serialize the INSERT part of an upsert, which is completed by a dialect specific conflict clause
+     *
+     * @param metadata metadata
+     * @param entity target table
+     * @param batches rows to insert
+     */
+    protected void serializeForUpsert(QueryMetadata metadata, RelationalPath<?> entity, List<SQLMergeBatch> batches) {
+        SQLMergeBatch first = batches.get(0);
+        serializeForInsert(metadata, entity, first.getColumns(), first.getValues(), first.getSubQuery());
+        for (int i = 1; i < batches.size(); i++) {
+            append(COMMA);
+            serializeValues(batches.get(i).getColumns(), batches.get(i).getValues());
+        }
+    }
+
+    /**
+     * Serialize a MERGE statement with a USING clause
+     *
+     * @param metadata metadata
+     * @param entity target table
+     * @param batches rows to merge
+     * @param valuesSource true, to use a {@code values} row constructor as source, false to use
+     *                     selects from the dummy table
+     */
+    protected void serializeForMergeUsing(QueryMetadata metadata, RelationalPath<?> entity, List<SQLMergeBatch> batches,
+            boolean valuesSource) {
+        SQLMergeBatch first = batches.get(0);
+        List<? extends Path<?>> keys = getMergeKeys(first.getKeys());
+        List<Path<?>> columns = first.getColumns();
+
+        serialize(Position.START, metadata.getFlags());
+        if (!serialize(Position.START_OVERRIDE, metadata.getFlags())) {
+            append(templates.getMergeInto());
+        }
+        serialize(Position.AFTER_SELECT, metadata.getFlags());
+
+        boolean originalDmlWithSchema = dmlWithSchema;
+        dmlWithSchema = true;
+        handle(entity);
+        dmlWithSchema = originalDmlWithSchema;
+
+        // source
+        append("\nusing ");
+        if (first.getSubQuery() != null) {
+            append("(");
+            if (valuesSource) {
+                serialize(first.getSubQuery().getMetadata(), false);
+                append(") src (");
+                serializeColumns(columns);
+                append(")");
+            } else {
+                serialize(getAliasedSource(first.getSubQuery().getMetadata(), columns), false);
+                append(") src");
+            }
+        } else if (valuesSource) {
+            append("(").append(templates.getValues());
+            for (int i = 0; i < batches.size(); i++) {
+                if (i > 0) {
+                    append(COMMA);
+                }
+                serializeValues(batches.get(i).getColumns(), batches.get(i).getValues());
+            }
+            append(") src (");
+            serializeColumns(columns);
+            append(")");
+        } else {
+            append("(");
+            for (int i = 0; i < batches.size(); i++) {
+                if (i > 0) {
+                    append("\nunion all\n");
+                }
+                List<Path<?>> rowColumns = batches.get(i).getColumns();
+                List<Expression<?>> rowValues = batches.get(i).getValues();
+                addConstantPaths(rowColumns, rowValues);
+                append(templates.getSelect());
+                for (int j = 0; j < rowColumns.size(); j++) {
+                    if (j > 0) {
+                        append(COMMA);
+                    }
+                    handle(rowValues.get(j));
+                    append(" ");
+                    serializeColumns(Collections.singletonList(rowColumns.get(j)));
+                }
+                append(templates.getFrom()).append(templates.getDummyTable());
+            }
+            append(") src");
+        }
+
+        // condition
+        append("\non (");
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                append(" and ");
+            }
+            handle(keys.get(i));
+            append(" = src.");
+            serializeColumns(Collections.singletonList(keys.get(i)));
+        }
+        append(")");
+
+        // update
+        List<Path<?>> updates = getMergeUpdates(keys, columns);
+        if (!updates.isEmpty()) {
+            append("\nwhen matched then update set ");
+            serializeMergeUpdates(updates, "src.", "");
+        }
+
+        // insert
+        append("\nwhen not matched then insert (");
+        serializeColumns(columns);
+        append(")").append(templates.getValues()).append("(");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                append(COMMA);
+            }
+            append("src.");
+            serializeColumns(Collections.singletonList(columns.get(i)));
+        }
+        append(")");
+    }
+
+    /**
+     * Alias the projection of a merge source query to the names of the given target columns
+     *
+     * @param metadata source query metadata
+     * @param columns target columns
+     * @return metadata with aliased projection
+     */
+    private QueryMetadata getAliasedSource(QueryMetadata metadata, List<Path<?>> columns) {
+        Expression<?> projection = metadata.getProjection();
+        List<? extends Expression<?>> args = projection instanceof FactoryExpression<?>
+                ? ((FactoryExpression<?>) projection).getArgs()
+                : Collections.singletonList(projection);
+        if (args.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " source columns, but got " + args.size());
+        }
+        List<Expression<?>> aliased = new ArrayList<>(args.size());
+        for (int i = 0; i < args.size(); i++) {
+            aliased.add(ExpressionUtils.as(args.get(i), ColumnMetadata.getName(columns.get(i))));
+        }
+        QueryMetadata aliasedMetadata = metadata.clone();
+        aliasedMetadata.setProjection(Projections.tuple(aliased));
+        return aliasedMetadata;
+    }
+
+    /**
+     * Serialize an {@code on conflict} clause which updates the non-key columns of the given batch
+     *
+     * @param batch merge batch
+     */
+    protected void serializeForOnConflict(SQLMergeBatch batch) {
+        List<? extends Path<?>> keys = getMergeKeys(batch.getKeys());
+        List<Path<?>> updates = getMergeUpdates(keys, batch.getColumns());
+        append("\non conflict (");
+        serializeColumns(keys);
+        if (updates.isEmpty()) {
+            append(") do nothing");
+        } else {
+            append(") do update set ");
+            serializeMergeUpdates(updates, "excluded.", "");
+        }
+    }
+
+    /**
+     * Get the keys of a merge, which default to the primary key of the target table
+     *
+     * @param keys explicit keys
+     * @return keys
+     */
+    protected List<? extends Path<?>> getMergeKeys(List<Path<?>> keys) {
+        if (!keys.isEmpty()) {
+            return keys;
+        } else if (entity.getPrimaryKey() != null) {
+            return entity.getPrimaryKey().getLocalColumns();
+        } else {
+            throw new IllegalStateException("No keys were defined, invoke keys(..) to add keys");
+        }
+    }
+
+    /**
+     * Get the columns of a merge which are updated, when a row with the given keys exists
+     *
+     * @param keys keys
+     * @param columns columns
+     * @return non-key columns
+     */
+    protected List<Path<?>> getMergeUpdates(List<? extends Path<?>> keys, List<Path<?>> columns) {
+        List<Path<?>> updates = new ArrayList<>(columns.size());
+        for (Path<?> column : columns) {
+            if (!keys.contains(column)) {
+                updates.add(column);
+            }
+        }
+        return updates;
+    }
+
+    /**
+     * Serialize {@code column = prefix column suffix} assignments for the given columns
+     *
+     * @param columns columns
+     * @param prefix prefix of the assigned value
+     * @param suffix suffix of the assigned value
+     */
+    protected void serializeMergeUpdates(List<? extends Path<?>> columns, String prefix, String suffix) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                append(COMMA);
+            }
+            List<? extends Path<?>> column = Collections.singletonList(columns.get(i));
+            serializeColumns(column);
+            append(" = ").append(prefix);
+            serializeColumns(column);
+            append(suffix);
+        }
+    }
+
+    protected void serializeColumns(List<? extends Path<?>> columns) {
+        boolean oldSkipParent = skipParent;
+        skipParent = true;
+        handle(COMMA, columns);
+        skipParent = oldSkipParent;
+    }
+
+    private void serializeValues(List<Path<?>> columns, List<Expression<?>> values) {
+        addConstantPaths(columns, values);
+        append("(").handle(COMMA, values).append(")");
+    }
+
+    private void addConstantPaths(List<Path<?>> columns, List<Expression<?>> values) {
+        if (!useLiterals) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (values.get(i) instanceof Constant<?>) {
+                    constantPaths.add(columns.get(i));
+                }
+            }
+        }
+    }
+
     public void serializeInsert(QueryMetadata metadata, RelationalPath<?> entity, List<Path<?>> columns,
             List<Expression<?>> values, @Nullable SubQueryExpression<?> subQuery) {
         this.entity = entity;
@@ -69,6 +69,8 @@ public class SQLServer2005Templates extends SQLServerTemplates {
 
     protected SQLServer2005Templates(Set<String> keywords, char escape, boolean quote) {
         super(keywords, escape, quote);
+        // merge statements were introduced in SQL Server 2008
+        setNativeMergeSupported(false);
         //The older MSSQL Server suite doesn't support logarithms with a base other
         //than 10 and the natural logarithm, so we do it manually
         add(Ops.MathOps.LOG, "(LOG({0}) / LOG({1}))");
@@ -15,8 +15,11 @@ package com.querydsl.sql;
 
 import java.sql.Types;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import org.jetbrains.annotations.Nullable;
+
 import com.querydsl.core.QueryFlag;
 import com.querydsl.core.QueryFlag.Position;
 import com.querydsl.core.QueryMetadata;
@@ -24,7 +27,10 @@ import com.querydsl.core.QueryModifiers;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.sql.dml.SQLMergeBatch;
 
 /**
  * {@code SQLServerTemplates} is an SQL dialect for Microsoft SQL Server
@@ -65,6 +71,7 @@ public class SQLServerTemplates extends SQLTemplates {
 
     protected SQLServerTemplates(Set<String> keywords, char escape, boolean quote) {
         super(keywords, "\"", escape, quote, false);
+        setNativeMergeSupported(true);
         setDummyTable("");
         setNullsFirst(null);
         setNullsLast(null);
@@ -246,4 +253,22 @@ public class SQLServerTemplates extends SQLTemplates {
         // do nothing
     }
 
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity, List<Path<?>> keys,
+            List<Path<?>> columns, List<Expression<?>> values, @Nullable SubQueryExpression<?> subQuery,
+            SQLSerializer context) {
+        serializeMerge(metadata, entity,
+                Collections.singletonList(new SQLMergeBatch(keys, columns, values, subQuery)), context);
+    }
+
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity,
+            List<SQLMergeBatch> batches, SQLSerializer context) {
+        context.serializeForMergeUsing(metadata, entity, batches, true);
+        if (!metadata.getFlags().isEmpty()) {
+            context.serialize(Position.END, metadata.getFlags());
+        }
+        context.append(";");
+    }
+
 }
@@ -28,6 +28,7 @@ import com.querydsl.core.*;
 import com.querydsl.core.QueryFlag.Position;
 import com.querydsl.core.types.*;
 import com.querydsl.sql.dml.SQLInsertBatch;
+import com.querydsl.sql.dml.SQLMergeBatch;
 import com.querydsl.sql.types.Type;
 
 /**
@@ -67,7 +68,7 @@ public class SQLTemplates extends Templates {
      */
     public abstract static class Builder {
 
-        protected boolean printSchema, quote, newLineToSingleSpace;
+        protected boolean printSchema, quote, newLineToSingleSpace, nativeMerge;
 
         protected char escape = '\\';
 
@@ -86,6 +87,18 @@ public class SQLTemplates extends Templates {
             return this;
         }
 
+        /**
+         * Render merge clauses as single upsert statements. This is supported by the H2, MySQL, Oracle,
+         * PostgreSQL, SQLite and SQL Server 2008+ templates. MySQL, PostgreSQL and SQLite require
+         * a unique constraint on the merge keys. {@link #build()} fails for other templates.
+         *
+         * @return builder
+         */
+        public Builder nativeMerge() {
+            nativeMerge = true;
+            return this;
+        }
+
         public Builder escape(char ch) {
             escape = ch;
             return this;
@@ -99,6 +112,13 @@ public class SQLTemplates extends Templates {
                 templates.newLineToSingleSpace();
             }
             templates.setPrintSchema(printSchema);
+            if (nativeMerge) {
+                if (!templates.isNativeMergeSupported()) {
+                    throw new IllegalStateException(
+                            templates.getClass().getSimpleName() + " doesn't support native merges");
+                }
+                templates.setNativeMerge(true);
+            }
             return templates;
         }
 
@@ -170,6 +190,8 @@ public class SQLTemplates extends Templates {
 
     private boolean nativeMerge;
 
+    private boolean nativeMergeSupported;
+
     private String notNull = " not null";
 
     private String offsetTemplate = "\noffset {0}";
@@ -228,12 +250,18 @@ public class SQLTemplates extends Templates {
 
     private boolean batchToBulkSupported = true;
 
+    private BulkLoadMethod bulkLoadMethod = BulkLoadMethod.INSERT;
+
     private int listMaxSize = 0;
 
     private boolean supportsUnquotedReservedWordsAsIdentifier = false;
 
     private int maxLimit = Integer.MAX_VALUE;
 
+    private int streamingFetchSize = 1000;
+
+    private boolean streamingRequiresTransaction = false;
+
     private QueryFlag forShareFlag = new QueryFlag(Position.END, FOR_SHARE);
 
     private QueryFlag forUpdateFlag = new QueryFlag(Position.END, FOR_UPDATE);
@@ -679,6 +707,10 @@ public class SQLTemplates extends Templates {
         return nativeMerge;
     }
 
+    public final boolean isNativeMergeSupported() {
+        return nativeMergeSupported;
+    }
+
     public final boolean isSupportsAlias() {
         return true;
     }
@@ -775,6 +807,33 @@ public class SQLTemplates extends Templates {
         return batchToBulkSupported;
     }
 
+    /**
+     * Get the default method of {@link com.querydsl.sql.dml.SQLBulkLoader}
+     *
+     * @return bulk load method
+     */
+    public final BulkLoadMethod getBulkLoadMethod() {
+        return bulkLoadMethod;
+    }
+
+    /**
+     * Get the fetch size to be used for streaming queries
+     *
+     * @return fetch size, negative values are driver specific streaming markers
+     */
+    public final int getStreamingFetchSize() {
+        return streamingFetchSize;
+    }
+
+    /**
+     * Get whether the driver honors the fetch size only outside of auto-commit mode
+     *
+     * @return true, if streaming queries need to be executed in a transaction
+     */
+    public final boolean isStreamingRequiresTransaction() {
+        return streamingRequiresTransaction;
+    }
+
     public final QueryFlag getForShareFlag() {
         return forShareFlag;
     }
@@ -849,6 +908,19 @@ public class SQLTemplates extends Templates {
         }
     }
 
+    /**
+     * template method for the statement of native bulk loads
+     *
+     * @param entity target table
+     * @param columns target columns
+     * @param source name of the source file, if used by the bulk load method
+     * @param context serializer
+     */
+    public void serializeBulkLoad(RelationalPath<?> entity, List<Path<?>> columns, String source,
+            SQLSerializer context) {
+        throw new UnsupportedOperationException("Bulk load via " + bulkLoadMethod + " is not supported");
+    }
+
     /**
      * template method for DELETE serialization
      *
@@ -926,6 +998,23 @@ public class SQLTemplates extends Templates {
         }
     }
 
+    /**
+     * template method for MERGE serialization of multiple rows
+     *
+     * @param metadata
+     * @param entity
+     * @param batches
+     * @param context
+     */
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity,
+            List<SQLMergeBatch> batches, SQLSerializer context) {
+        context.serializeForMerge(metadata, entity, batches);
+
+        if (!metadata.getFlags().isEmpty()) {
+            context.serialize(Position.END, metadata.getFlags());
+        }
+    }
+
     /**
      * template method for UPDATE serialization
      *
@@ -1064,6 +1153,13 @@ public class SQLTemplates extends Templates {
 
     protected void setNativeMerge(boolean nativeMerge) {
         this.nativeMerge = nativeMerge;
+        if (nativeMerge) {
+            this.nativeMergeSupported = true;
+        }
+    }
+
+    protected void setNativeMergeSupported(boolean nativeMergeSupported) {
+        this.nativeMergeSupported = nativeMergeSupported;
     }
 
     protected void setNotNull(String notNull) {
@@ -1198,6 +1294,18 @@ public class SQLTemplates extends Templates {
         this.batchToBulkSupported = b;
     }
 
+    protected void setBulkLoadMethod(BulkLoadMethod method) {
+        this.bulkLoadMethod = method;
+    }
+
+    protected void setStreamingFetchSize(int i) {
+        this.streamingFetchSize = i;
+    }
+
+    protected void setStreamingRequiresTransaction(boolean b) {
+        this.streamingRequiresTransaction = b;
+    }
+
     protected void setForShareFlag(QueryFlag flag) {
         forShareFlag = flag;
     }
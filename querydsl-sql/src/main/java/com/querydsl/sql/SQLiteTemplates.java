@@ -13,10 +13,18 @@
  */
 package com.querydsl.sql;
 
+import com.querydsl.core.QueryFlag.Position;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.SubQueryExpression;
+import com.querydsl.sql.dml.SQLMergeBatch;
 import com.querydsl.sql.types.BigDecimalAsDoubleType;
 import com.querydsl.sql.types.BigIntegerAsLongType;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -24,6 +32,8 @@ import java.time.LocalTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * {@code SQLiteTemplates} is a SQL dialect for SQLite
@@ -61,6 +71,7 @@ public class SQLiteTemplates extends SQLTemplates {
 
     public SQLiteTemplates(char escape, boolean quote) {
         super(Keywords.SQLITE, "\"", escape, quote, false);
+        setNativeMergeSupported(true);
         setDummyTable(null);
         addCustomType(BigDecimalAsDoubleType.DEFAULT);
         addCustomType(BigIntegerAsLongType.DEFAULT);
@@ -141,4 +152,22 @@ public class SQLiteTemplates extends SQLTemplates {
         }
     }
 
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity, List<Path<?>> keys,
+            List<Path<?>> columns, List<Expression<?>> values, @Nullable SubQueryExpression<?> subQuery,
+            SQLSerializer context) {
+        serializeMerge(metadata, entity,
+                Collections.singletonList(new SQLMergeBatch(keys, columns, values, subQuery)), context);
+    }
+
+    @Override
+    public void serializeMerge(QueryMetadata metadata, RelationalPath<?> entity,
+            List<SQLMergeBatch> batches, SQLSerializer context) {
+        context.serializeForUpsert(metadata, entity, batches);
+        context.serializeForOnConflict(batches.get(0));
+        if (!metadata.getFlags().isEmpty()) {
+            context.serialize(Position.END, metadata.getFlags());
+        }
+    }
+
 }
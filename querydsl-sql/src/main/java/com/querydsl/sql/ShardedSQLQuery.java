@@ -0,0 +1,483 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.mysema.commons.lang.CloseableIterator;
+import com.mysema.commons.lang.IteratorAdapter;
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.QueryException;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.QueryModifiers;
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.*;
+import com.querydsl.core.util.MathUtils;
+
+/**
+ * {@code ShardedSQLQuery} is a query which is executed concurrently on the shards of a
+ * {@link ShardedSQLQueryFactory}.
+ *
+ * <p>The results of the shards are merged as follows</p>
+ * <ul>
+ *   <li>without order, the results are concatenated in shard order</li>
+ *   <li>with order, the ordered results of the shards are merged. The order expressions are
+ *   compared in memory, so they need to be {@link Comparable} and compare like in the database.
+ *   Nulls are ordered first, unless the null handling is given explicitly</li>
+ *   <li>limit and offset are applied to the merged results. The shards return the first
+ *   offset + limit rows each</li>
+ *   <li>distinct results are made distinct across shards, also for {@link #fetchCount()}, which
+ *   loads the distinct rows of the shards in this case</li>
+ *   <li>count, sum, min and max aggregates without grouping are combined</li>
+ * </ul>
+ *
+ * <p>Grouping and other aggregates, also when nested in other expressions, can't be merged and
+ * are rejected.</p>
+ *
+ * @param <T> result type
+ */
+public class ShardedSQLQuery<T> extends AbstractSQLQuery<T, ShardedSQLQuery<T>> {
+
+    private static final Logger logger = Logger.getLogger(ShardedSQLQuery.class.getName());
+
+    private static final Set<Operator> COMBINABLE_AGGREGATES = Collections.unmodifiableSet(
+            new HashSet<Operator>(Arrays.asList(Ops.AggOps.COUNT_AGG, Ops.AggOps.COUNT_ALL_AGG,
+                    Ops.AggOps.SUM_AGG, Ops.AggOps.MIN_AGG, Ops.AggOps.MAX_AGG)));
+
+    private static final Set<Operator> AGGREGATES = Collections.unmodifiableSet(
+            new HashSet<Operator>(Arrays.asList(Ops.AggOps.values())));
+
+    private final ShardedSQLQueryFactory factory;
+
+    @Nullable
+    private Set<Integer> shardIndexes;
+
+    private StatementOptions statementOptions = StatementOptions.DEFAULT;
+
+    public ShardedSQLQuery(ShardedSQLQueryFactory factory) {
+        this(factory, new DefaultQueryMetadata());
+    }
+
+    public ShardedSQLQuery(ShardedSQLQueryFactory factory, QueryMetadata metadata) {
+        super((Connection) null, factory.getConfiguration(), metadata);
+        this.factory = factory;
+    }
+
+    /**
+     * Restrict the execution to the given shards
+     *
+     * @param indexes shard indexes
+     * @return the current object
+     */
+    public ShardedSQLQuery<T> shards(int... indexes) {
+        if (shardIndexes == null) {
+            shardIndexes = new TreeSet<>();
+        }
+        for (int index : indexes) {
+            if (index < 0 || index >= factory.getShards().size()) {
+                throw new IllegalArgumentException("No shard with index " + index);
+            }
+            shardIndexes.add(index);
+        }
+        return this;
+    }
+
+    /**
+     * Restrict the execution to the shards of the given keys, as resolved by the shard resolver
+     * of the factory
+     *
+     * @param keys shard keys
+     * @return the current object
+     */
+    public ShardedSQLQuery<T> shardKeys(Object... keys) {
+        ToIntFunction<Object> resolver = factory.getShardResolver();
+        if (resolver == null) {
+            throw new IllegalStateException("No shard resolver has been set");
+        }
+        for (Object key : keys) {
+            shards(resolver.applyAsInt(key));
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<T> fetch() {
+        QueryMetadata metadata = getMetadata();
+        Expression<T> projection = (Expression<T>) metadata.getProjection();
+        if (projection == null) {
+            throw new IllegalArgumentException("No projection given");
+        }
+        checkNotGrouped(metadata);
+        FactoryExpression<T> factory = projection instanceof FactoryExpression<?>
+                ? FactoryExpressionUtils.wrap((FactoryExpression<T>) projection)
+                : null;
+        List<Expression<?>> args = factory != null
+                ? factory.getArgs()
+                : Collections.<Expression<?>>singletonList(projection);
+        if (isAggregate(args)) {
+            return Collections.singletonList(fetchAggregate(factory, args));
+        }
+
+        QueryModifiers modifiers = metadata.getModifiers();
+        QueryMetadata shardMetadata = metadata.clone();
+        if (modifiers.isRestricting()) {
+            Long limit = modifiers.getLimit() != null && modifiers.getOffset() != null
+                    ? Long.valueOf(modifiers.getLimit() + modifiers.getOffset())
+                    : modifiers.getLimit();
+            shardMetadata.setModifiers(new QueryModifiers(limit, null));
+        }
+
+        List<T> rv;
+        List<OrderSpecifier<?>> orderBy = metadata.getOrderBy();
+        if (orderBy.isEmpty()) {
+            rv = new ArrayList<>();
+            for (List<?> results : execute(shardMetadata, SQLQuery::fetch)) {
+                rv.addAll((List<T>) results);
+            }
+        } else {
+            // the shards return flat tuples of the projection columns and the order targets
+            List<Expression<?>> exprs = new ArrayList<>(args.size() + orderBy.size());
+            exprs.addAll(args);
+            for (OrderSpecifier<?> order : orderBy) {
+                exprs.add(order.getTarget());
+            }
+            shardMetadata.setProjection(Projections.tuple(exprs));
+            rv = merge(execute(shardMetadata, SQLQuery::fetch), orderBy, factory, args.size());
+        }
+
+        if (metadata.isDistinct()) {
+            rv = new ArrayList<>(new LinkedHashSet<>(rv));
+        }
+        return modifiers.subList(rv);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> merge(List<List<?>> results, List<OrderSpecifier<?>> orderBy,
+            @Nullable FactoryExpression<T> factory, int columns) {
+        Comparator<Tuple> comparator = (a, b) -> {
+            for (int i = 0; i < orderBy.size(); i++) {
+                int rv = compare(orderBy.get(i), a.get(columns + i, Object.class), b.get(columns + i, Object.class));
+                if (rv != 0) {
+                    return rv;
+                }
+            }
+            return 0;
+        };
+
+        // entries are cursors of {shard, position}, ties are resolved by shard order
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> {
+            int rv = comparator.compare((Tuple) results.get(a[0]).get(a[1]), (Tuple) results.get(b[0]).get(b[1]));
+            return rv != 0 ? rv : Integer.compare(a[0], b[0]);
+        });
+        int size = 0;
+        for (int i = 0; i < results.size(); i++) {
+            size += results.get(i).size();
+            if (!results.get(i).isEmpty()) {
+                queue.add(new int[]{i, 0});
+            }
+        }
+
+        List<T> rv = new ArrayList<>(size);
+        while (!queue.isEmpty()) {
+            int[] cursor = queue.poll();
+            List<?> shardResults = results.get(cursor[0]);
+            Tuple tuple = (Tuple) shardResults.get(cursor[1]);
+            if (factory != null) {
+                rv.add(factory.newInstance(Arrays.copyOf(tuple.toArray(), columns)));
+            } else {
+                rv.add((T) tuple.get(0, Object.class));
+            }
+            if (++cursor[1] < shardResults.size()) {
+                queue.add(cursor);
+            }
+        }
+        return rv;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(OrderSpecifier<?> order, @Nullable Object a, @Nullable Object b) {
+        if (a == null || b == null) {
+            if (a == b) {
+                return 0;
+            }
+            boolean nullsLast = order.getNullHandling() == OrderSpecifier.NullHandling.NullsLast;
+            return (a == null) == nullsLast ? 1 : -1;
+        }
+        int rv = ((Comparable) a).compareTo(b);
+        return order.isAscending() ? rv : -rv;
+    }
+
+    private static void checkNotGrouped(QueryMetadata metadata) {
+        if (!metadata.getGroupBy().isEmpty() || metadata.getHaving() != null) {
+            throw new UnsupportedOperationException("Grouped results can't be merged across shards");
+        }
+    }
+
+    private static boolean isAggregate(List<Expression<?>> args) {
+        boolean aggregate = false;
+        for (Expression<?> arg : args) {
+            aggregate |= containsAggregate(arg);
+        }
+        if (aggregate) {
+            for (Expression<?> arg : args) {
+                if (!(arg instanceof Operation<?>)
+                        || !COMBINABLE_AGGREGATES.contains(((Operation<?>) arg).getOperator())
+                        || containsAggregate(((Operation<?>) arg).getArgs())) {
+                    throw new UnsupportedOperationException(arg + " can't be combined across shards");
+                }
+            }
+        }
+        return aggregate;
+    }
+
+    private static boolean containsAggregate(List<?> args) {
+        for (Object arg : args) {
+            if (arg instanceof Expression<?> && containsAggregate((Expression<?>) arg)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAggregate(Expression<?> expr) {
+        if (expr instanceof Operation<?>) {
+            Operation<?> operation = (Operation<?>) expr;
+            return AGGREGATES.contains(operation.getOperator()) || containsAggregate(operation.getArgs());
+        } else if (expr instanceof TemplateExpression<?>) {
+            return containsAggregate(((TemplateExpression<?>) expr).getArgs());
+        } else if (expr instanceof FactoryExpression<?>) {
+            return containsAggregate(((FactoryExpression<?>) expr).getArgs());
+        } else {
+            return false;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private T fetchAggregate(@Nullable FactoryExpression<T> factory, List<Expression<?>> args) {
+        QueryMetadata shardMetadata = getMetadata().clone();
+        shardMetadata.setModifiers(QueryModifiers.EMPTY);
+        shardMetadata.clearOrderBy();
+        shardMetadata.setProjection(Projections.tuple(args.toArray(new Expression<?>[0])));
+
+        Object[] combined = new Object[args.size()];
+        for (Object result : execute(shardMetadata, SQLQuery::fetchOne)) {
+            Tuple tuple = (Tuple) result;
+            for (int i = 0; i < combined.length; i++) {
+                Object value = tuple.get(i, Object.class);
+                Operator operator = ((Operation<?>) args.get(i)).getOperator();
+                if (value == null) {
+                    continue;
+                } else if (combined[i] == null) {
+                    combined[i] = value;
+                } else if (operator == Ops.AggOps.MIN_AGG) {
+                    combined[i] = ((Comparable) value).compareTo(combined[i]) < 0 ? value : combined[i];
+                } else if (operator == Ops.AggOps.MAX_AGG) {
+                    combined[i] = ((Comparable) value).compareTo(combined[i]) > 0 ? value : combined[i];
+                } else {
+                    combined[i] = MathUtils.sum((Number) combined[i], (Number) value);
+                }
+            }
+        }
+        if (factory != null) {
+            return factory.newInstance(combined);
+        } else {
+            return (T) combined[0];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public CloseableIterator<T> iterate() {
+        return new IteratorAdapter<T>(fetch().iterator());
+    }
+
+    @Override
+    public long fetchCount() {
+        QueryMetadata shardMetadata = getMetadata().clone();
+        checkNotGrouped(shardMetadata);
+        if (shardMetadata.isDistinct()) {
+            return fetchDistinctCount(shardMetadata);
+        }
+        long rv = 0;
+        for (Long count : execute(shardMetadata, SQLQuery::fetchCount)) {
+            rv += count;
+        }
+        return rv;
+    }
+
+    private long fetchDistinctCount(QueryMetadata shardMetadata) {
+        Expression<?> projection = shardMetadata.getProjection();
+        if (projection == null) {
+            throw new UnsupportedOperationException("Distinct counts without projection can't be merged across shards");
+        }
+        List<Expression<?>> args = projection instanceof FactoryExpression<?>
+                ? FactoryExpressionUtils.wrap((FactoryExpression<?>) projection).getArgs()
+                : Collections.<Expression<?>>singletonList(projection);
+        shardMetadata.setProjection(Projections.tuple(args));
+        shardMetadata.setModifiers(QueryModifiers.EMPTY);
+        shardMetadata.clearOrderBy();
+        Set<Tuple> rows = new HashSet<>();
+        for (List<?> results : execute(shardMetadata, SQLQuery::fetch)) {
+            for (Object row : results) {
+                rows.add((Tuple) row);
+            }
+        }
+        return rows.size();
+    }
+
+    @Override
+    public QueryResults<T> fetchResults() {
+        long total = fetchCount();
+        if (total > 0) {
+            return new QueryResults<T>(fetch(), getMetadata().getModifiers(), total);
+        } else {
+            return QueryResults.emptyResults();
+        }
+    }
+
+    /**
+     * Execute the given action concurrently on the selected shards
+     *
+     * @param metadata metadata of the shard queries
+     * @param action action to execute
+     * @return results of the shards, in shard order
+     */
+    private <R> List<R> execute(QueryMetadata metadata, Function<SQLQuery<?>, R> action) {
+        List<Supplier<Connection>> shards = factory.getShards();
+        Collection<Integer> indexes = shardIndexes;
+        if (indexes == null) {
+            indexes = new ArrayList<>(shards.size());
+            for (int i = 0; i < shards.size(); i++) {
+                indexes.add(i);
+            }
+        }
+
+        Map<Integer, Future<R>> futures = new LinkedHashMap<>();
+        for (Integer index : indexes) {
+            SQLQuery<?> query = new SQLQuery<Void>(shards.get(index), getConfiguration(), metadata.clone());
+            for (SQLDetailedListener listener : listeners.getListeners()) {
+                query.addListener(listener);
+            }
+            query.setUseLiterals(useLiterals);
+            query.setStatementOptions(getShardStatementOptions());
+            futures.put(index, factory.getExecutor().submit(() -> action.apply(query)));
+        }
+
+        long timeout = factory.getTimeout();
+        long deadline = System.currentTimeMillis() + timeout;
+        List<R> rv = new ArrayList<>(futures.size());
+        try {
+            for (Map.Entry<Integer, Future<R>> entry : futures.entrySet()) {
+                try {
+                    if (timeout > 0) {
+                        long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+                        rv.add(entry.getValue().get(remaining, TimeUnit.MILLISECONDS));
+                    } else {
+                        rv.add(entry.getValue().get());
+                    }
+                } catch (ExecutionException | TimeoutException e) {
+                    entry.getValue().cancel(true);
+                    Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                    if (factory.getFailurePolicy() == ShardFailurePolicy.IGNORE) {
+                        logger.log(Level.WARNING, "Ignoring failure of shard " + entry.getKey(), cause);
+                    } else if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else {
+                        throw new QueryException("Query failed on shard " + entry.getKey(), cause);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryException(e);
+        } finally {
+            for (Future<R> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+        return rv;
+    }
+
+    private StatementOptions getShardStatementOptions() {
+        long timeout = factory.getTimeout();
+        if (timeout > 0 && statementOptions.getQueryTimeout() == null) {
+            return StatementOptions.builder()
+                    .setMaxFieldSize(statementOptions.getMaxFieldSize())
+                    .setMaxRows(statementOptions.getMaxRows())
+                    .setFetchSize(statementOptions.getFetchSize())
+                    .setQueryTimeout((int) TimeUnit.MILLISECONDS.toSeconds(timeout + 999))
+                    .build();
+        }
+        return statementOptions;
+    }
+
+    @Override
+    public void setStatementOptions(StatementOptions statementOptions) {
+        super.setStatementOptions(statementOptions);
+        this.statementOptions = statementOptions;
+    }
+
+    @Override
+    public ResultSet getResults(Expression<?>... exprs) {
+        throw new UnsupportedOperationException("Result sets of sharded queries can't be merged");
+    }
+
+    @Override
+    public ResultSet getResults() {
+        throw new UnsupportedOperationException("Result sets of sharded queries can't be merged");
+    }
+
+    @Override
+    public ShardedSQLQuery<T> clone(Connection conn) {
+        ShardedSQLQuery<T> q = new ShardedSQLQuery<T>(factory, getMetadata().clone());
+        q.clone(this);
+        if (shardIndexes != null) {
+            q.shardIndexes = new TreeSet<>(shardIndexes);
+        }
+        q.statementOptions = statementOptions;
+        return q;
+    }
+
+    @Override
+    public <U> ShardedSQLQuery<U> select(Expression<U> expr) {
+        queryMixin.setProjection(expr);
+        @SuppressWarnings("unchecked") // This is the new type
+        ShardedSQLQuery<U> newType = (ShardedSQLQuery<U>) this;
+        return newType;
+    }
+
+    @Override
+    public ShardedSQLQuery<Tuple> select(Expression<?>... exprs) {
+        queryMixin.setProjection(exprs);
+        @SuppressWarnings("unchecked") // This is the new type
+        ShardedSQLQuery<Tuple> newType = (ShardedSQLQuery<Tuple>) this;
+        return newType;
+    }
+
+}
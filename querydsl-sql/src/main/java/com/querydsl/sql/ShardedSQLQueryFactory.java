@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import javax.sql.DataSource;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+
+/**
+ * {@code ShardedSQLQueryFactory} creates queries which are executed concurrently on several
+ * databases with identical schemas, and whose results are merged.
+ *
+ * <p>The shards are expected to hold disjoint rows. See {@link ShardedSQLQuery} for how the
+ * results are merged.</p>
+ *
+ * <pre>{@code
+ * ShardedSQLQueryFactory factory = new ShardedSQLQueryFactory(configuration, shards, executor);
+ * factory.setShardResolver(tenantId -> Math.floorMod(tenantId.hashCode(), shards.size()));
+ * List<String> names = factory.select(survey.name).from(survey).orderBy(survey.name.asc()).limit(10).fetch();
+ * }</pre>
+ */
+public class ShardedSQLQueryFactory {
+
+    private final Configuration configuration;
+
+    private final List<Supplier<Connection>> shards;
+
+    private final ExecutorService executor;
+
+    @Nullable
+    private ToIntFunction<Object> shardResolver;
+
+    private long timeout;
+
+    private ShardFailurePolicy failurePolicy = ShardFailurePolicy.FAIL;
+
+    /**
+     * Create a new ShardedSQLQueryFactory instance
+     *
+     * @param configuration configuration
+     * @param shards connection providers of the shards
+     * @param executor executor for the per shard queries
+     */
+    public ShardedSQLQueryFactory(Configuration configuration, List<? extends Supplier<Connection>> shards,
+            ExecutorService executor) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.configuration = configuration;
+        this.shards = new ArrayList<>(shards);
+        this.executor = executor;
+    }
+
+    /**
+     * Create a new ShardedSQLQueryFactory instance, which releases the connections of the shards
+     * after each query
+     *
+     * @param configuration configuration
+     * @param dataSources data sources of the shards
+     * @param executor executor for the per shard queries
+     * @return factory
+     */
+    public static ShardedSQLQueryFactory of(Configuration configuration, List<DataSource> dataSources,
+            ExecutorService executor) {
+        List<Supplier<Connection>> shards = new ArrayList<>(dataSources.size());
+        for (DataSource dataSource : dataSources) {
+            shards.add(new SQLQueryFactory.DataSourceProvider(dataSource));
+        }
+        configuration.addListener(SQLCloseListener.DEFAULT);
+        return new ShardedSQLQueryFactory(configuration, shards, executor);
+    }
+
+    /**
+     * Create a new query on all shards
+     *
+     * @return query
+     */
+    public ShardedSQLQuery<?> query() {
+        return new ShardedSQLQuery<Void>(this);
+    }
+
+    public <T> ShardedSQLQuery<T> select(Expression<T> expr) {
+        return query().select(expr);
+    }
+
+    public ShardedSQLQuery<Tuple> select(Expression<?>... exprs) {
+        return query().select(exprs);
+    }
+
+    public <T> ShardedSQLQuery<T> selectDistinct(Expression<T> expr) {
+        return query().select(expr).distinct();
+    }
+
+    public ShardedSQLQuery<Tuple> selectDistinct(Expression<?>... exprs) {
+        return query().select(exprs).distinct();
+    }
+
+    public ShardedSQLQuery<Integer> selectOne() {
+        return select(Expressions.ONE);
+    }
+
+    public <T> ShardedSQLQuery<T> selectFrom(RelationalPath<T> expr) {
+        return select(expr).from(expr);
+    }
+
+    /**
+     * Set the function which maps shard keys given via {@link ShardedSQLQuery#shardKeys(Object...)}
+     * to shard indexes
+     *
+     * @param shardResolver shard resolver
+     */
+    public void setShardResolver(@Nullable ToIntFunction<Object> shardResolver) {
+        this.shardResolver = shardResolver;
+    }
+
+    /**
+     * Set the maximum time to wait for the results of the shards, 0 for no limit
+     *
+     * @param timeout timeout
+     * @param unit unit of the timeout
+     */
+    public void setTimeout(long timeout, TimeUnit unit) {
+        this.timeout = unit.toMillis(timeout);
+    }
+
+    /**
+     * Set how failing shards are handled, defaults to {@link ShardFailurePolicy#FAIL}
+     *
+     * @param failurePolicy failure policy
+     */
+    public void setFailurePolicy(ShardFailurePolicy failurePolicy) {
+        this.failurePolicy = failurePolicy;
+    }
+
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
+    public List<Supplier<Connection>> getShards() {
+        return shards;
+    }
+
+    ExecutorService getExecutor() {
+        return executor;
+    }
+
+    @Nullable
+    ToIntFunction<Object> getShardResolver() {
+        return shardResolver;
+    }
+
+    long getTimeout() {
+        return timeout;
+    }
+
+    ShardFailurePolicy getFailurePolicy() {
+        return failurePolicy;
+    }
+
+}
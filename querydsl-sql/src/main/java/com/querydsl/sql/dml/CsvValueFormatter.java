@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.dml;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Calendar;
+
+import org.jetbrains.annotations.Nullable;
+
+import com.querydsl.core.types.Path;
+import com.querydsl.sql.Configuration;
+
+/**
+ * {@code CsvValueFormatter} renders values for CSV based bulk loads.
+ *
+ * <p>The values are bound via the registered types to a capturing statement, and the captured
+ * JDBC values are formatted, so that the loaded data is the same as with bound parameters.
+ * Temporal values keep their full precision.</p>
+ */
+final class CsvValueFormatter {
+
+    private static final DateTimeFormatter TIME = new DateTimeFormatterBuilder()
+            .appendPattern("HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .toFormatter();
+
+    private static final DateTimeFormatter DATE_TIME = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd ")
+            .append(TIME)
+            .toFormatter();
+
+    private static final DateTimeFormatter OFFSET_TIME = new DateTimeFormatterBuilder()
+            .append(TIME)
+            .appendOffset("+HH:MM", "+00:00")
+            .toFormatter();
+
+    private static final DateTimeFormatter OFFSET_DATE_TIME = new DateTimeFormatterBuilder()
+            .append(DATE_TIME)
+            .appendOffset("+HH:MM", "+00:00")
+            .toFormatter();
+
+    private final Configuration configuration;
+
+    private final PreparedStatement capture;
+
+    @Nullable
+    private Object value;
+
+    @Nullable
+    private Calendar calendar;
+
+    CsvValueFormatter(Configuration configuration) {
+        this.configuration = configuration;
+        this.capture = (PreparedStatement) Proxy.newProxyInstance(CsvValueFormatter.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("setNull")) {
+                        value = null;
+                    } else if (name.startsWith("set") && args != null && args.length >= 2
+                            && args[0] instanceof Integer) {
+                        value = args[1];
+                        calendar = args.length == 3 && args[2] instanceof Calendar ? (Calendar) args[2] : null;
+                    } else {
+                        throw new UnsupportedOperationException(name);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Format the given value of the given column
+     *
+     * @param path column
+     * @param value value
+     * @return formatted value or null, if the value is bound as null
+     */
+    @Nullable
+    String format(Path<?> path, Object value) {
+        this.value = null;
+        this.calendar = null;
+        try {
+            configuration.set(capture, path, 1, value);
+        } catch (SQLException e) {
+            throw configuration.translate(e);
+        }
+        return format(this.value, calendar);
+    }
+
+    @Nullable
+    private static String format(@Nullable Object value, @Nullable Calendar calendar) {
+        ZoneId zone = calendar != null ? calendar.getTimeZone().toZoneId() : ZoneId.systemDefault();
+        if (value == null) {
+            return null;
+        } else if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        } else if (value instanceof Number) {
+            return value.toString();
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        } else if (value instanceof Timestamp) {
+            Timestamp timestamp = (Timestamp) value;
+            return DATE_TIME.format(calendar != null
+                    ? LocalDateTime.ofInstant(timestamp.toInstant(), zone)
+                    : timestamp.toLocalDateTime());
+        } else if (value instanceof Time) {
+            return TIME.format(Instant.ofEpochMilli(((Time) value).getTime()).atZone(zone).toLocalTime());
+        } else if (value instanceof java.sql.Date) {
+            return Instant.ofEpochMilli(((java.sql.Date) value).getTime()).atZone(zone).toLocalDate().toString();
+        } else if (value instanceof java.util.Date) {
+            return DATE_TIME.format(LocalDateTime.ofInstant(((java.util.Date) value).toInstant(), zone));
+        } else if (value instanceof Calendar) {
+            Calendar cal = (Calendar) value;
+            return DATE_TIME.format(LocalDateTime.ofInstant(cal.toInstant(), cal.getTimeZone().toZoneId()));
+        } else if (value instanceof LocalDateTime) {
+            return DATE_TIME.format((LocalDateTime) value);
+        } else if (value instanceof LocalTime) {
+            return TIME.format((LocalTime) value);
+        } else if (value instanceof OffsetDateTime) {
+            return OFFSET_DATE_TIME.format((OffsetDateTime) value);
+        } else if (value instanceof ZonedDateTime) {
+            return OFFSET_DATE_TIME.format(((ZonedDateTime) value).toOffsetDateTime());
+        } else if (value instanceof Instant) {
+            return OFFSET_DATE_TIME.format(((Instant) value).atOffset(ZoneOffset.UTC));
+        } else if (value instanceof OffsetTime) {
+            return OFFSET_TIME.format((OffsetTime) value);
+        } else if (value instanceof byte[] || value instanceof Blob || value instanceof Clob
+                || value instanceof InputStream || value instanceof Reader || value instanceof Array) {
+            throw new IllegalArgumentException("Values of type " + value.getClass().getName()
+                    + " can't be bulk loaded as CSV, use BulkLoadMethod.INSERT instead");
+        } else {
+            return value.toString();
+        }
+    }
+
+}
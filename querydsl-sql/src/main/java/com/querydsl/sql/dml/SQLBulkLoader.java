@@ -0,0 +1,479 @@
+/*
+ * Copyright 2015, The Querydsl Team (http://www.querydsl.com/team)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.querydsl.sql.dml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.QueryException;
+import com.querydsl.core.types.Path;
+import com.querydsl.sql.*;
+import com.querydsl.sql.types.Null;
+
+/**
+ * {@code SQLBulkLoader} loads large numbers of rows into a table via the fastest path of the
+ * dialect.
+ *
+ * <p>The rows are pulled from the given stream or iterator while they are transferred, so only
+ * a single row is kept in memory by the native methods, and a single batch by the
+ * {@link BulkLoadMethod#INSERT insert} fallback. Each batch is executed as its own statement with
+ * its own connection from the connection provider, and the progress callback is invoked after
+ * each batch with the total number of loaded rows.</p>
+ *
+ * <p>The native methods transfer the values as CSV text. The values are rendered from what the
+ * registered types bind as statement parameters, so that all methods load the same data, and
+ * temporal values keep their full precision. Columns with binary, large object or array values
+ * need to use the {@link BulkLoadMethod#INSERT insert} method.</p>
+ *
+ * <pre>{@code
+ * long count = queryFactory.bulkLoad(survey)
+ *     .columns(survey.id, survey.name)
+ *     .batchSize(50000)
+ *     .progress(total -> log.info(total + " rows loaded"))
+ *     .loadRows(rows);
+ * }</pre>
+ *
+ */
+public class SQLBulkLoader {
+
+    private static final Logger logger = Logger.getLogger(SQLBulkLoader.class.getName());
+
+    private static final String[] MYSQL_STATEMENTS = {"com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement"};
+
+    private final Supplier<Connection> connProvider;
+
+    private final Configuration configuration;
+
+    private final RelationalPath<?> entity;
+
+    private final SQLListeners listeners;
+
+    private final List<Path<?>> columns = new ArrayList<>();
+
+    private Mapper<Object> mapper = DefaultMapper.DEFAULT;
+
+    private BulkLoadMethod method;
+
+    private int batchSize = 10000;
+
+    private LongConsumer progress = total -> { };
+
+    public SQLBulkLoader(Supplier<Connection> connProvider, Configuration configuration, RelationalPath<?> entity) {
+        this.connProvider = connProvider;
+        this.configuration = configuration;
+        this.entity = entity;
+        this.listeners = new SQLListeners(configuration.getListeners());
+        this.method = configuration.getTemplates().getBulkLoadMethod();
+    }
+
+    /**
+     * Add a listener
+     *
+     * @param listener listener to add
+     */
+    public void addListener(SQLListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Set the columns to load, defaults to all columns of the table
+     *
+     * @param columns columns
+     * @return the current object
+     */
+    public SQLBulkLoader columns(Path<?>... columns) {
+        this.columns.addAll(Arrays.asList(columns));
+        return this;
+    }
+
+    /**
+     * Set the mapper to extract the column values of beans, defaults to {@link DefaultMapper#DEFAULT}
+     *
+     * @param mapper mapper
+     * @return the current object
+     */
+    public SQLBulkLoader mapper(Mapper<Object> mapper) {
+        this.mapper = mapper;
+        return this;
+    }
+
+    /**
+     * Set the method to use, defaults to {@link SQLTemplates#getBulkLoadMethod()}
+     *
+     * @param method bulk load method
+     * @return the current object
+     */
+    public SQLBulkLoader method(BulkLoadMethod method) {
+        this.method = method;
+        return this;
+    }
+
+    /**
+     * Set the number of rows per statement
+     *
+     * @param batchSize batch size
+     * @return the current object
+     */
+    public SQLBulkLoader batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize needs to be positive, but was " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Set the callback to invoke after each batch with the total number of loaded rows
+     *
+     * @param progress progress callback
+     * @return the current object
+     */
+    public SQLBulkLoader progress(LongConsumer progress) {
+        this.progress = progress;
+        return this;
+    }
+
+    /**
+     * Load the given beans
+     *
+     * @param beans beans
+     * @return number of loaded rows
+     */
+    public long load(Stream<?> beans) {
+        return load(beans.iterator());
+    }
+
+    /**
+     * Load the given beans
+     *
+     * @param beans beans
+     * @return number of loaded rows
+     */
+    public long load(Iterator<?> beans) {
+        List<Path<?>> paths = getColumns();
+        return loadRows(new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return beans.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                Map<Path<?>, Object> values = mapper.createMap(entity, beans.next());
+                Object[] row = new Object[paths.size()];
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = values.get(paths.get(i));
+                }
+                return row;
+            }
+        });
+    }
+
+    /**
+     * Load the given rows, which contain the values of the columns in order
+     *
+     * @param rows rows
+     * @return number of loaded rows
+     */
+    public long loadRows(Stream<Object[]> rows) {
+        return loadRows(rows.iterator());
+    }
+
+    /**
+     * Load the given rows, which contain the values of the columns in order
+     *
+     * @param rows rows
+     * @return number of loaded rows
+     */
+    public long loadRows(Iterator<Object[]> rows) {
+        List<Path<?>> paths = getColumns();
+        long total = 0;
+        while (rows.hasNext()) {
+            Iterator<Object[]> batch = new BatchIterator(rows, batchSize, paths.size());
+            if (method == BulkLoadMethod.INSERT) {
+                total += insert(paths, batch);
+            } else {
+                total += loadNative(paths, batch);
+            }
+            progress.accept(total);
+        }
+        return total;
+    }
+
+    private List<Path<?>> getColumns() {
+        List<Path<?>> paths = columns.isEmpty() ? entity.getColumns() : columns;
+        if (paths.isEmpty()) {
+            throw new IllegalStateException("No columns given for " + entity.getTableName());
+        }
+        return paths;
+    }
+
+    private long insert(List<Path<?>> paths, Iterator<Object[]> batch) {
+        SQLInsertClause insert = new SQLInsertClause(connProvider, configuration, entity);
+        insert.setBatchToBulk(true);
+        Path<?>[] columnArray = paths.toArray(new Path<?>[0]);
+        while (batch.hasNext()) {
+            insert.columns(columnArray).values(batch.next()).addBatch();
+        }
+        return insert.execute();
+    }
+
+    private long loadNative(List<Path<?>> paths, Iterator<Object[]> batch) {
+        Connection conn = connProvider.get();
+        SQLListenerContextImpl context = new SQLListenerContextImpl(new DefaultQueryMetadata(), conn, entity);
+        listeners.start(context);
+        java.nio.file.Path file = null;
+        String queryString = null;
+        try {
+            switch (method) {
+                case COPY:
+                    queryString = serialize(context, paths, "stdin");
+                    return copy(conn, queryString, new CsvInputStream(batch, paths, false, ""), context);
+                case LOAD_DATA:
+                    queryString = serialize(context, paths, "stream");
+                    return loadData(conn, queryString, new CsvInputStream(batch, paths, false, "NULL"), context);
+                case CSVREAD:
+                    file = Files.createTempFile("querydsl", ".csv");
+                    Files.copy(new CsvInputStream(batch, paths, true, ""), file, StandardCopyOption.REPLACE_EXISTING);
+                    queryString = serialize(context, paths, file.toAbsolutePath().toString());
+                    return csvRead(conn, queryString, context);
+                default:
+                    throw new IllegalStateException("Unsupported bulk load method " + method);
+            }
+        } catch (SQLException e) {
+            context.setException(e);
+            listeners.exception(context);
+            throw queryString != null ? configuration.translate(queryString, Collections.emptyList(), e)
+                    : configuration.translate(e);
+        } catch (IOException | ReflectiveOperationException e) {
+            context.setException(e);
+            listeners.exception(context);
+            throw new QueryException(e);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Failed to delete " + file, e);
+                }
+            }
+            listeners.end(context);
+        }
+    }
+
+    private String serialize(SQLListenerContextImpl context, List<Path<?>> paths, String source) {
+        listeners.preRender(context);
+        SQLSerializer serializer = new SQLSerializer(configuration, true);
+        serializer.serializeBulkLoad(entity, paths, source);
+        String queryString = serializer.toString();
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(queryString.replace('\n', ' '));
+        }
+        context.addSQL(new SQLBindings(queryString, Collections.emptyList()));
+        listeners.rendered(context);
+        return queryString;
+    }
+
+    private long copy(Connection conn, String queryString, InputStream data, SQLListenerContextImpl context)
+            throws SQLException, ReflectiveOperationException {
+        Class<?> pgConnection = Class.forName("org.postgresql.PGConnection");
+        Object copyManager = pgConnection.getMethod("getCopyAPI").invoke(conn.unwrap(pgConnection));
+        Method copyIn = copyManager.getClass().getMethod("copyIn", String.class, InputStream.class);
+        listeners.preExecute(context);
+        long rc = (Long) invoke(copyIn, copyManager, queryString, data);
+        listeners.executed(context);
+        return rc;
+    }
+
+    private long loadData(Connection conn, String queryString, InputStream data, SQLListenerContextImpl context)
+            throws SQLException, ReflectiveOperationException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String className : MYSQL_STATEMENTS) {
+                Class<?> statementClass;
+                try {
+                    statementClass = Class.forName(className);
+                } catch (ClassNotFoundException e) {
+                    // try the statement interface of older driver versions
+                    continue;
+                }
+                if (stmt.isWrapperFor(statementClass)) {
+                    Method setInputStream = statementClass.getMethod("setLocalInfileInputStream", InputStream.class);
+                    invoke(setInputStream, stmt.unwrap(statementClass), data);
+                    listeners.preExecute(context);
+                    long rc = stmt.executeLargeUpdate(queryString);
+                    listeners.executed(context);
+                    return rc;
+                }
+            }
+            throw new IllegalStateException("Bulk load via " + method + " requires MySQL Connector/J");
+        }
+    }
+
+    private long csvRead(Connection conn, String queryString, SQLListenerContextImpl context) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(queryString)) {
+            context.addPreparedStatement(stmt);
+            listeners.prepared(context);
+            listeners.preExecute(context);
+            long rc = stmt.executeUpdate();
+            listeners.executed(context);
+            return rc;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args)
+            throws SQLException, ReflectiveOperationException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Iterator over the next rows of a batch, which checks the row lengths
+     */
+    private static final class BatchIterator implements Iterator<Object[]> {
+
+        private final Iterator<Object[]> rows;
+
+        private final int columns;
+
+        private int remaining;
+
+        BatchIterator(Iterator<Object[]> rows, int batchSize, int columns) {
+            this.rows = rows;
+            this.remaining = batchSize;
+            this.columns = columns;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && rows.hasNext();
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            Object[] row = rows.next();
+            if (row.length != columns) {
+                throw new IllegalArgumentException("Expected " + columns + " values, but got " + row.length);
+            }
+            return row;
+        }
+
+    }
+
+    /**
+     * UTF-8 encoded CSV rendering of rows, which are pulled from the iterator on demand
+     */
+    private final class CsvInputStream extends InputStream {
+
+        private final Iterator<Object[]> rows;
+
+        private final List<Path<?>> paths;
+
+        private final String nullValue;
+
+        private final CsvValueFormatter formatter = new CsvValueFormatter(configuration);
+
+        private byte[] line;
+
+        private int pos;
+
+        CsvInputStream(Iterator<Object[]> rows, List<Path<?>> paths, boolean header, String nullValue) {
+            this.rows = rows;
+            this.paths = paths;
+            this.nullValue = nullValue;
+            if (header) {
+                StringBuilder builder = new StringBuilder();
+                for (int i = 0; i < paths.size(); i++) {
+                    builder.append(i > 0 ? ",C" : "C").append(i + 1);
+                }
+                line = builder.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+            } else {
+                line = new byte[0];
+            }
+        }
+
+        private boolean fill() {
+            while (pos == line.length) {
+                if (!rows.hasNext()) {
+                    return false;
+                }
+                line = render(rows.next());
+                pos = 0;
+            }
+            return true;
+        }
+
+        private byte[] render(Object[] row) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                Object value = row[i];
+                String str = value == null || value instanceof Null ? null : formatter.format(paths.get(i), value);
+                if (str == null) {
+                    builder.append(nullValue);
+                } else {
+                    builder.append('"').append(str.replace("\"", "\"\"")).append('"');
+                }
+            }
+            return builder.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int read() {
+            return fill() ? line[pos++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            } else if (!fill()) {
+                return -1;
+            }
+            int n = Math.min(len, line.length - pos);
+            System.arraycopy(line, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+    }
+
+}
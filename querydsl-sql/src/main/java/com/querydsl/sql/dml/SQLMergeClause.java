@@ -41,6 +41,12 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
 
     protected static final Logger logger = Logger.getLogger(SQLMergeClause.class.getName());
 
+    /**
+     * Maximum number of batch items whose existence is resolved with a single query.
+     * Keeps the number of bind parameters below common driver limits for composite keys
+     */
+    protected static final int LOOKUP_CHUNK_SIZE = 500;
+
     protected final List<Path<?>> columns = new ArrayList<Path<?>>();
 
     protected final RelationalPath<?> entity;
@@ -60,6 +66,8 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
 
     protected transient List<Object> constants;
 
+    protected transient boolean batchToBulk;
+
     public SQLMergeClause(Connection connection, SQLTemplates templates, RelationalPath<?> entity) {
         this(connection, new Configuration(templates), entity);
     }
@@ -101,6 +109,10 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
     }
 
     protected List<? extends Path<?>> getKeys() {
+        return getKeys(keys);
+    }
+
+    protected List<? extends Path<?>> getKeys(List<Path<?>> keys) {
         if (!keys.isEmpty()) {
             return keys;
         } else if (entity.getPrimaryKey() != null) {
@@ -116,8 +128,8 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
      * @return the current object
      */
     public SQLMergeClause addBatch() {
-        if (!configuration.getTemplates().isNativeMerge()) {
-            throw new IllegalStateException("batch only supported for databases that support native merge");
+        if (!configuration.getTemplates().isNativeMerge() && subQuery != null) {
+            throw new IllegalStateException("batch with subquery only supported for databases that support native merge");
         }
 
         batches.add(new SQLMergeBatch(keys, columns, values, subQuery));
@@ -128,6 +140,16 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
         return this;
     }
 
+    /**
+     * Set whether batches should be optimized into a single bulk operation.
+     * Will revert to batches, if bulk is not supported. Of batch items with the same
+     * key values only the last one is part of the bulk operation.
+     */
+    public void setBatchToBulk(boolean b) {
+        SQLTemplates templates = configuration.getTemplates();
+        this.batchToBulk = b && templates.isNativeMerge() && templates.isBatchToBulkSupported();
+    }
+
     @Override
     public void clear() {
         batches.clear();
@@ -226,6 +248,10 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
      * @return result set with generated keys
      */
     public ResultSet executeWithKeys() {
+        if (!configuration.getTemplates().isNativeMerge() && !batches.isEmpty() && !isCompositeBatchResolvable()) {
+            throw new IllegalStateException("executeWithKeys of batches with repeated or non-constant keys "
+                    + "is only supported for databases that support native merge");
+        }
         context = startContext(connection(), metadata, entity);
         try {
             if (configuration.getTemplates().isNativeMerge()) {
@@ -234,6 +260,13 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
                     stmt = createStatement(true);
                     listeners.notifyMerge(entity, metadata, keys, columns, values, subQuery);
 
+                    listeners.preExecute(context);
+                    stmt.executeUpdate();
+                    listeners.executed(context);
+                } else if (batchToBulk) {
+                    stmt = createStatement(true);
+                    listeners.notifyMerges(entity, metadata, batches);
+
                     listeners.preExecute(context);
                     stmt.executeUpdate();
                     listeners.executed(context);
@@ -264,6 +297,25 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
                         }
                     }
                 };
+            } else if (!batches.isEmpty()) {
+                SQLInsertClause insert = new SQLInsertClause(connection(), configuration, entity);
+                insert.addListener(listeners);
+                SQLUpdateClause update = new SQLUpdateClause(connection(), configuration, entity);
+                update.addListener(listeners);
+                addCompositeBatches(insert, update);
+                ResultSet rs = insert.getBatchCount() > 0 ? insert.executeWithKeys() : EmptyResultSet.DEFAULT;
+                try {
+                    if (update.getBatchCount() > 0) {
+                        update.execute();
+                    }
+                } catch (RuntimeException e) {
+                    close(rs);
+                    throw e;
+                } finally {
+                    reset();
+                    endContext(context);
+                }
+                return rs;
             } else {
                 if (hasRow()) {
                     // update
@@ -294,6 +346,8 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
     public long execute() {
         if (configuration.getTemplates().isNativeMerge()) {
             return executeNativeMerge();
+        } else if (!batches.isEmpty()) {
+            return executeCompositeMergeBatch();
         } else {
             return executeCompositeMerge();
         }
@@ -305,6 +359,10 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
             SQLSerializer serializer = createSerializer();
             serializer.serializeMerge(metadata, entity, keys, columns, values, subQuery);
             return Collections.singletonList(createBindings(metadata, serializer));
+        } else if (batchToBulk) {
+            SQLSerializer serializer = createSerializer();
+            serializer.serializeMerge(metadata, entity, getBulkBatches());
+            return Collections.singletonList(createBindings(metadata, serializer));
         } else {
             List<SQLBindings> builder = new ArrayList<>();
             for (SQLMergeBatch batch : batches) {
@@ -317,18 +375,31 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
     }
 
     protected boolean hasRow() {
+        return hasRow(getKeys(), columns, values);
+    }
+
+    protected boolean hasRow(List<? extends Path<?>> keys, List<Path<?>> columns, List<Expression<?>> values) {
+        SQLQuery<?> query = createLookupQuery();
+        addKeyConditions(query, keys, columns, values);
+        return query.select(Expressions.ONE).fetchFirst() != null;
+    }
+
+    private SQLQuery<?> createLookupQuery() {
         SQLQuery<?> query = new SQLQuery<Void>(connection(), configuration).from(entity);
         for (SQLListener listener : listeners.getListeners()) {
             query.addListener(listener);
         }
         query.addListener(SQLNoCloseListener.DEFAULT);
-        addKeyConditions(query);
-        return query.select(Expressions.ONE).fetchFirst() != null;
+        return query;
     }
 
-    @SuppressWarnings("unchecked")
     protected void addKeyConditions(FilteredClause<?> query) {
-        List<? extends Path<?>> keys = getKeys();
+        addKeyConditions(query, getKeys(), columns, values);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void addKeyConditions(FilteredClause<?> query, List<? extends Path<?>> keys,
+            List<Path<?>> columns, List<Expression<?>> values) {
         for (int i = 0; i < columns.size(); i++) {
             if (keys.contains(columns.get(i))) {
                 if (values.get(i) instanceof NullExpression) {
@@ -340,33 +411,203 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
         }
     }
 
-    @SuppressWarnings("unchecked")
     protected long executeCompositeMerge() {
-        if (hasRow()) {
+        return executeCompositeMerge(keys, columns, values);
+    }
+
+    private long executeCompositeMerge(List<Path<?>> keys, List<Path<?>> columns, List<Expression<?>> values) {
+        List<? extends Path<?>> keyPaths = getKeys(keys);
+        if (hasRow(keyPaths, columns, values)) {
             // update
             SQLUpdateClause update = new SQLUpdateClause(connection(), configuration, entity);
-            populate(update);
+            populate(update, columns, values);
             addListeners(update);
-            addKeyConditions(update);
+            addKeyConditions(update, keyPaths, columns, values);
             return update.execute();
         } else {
             // insert
             SQLInsertClause insert = new SQLInsertClause(connection(), configuration, entity);
             addListeners(insert);
-            populate(insert);
+            populate(insert, columns, values);
             return insert.execute();
 
         }
     }
 
+    /**
+     * Execute the batches as composite merge. The existence of the rows is resolved with one query
+     * per chunk of batch items, after which the rows to be inserted and the rows to be updated
+     * are executed as two JDBC batches.
+     *
+     * <p>If the batch can't be resolved up front, see {@link #isCompositeBatchResolvable()}, the
+     * items are merged one by one in their original order instead.</p>
+     *
+     * @return affected rows
+     */
+    protected long executeCompositeMergeBatch() {
+        if (!isCompositeBatchResolvable()) {
+            long rc = 0;
+            for (SQLMergeBatch batch : batches) {
+                rc += executeCompositeMerge(batch.getKeys(), batch.getColumns(), batch.getValues());
+            }
+            return rc;
+        }
+        SQLInsertClause insert = new SQLInsertClause(connection(), configuration, entity);
+        addListeners(insert);
+        SQLUpdateClause update = new SQLUpdateClause(connection(), configuration, entity);
+        addListeners(update);
+        addCompositeBatches(insert, update);
+        long rc = 0;
+        if (insert.getBatchCount() > 0) {
+            rc += insert.execute();
+        }
+        if (update.getBatchCount() > 0) {
+            rc += update.execute();
+        }
+        return rc;
+    }
+
+    /**
+     * Get whether the existence of the rows of all batch items can be resolved before executing
+     * any of them. This requires that all items use the same key columns with constant values,
+     * and that no key occurs more than once, since the inserts and updates are executed as
+     * separate batches, which doesn't retain the order of the items.
+     *
+     * @return true, if the batch can be resolved up front
+     */
+    protected boolean isCompositeBatchResolvable() {
+        List<? extends Path<?>> lookupKeys = getKeys(batches.get(0).getKeys());
+        Set<List<Object>> keyValues = new HashSet<>();
+        for (SQLMergeBatch batch : batches) {
+            if (!getKeys(batch.getKeys()).equals(lookupKeys)) {
+                return false;
+            }
+            List<Object> key = getKeyValues(lookupKeys, batch);
+            if (key == null || !keyValues.add(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Distribute the batch items to the given insert and update clauses. The batch needs to be
+     * resolvable, see {@link #isCompositeBatchResolvable()}.
+     *
+     * <p>The keys of the items are matched against the keys of the existing rows, which are
+     * fetched with one query per {@link #LOOKUP_CHUNK_SIZE} items. The values are compared
+     * with {@code equals}, so keys which compare differently in the database, such as strings
+     * in case insensitive collations, are not supported.</p>
+     *
+     * @param insert insert clause
+     * @param update update clause
+     */
+    protected void addCompositeBatches(SQLInsertClause insert, SQLUpdateClause update) {
+        List<? extends Path<?>> lookupKeys = getKeys(batches.get(0).getKeys());
+        List<List<Object>> keyValues = new ArrayList<>(batches.size());
+        for (SQLMergeBatch batch : batches) {
+            keyValues.add(getKeyValues(lookupKeys, batch));
+        }
+
+        Set<List<Object>> existing = new HashSet<>();
+        for (List<List<Object>> chunk : CollectionUtils.partition(keyValues, LOOKUP_CHUNK_SIZE)) {
+            existing.addAll(fetchExistingKeys(lookupKeys, chunk));
+        }
+
+        for (int i = 0; i < batches.size(); i++) {
+            SQLMergeBatch batch = batches.get(i);
+            if (existing.contains(keyValues.get(i))) {
+                populate(update, batch.getColumns(), batch.getValues());
+                addKeyConditions(update, getKeys(batch.getKeys()), batch.getColumns(), batch.getValues());
+                update.addBatch();
+            } else {
+                populate(insert, batch.getColumns(), batch.getValues());
+                insert.addBatch();
+            }
+        }
+    }
+
+    /**
+     * Get the batch items to be rendered as a single bulk statement. A row may be affected only
+     * once by a single upsert or MERGE statement, so of the items with the same constant key
+     * values only the last one is kept, at the position of the first one.
+     *
+     * @return batch items
+     */
+    protected List<SQLMergeBatch> getBulkBatches() {
+        Map<Object, SQLMergeBatch> rv = new LinkedHashMap<>();
+        for (SQLMergeBatch batch : batches) {
+            List<? extends Path<?>> batchKeys = getKeys(batch.getKeys());
+            List<Object> key = getKeyValues(batchKeys, batch);
+            rv.put(key != null ? Arrays.asList(batchKeys, key) : batch, batch);
+        }
+        return new ArrayList<>(rv.values());
+    }
+
+    /**
+     * Get the key values of the given batch item, or null, if the key can't be looked up by value
+     */
+    @Nullable
+    private List<Object> getKeyValues(List<? extends Path<?>> keys, SQLMergeBatch batch) {
+        List<Object> rv = new ArrayList<>(keys.size());
+        for (Path<?> key : keys) {
+            int index = batch.getColumns().indexOf(key);
+            if (index < 0 || !(batch.getValues().get(index) instanceof Constant<?>)) {
+                return null;
+            }
+            Object value = ((Constant<?>) batch.getValues().get(index)).getConstant();
+            if (value == Null.DEFAULT) {
+                return null;
+            }
+            rv.add(value);
+        }
+        return rv;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> fetchExistingKeys(List<? extends Path<?>> keys, List<List<Object>> values) {
+        Predicate condition;
+        if (keys.size() == 1) {
+            List<Object> single = new ArrayList<>(values.size());
+            for (List<Object> value : values) {
+                single.add(value.get(0));
+            }
+            condition = ExpressionUtils.in((Expression) keys.get(0), single);
+        } else {
+            List<Predicate> rows = new ArrayList<>(values.size());
+            for (List<Object> value : values) {
+                List<Predicate> row = new ArrayList<>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    row.add(ExpressionUtils.eq((Expression) keys.get(i), ConstantImpl.create(value.get(i))));
+                }
+                rows.add(ExpressionUtils.allOf(row));
+            }
+            condition = ExpressionUtils.anyOf(rows);
+        }
+
+        List<Tuple> tuples = createLookupQuery()
+                .select(Projections.tuple(keys.toArray(new Expression<?>[0])))
+                .where(condition)
+                .fetch();
+        List<List<Object>> rv = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            rv.add(Arrays.asList(tuple.toArray()));
+        }
+        return rv;
+    }
+
     protected void addListeners(AbstractSQLClause<?> clause) {
         for (SQLListener listener : listeners.getListeners()) {
             clause.addListener(listener);
         }
     }
 
-    @SuppressWarnings("unchecked")
     protected void populate(StoreClause<?> clause) {
+        populate(clause, columns, values);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void populate(StoreClause<?> clause, List<Path<?>> columns, List<Expression<?>> values) {
         for (int i = 0; i < columns.size(); i++) {
             clause.set((Path) columns.get(i), (Object) values.get(i));
         }
@@ -386,6 +627,12 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
             stmt = prepareStatementAndSetParameters(serializer, withKeys);
             context.addPreparedStatement(stmt);
             listeners.prepared(context);
+        } else if (batchToBulk) {
+            serializer.serializeMerge(metadata, entity, getBulkBatches());
+            context.addSQL(createBindings(metadata, serializer));
+            listeners.rendered(context);
+
+            stmt = prepareStatementAndSetParameters(serializer, withKeys);
         } else {
             serializer.serializeMerge(metadata, entity,
                     batches.get(0).getKeys(), batches.get(0).getColumns(),
@@ -491,6 +738,14 @@ public class SQLMergeClause extends AbstractSQLClause<SQLMergeClause> implements
                 stmt = createStatement(false);
                 listeners.notifyMerge(entity, metadata, keys, columns, values, subQuery);
 
+                listeners.preExecute(context);
+                int rc = stmt.executeUpdate();
+                listeners.executed(context);
+                return rc;
+            } else if (batchToBulk) {
+                stmt = createStatement(false);
+                listeners.notifyMerges(entity, metadata, batches);
+
                 listeners.preExecute(context);
                 int rc = stmt.executeUpdate();
                 listeners.executed(context);
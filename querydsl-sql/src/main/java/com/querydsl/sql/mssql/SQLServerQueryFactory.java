@@ -16,6 +16,8 @@ package com.querydsl.sql.mssql;
 import java.sql.Connection;
 import java.util.function.Supplier;
 
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -43,7 +45,8 @@ public class SQLServerQueryFactory extends AbstractSQLQueryFactory<SQLServerQuer
 
     @Override
     public SQLServerQuery<?> query() {
-        return new SQLServerQuery<Void>(connection, configuration);
+        QueryMetadata metadata = new DefaultQueryMetadata();
+        return new SQLServerQuery<Void>(getConnectionProvider(metadata), configuration, metadata);
     }
 
     @Override
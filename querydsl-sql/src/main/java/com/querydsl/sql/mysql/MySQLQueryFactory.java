@@ -16,7 +16,9 @@ package com.querydsl.sql.mysql;
 import java.sql.Connection;
 import java.util.function.Supplier;
 
+import com.querydsl.core.DefaultQueryMetadata;
 import com.querydsl.core.QueryFlag.Position;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
@@ -101,7 +103,8 @@ public class MySQLQueryFactory extends AbstractSQLQueryFactory<MySQLQuery<?>> {
 
     @Override
     public MySQLQuery<?> query() {
-        return new MySQLQuery<Void>(connection, configuration);
+        QueryMetadata metadata = new DefaultQueryMetadata();
+        return new MySQLQuery<Void>(getConnectionProvider(metadata), configuration, metadata);
     }
 
     public MySQLReplaceClause replace(RelationalPath<?> entity) {
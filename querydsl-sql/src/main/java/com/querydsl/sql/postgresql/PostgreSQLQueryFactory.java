@@ -16,6 +16,8 @@ package com.querydsl.sql.postgresql;
 import java.sql.Connection;
 import java.util.function.Supplier;
 
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -43,7 +45,8 @@ public class PostgreSQLQueryFactory extends AbstractSQLQueryFactory<PostgreSQLQu
 
     @Override
     public PostgreSQLQuery<?> query() {
-        return new PostgreSQLQuery<Void>(connection, configuration);
+        QueryMetadata metadata = new DefaultQueryMetadata();
+        return new PostgreSQLQuery<Void>(getConnectionProvider(metadata), configuration, metadata);
     }
 
     @Override
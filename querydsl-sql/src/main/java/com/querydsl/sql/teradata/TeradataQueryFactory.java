@@ -16,6 +16,8 @@ package com.querydsl.sql.teradata;
 import java.sql.Connection;
 import java.util.function.Supplier;
 
+import com.querydsl.core.DefaultQueryMetadata;
+import com.querydsl.core.QueryMetadata;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.Expressions;
@@ -43,7 +45,8 @@ public class TeradataQueryFactory extends AbstractSQLQueryFactory<TeradataQuery<
 
     @Override
     public TeradataQuery<?> query() {
-        return new TeradataQuery<Void>(connection, configuration);
+        QueryMetadata metadata = new DefaultQueryMetadata();
+        return new TeradataQuery<Void>(getConnectionProvider(metadata), configuration, metadata);
     }
 
     @Override
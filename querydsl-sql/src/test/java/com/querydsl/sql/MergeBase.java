@@ -172,6 +172,53 @@ public class MergeBase extends AbstractBaseTest {
         assertEquals(1L, query().from(survey).where(survey.name.eq("6")).fetchCount());
     }
 
+    @Test
+    public void mergeBatch_existing_and_new_rows() {
+        SQLMergeClause merge = merge(survey);
+        merge.keys(survey.id).set(survey.id, 1).set(survey.name, "1").addBatch();
+        merge.keys(survey.id).set(survey.id, 5).set(survey.name, "5").addBatch();
+        merge.keys(survey.id).set(survey.id, 5).set(survey.name, "55").addBatch();
+        merge.keys(survey.id).set(survey.id, 6).set(survey.name, "6").addBatch();
+        merge.execute();
+
+        assertEquals(3L, query().from(survey).fetchCount());
+        assertEquals("1", query().from(survey).where(survey.id.eq(1)).select(survey.name).fetchOne());
+        assertEquals("55", query().from(survey).where(survey.id.eq(5)).select(survey.name).fetchOne());
+        assertEquals("6", query().from(survey).where(survey.id.eq(6)).select(survey.name).fetchOne());
+    }
+
+    @Test
+    @ExcludeIn(H2) // native merge batches are grouped by statement
+    public void mergeBatch_repeated_keys() {
+        SQLMergeClause merge = merge(survey);
+        merge.keys(survey.id).set(survey.id, 1).set(survey.name, "a").addBatch();
+        merge.keys(survey.id).set(survey.id, 1).set(survey.name, "b").set(survey.name2, "b").addBatch();
+        merge.keys(survey.id).set(survey.id, 1).set(survey.name, "c").addBatch();
+        merge.keys(survey.id).set(survey.id, 7).set(survey.name, "7").addBatch();
+        merge.keys(survey.id).set(survey.id, 7).set(survey.name, "77").set(survey.name2, "77").addBatch();
+        merge.keys(survey.id).set(survey.id, 7).set(survey.name, "777").addBatch();
+        merge.execute();
+
+        assertEquals(2L, query().from(survey).fetchCount());
+        assertEquals("c", query().from(survey).where(survey.id.eq(1)).select(survey.name).fetchOne());
+        assertEquals("b", query().from(survey).where(survey.id.eq(1)).select(survey.name2).fetchOne());
+        assertEquals("777", query().from(survey).where(survey.id.eq(7)).select(survey.name).fetchOne());
+        assertEquals("77", query().from(survey).where(survey.id.eq(7)).select(survey.name2).fetchOne());
+    }
+
+    @Test
+    @ExcludeIn(H2)
+    public void mergeBatch_non_constant_keys() {
+        SQLMergeClause merge = merge(survey);
+        merge.keys(survey.id).set(survey.id, 8).set(survey.name, "8").addBatch();
+        merge.keys(survey.id).set(survey.id, Expressions.numberTemplate(Integer.class, "8"))
+                .set(survey.name, "88").addBatch();
+        merge.execute();
+
+        assertEquals(2L, query().from(survey).fetchCount());
+        assertEquals("88", query().from(survey).where(survey.id.eq(8)).select(survey.name).fetchOne());
+    }
+
     @Test
     @IncludeIn(H2)
     public void mergeBatch_templates() {
@@ -14,6 +14,7 @@
 package com.querydsl.sql;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import com.querydsl.core.types.dsl.Expressions;
@@ -39,6 +40,13 @@ public class MySQLTemplatesTest extends AbstractSQLTemplatesTest {
         System.out.println(new SQLQuery(conf).from(survey1).toString());
     }
 
+    @Test
+    public void streamingFetchSize() {
+        SQLTemplates templates = createTemplates();
+        assertEquals(Integer.MIN_VALUE, templates.getStreamingFetchSize());
+        assertFalse(templates.isStreamingRequiresTransaction());
+    }
+
     @Test
     public void order_nullsFirst() {
         query.from(survey1).orderBy(survey1.name.asc().nullsFirst());
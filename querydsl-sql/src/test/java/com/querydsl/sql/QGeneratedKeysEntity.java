@@ -28,6 +28,7 @@ public class QGeneratedKeysEntity extends RelationalPathBase<QGeneratedKeysEntit
 
     public QGeneratedKeysEntity(String name) {
         super(QGeneratedKeysEntity.class, PathMetadataFactory.forVariable(name), "", "GENERATED_KEYS");
+        addMetadata();
     }
 
     protected void addMetadata() {
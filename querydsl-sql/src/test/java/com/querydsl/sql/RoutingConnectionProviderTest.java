@@ -0,0 +1,129 @@
+package com.querydsl.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.sql.domain.QSurvey;
+
+public class RoutingConnectionProviderTest {
+
+    private final QSurvey survey = new QSurvey("s");
+
+    private final Connection primary = EasyMock.createNiceMock(Connection.class);
+
+    private final Connection replica1 = EasyMock.createNiceMock(Connection.class);
+
+    private final Connection replica2 = EasyMock.createNiceMock(Connection.class);
+
+    private final QueryMetadata read = new SQLQuery<Void>().select(survey.name).from(survey).getMetadata();
+
+    private RoutingConnectionProvider create(RoutingConnectionProvider.Strategy strategy) {
+        Supplier<Connection> r1 = () -> replica1;
+        Supplier<Connection> r2 = () -> replica2;
+        return new RoutingConnectionProvider(() -> primary, Arrays.asList(r1, r2), strategy);
+    }
+
+    @Test
+    public void round_robin() {
+        RoutingConnectionProvider routing = create(RoutingConnectionProvider.Strategy.ROUND_ROBIN);
+        assertSame(replica1, routing.get(read, SQLTemplates.DEFAULT));
+        assertSame(replica2, routing.get(read, SQLTemplates.DEFAULT));
+        assertSame(replica1, routing.get(read, SQLTemplates.DEFAULT));
+        assertSame(primary, routing.get());
+    }
+
+    @Test
+    public void locking_reads_use_primary() {
+        RoutingConnectionProvider routing = create(RoutingConnectionProvider.Strategy.ROUND_ROBIN);
+        QueryMetadata forUpdate = new SQLQuery<Void>().select(survey.name).from(survey).forUpdate().getMetadata();
+        QueryMetadata forShare = new SQLQuery<Void>(PostgreSQLTemplates.DEFAULT).select(survey.name).from(survey)
+                .forShare().getMetadata();
+        assertSame(primary, routing.get(forUpdate, SQLTemplates.DEFAULT));
+        assertSame(primary, routing.get(forShare, PostgreSQLTemplates.DEFAULT));
+    }
+
+    @Test
+    public void no_replicas() {
+        RoutingConnectionProvider routing = new RoutingConnectionProvider(() -> primary,
+                Arrays.asList(), RoutingConnectionProvider.Strategy.ROUND_ROBIN);
+        assertSame(primary, routing.get(read, SQLTemplates.DEFAULT));
+    }
+
+    @Test
+    public void scope() {
+        RoutingConnectionProvider routing = create(RoutingConnectionProvider.Strategy.ROUND_ROBIN);
+        try (RoutingConnectionProvider.Scope scope = routing.openScope()) {
+            assertSame(replica1, routing.get(read, SQLTemplates.DEFAULT));
+            try (RoutingConnectionProvider.Scope nested = routing.openScope()) {
+                routing.get();
+            }
+            assertTrue(scope.isWritten());
+            assertSame(primary, routing.get(read, SQLTemplates.DEFAULT));
+        }
+        assertSame(replica2, routing.get(read, SQLTemplates.DEFAULT));
+    }
+
+    @Test
+    public void least_loaded() throws SQLException {
+        AtomicInteger count1 = new AtomicInteger();
+        AtomicInteger count2 = new AtomicInteger();
+        Supplier<Connection> r1 = () -> {
+            count1.incrementAndGet();
+            return replica1;
+        };
+        Supplier<Connection> r2 = () -> {
+            count2.incrementAndGet();
+            return replica2;
+        };
+        RoutingConnectionProvider routing = new RoutingConnectionProvider(() -> primary,
+                Arrays.asList(r1, r2), RoutingConnectionProvider.Strategy.LEAST_LOADED);
+        Connection first = routing.get(read, SQLTemplates.DEFAULT);
+        Connection second = routing.get(read, SQLTemplates.DEFAULT);
+        assertEquals(1, count1.get());
+        assertEquals(1, count2.get());
+
+        // closing twice releases the connection only once
+        second.close();
+        second.close();
+        routing.get(read, SQLTemplates.DEFAULT);
+        routing.get(read, SQLTemplates.DEFAULT);
+        assertEquals(1, count1.get());
+        assertEquals(3, count2.get());
+
+        first.close();
+        routing.get(read, SQLTemplates.DEFAULT);
+        assertEquals(2, count1.get());
+    }
+
+    @Test
+    public void least_loaded_close_listener() {
+        AtomicInteger count1 = new AtomicInteger();
+        Supplier<Connection> r1 = () -> {
+            count1.incrementAndGet();
+            return replica1;
+        };
+        Supplier<Connection> r2 = () -> replica2;
+        RoutingConnectionProvider routing = new RoutingConnectionProvider(() -> primary,
+                Arrays.asList(r1, r2), RoutingConnectionProvider.Strategy.LEAST_LOADED);
+        Connection first = routing.get(read, SQLTemplates.DEFAULT);
+        routing.get(read, SQLTemplates.DEFAULT);
+        assertEquals(1, count1.get());
+
+        // the listener releases the connection at the end of the execution
+        SQLCloseListener.DEFAULT.end(new SQLListenerContextImpl(read, first));
+        routing.get(read, SQLTemplates.DEFAULT);
+        assertEquals(2, count1.get());
+    }
+
+}
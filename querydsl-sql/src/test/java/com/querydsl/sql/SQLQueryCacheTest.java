@@ -0,0 +1,98 @@
+package com.querydsl.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.sql.domain.QEmployee;
+import com.querydsl.sql.domain.QSurvey;
+
+public class SQLQueryCacheTest {
+
+    private final QSurvey survey = new QSurvey("s");
+
+    private final QEmployee employee = new QEmployee("e");
+
+    private final SQLQueryCache cache = new SQLQueryCache(10);
+
+    private static SQLBindings sql(String sql, Object... bindings) {
+        return new SQLBindings(sql, Arrays.asList(bindings));
+    }
+
+    private void put(SQLBindings sql, QueryMetadata metadata, List<?> results) {
+        cache.put(sql, metadata, results, 60000, cache.getGeneration());
+    }
+
+    @Test
+    public void get() {
+        QueryMetadata metadata = new SQLQuery<Void>().select(survey.name).from(survey).getMetadata();
+        put(sql("select name from survey where id = ?", 1), metadata, Arrays.asList("a", "b"));
+
+        assertEquals(Arrays.asList("a", "b"), cache.get(sql("select name from survey where id = ?", 1), survey.name));
+        assertNull(cache.get(sql("select name from survey where id = ?", 2), survey.name));
+        assertNull(cache.get(sql("select name from survey where id = ?", 1), survey.name2));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void results_are_immutable() {
+        QueryMetadata metadata = new SQLQuery<Void>().select(survey.name).from(survey).getMetadata();
+        put(sql("select name from survey"), metadata, Arrays.asList("a", "b"));
+        cache.get(sql("select name from survey"), survey.name).clear();
+    }
+
+    @Test
+    public void expired() {
+        QueryMetadata metadata = new SQLQuery<Void>().select(survey.name).from(survey).getMetadata();
+        cache.put(sql("select name from survey"), metadata, Arrays.asList("a"), -1, cache.getGeneration());
+        assertNull(cache.get(sql("select name from survey"), survey.name));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidate() {
+        QueryMetadata surveys = new SQLQuery<Void>().select(survey.name).from(survey).getMetadata();
+        QueryMetadata employees = new SQLQuery<Void>().select(employee.firstname).from(employee)
+                .where(employee.id.in(SQLExpressions.select(survey.id).from(survey))).getMetadata();
+        QueryMetadata others = new SQLQuery<Void>().select(employee.firstname).from(employee).getMetadata();
+        put(sql("q1"), surveys, Arrays.asList("a"));
+        put(sql("q2"), employees, Arrays.asList("b"));
+        put(sql("q3"), others, Arrays.asList("c"));
+        assertEquals(3, cache.size());
+
+        cache.notifyDelete(QSurvey.survey, null);
+        assertNull(cache.get(sql("q1"), survey.name));
+        assertNull(cache.get(sql("q2"), employee.firstname));
+        assertEquals(Collections.singletonList("c"), cache.get(sql("q3"), employee.firstname));
+        assertEquals(1, cache.getWeight());
+    }
+
+    @Test
+    public void stale_results_are_not_cached() {
+        QueryMetadata metadata = new SQLQuery<Void>().select(survey.name).from(survey).getMetadata();
+        long generation = cache.getGeneration();
+        cache.invalidate(survey);
+        cache.put(sql("q1"), metadata, Arrays.asList("a"), 60000, generation);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void eviction() {
+        QueryMetadata metadata = new SQLQuery<Void>().select(survey.name).from(survey).getMetadata();
+        put(sql("q1"), metadata, Arrays.asList("a", "b", "c", "d"));
+        put(sql("q2"), metadata, Arrays.asList("a", "b", "c", "d"));
+        cache.get(sql("q1"), survey.name);
+        put(sql("q3"), metadata, Arrays.asList("a", "b", "c", "d"));
+
+        assertEquals(2, cache.size());
+        assertEquals(8, cache.getWeight());
+        assertNull(cache.get(sql("q2"), survey.name));
+        assertEquals(4, cache.get(sql("q1"), survey.name).size());
+    }
+
+}
@@ -1,15 +1,72 @@
 package com.querydsl.sql;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
 import org.junit.Test;
 
+import com.querydsl.core.QueryException;
 import com.querydsl.sql.domain.QSurvey;
 
 public class SQLQueryTest {
 
+    private static Connection connection(boolean[] autoCommit, boolean failRestore) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAutoCommit":
+                            return autoCommit[0];
+                        case "setAutoCommit":
+                            if ((Boolean) args[0] && failRestore) {
+                                throw new SQLException("restore failed");
+                            }
+                            autoCommit[0] = (Boolean) args[0];
+                            return null;
+                        case "prepareStatement":
+                            throw new SQLException("prepare failed");
+                        default:
+                            return null;
+                    }
+                });
+    }
+
     @Test(expected = IllegalStateException.class)
     public void noConnection() {
         QSurvey survey = QSurvey.survey;
         SQLExpressions.select(survey.id).from(survey).fetch();
     }
 
+    @Test
+    public void streaming_restores_autoCommit_on_failure() {
+        boolean[] autoCommit = {true};
+        QSurvey survey = QSurvey.survey;
+        try {
+            new SQLQuery<Void>(connection(autoCommit, false), PostgreSQLTemplates.DEFAULT)
+                    .select(survey.id).from(survey).streaming().iterate();
+            fail("Expected QueryException");
+        } catch (QueryException e) {
+            assertTrue(autoCommit[0]);
+        }
+    }
+
+    @Test
+    public void streaming_suppresses_restore_failure() {
+        boolean[] autoCommit = {true};
+        QSurvey survey = QSurvey.survey;
+        try {
+            new SQLQuery<Void>(connection(autoCommit, true), PostgreSQLTemplates.DEFAULT)
+                    .select(survey.id).from(survey).streaming().iterate();
+            fail("Expected QueryException");
+        } catch (QueryException e) {
+            assertEquals("prepare failed", e.getCause().getMessage());
+            assertEquals(1, e.getSuppressed().length);
+            assertEquals("restore failed", e.getSuppressed()[0].getMessage());
+        }
+    }
+
 }
@@ -50,6 +50,15 @@ public class SQLSerializerTest {
         assertEquals("count(EMPLOYEE.ID) + count(distinct EMPLOYEE.ID)", serializer.toString());
     }
 
+    @Test
+    public void and_balanced() {
+        SQLSerializer serializer = new SQLSerializer(Configuration.DEFAULT);
+        serializer.handle(ExpressionUtils.allOf(employee.id.eq(1), employee.id.eq(2), employee.id.eq(3),
+                employee.id.eq(4), employee.firstname.eq("a").or(employee.lastname.eq("b"))));
+        assertEquals("EMPLOYEE.ID = ? and EMPLOYEE.ID = ? and EMPLOYEE.ID = ? and EMPLOYEE.ID = ? " +
+                "and (EMPLOYEE.FIRSTNAME = ? or EMPLOYEE.LASTNAME = ?)", serializer.toString());
+    }
+
     @Test
     public void countDistinct() {
         SQLSerializer serializer = new SQLSerializer(Configuration.DEFAULT);
@@ -2107,6 +2107,32 @@ public class SelectBase extends AbstractBaseTest {
         query.select(employee.id).fetch();
     }
 
+    @Test
+    public void streaming() {
+        // MySQL doesn't allow other statements on the connection while a result is streamed
+        long expected = query().from(employee).fetchCount();
+        SQLQuery<Integer> query = query().from(employee).orderBy(employee.id.asc()).select(employee.id).streaming();
+        final int fetchSize = configuration.getTemplates().getStreamingFetchSize();
+        query.addListener(new SQLBaseListener() {
+            public void preExecute(SQLListenerContext context) {
+                try {
+                    assertEquals(fetchSize, context.getPreparedStatement().getFetchSize());
+                    assertEquals(ResultSet.TYPE_FORWARD_ONLY, context.getPreparedStatement().getResultSetType());
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        try (CloseableIterator<Integer> iterator = query.iterate()) {
+            int count = 0;
+            while (iterator.hasNext()) {
+                assertNotNull(iterator.next());
+                count++;
+            }
+            assertEquals(expected, count);
+        }
+    }
+
     @Test
     public void getResults() throws SQLException, InterruptedException {
         final AtomicLong endCalled = new AtomicLong(0);
@@ -0,0 +1,197 @@
+package com.querydsl.sql.dml;
+
+import static com.querydsl.core.types.PathMetadataFactory.forVariable;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.sql.*;
+import com.querydsl.sql.domain.QSurvey;
+import com.querydsl.sql.types.EnumByOrdinalType;
+
+public class SQLBulkLoaderTest {
+
+    public enum Status { NEW, DONE }
+
+    public static class QEvent extends RelationalPathBase<QEvent> {
+
+        private static final long serialVersionUID = 1L;
+
+        public final NumberPath<Integer> id = createNumber("id", Integer.class);
+
+        public final DateTimePath<Timestamp> created = createDateTime("created", Timestamp.class);
+
+        public final DateTimePath<LocalDateTime> updated = createDateTime("updated", LocalDateTime.class);
+
+        public final EnumPath<Status> status = createEnum("status", Status.class);
+
+        public QEvent(String variable) {
+            super(QEvent.class, forVariable(variable), "", "EVENT");
+            addMetadata(id, ColumnMetadata.named("ID"));
+            addMetadata(created, ColumnMetadata.named("CREATED"));
+            addMetadata(updated, ColumnMetadata.named("UPDATED"));
+            addMetadata(status, ColumnMetadata.named("STATUS"));
+        }
+
+    }
+
+    private static final String EXPECTED_ROWS =
+            "\"1\",\"2020-01-02 03:04:05.123456\",\"2020-01-02 03:04:05.000000789\",\"1\"\n";
+
+    private final QSurvey survey = new QSurvey("s");
+
+    private final QEvent event = new QEvent("e");
+
+    private String serialize(SQLTemplates templates) {
+        SQLSerializer serializer = new SQLSerializer(new Configuration(templates), true);
+        serializer.serializeBulkLoad(survey, Arrays.asList(survey.id, survey.name), "/tmp/rows.csv");
+        return serializer.toString();
+    }
+
+    @Test
+    public void bulkLoadMethod() {
+        assertEquals(BulkLoadMethod.INSERT, SQLTemplates.DEFAULT.getBulkLoadMethod());
+        assertEquals(BulkLoadMethod.COPY, PostgreSQLTemplates.DEFAULT.getBulkLoadMethod());
+        assertEquals(BulkLoadMethod.LOAD_DATA, MySQLTemplates.DEFAULT.getBulkLoadMethod());
+        assertEquals(BulkLoadMethod.CSVREAD, H2Templates.DEFAULT.getBulkLoadMethod());
+    }
+
+    @Test
+    public void copy() {
+        assertEquals("copy SURVEY (ID, NAME) from stdin with (format csv)",
+                serialize(PostgreSQLTemplates.DEFAULT));
+    }
+
+    @Test
+    public void loadData() {
+        assertEquals("load data local infile '/tmp/rows.csv' into table SURVEY character set utf8mb4\n" +
+                "fields terminated by ',' optionally enclosed by '\"' escaped by ''\n" +
+                "lines terminated by '\\n' (ID, NAME)",
+                serialize(MySQLTemplates.DEFAULT));
+    }
+
+    @Test
+    public void csvRead() {
+        assertEquals("insert into SURVEY (ID, NAME)\n" +
+                "select * from csvread('/tmp/rows.csv', null, 'charset=UTF-8')",
+                serialize(H2Templates.DEFAULT));
+    }
+
+    private Configuration configuration(SQLTemplates templates) {
+        Configuration configuration = new Configuration(templates);
+        configuration.register("EVENT", "STATUS", new EnumByOrdinalType<Status>(Status.class));
+        return configuration;
+    }
+
+    private long load(Connection conn, Configuration configuration, Object[]... rows) {
+        return new SQLBulkLoader(() -> conn, configuration, event)
+                .columns(event.id, event.created, event.updated, event.status)
+                .loadRows(Stream.of(rows));
+    }
+
+    private static Object[] row(Integer id, Status status) {
+        return new Object[]{id, Timestamp.valueOf("2020-01-02 03:04:05.123456"),
+                LocalDateTime.of(2020, 1, 2, 3, 4, 5, 789), status};
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[64];
+        int len;
+        while ((len = in.read(buffer)) != -1) {
+            out.write(buffer, 0, len);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void copy_rows() throws Exception {
+        StringBuilder data = new StringBuilder();
+        List<String> sql = new ArrayList<>();
+        BaseConnection baseConnection = (BaseConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{BaseConnection.class}, (proxy, method, args) -> null);
+        CopyManager copyManager = new CopyManager(baseConnection) {
+            @Override
+            public long copyIn(String copy, InputStream from) throws IOException {
+                sql.add(copy);
+                data.append(read(from));
+                return 2L;
+            }
+        };
+        PGConnection pgConnection = (PGConnection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PGConnection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getCopyAPI")) {
+                        return copyManager;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        Connection conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("unwrap")) {
+                        return pgConnection;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        assertEquals(2L, load(conn, configuration(PostgreSQLTemplates.DEFAULT),
+                row(1, Status.DONE), row(2, null)));
+        assertEquals(EXPECTED_ROWS + "\"2\",\"2020-01-02 03:04:05.123456\",\"2020-01-02 03:04:05.000000789\",\n",
+                data.toString());
+        assertEquals(Arrays.asList("copy EVENT (ID, CREATED, UPDATED, STATUS) from stdin with (format csv)"), sql);
+    }
+
+    @Test
+    public void loadData_rows() {
+        StringBuilder data = new StringBuilder();
+        InputStream[] input = new InputStream[1];
+        JdbcStatement stmt = (JdbcStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{JdbcStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isWrapperFor": return ((Class<?>) args[0]).isInstance(proxy);
+                        case "unwrap": return proxy;
+                        case "setLocalInfileInputStream": input[0] = (InputStream) args[0]; return null;
+                        case "executeLargeUpdate": data.append(read(input[0])); return 2L;
+                        case "close": return null;
+                        default: throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        Connection conn = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("createStatement")) {
+                        return (Statement) stmt;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        assertEquals(2L, load(conn, configuration(MySQLTemplates.DEFAULT), row(1, Status.DONE), row(2, null)));
+        assertEquals(EXPECTED_ROWS + "\"2\",\"2020-01-02 03:04:05.123456\",\"2020-01-02 03:04:05.000000789\",NULL\n",
+                data.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_batchSize() {
+        new SQLBulkLoader(() -> null, new Configuration(SQLTemplates.DEFAULT), survey).batchSize(0);
+    }
+
+}
@@ -2,13 +2,32 @@ package com.querydsl.sql.dml;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
+import com.querydsl.sql.DerbyTemplates;
 import com.querydsl.sql.H2Templates;
 import com.querydsl.sql.KeyAccessorsTest;
+import com.querydsl.sql.MySQLTemplates;
+import com.querydsl.sql.OracleTemplates;
+import com.querydsl.sql.PostgreSQLTemplates;
+import com.querydsl.sql.SQLBindings;
+import com.querydsl.sql.SQLExpressions;
+import com.querydsl.sql.SQLServer2005Templates;
+import com.querydsl.sql.SQLServerTemplates;
+import com.querydsl.sql.SQLTemplates;
+import com.querydsl.sql.domain.QSurvey;
 
 public class SQLMergeClauseTest {
 
+    private final QSurvey survey = new QSurvey("s");
+
+    private SQLMergeClause merge(SQLTemplates templates) {
+        return new SQLMergeClause(null, templates, survey)
+                .keys(survey.id).set(survey.id, 1).set(survey.name, "Hello");
+    }
+
     @Test
     public void clear() {
         KeyAccessorsTest.QEmployee emp1 = new KeyAccessorsTest.QEmployee("emp1");
@@ -19,4 +38,101 @@ public class SQLMergeClauseTest {
         merge.clear();
         assertEquals(0, merge.getBatchCount());
     }
+
+    @Test
+    public void nativeMerge_postgreSQL() {
+        assertEquals("insert into SURVEY (ID, NAME)\n" +
+                "values (?, ?)\n" +
+                "on conflict (ID) do update set NAME = excluded.NAME",
+                merge(PostgreSQLTemplates.builder().nativeMerge().build()).toString());
+    }
+
+    @Test
+    public void nativeMerge_mySQL() {
+        assertEquals("insert into SURVEY (ID, NAME)\n" +
+                "values (?, ?)\n" +
+                "on duplicate key update NAME = values(NAME)",
+                merge(MySQLTemplates.builder().nativeMerge().build()).toString());
+    }
+
+    @Test
+    public void nativeMerge_oracle() {
+        assertEquals("merge into SURVEY\n" +
+                "using (select ? ID, ? NAME\n" +
+                "from dual) src\n" +
+                "on (SURVEY.ID = src.ID)\n" +
+                "when matched then update set NAME = src.NAME\n" +
+                "when not matched then insert (ID, NAME)\n" +
+                "values (src.ID, src.NAME)",
+                merge(OracleTemplates.builder().nativeMerge().build()).toString());
+    }
+
+    @Test
+    public void nativeMerge_oracle_subQuery() {
+        QSurvey survey2 = new QSurvey("s2");
+        SQLMergeClause merge = new SQLMergeClause(null, OracleTemplates.builder().nativeMerge().build(), survey)
+                .keys(survey.id).columns(survey.id, survey.name)
+                .select(SQLExpressions.select(survey2.id.add(1), survey2.name).from(survey2));
+        assertEquals("merge into SURVEY\n" +
+                "using (select (s2.ID + ?) ID, s2.NAME NAME\n" +
+                "from SURVEY s2) src\n" +
+                "on (SURVEY.ID = src.ID)\n" +
+                "when matched then update set NAME = src.NAME\n" +
+                "when not matched then insert (ID, NAME)\n" +
+                "values (src.ID, src.NAME)", merge.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void nativeMerge_unsupported() {
+        DerbyTemplates.builder().nativeMerge().build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void nativeMerge_sqlServer2005() {
+        SQLServer2005Templates.builder().nativeMerge().build();
+    }
+
+    @Test
+    public void nativeMerge_sqlServer() {
+        assertEquals("merge into SURVEY\n" +
+                "using (\n" +
+                "values (?, ?)) src (ID, NAME)\n" +
+                "on (SURVEY.ID = src.ID)\n" +
+                "when matched then update set NAME = src.NAME\n" +
+                "when not matched then insert (ID, NAME)\n" +
+                "values (src.ID, src.NAME);",
+                merge(SQLServerTemplates.builder().nativeMerge().build()).toString());
+    }
+
+    @Test
+    public void nativeMerge_batchToBulk() {
+        SQLMergeClause merge = new SQLMergeClause(null, PostgreSQLTemplates.builder().nativeMerge().build(), survey);
+        merge.keys(survey.id).set(survey.id, 1).set(survey.name, "a").addBatch();
+        merge.keys(survey.id).set(survey.id, 2).set(survey.name, "b").addBatch();
+        merge.setBatchToBulk(true);
+
+        assertEquals(1, merge.getSQL().size());
+        SQLBindings sql = merge.getSQL().get(0);
+        assertEquals("insert into SURVEY (ID, NAME)\n" +
+                "values (?, ?), (?, ?)\n" +
+                "on conflict (ID) do update set NAME = excluded.NAME", sql.getSQL());
+        assertEquals(Arrays.<Object>asList(1, "a", 2, "b"), sql.getNullFriendlyBindings());
+    }
+
+    @Test
+    public void nativeMerge_batchToBulk_repeatedKey() {
+        SQLMergeClause merge = new SQLMergeClause(null, PostgreSQLTemplates.builder().nativeMerge().build(), survey);
+        merge.keys(survey.id).set(survey.id, 1).set(survey.name, "a").addBatch();
+        merge.keys(survey.id).set(survey.id, 2).set(survey.name, "b").addBatch();
+        merge.keys(survey.id).set(survey.id, 1).set(survey.name, "c").addBatch();
+        merge.setBatchToBulk(true);
+
+        assertEquals(3, merge.getBatchCount());
+        SQLBindings sql = merge.getSQL().get(0);
+        assertEquals("insert into SURVEY (ID, NAME)\n" +
+                "values (?, ?), (?, ?)\n" +
+                "on conflict (ID) do update set NAME = excluded.NAME", sql.getSQL());
+        assertEquals(Arrays.<Object>asList(1, "c", 2, "b"), sql.getNullFriendlyBindings());
+    }
+
 }
@@ -0,0 +1,98 @@
+package com.querydsl.sql.h2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.querydsl.sql.BulkLoadMethod;
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.H2Templates;
+import com.querydsl.sql.QGeneratedKeysEntity;
+import com.querydsl.sql.SQLQueryFactory;
+
+public class SQLBulkLoaderH2Test {
+
+    public static class Entity {
+
+        private final Integer id;
+
+        private final String name;
+
+        public Entity(Integer id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+    }
+
+    private final QGeneratedKeysEntity entity = new QGeneratedKeysEntity("entity");
+
+    private Connection conn;
+
+    private SQLQueryFactory queryFactory;
+
+    @Before
+    public void setUp() throws ClassNotFoundException, SQLException {
+        Class.forName("org.h2.Driver");
+        conn = DriverManager.getConnection("jdbc:h2:mem:bulk", "sa", "");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("create table GENERATED_KEYS(ID int PRIMARY KEY, NAME varchar(30))");
+        }
+        queryFactory = new SQLQueryFactory(new Configuration(new H2Templates()), () -> conn);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    private Stream<Object[]> rows() {
+        return IntStream.range(0, 25)
+                .mapToObj(i -> new Object[]{i, i % 5 == 0 ? null : "name \"" + i + "\", ok"});
+    }
+
+    private void assertLoaded() {
+        assertEquals(25, queryFactory.query().from(entity).fetchCount());
+        assertNull(queryFactory.select(entity.name).from(entity).where(entity.id.eq(10)).fetchOne());
+        assertEquals("name \"7\", ok",
+                queryFactory.select(entity.name).from(entity).where(entity.id.eq(7)).fetchOne());
+    }
+
+    @Test
+    public void csvRead() {
+        List<Long> progress = new ArrayList<>();
+        long count = queryFactory.bulkLoad(entity).columns(entity.id, entity.name)
+                .batchSize(10).progress(progress::add).loadRows(rows());
+        assertEquals(25, count);
+        assertEquals(Arrays.asList(10L, 20L, 25L), progress);
+        assertLoaded();
+    }
+
+    @Test
+    public void insert() {
+        long count = queryFactory.bulkLoad(entity).columns(entity.id, entity.name)
+                .method(BulkLoadMethod.INSERT).batchSize(10).loadRows(rows());
+        assertEquals(25, count);
+        assertLoaded();
+    }
+
+    @Test
+    public void beans() {
+        long count = queryFactory.bulkLoad(entity).columns(entity.id, entity.name)
+                .load(Stream.of(new Entity(1, "a"), new Entity(2, null)));
+        assertEquals(2, count);
+        assertEquals("a", queryFactory.select(entity.name).from(entity).where(entity.id.eq(1)).fetchOne());
+        assertNull(queryFactory.select(entity.name).from(entity).where(entity.id.eq(2)).fetchOne());
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.querydsl.sql.h2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.sql.Configuration;
+import com.querydsl.sql.H2Templates;
+import com.querydsl.sql.QGeneratedKeysEntity;
+import com.querydsl.sql.SQLBaseListener;
+import com.querydsl.sql.SQLListenerContext;
+import com.querydsl.sql.ShardFailurePolicy;
+import com.querydsl.sql.ShardedSQLQueryFactory;
+
+public class ShardedSQLQueryH2Test {
+
+    public static class Entity {
+
+        private Integer id;
+
+        private String name;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+    }
+
+    private final QGeneratedKeysEntity entity = new QGeneratedKeysEntity("entity");
+
+    private final Configuration configuration = new Configuration(new H2Templates());
+
+    private final List<Connection> connections = new ArrayList<>();
+
+    private ExecutorService executor;
+
+    private ShardedSQLQueryFactory queryFactory;
+
+    @Before
+    public void setUp() throws ClassNotFoundException, SQLException {
+        Class.forName("org.h2.Driver");
+        List<Supplier<Connection>> shards = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Connection conn = DriverManager.getConnection("jdbc:h2:mem:shard" + i, "sa", "");
+            connections.add(conn);
+            shards.add(() -> conn);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("create table GENERATED_KEYS(ID int PRIMARY KEY, NAME varchar(30))");
+                // shard i holds the ids which are congruent to i modulo 3
+                for (int id = i; id < 10; id += 3) {
+                    stmt.execute("insert into GENERATED_KEYS values (" + id + ", 'name" + id + "')");
+                }
+            }
+        }
+        executor = Executors.newFixedThreadPool(3);
+        queryFactory = new ShardedSQLQueryFactory(configuration, shards, executor);
+        queryFactory.setShardResolver(id -> (Integer) id % 3);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        executor.shutdown();
+        for (Connection conn : connections) {
+            conn.close();
+        }
+    }
+
+    @Test
+    public void fetch() {
+        assertEquals(Arrays.asList(0, 3, 6, 9, 1, 4, 7, 2, 5, 8),
+                queryFactory.select(entity.id).from(entity).fetch());
+    }
+
+    @Test
+    public void fetch_ordered() {
+        assertEquals(Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1, 0),
+                queryFactory.select(entity.id).from(entity).orderBy(entity.id.desc()).fetch());
+    }
+
+    @Test
+    public void fetch_ordered_tuple() {
+        List<Tuple> tuples = queryFactory.select(entity.id, entity.name).from(entity)
+                .orderBy(entity.id.desc()).limit(3).fetch();
+        assertEquals(3, tuples.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Integer.valueOf(9 - i), tuples.get(i).get(entity.id));
+            assertEquals("name" + (9 - i), tuples.get(i).get(entity.name));
+        }
+    }
+
+    @Test
+    public void fetch_ordered_bean() {
+        List<Entity> entities = queryFactory.select(Projections.bean(Entity.class, entity.id, entity.name))
+                .from(entity).orderBy(entity.name.asc()).offset(1).limit(2).fetch();
+        assertEquals(2, entities.size());
+        assertEquals(Integer.valueOf(1), entities.get(0).getId());
+        assertEquals("name1", entities.get(0).getName());
+        assertEquals(Integer.valueOf(2), entities.get(1).getId());
+        assertEquals("name2", entities.get(1).getName());
+    }
+
+    @Test
+    public void fetch_limit_and_offset() {
+        assertEquals(Arrays.asList(2, 3, 4),
+                queryFactory.select(entity.id).from(entity).orderBy(entity.id.asc())
+                        .offset(2).limit(3).fetch());
+        assertEquals(Arrays.asList("name7", "name8"),
+                queryFactory.select(entity.name).from(entity).orderBy(entity.id.asc())
+                        .offset(7).limit(2).fetch());
+    }
+
+    @Test
+    public void fetch_shardKeys() {
+        assertEquals(Arrays.asList(1, 4, 7),
+                queryFactory.select(entity.id).from(entity).shardKeys(4).fetch());
+        assertEquals(Arrays.asList(0, 2, 3, 5, 6, 8, 9),
+                queryFactory.select(entity.id).from(entity).shardKeys(3, 5)
+                        .orderBy(entity.id.asc()).fetch());
+    }
+
+    @Test
+    public void fetchCount() {
+        assertEquals(10, queryFactory.query().from(entity).fetchCount());
+        assertEquals(4, queryFactory.query().from(entity).where(entity.id.gt(5)).fetchCount());
+    }
+
+    @Test
+    public void fetchCount_distinct() {
+        assertEquals(1, queryFactory.select(entity.name.substring(0, 4)).from(entity).distinct().fetchCount());
+        assertEquals(10, queryFactory.select(entity.id, entity.name).from(entity).distinct().fetchCount());
+    }
+
+    @Test
+    public void configuration_listeners_are_notified_once_per_shard() {
+        AtomicInteger ends = new AtomicInteger();
+        configuration.addListener(new SQLBaseListener() {
+            @Override
+            public void end(SQLListenerContext context) {
+                ends.incrementAndGet();
+            }
+        });
+        queryFactory.select(entity.id).from(entity).fetch();
+        assertEquals(3, ends.get());
+    }
+
+    @Test
+    public void fetchResults() {
+        QueryResults<Integer> results = queryFactory.select(entity.id).from(entity).orderBy(entity.id.asc())
+                .limit(2).fetchResults();
+        assertEquals(10, results.getTotal());
+        assertEquals(Arrays.asList(0, 1), results.getResults());
+    }
+
+    @Test
+    public void aggregates() {
+        Tuple tuple = queryFactory.select(entity.id.count(), entity.id.sum(), entity.id.min(), entity.id.max())
+                .from(entity).fetchOne();
+        assertEquals(Long.valueOf(10), tuple.get(entity.id.count()));
+        assertEquals(Integer.valueOf(45), tuple.get(entity.id.sum()));
+        assertEquals(Integer.valueOf(0), tuple.get(entity.id.min()));
+        assertEquals(Integer.valueOf(9), tuple.get(entity.id.max()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void avg_not_supported() {
+        queryFactory.select(entity.id.avg()).from(entity).fetch();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void nested_aggregate_not_supported() {
+        queryFactory.select(entity.id.count().add(1)).from(entity).fetch();
+    }
+
+    @Test
+    public void failure_policy() throws SQLException {
+        try (Statement stmt = connections.get(1).createStatement()) {
+            stmt.execute("drop table GENERATED_KEYS");
+        }
+        try {
+            queryFactory.select(entity.id).from(entity).fetch();
+            fail("exception expected");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        queryFactory.setFailurePolicy(ShardFailurePolicy.IGNORE);
+        assertEquals(Arrays.asList(0, 2, 3, 5, 6, 8, 9),
+                queryFactory.select(entity.id).from(entity).orderBy(entity.id.asc()).fetch());
+    }
+
+}